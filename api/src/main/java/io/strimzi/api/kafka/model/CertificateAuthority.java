@@ -35,6 +35,7 @@ public class CertificateAuthority implements UnknownPropertyPreserving, Serializ
     private int renewalDays;
     private Map<String, Object> additionalProperties = new HashMap<>(0);
     private CertificateExpirationPolicy certificateExpirationPolicy;
+    private CertificateKeyAlgorithm keyAlgorithm;
     public static final int DEFAULT_CERTS_VALIDITY_DAYS = 365;
     public static final int DEFAULT_CERTS_RENEWAL_DAYS = 30;
 
@@ -99,6 +100,18 @@ public class CertificateAuthority implements UnknownPropertyPreserving, Serializ
     public void setCertificateExpirationPolicy(CertificateExpirationPolicy certificateExpirationPolicy) {
         this.certificateExpirationPolicy = certificateExpirationPolicy;
     }
+
+    @Description("The algorithm of the private keys generated for the CA and for the certificates it issues when `generateCertificateAuthority=true`. " +
+            "Elliptic curve keys make the TLS handshakes and the certificate generation cheaper than RSA keys. " +
+            "A changed algorithm is used for the CA key when the CA key is next replaced. " +
+            "The default is `rsa`.")
+    public CertificateKeyAlgorithm getKeyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    public void setKeyAlgorithm(CertificateKeyAlgorithm keyAlgorithm) {
+        this.keyAlgorithm = keyAlgorithm;
+    }
     
     @Override
     public Map<String, Object> getAdditionalProperties() {
@@ -0,0 +1,125 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.CertManagerType;
+import io.strimzi.certs.Subject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link CertManager} implementations on the operations done for each component and user certificate
+ * during a reconciliation: generating the key and CSR, signing the certificate with the CA and assembling the PKCS12
+ * keystore.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CertManagerBenchmark {
+    private static final Subject CA_SUBJECT = new Subject.Builder()
+            .withOrganizationName("io.strimzi")
+            .withCommonName("cluster-ca")
+            .build();
+
+    private static final Subject SUBJECT = new Subject.Builder()
+            .withOrganizationName("io.strimzi")
+            .withCommonName("my-cluster-kafka")
+            .addDnsName("my-cluster-kafka-bootstrap")
+            .addDnsName("my-cluster-kafka-bootstrap.my-namespace.svc")
+            .addDnsName("my-cluster-kafka-0.my-cluster-kafka-brokers.my-namespace.svc")
+            .build();
+
+    /**
+     * The certificate manager implementation
+     */
+    @Param({"openssl", "bouncycastle"})
+    public String type;
+
+    private CertManager certManager;
+    private File caKey;
+    private File caCert;
+    private File key;
+    private File csr;
+    private File cert;
+    private File keyStore;
+
+    /**
+     * Creates the CA used to sign the certificates
+     *
+     * @throws IOException  If the files cannot be created
+     */
+    @Setup
+    public void setup() throws IOException {
+        certManager = CertManagerType.forValue(type).createCertManager();
+        caKey = Files.createTempFile("ca", ".key").toFile();
+        caCert = Files.createTempFile("ca", ".crt").toFile();
+        key = Files.createTempFile("user", ".key").toFile();
+        csr = Files.createTempFile("user", ".csr").toFile();
+        cert = Files.createTempFile("user", ".crt").toFile();
+        keyStore = Files.createTempFile("user", ".p12").toFile();
+
+        certManager.generateSelfSignedCert(caKey, caCert, CA_SUBJECT, 365);
+    }
+
+    /**
+     * Deletes the files
+     */
+    @TearDown
+    public void tearDown() {
+        for (File file : new File[] {caKey, caCert, key, csr, cert, keyStore}) {
+            file.delete();
+        }
+    }
+
+    /**
+     * Issues a certificate signed by the CA
+     *
+     * @throws IOException  If the files cannot be read or written
+     */
+    @Benchmark
+    public void generateCsrAndCert() throws IOException {
+        certManager.generateCsr(key, csr, SUBJECT);
+        certManager.generateCert(csr, caKey, caCert, cert, SUBJECT, 365);
+    }
+
+    /**
+     * Stores the CA key and certificate in a PKCS12 keystore
+     *
+     * @throws IOException  If the files cannot be read or written
+     */
+    @Benchmark
+    public void addKeyAndCertToKeyStore() throws IOException {
+        certManager.addKeyAndCertToKeyStore(caKey, caCert, "ca", keyStore, "123456");
+    }
+
+    /**
+     * Renews the self-signed CA certificate, keeping the CA key
+     *
+     * @throws IOException  If the files cannot be read or written
+     */
+    @Benchmark
+    public void renewSelfSignedCert() throws IOException {
+        certManager.renewSelfSignedCert(caKey, caCert, CA_SUBJECT, 365);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.strimzi.operator.common.model.JsonPointerMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks matching the paths of a JSON patch of a StatefulSet against the paths ignored by the StatefulSet diff,
+ * with {@link JsonPointerMatcher} and with the equivalent regular expression it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonPointerMatcherBenchmark {
+    private static final Pattern PATTERN = Pattern.compile(
+        "^(/metadata/managedFields"
+        + "|/metadata/creationTimestamp"
+        + "|/metadata/resourceVersion"
+        + "|/metadata/generation"
+        + "|/metadata/uid"
+        + "|/spec/revisionHistoryLimit"
+        + "|/spec/template/metadata/annotations/strimzi.io~1generation"
+        + "|/spec/template/spec/initContainers/[0-9]+/resources"
+        + "|/spec/template/spec/initContainers/[0-9]+/terminationMessagePath"
+        + "|/spec/template/spec/initContainers/[0-9]+/terminationMessagePolicy"
+        + "|/spec/template/spec/initContainers/[0-9]+/env/[0-9]+/valueFrom/fieldRef/apiVersion"
+        + "|/spec/template/spec/containers/[0-9]+/resources"
+        + "|/spec/template/spec/containers/[0-9]+/env/[0-9]+/valueFrom/fieldRef/apiVersion"
+        + "|/spec/template/spec/containers/[0-9]+/livenessProbe/failureThreshold"
+        + "|/spec/template/spec/containers/[0-9]+/livenessProbe/periodSeconds"
+        + "|/spec/template/spec/containers/[0-9]+/livenessProbe/successThreshold"
+        + "|/spec/template/spec/containers/[0-9]+/readinessProbe/failureThreshold"
+        + "|/spec/template/spec/containers/[0-9]+/readinessProbe/periodSeconds"
+        + "|/spec/template/spec/containers/[0-9]+/readinessProbe/successThreshold"
+        + "|/spec/template/spec/containers/[0-9]+/terminationMessagePath"
+        + "|/spec/template/spec/containers/[0-9]+/terminationMessagePolicy"
+        + "|/spec/template/spec/dnsPolicy"
+        + "|/spec/template/spec/restartPolicy"
+        + "|/spec/template/spec/securityContext"
+        + "|/spec/template/spec/volumes/[0-9]+/configMap/defaultMode"
+        + "|/spec/template/spec/volumes/[0-9]+/secret/defaultMode"
+        + "|/spec/volumeClaimTemplates/[0-9]+/status"
+        + "|/spec/volumeClaimTemplates/[0-9]+/spec/volumeMode"
+        + "|/spec/volumeClaimTemplates/[0-9]+/spec/dataSource"
+        + "|/spec/template/spec/serviceAccount"
+        + "|/status)$");
+
+    private static final JsonPointerMatcher MATCHER = JsonPointerMatcher.compile(
+        "/metadata/managedFields",
+        "/metadata/creationTimestamp",
+        "/metadata/resourceVersion",
+        "/metadata/generation",
+        "/metadata/uid",
+        "/spec/revisionHistoryLimit",
+        "/spec/template/metadata/annotations/strimzi.io~1generation",
+        "/spec/template/spec/initContainers/*/resources",
+        "/spec/template/spec/initContainers/*/terminationMessagePath",
+        "/spec/template/spec/initContainers/*/terminationMessagePolicy",
+        "/spec/template/spec/initContainers/*/env/*/valueFrom/fieldRef/apiVersion",
+        "/spec/template/spec/containers/*/resources",
+        "/spec/template/spec/containers/*/env/*/valueFrom/fieldRef/apiVersion",
+        "/spec/template/spec/containers/*/livenessProbe/failureThreshold",
+        "/spec/template/spec/containers/*/livenessProbe/periodSeconds",
+        "/spec/template/spec/containers/*/livenessProbe/successThreshold",
+        "/spec/template/spec/containers/*/readinessProbe/failureThreshold",
+        "/spec/template/spec/containers/*/readinessProbe/periodSeconds",
+        "/spec/template/spec/containers/*/readinessProbe/successThreshold",
+        "/spec/template/spec/containers/*/terminationMessagePath",
+        "/spec/template/spec/containers/*/terminationMessagePolicy",
+        "/spec/template/spec/dnsPolicy",
+        "/spec/template/spec/restartPolicy",
+        "/spec/template/spec/securityContext",
+        "/spec/template/spec/volumes/*/configMap/defaultMode",
+        "/spec/template/spec/volumes/*/secret/defaultMode",
+        "/spec/volumeClaimTemplates/*/status",
+        "/spec/volumeClaimTemplates/*/spec/volumeMode",
+        "/spec/volumeClaimTemplates/*/spec/dataSource",
+        "/spec/template/spec/serviceAccount",
+        "/status");
+
+    /**
+     * Paths from the JSON patch between a StatefulSet and the one returned by the Kubernetes API server
+     */
+    private static final List<String> PATHS = List.of(
+        "/metadata/managedFields",
+        "/metadata/creationTimestamp",
+        "/metadata/resourceVersion",
+        "/metadata/uid",
+        "/spec/template/spec/containers/0/terminationMessagePath",
+        "/spec/template/spec/containers/0/terminationMessagePolicy",
+        "/spec/template/spec/containers/0/env/3/valueFrom/fieldRef/apiVersion",
+        "/spec/template/spec/containers/0/env/12",
+        "/spec/template/spec/containers/0/livenessProbe/periodSeconds",
+        "/spec/template/spec/containers/0/readinessProbe/timeoutSeconds",
+        "/spec/template/spec/containers/0/image",
+        "/spec/template/spec/dnsPolicy",
+        "/spec/template/spec/volumes/2/configMap/defaultMode",
+        "/spec/template/spec/volumes/2/configMap/name",
+        "/spec/volumeClaimTemplates/0/spec/resources/requests/storage",
+        "/spec/replicas",
+        "/status");
+
+    /**
+     * @return The number of ignorable paths, matched with the regular expression
+     */
+    @Benchmark
+    public int pattern() {
+        int matched = 0;
+        for (String path : PATHS) {
+            if (PATTERN.matcher(path).matches()) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * @return The number of ignorable paths, matched with the {@link JsonPointerMatcher}
+     */
+    @Benchmark
+    public int matcher() {
+        int matched = 0;
+        for (String path : PATHS) {
+            if (MATCHER.matches(path)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.fabric8.kubernetes.api.model.VolumeMount;
+import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
+import io.strimzi.api.kafka.model.KafkaAuthorization;
+import io.strimzi.api.kafka.model.KafkaAuthorizationSimpleBuilder;
+import io.strimzi.api.kafka.model.Rack;
+import io.strimzi.api.kafka.model.listener.KafkaListenerAuthenticationScramSha512;
+import io.strimzi.api.kafka.model.listener.KafkaListenerAuthenticationTls;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.operator.cluster.model.KafkaBrokerConfigurationBuilder;
+import io.strimzi.operator.cluster.model.KafkaConfiguration;
+import io.strimzi.operator.cluster.model.NodeRef;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks generating the configurations of all the brokers of a Kafka cluster with
+ * {@link KafkaBrokerConfigurationBuilder}, as done for the per-broker ConfigMaps in each reconciliation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaBrokerConfigurationBuilderBenchmark {
+
+    /**
+     * The number of brokers in the Kafka cluster
+     */
+    @Param({"3", "100", "300"})
+    public int brokers;
+
+    /**
+     * The number of options in the user configuration
+     */
+    @Param({"10", "500"})
+    public int userConfigs;
+
+    private List<NodeRef> nodes;
+    private List<GenericKafkaListener> listeners;
+    private KafkaAuthorization authorization;
+    private KafkaConfiguration userConfiguration;
+    private List<VolumeMount> mounts;
+
+    /**
+     * Creates the Kafka cluster model
+     */
+    @Setup
+    public void setup() {
+        nodes = new ArrayList<>();
+        for (int i = 0; i < brokers; i++) {
+            nodes.add(new NodeRef("my-cluster-kafka-" + i, i, "kafka", false, true));
+        }
+        listeners = List.of(
+                new GenericKafkaListenerBuilder()
+                        .withName("plain")
+                        .withPort(9092)
+                        .withType(KafkaListenerType.INTERNAL)
+                        .withTls(false)
+                        .build(),
+                new GenericKafkaListenerBuilder()
+                        .withName("tls")
+                        .withPort(9093)
+                        .withType(KafkaListenerType.INTERNAL)
+                        .withTls(true)
+                        .withAuth(new KafkaListenerAuthenticationTls())
+                        .build(),
+                new GenericKafkaListenerBuilder()
+                        .withName("scram")
+                        .withPort(9094)
+                        .withType(KafkaListenerType.INTERNAL)
+                        .withTls(true)
+                        .withAuth(new KafkaListenerAuthenticationScramSha512())
+                        .build(),
+                new GenericKafkaListenerBuilder()
+                        .withName("external")
+                        .withPort(9095)
+                        .withType(KafkaListenerType.NODEPORT)
+                        .withTls(true)
+                        .withAuth(new KafkaListenerAuthenticationTls())
+                        .build());
+        authorization = new KafkaAuthorizationSimpleBuilder()
+                .withSuperUsers("CN=alice", "CN=bob")
+                .build();
+        Map<String, Object> config = new HashMap<>();
+        config.put("auto.create.topics.enable", "false");
+        config.put("offsets.topic.replication.factor", 3);
+        config.put("transaction.state.log.replication.factor", 3);
+        config.put("transaction.state.log.min.isr", 2);
+        for (int i = 0; i < userConfigs; i++) {
+            config.put("custom.property." + i, "value-" + i);
+        }
+        userConfiguration = new KafkaConfiguration(Reconciliation.DUMMY_RECONCILIATION, config.entrySet());
+        mounts = List.of(
+                new VolumeMountBuilder().withName("data-0").withMountPath("/var/lib/kafka/data-0").build(),
+                new VolumeMountBuilder().withName("data-1").withMountPath("/var/lib/kafka/data-1").build());
+    }
+
+    /**
+     * @param blackhole Consumes the configurations
+     */
+    @Benchmark
+    public void build(Blackhole blackhole) {
+        for (NodeRef node : nodes) {
+            blackhole.consume(new KafkaBrokerConfigurationBuilder(Reconciliation.DUMMY_RECONCILIATION, String.valueOf(node.nodeId()), false)
+                    .withRackId(new Rack("topology.kubernetes.io/zone"))
+                    .withLogDirs(mounts)
+                    .withListeners("my-cluster",
+                            "my-namespace",
+                            node,
+                            listeners,
+                            listenerId -> "my-cluster-kafka-" + node.nodeId() + ".example.com",
+                            listenerId -> "3" + node.nodeId())
+                    .withAuthorization("my-cluster", authorization)
+                    .withUserConfiguration(userConfiguration, false)
+                    .withZookeeper("my-cluster")
+                    .build());
+        }
+    }
+}
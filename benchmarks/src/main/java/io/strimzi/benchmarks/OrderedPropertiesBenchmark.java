@@ -0,0 +1,80 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.strimzi.operator.common.model.OrderedProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks parsing and serializing large configurations with {@link OrderedProperties}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderedPropertiesBenchmark {
+
+    /**
+     * The number of properties in the configuration
+     */
+    @Param({"100", "1000", "10000"})
+    public int properties;
+
+    private String configuration;
+    private OrderedProperties parsed;
+
+    /**
+     * Creates the configuration
+     */
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < properties; i++) {
+            if (i % 10 == 0) {
+                sb.append("# Comment ").append(i).append('\n');
+            }
+            if (i % 50 == 0) {
+                // A value continued over several lines
+                sb.append("listener.name.listener-").append(i).append(".sasl.jaas.config=org.example.LoginModule required \\\n")
+                        .append("    username=\"user-").append(i).append("\" \\\n")
+                        .append("    password=\"password-").append(i).append("\";\n");
+            } else {
+                sb.append("custom.property.").append(i).append('=').append("value-").append(i).append('\n');
+            }
+        }
+        configuration = sb.toString();
+        parsed = new OrderedProperties().addStringPairs(configuration);
+    }
+
+    /**
+     * @return The parsed configuration
+     */
+    @Benchmark
+    public OrderedProperties parse() {
+        return new OrderedProperties().addStringPairs(configuration);
+    }
+
+    /**
+     * @return The serialized configuration
+     */
+    @Benchmark
+    public String asPairs() {
+        return parsed.asPairs();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.ResourceDiff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ResourceDiff} of a ConfigMap like the per-broker ConfigMaps of a large Kafka cluster, where each
+ * entry holds a complete broker configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceDiffBenchmark {
+
+    /**
+     * The number of entries in the ConfigMap
+     */
+    @Param({"10", "100", "300"})
+    public int entries;
+
+    private ConfigMap current;
+    private ConfigMap unchanged;
+    private ConfigMap changed;
+
+    /**
+     * Creates the ConfigMaps
+     */
+    @Setup
+    public void setup() {
+        current = configMap(entries, "1", "v1");
+        // Differs only in ignorable paths
+        unchanged = configMap(entries, "2", "v1");
+        // Differs in the last entry, so the whole resource needs to be compared
+        changed = new ConfigMapBuilder(current)
+                .addToData("entry-" + (entries - 1), brokerConfiguration(entries - 1, "v2"))
+                .build();
+    }
+
+    private static ConfigMap configMap(int entries, String resourceVersion, String version) {
+        Map<String, String> data = new LinkedHashMap<>();
+        for (int i = 0; i < entries; i++) {
+            data.put("entry-" + i, brokerConfiguration(i, version));
+        }
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-kafka-config")
+                    .withNamespace("my-namespace")
+                    .withResourceVersion(resourceVersion)
+                    .withGeneration(Long.valueOf(resourceVersion))
+                    .addToLabels("strimzi.io/cluster", "my-cluster")
+                    .addToLabels("strimzi.io/kind", "Kafka")
+                .endMetadata()
+                .withData(data)
+                .build();
+    }
+
+    private static String brokerConfiguration(int brokerId, String version) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("broker.id=").append(brokerId).append('\n');
+        sb.append("version=").append(version).append('\n');
+        for (int i = 0; i < 100; i++) {
+            sb.append("custom.property.").append(i).append('=').append("value-").append(i).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return Diff of resources which differ only in ignorable paths
+     */
+    @Benchmark
+    public boolean unchanged() {
+        return new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "ConfigMap", "my-cluster-kafka-config", current, unchanged, ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty();
+    }
+
+    /**
+     * @return Diff of resources which differ in their data
+     */
+    @Benchmark
+    public boolean changed() {
+        return new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "ConfigMap", "my-cluster-kafka-config", current, changed, ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
+import io.strimzi.api.kafka.model.status.KafkaStatus;
+import io.strimzi.api.kafka.model.status.KafkaStatusBuilder;
+import io.strimzi.api.kafka.model.status.ListenerAddress;
+import io.strimzi.api.kafka.model.status.ListenerAddressBuilder;
+import io.strimzi.api.kafka.model.status.ListenerStatus;
+import io.strimzi.api.kafka.model.status.ListenerStatusBuilder;
+import io.strimzi.operator.common.model.StatusDiff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link StatusDiff} of the status of a Kafka cluster, with an address per broker for each listener.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatusDiffBenchmark {
+
+    /**
+     * The number of brokers in the Kafka cluster
+     */
+    @Param({"3", "100", "300"})
+    public int brokers;
+
+    private KafkaStatus current;
+    private KafkaStatus unchanged;
+    private KafkaStatus changed;
+
+    /**
+     * Creates the statuses
+     */
+    @Setup
+    public void setup() {
+        current = status(brokers, "2023-01-01T00:00:00Z", 1L);
+        // Differs only in the ignorable lastTransitionTime
+        unchanged = status(brokers, "2023-01-02T00:00:00Z", 1L);
+        changed = status(brokers, "2023-01-02T00:00:00Z", 2L);
+    }
+
+    private static KafkaStatus status(int brokers, String lastTransitionTime, long observedGeneration) {
+        List<ListenerStatus> listeners = new ArrayList<>();
+        for (String listener : List.of("plain", "tls", "external", "route")) {
+            List<ListenerAddress> addresses = new ArrayList<>();
+            for (int i = 0; i < brokers; i++) {
+                addresses.add(new ListenerAddressBuilder()
+                        .withHost("my-cluster-kafka-" + i + ".my-cluster-kafka-brokers.my-namespace.svc")
+                        .withPort(9092)
+                        .build());
+            }
+            listeners.add(new ListenerStatusBuilder()
+                    .withName(listener)
+                    .withAddresses(addresses)
+                    .withCertificates(List.of("-----BEGIN CERTIFICATE-----\n" + "A".repeat(1500) + "\n-----END CERTIFICATE-----"))
+                    .build());
+        }
+        return new KafkaStatusBuilder()
+                .withObservedGeneration(observedGeneration)
+                .withConditions(new ConditionBuilder()
+                        .withType("Ready")
+                        .withStatus("True")
+                        .withLastTransitionTime(lastTransitionTime)
+                        .build())
+                .withListeners(listeners)
+                .withClusterId("my-cluster-id")
+                .withKafkaVersion("3.6.0")
+                .withOperatorLastSuccessfulVersion("0.38.0")
+                .build();
+    }
+
+    /**
+     * @return Diff of statuses which differ only in ignorable paths
+     */
+    @Benchmark
+    public boolean unchanged() {
+        return new StatusDiff(current, unchanged).isEmpty();
+    }
+
+    /**
+     * @return Diff of statuses which differ in their observed generation
+     */
+    @Benchmark
+    public boolean changed() {
+        return new StatusDiff(current, changed).isEmpty();
+    }
+}
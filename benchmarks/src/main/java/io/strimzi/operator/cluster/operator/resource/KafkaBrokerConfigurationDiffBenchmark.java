@@ -0,0 +1,94 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.operator.cluster.model.KafkaConfiguration;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.common.Reconciliation;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link KafkaBrokerConfigurationDiff} of the configuration of a single broker, as described by the
+ * Admin client, with the desired configuration. This is done for every broker in each reconciliation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaBrokerConfigurationDiffBenchmark {
+
+    /**
+     * The number of custom options in the configuration
+     */
+    @Param({"0", "500"})
+    public int customConfigs;
+
+    private KafkaVersion kafkaVersion;
+    private Config current;
+    private String unchanged;
+    private String changed;
+
+    /**
+     * Creates the configurations
+     */
+    @Setup
+    public void setup() {
+        kafkaVersion = new KafkaVersion.Lookup(Map.of(), Map.of(), Map.of(), Map.of()).defaultVersion();
+        // Every broker config known to this Kafka version, like the Admin client describes them
+        List<String> names = new ArrayList<>(KafkaConfiguration.readConfigModel(kafkaVersion).keySet());
+        for (int i = 0; i < customConfigs; i++) {
+            names.add("custom.property." + i);
+        }
+
+        List<ConfigEntry> entries = new ArrayList<>();
+        StringBuilder desired = new StringBuilder();
+        for (String name : names) {
+            entries.add(new ConfigEntry(name, value(name)));
+            desired.append(name).append('=').append(value(name)).append('\n');
+        }
+        current = new Config(entries);
+        unchanged = desired.toString();
+        changed = unchanged + "log.retention.ms=1\n";
+    }
+
+    private static String value(String name) {
+        return "value-" + name.hashCode();
+    }
+
+    /**
+     * @return Diff of identical configurations
+     */
+    @Benchmark
+    public boolean unchanged() {
+        return new KafkaBrokerConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION, current, unchanged, kafkaVersion, 0).isEmpty();
+    }
+
+    /**
+     * @return Diff of configurations with a changed option
+     */
+    @Benchmark
+    public boolean changed() {
+        return new KafkaBrokerConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION, current, changed, kafkaVersion, 0).isEmpty();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.metrics.BatchOperatorMetricsHolder;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Benchmarks queueing and batching events for thousands of KafkaTopics in the {@link BatchingLoop}, with a
+ * controller which does nothing, so that only the cost of the loop itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchingLoopBenchmark {
+
+    private static final String NAMESPACE = "my-namespace";
+
+    /**
+     * The number of KafkaTopics
+     */
+    @Param({"1000", "10000"})
+    public int topics;
+
+    /**
+     * The number of threads reconciling batches
+     */
+    @Param({"1", "4"})
+    public int threads;
+
+    private BasicItemStore<KafkaTopic> itemStore;
+    private BatchingTopicController controller;
+    private final AtomicInteger reconciled = new AtomicInteger();
+    private BatchingLoop loop;
+
+    /**
+     * Creates the KafkaTopics and a controller which only counts them
+     */
+    @Setup(Level.Trial)
+    public void setupTrial() throws InterruptedException {
+        itemStore = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
+        for (int i = 0; i < topics; i++) {
+            KafkaTopic kt = new KafkaTopicBuilder()
+                    .withNewMetadata()
+                        .withNamespace(NAMESPACE)
+                        .withName("topic-" + i)
+                        .withResourceVersion("1")
+                    .endMetadata()
+                    .withNewSpec()
+                        .withPartitions(3)
+                        .withReplicas(3)
+                    .endSpec()
+                    .build();
+            itemStore.put(itemStore.getKey(kt), kt);
+        }
+        controller = Mockito.mock(BatchingTopicController.class);
+        Mockito.doAnswer(invocation -> {
+            List<?> batch = invocation.getArgument(0);
+            reconciled.addAndGet(batch.size());
+            return null;
+        }).when(controller).onUpdate(any());
+    }
+
+    /**
+     * Creates a new loop, so that each invocation starts with empty queues
+     */
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        reconciled.set(0);
+        // The queue is sized so that no shard can overflow, however unevenly the KafkaTopics hash
+        loop = new BatchingLoop(topics * threads, false, controller, threads, 100, 10, itemStore, () -> { },
+                new BatchOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new MicrometerMetricsProvider(new SimpleMeterRegistry())),
+                NAMESPACE);
+    }
+
+    /**
+     * Stops the loop
+     */
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() throws InterruptedException {
+        loop.stop();
+    }
+
+    /**
+     * Offers two events for each KafkaTopic, like a resync of the informer while the events from the previous one are
+     * still queued, so that the second event for each KafkaTopic is coalesced with the first.
+     */
+    @Benchmark
+    public void offer() {
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < topics; i++) {
+                loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "topic-" + i, String.valueOf(round)));
+            }
+        }
+    }
+
+    /**
+     * Offers an event for each KafkaTopic and waits for them all to be reconciled.
+     */
+    @Benchmark
+    public void offerAndReconcile() throws InterruptedException {
+        loop.start();
+        for (int i = 0; i < topics; i++) {
+            loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "topic-" + i, "1"));
+        }
+        while (reconciled.get() < topics) {
+            Thread.onSpinWait();
+        }
+    }
+}
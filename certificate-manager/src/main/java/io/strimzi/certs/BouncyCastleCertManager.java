@@ -0,0 +1,554 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.nist.NISTNamedCurves;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.x500.RDN;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.ExtensionsGenerator;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.jcajce.provider.asymmetric.util.EC5Util;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.bouncycastle.openssl.jcajce.JcaPKCS8Generator;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.PKCSException;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequest;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+import javax.security.auth.x500.X500Principal;
+
+/**
+ * A certificate manager which generates the keys, signs the certificates and assembles the PKCS12 stores in-process,
+ * with the JDK security APIs and the BouncyCastle certificate builders, instead of running {@code openssl}. The
+ * certificates it issues have the same subjects, validity, serial numbers, signature algorithms and extensions as
+ * the ones issued by the {@link OpenSslCertManager}, so the two can be used interchangeably with the same CAs.
+ */
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
+public class BouncyCastleCertManager implements CertManager {
+    /**
+     * Size of the RSA keys of the CA certificates
+     */
+    private static final int CA_KEY_SIZE = 4096;
+
+    /**
+     * Size of the RSA keys of the end entity certificates
+     */
+    private static final int KEY_SIZE = 2048;
+
+    /**
+     * Signature algorithm used to sign the certificates with RSA keys
+     */
+    private static final String CERT_SIGNATURE_ALGORITHM = "SHA512withRSA";
+
+    /**
+     * Signature algorithm used to sign the certificate sign requests with RSA keys
+     */
+    private static final String CSR_SIGNATURE_ALGORITHM = "SHA256withRSA";
+
+    /**
+     * Number of bits of the random serial numbers
+     */
+    private static final int SERIAL_NUMBER_BITS = 159;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Clock clock;
+
+    /**
+     * Constructs the BouncyCastleCertManager with the system time
+     */
+    public BouncyCastleCertManager() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Configures the BouncyCastleCertManager with time passed as a parameter
+     *
+     * @param clock     Clock / Time which should be used by the manager
+     */
+    public BouncyCastleCertManager(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, sbj, days, KeyAlgorithm.RSA);
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days, KeyAlgorithm keyAlgorithm) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateCaCert(null, null, sbj, keyFile, certFile, notBefore, notAfter, 0, keyAlgorithm);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, sbj, days);
+    }
+
+    @Override
+    public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
+                                   ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength, KeyAlgorithm.RSA);
+    }
+
+    @Override
+    public void generateIntermediateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                           Subject subject,
+                                           File subjectKeyFile, File subjectCertFile,
+                                           ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        Objects.requireNonNull(issuerCaKeyFile);
+        Objects.requireNonNull(issuerCaCertFile);
+        generateCaCert(readPrivateKey(Files.readAllBytes(issuerCaKeyFile.toPath())), readCertificate(Files.readAllBytes(issuerCaCertFile.toPath())),
+                subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength, KeyAlgorithm.RSA);
+    }
+
+    /**
+     * Generate a CA certificate, using either a new CA key or reusing an existing subject key.
+     *
+     * @param issuerKey The issuing CA key (or null for a root CA).
+     * @param issuerCert The issuing CA cert (or null for a root CA).
+     * @param subject The required subject.
+     * @param subjectKeyFile The subject key file.
+     *                       If this file is empty then a new CA key will be generated and populated by this call.
+     *                       Otherwise it is assumed to contain the existing CA key in PKCS#8 format.
+     * @param subjectCertFile The subject certificate file, populated by this call.
+     * @param notBefore The required NotBefore date of the issued certificate.
+     * @param notAfter The required NotAfter date of the issued certificate.
+     * @param pathLength The number of CA certificates below this certificate in a certificate chain.
+     * @param keyAlgorithm The algorithm of the new CA key when a new key is generated.
+     * @throws IOException IO problems
+     */
+    private void generateCaCert(PrivateKey issuerKey, X509Certificate issuerCert,
+                                Subject subject,
+                                File subjectKeyFile, File subjectCertFile,
+                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength,
+                                KeyAlgorithm keyAlgorithm) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(subject);
+        Objects.requireNonNull(subjectKeyFile);
+        Objects.requireNonNull(subjectCertFile);
+        checkValidity(notBefore, notAfter);
+        if (pathLength < 0) {
+            throw new IllegalArgumentException("pathLength cannot be negative: " + pathLength);
+        }
+        if (subject.hasSubjectAltNames()) {
+            throw new IllegalArgumentException("CA certificates should not have Subject Alternative Names");
+        }
+
+        KeyPair keyPair;
+        if (subjectKeyFile.length() == 0) {
+            keyPair = generateKeyPair(keyAlgorithm, CA_KEY_SIZE);
+            Files.write(subjectKeyFile.toPath(), pem(new JcaPKCS8Generator(keyPair.getPrivate(), null)));
+        } else {
+            PrivateKey privateKey = readPrivateKey(Files.readAllBytes(subjectKeyFile.toPath()));
+            keyPair = new KeyPair(publicKey(privateKey), privateKey);
+        }
+
+        X500Name subjectName = x500Name(subject.principal());
+        X500Name issuerName = issuerCert == null ? subjectName : X500Name.getInstance(issuerCert.getSubjectX500Principal().getEncoded());
+        PrivateKey signingKey = issuerKey == null ? keyPair.getPrivate() : issuerKey;
+
+        try {
+            X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(issuerName, serialNumber(),
+                    Date.from(notBefore.toInstant()), Date.from(notAfter.toInstant()), subjectName, keyPair.getPublic())
+                    .addExtension(Extension.subjectKeyIdentifier, false, new JcaX509ExtensionUtils().createSubjectKeyIdentifier(keyPair.getPublic()))
+                    .addExtension(Extension.basicConstraints, true, new BasicConstraints(pathLength))
+                    .addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+
+            Files.write(subjectCertFile.toPath(), pem(sign(builder, signingKey)));
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to generate the CA certificate", e);
+        }
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(certAlias);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        // the KeyStore class is able to create an empty store if the input stream is null
+        try (InputStream isTrustStore = trustStoreFile.length() > 0 ? new FileInputStream(trustStoreFile) : null) {
+            trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+        }
+        trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(readCertificate(Files.readAllBytes(certFile.toPath()))), null);
+
+        try (OutputStream osTrustStore = new FileOutputStream(trustStoreFile)) {
+            trustStore.store(osTrustStore, trustStorePassword.toCharArray());
+        }
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(alias);
+        Objects.requireNonNull(keyStoreFile);
+        Objects.requireNonNull(keyStorePassword);
+
+        try {
+            PrivateKey key = readPrivateKey(Files.readAllBytes(keyFile.toPath()));
+            Collection<? extends Certificate> chain;
+            try (InputStream isCertificate = new FileInputStream(certFile)) {
+                chain = CertificateFactory.getInstance("X.509").generateCertificates(isCertificate);
+            }
+
+            // Like openssl pkcs12 -export, this replaces the keystore instead of adding to it
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, keyStorePassword.toCharArray());
+            keyStore.setKeyEntry(alias, key, keyStorePassword.toCharArray(), chain.toArray(new Certificate[0]));
+
+            try (OutputStream osKeyStore = new FileOutputStream(keyStoreFile)) {
+                keyStore.store(osKeyStore, keyStorePassword.toCharArray());
+            }
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to create the keystore", e);
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(aliases);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        try (InputStream isTrustStore = new FileInputStream(trustStoreFile)) {
+            trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+        }
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+        try (OutputStream osTrustStore = new FileOutputStream(trustStoreFile)) {
+            trustStore.store(osTrustStore, trustStorePassword.toCharArray());
+        }
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+        generateCsr(keyFile, csrFile, subject, KeyAlgorithm.RSA);
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject subject, KeyAlgorithm keyAlgorithm) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(subject);
+
+        KeyPair keyPair = generateKeyPair(keyAlgorithm, KEY_SIZE);
+
+        try {
+            JcaPKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(x500Name(subject.principal()), keyPair.getPublic());
+            if (subject.hasSubjectAltNames()) {
+                ExtensionsGenerator extensions = new ExtensionsGenerator();
+                extensions.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(subject));
+                builder.addAttribute(PKCSObjectIdentifiers.pkcs_9_at_extensionRequest, extensions.generate());
+            }
+            String signatureAlgorithm = keyAlgorithm == KeyAlgorithm.RSA ? CSR_SIGNATURE_ALGORITHM : signatureAlgorithm(keyPair.getPrivate());
+            PKCS10CertificationRequest csr = builder.build(new JcaContentSignerBuilder(signatureAlgorithm).build(keyPair.getPrivate()));
+
+            Files.write(keyFile.toPath(), pem(new JcaPKCS8Generator(keyPair.getPrivate(), null)));
+            Files.write(csrFile.toPath(), pem(csr));
+        } catch (OperatorCreationException e) {
+            throw new RuntimeException("Failed to generate the certificate sign request", e);
+        }
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateCert(csrFile, caKey, caCert, crtFile, sbj, notBefore, notAfter);
+    }
+
+    /**
+     * Generates a certificate
+     *
+     * @param csrFile       CSR file
+     * @param caKey         Key of the CA which should sign this certificate
+     * @param caCert        Cert of the CA which should sign this certificate
+     * @param crtFile       Cert file for the newly generated certificate
+     * @param sbj           Subject of the new certificate
+     * @param notBefore     Not before validity
+     * @param notAfter      Not after validity
+     *
+     * @throws IOException  Thrown when working with files fails
+     */
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, ZonedDateTime notBefore, ZonedDateTime notAfter) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        Objects.requireNonNull(crtFile);
+        Objects.requireNonNull(sbj);
+        checkValidity(notBefore, notAfter);
+
+        try {
+            JcaPKCS10CertificationRequest csr = new JcaPKCS10CertificationRequest(readCsr(Files.readAllBytes(csrFile.toPath())));
+            PublicKey publicKey = csr.getPublicKey();
+            if (!csr.isSignatureValid(new JcaContentVerifierProviderBuilder().build(publicKey))) {
+                throw new RuntimeException("Invalid signature of the certificate sign request " + csrFile);
+            }
+
+            PrivateKey issuerKey = readPrivateKey(caKey);
+            X509Certificate issuerCert = readCertificate(caCert);
+
+            X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(issuerCert, serialNumber(),
+                    Date.from(notBefore.toInstant()), Date.from(notAfter.toInstant()), csr.getSubject(), publicKey)
+                    .addExtension(Extension.subjectKeyIdentifier, false, new JcaX509ExtensionUtils().createSubjectKeyIdentifier(publicKey))
+                    .addExtension(Extension.basicConstraints, true, new BasicConstraints(false))
+                    // Key encipherment applies only to RSA keys, elliptic curve keys are used only for signatures in TLS
+                    .addExtension(Extension.keyUsage, true, new KeyUsage(publicKey instanceof ECPublicKey ? KeyUsage.digitalSignature : KeyUsage.digitalSignature | KeyUsage.keyEncipherment));
+            if (sbj.hasSubjectAltNames()) {
+                builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(sbj));
+            }
+
+            Files.write(crtFile.toPath(), pem(sign(builder, issuerKey)));
+        } catch (GeneralSecurityException | OperatorCreationException | PKCSException e) {
+            throw new RuntimeException("Failed to generate the certificate", e);
+        }
+    }
+
+    private static void checkValidity(ZonedDateTime notBefore, ZonedDateTime notAfter) {
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+        if (!notBefore.isBefore(notAfter)) {
+            throw new IllegalArgumentException("Invalid notBefore and notAfter: " + notBefore + " must be before " + notAfter);
+        }
+    }
+
+    /**
+     * Generates a new key pair
+     *
+     * @param keyAlgorithm  Algorithm of the key
+     * @param rsaKeySize    Size of the key when it is an RSA key
+     *
+     * @return  The new key pair
+     */
+    private static KeyPair generateKeyPair(KeyAlgorithm keyAlgorithm, int rsaKeySize) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(keyAlgorithm.jcaName());
+            if (keyAlgorithm == KeyAlgorithm.RSA) {
+                generator.initialize(rsaKeySize, RANDOM);
+            } else {
+                generator.initialize(new ECGenParameterSpec(NISTNamedCurves.getOID(keyAlgorithm.curve()).getId()), RANDOM);
+            }
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to generate the key pair", e);
+        }
+    }
+
+    /**
+     * Selects the signature algorithm for signing with a private key. RSA keys use SHA-512, elliptic curve keys use
+     * the hash matching the size of their curve.
+     *
+     * @param signingKey    The private key
+     *
+     * @return  The signature algorithm
+     */
+    private static String signatureAlgorithm(PrivateKey signingKey) {
+        if (signingKey instanceof ECPrivateKey ecKey) {
+            return ecKey.getParams().getCurve().getField().getFieldSize() <= 256 ? "SHA256withECDSA" : "SHA384withECDSA";
+        } else {
+            return CERT_SIGNATURE_ALGORITHM;
+        }
+    }
+
+    /**
+     * @return  Positive random serial number, in the same way as the rand_serial option of openssl
+     */
+    private static BigInteger serialNumber() {
+        return new BigInteger(SERIAL_NUMBER_BITS, RANDOM);
+    }
+
+    private static X500Name x500Name(X500Principal principal) {
+        return principal != null ? X500Name.getInstance(principal.getEncoded()) : new X500Name(new RDN[0]);
+    }
+
+    private static GeneralNames subjectAltNames(Subject subject) {
+        List<GeneralName> names = new ArrayList<>();
+        for (String dnsName : subject.dnsNames()) {
+            names.add(new GeneralName(GeneralName.dNSName, dnsName));
+        }
+        for (String ipAddress : subject.ipAddresses()) {
+            names.add(new GeneralName(GeneralName.iPAddress, ipAddress));
+        }
+        return new GeneralNames(names.toArray(new GeneralName[0]));
+    }
+
+    private static X509Certificate sign(X509v3CertificateBuilder builder, PrivateKey signingKey) throws CertificateException {
+        try {
+            return new JcaX509CertificateConverter().getCertificate(builder.build(new JcaContentSignerBuilder(signatureAlgorithm(signingKey)).build(signingKey)));
+        } catch (OperatorCreationException e) {
+            throw new CertificateException("Failed to sign the certificate", e);
+        }
+    }
+
+    /**
+     * Derives the public key from a private key
+     *
+     * @param privateKey    The private key
+     *
+     * @return  The public key of the key pair
+     */
+    private static PublicKey publicKey(PrivateKey privateKey) {
+        if (privateKey instanceof RSAPrivateCrtKey rsaKey) {
+            try {
+                return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+            } catch (GeneralSecurityException e) {
+                throw new RuntimeException("Failed to derive the public key", e);
+            }
+        } else if (privateKey instanceof ECPrivateKey ecKey) {
+            try {
+                // The public point is the generator of the curve multiplied by the private value
+                ECParameterSpec params = ecKey.getParams();
+                ECPoint q = EC5Util.convertSpec(params).getG().multiply(ecKey.getS()).normalize();
+                return KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(
+                        new java.security.spec.ECPoint(q.getAffineXCoord().toBigInteger(), q.getAffineYCoord().toBigInteger()), params));
+            } catch (GeneralSecurityException e) {
+                throw new RuntimeException("Failed to derive the public key", e);
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported private key algorithm " + privateKey.getAlgorithm());
+        }
+    }
+
+    private static byte[] pem(Object object) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
+            pemWriter.writeObject(object);
+        }
+        return writer.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static Object readPem(byte[] pem) throws IOException {
+        try (Reader reader = new StringReader(new String(pem, StandardCharsets.US_ASCII)); PEMParser parser = new PEMParser(reader)) {
+            Object object = parser.readObject();
+            if (object == null) {
+                throw new IOException("No PEM object found");
+            }
+            return object;
+        }
+    }
+
+    /**
+     * Reads a private key in either the PKCS#8 or the PKCS#1 format
+     *
+     * @param pem   The PEM encoded key
+     *
+     * @return  The private key
+     *
+     * @throws IOException  If the key cannot be parsed
+     */
+    private static PrivateKey readPrivateKey(byte[] pem) throws IOException {
+        Object object = readPem(pem);
+        JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+        if (object instanceof PEMKeyPair keyPair) {
+            return converter.getPrivateKey(keyPair.getPrivateKeyInfo());
+        } else if (object instanceof PrivateKeyInfo keyInfo) {
+            return converter.getPrivateKey(keyInfo);
+        } else {
+            throw new IOException("Expected a private key, but found " + object.getClass().getSimpleName());
+        }
+    }
+
+    private static X509Certificate readCertificate(byte[] pem) throws IOException {
+        try {
+            return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(pem));
+        } catch (CertificateException e) {
+            throw new IOException("Failed to parse the certificate", e);
+        }
+    }
+
+    private static PKCS10CertificationRequest readCsr(byte[] pem) throws IOException {
+        Object object = readPem(pem);
+        if (object instanceof PKCS10CertificationRequest csr) {
+            return csr;
+        } else {
+            throw new IOException("Expected a certificate sign request, but found " + object.getClass().getSimpleName());
+        }
+    }
+
+}
@@ -27,6 +27,18 @@ public interface CertManager {
      */
     void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException;
 
+    /**
+     * Generate a self-signed certificate with a new private key of the given algorithm
+     *
+     * @param keyFile path to the file which will contain the private key
+     * @param certFile path to the file which will contain the self signed certificate
+     * @param sbj subject information
+     * @param days certificate duration
+     * @param keyAlgorithm algorithm of the generated private key
+     * @throws IOException If an input or output file could not be read/written.
+     */
+    void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days, KeyAlgorithm keyAlgorithm) throws IOException;
+
     /**
      * Renew a new self-signed certificate, keeping the existing private key
      * @param keyFile path to the file containing the existing private key
@@ -123,6 +135,17 @@ public interface CertManager {
      */
     void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException;
 
+    /**
+     * Generate a certificate sign request with a new private key of the given algorithm
+     *
+     * @param keyFile path to the file which will contain the private key
+     * @param csrFile path to the file which will contain the certificate sign request
+     * @param sbj subject information
+     * @param keyAlgorithm algorithm of the generated private key
+     * @throws IOException If an input or output file could not be read/written.
+     */
+    void generateCsr(File keyFile, File csrFile, Subject sbj, KeyAlgorithm keyAlgorithm) throws IOException;
+
     /**
      * Generate a certificate signed by a Certificate Authority
      *
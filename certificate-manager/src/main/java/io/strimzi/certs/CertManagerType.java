@@ -0,0 +1,45 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.util.Locale;
+
+/**
+ * The available implementations of the {@link CertManager}
+ */
+public enum CertManagerType {
+    /**
+     * Runs {@code openssl} subprocesses, see {@link OpenSslCertManager}
+     */
+    OPENSSL,
+
+    /**
+     * Generates the keys and certificates in-process, see {@link BouncyCastleCertManager}
+     */
+    BOUNCYCASTLE;
+
+    /**
+     * Parses the type of the certificate manager from its name
+     *
+     * @param value     Name of the certificate manager type, in any case
+     *
+     * @return  The certificate manager type
+     *
+     * @throws IllegalArgumentException If the value is not a known certificate manager type
+     */
+    public static CertManagerType forValue(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ENGLISH));
+    }
+
+    /**
+     * @return  New certificate manager of this type
+     */
+    public CertManager createCertManager() {
+        return switch (this) {
+            case OPENSSL -> new OpenSslCertManager();
+            case BOUNCYCASTLE -> new BouncyCastleCertManager();
+        };
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+/**
+ * The algorithms of the private keys generated by the {@link CertManager}. Elliptic curve keys are much faster to
+ * generate and make the TLS handshakes cheaper than RSA keys with a comparable strength.
+ */
+public enum KeyAlgorithm {
+    /**
+     * RSA keys with 4096 bits for the CA certificates and 2048 bits for the other certificates
+     */
+    RSA("RSA", null),
+
+    /**
+     * ECDSA keys on the NIST P-256 curve
+     */
+    ECDSA_P256("EC", "P-256"),
+
+    /**
+     * ECDSA keys on the NIST P-384 curve
+     */
+    ECDSA_P384("EC", "P-384");
+
+    private final String jcaName;
+    private final String curve;
+
+    KeyAlgorithm(String jcaName, String curve) {
+        this.jcaName = jcaName;
+        this.curve = curve;
+    }
+
+    /**
+     * @return  Name of the key algorithm in the Java Cryptography Architecture
+     */
+    public String jcaName() {
+        return jcaName;
+    }
+
+    /**
+     * @return  The NIST name of the elliptic curve (as understood by OpenSSL) or null for RSA keys
+     */
+    public String curve() {
+        return curve;
+    }
+}
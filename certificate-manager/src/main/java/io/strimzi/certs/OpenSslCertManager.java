@@ -39,6 +39,9 @@ import java.util.stream.Stream;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.bouncycastle.asn1.x9.X9ObjectIdentifiers;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
 
 /**
  * An OpenSSL based certificate manager.
@@ -154,10 +157,15 @@ public class OpenSslCertManager implements CertManager {
 
     @Override
     public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, sbj, days, KeyAlgorithm.RSA);
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days, KeyAlgorithm keyAlgorithm) throws IOException {
         Instant now = clock.instant();
         ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
         ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
-        generateRootCaCert(sbj, keyFile, certFile, notBefore, notAfter, 0);
+        generateCaCert(null, null, sbj, keyFile, certFile, notBefore, notAfter, 0, keyAlgorithm);
     }
 
     /**
@@ -178,7 +186,7 @@ public class OpenSslCertManager implements CertManager {
     @Override
     public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
                                    ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
-        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength, KeyAlgorithm.RSA);
     }
 
     /**
@@ -205,7 +213,7 @@ public class OpenSslCertManager implements CertManager {
                                            ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
         Objects.requireNonNull(issuerCaKeyFile);
         Objects.requireNonNull(issuerCaCertFile);
-        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength, KeyAlgorithm.RSA);
     }
 
     /**
@@ -223,12 +231,14 @@ public class OpenSslCertManager implements CertManager {
      * @param pathLength The number of CA certificates below this certificate in a certificate chain.
      *                   For example, this would be 0 if the CA certificate and key produced by this call would
      *                   only be used to issue end entity certificates, or &gt;0 when issuing intermediate CA certificates.
+     * @param keyAlgorithm The algorithm of the new CA key when a new key is generated.
      * @throws IOException IO problems
      */
     private void generateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
                                 Subject subject,
                                 File subjectKeyFile, File subjectCertFile,
-                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength,
+                                KeyAlgorithm keyAlgorithm) throws IOException {
         if (issuerCaKeyFile == null ^ issuerCaCertFile == null) {
             throw new IllegalArgumentException();
         }
@@ -255,17 +265,26 @@ public class OpenSslCertManager implements CertManager {
 
         try {
             tmpKey = Files.createTempFile(null, null);
-            boolean keyInPkcs1;
+            boolean newKey;
             if (subjectKeyFile.length() == 0) {
                 // Generate a key pair
-                new OpensslArgs("openssl", "genrsa")
-                        .optArg("-out", tmpKey)
-                        .opt("4096")
-                        .exec();
-                keyInPkcs1 = true;
+                if (keyAlgorithm == KeyAlgorithm.RSA) {
+                    new OpensslArgs("openssl", "genrsa")
+                            .optArg("-out", tmpKey)
+                            .opt("4096")
+                            .exec();
+                } else {
+                    new OpensslArgs("openssl", "genpkey")
+                            .optArg("-algorithm", "EC")
+                            .optArg("-pkeyopt", "ec_paramgen_curve:" + keyAlgorithm.curve())
+                            .optArg("-pkeyopt", "ec_param_enc:named_curve")
+                            .optArg("-out", tmpKey)
+                            .exec();
+                }
+                newKey = true;
             } else {
                 Files.copy(subjectKeyFile.toPath(), tmpKey, StandardCopyOption.REPLACE_EXISTING);
-                keyInPkcs1 = false;
+                newKey = false;
             }
 
             csrFile = Files.createTempFile(null, null);
@@ -304,9 +323,9 @@ public class OpenSslCertManager implements CertManager {
                     .keyUsage("critical,keyCertSign,cRLSign")
                     .exec(false);
 
-            if (keyInPkcs1) {
-                // If the key is in pkcs#1 format (bracketed by BEGIN/END RSA PRIVATE KEY)
-                // convert it to pkcs#8 format (bracketed by BEGIN/END PRIVATE KEY)
+            if (newKey) {
+                // New RSA keys are in pkcs#1 format (bracketed by BEGIN/END RSA PRIVATE KEY), so we
+                // convert the new keys to pkcs#8 format (bracketed by BEGIN/END PRIVATE KEY)
                 new OpensslArgs("openssl", "pkcs8")
                         .opt("-topk8").opt("-nocrypt")
                         .optArg("-in", tmpKey)
@@ -409,11 +428,16 @@ public class OpenSslCertManager implements CertManager {
         Instant now = clock.instant();
         ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
         ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
-        generateCaCert(null, null, subject, keyFile, certFile, notBefore, notAfter, 0);
+        generateCaCert(null, null, subject, keyFile, certFile, notBefore, notAfter, 0, KeyAlgorithm.RSA);
     }
 
     @Override
     public void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+        generateCsr(keyFile, csrFile, subject, KeyAlgorithm.RSA);
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject subject, KeyAlgorithm keyAlgorithm) throws IOException {
         Objects.requireNonNull(keyFile);
         Objects.requireNonNull(csrFile);
         Objects.requireNonNull(subject);
@@ -423,6 +447,12 @@ public class OpenSslCertManager implements CertManager {
                 .optArg("-keyout", keyFile)
                 .optArg("-out", csrFile);
 
+        if (keyAlgorithm != KeyAlgorithm.RSA) {
+            cmd.optArg("-newkey", "ec")
+                    .optArg("-pkeyopt", "ec_paramgen_curve:" + keyAlgorithm.curve())
+                    .optArg("-pkeyopt", "ec_param_enc:named_curve");
+        }
+
         Path sna = null;
         try {
             if (subject.hasSubjectAltNames()) {
@@ -495,8 +525,10 @@ public class OpenSslCertManager implements CertManager {
                 cmd.optArg("-extfile", sna, true);
             }
 
-            cmd.database(database, attr).newCertsDir(newCertsDir);
-            cmd.exec(false);
+            cmd.database(database, attr)
+                    .newCertsDir(newCertsDir)
+                    .keyUsage(endEntityKeyUsage(csrFile))
+                    .exec(false);
         } finally {
             delete(database);
             if (database != null) {
@@ -519,6 +551,27 @@ public class OpenSslCertManager implements CertManager {
     }
 
 
+    /**
+     * Key usage of the end entity certificate issued for the certificate sign request. Key encipherment applies only
+     * to RSA keys, elliptic curve keys are used only for signatures in TLS.
+     *
+     * @param csrFile   Certificate sign request file
+     *
+     * @return  Key usage in the format used by the openssl configuration
+     *
+     * @throws IOException  Thrown when reading the certificate sign request fails
+     */
+    private static String endEntityKeyUsage(File csrFile) throws IOException {
+        try (PEMParser parser = new PEMParser(Files.newBufferedReader(csrFile.toPath(), StandardCharsets.US_ASCII))) {
+            if (parser.readObject() instanceof PKCS10CertificationRequest csr
+                    && X9ObjectIdentifiers.id_ecPublicKey.equals(csr.getSubjectPublicKeyInfo().getAlgorithm().getAlgorithm())) {
+                return "critical,digitalSignature";
+            }
+        }
+
+        return "critical,digitalSignature,keyEncipherment";
+    }
+
     @Override
     public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
         Path caKeyFile = null;
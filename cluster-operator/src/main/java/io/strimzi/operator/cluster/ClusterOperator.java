@@ -140,7 +140,7 @@ public class ClusterOperator extends AbstractVerticle {
                     this.reconcileTimer = vertx.setPeriodic(this.config.getReconciliationIntervalMs(), res2 -> {
                         if (!config.isPodSetReconciliationOnly()) {
                             LOGGER.info("Triggering periodic reconciliation for namespace {}", namespace);
-                            reconcileAll("timer");
+                            reconcileAll(AbstractOperator.PERIODIC_TRIGGER);
                         }
                     });
 
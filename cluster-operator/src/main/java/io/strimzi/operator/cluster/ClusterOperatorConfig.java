@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManagerConfig;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
@@ -32,6 +33,8 @@ import static io.strimzi.operator.common.operator.resource.ConfigParameterParser
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.STRING;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LABEL_PREDICATE;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.BOOLEAN;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.nonNegative;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.strictlyPositive;
 
 /**
  * Cluster Operator configuration
@@ -218,6 +221,53 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Integer> POD_SET_CONTROLLER_WORK_QUEUE_SIZE = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE", INTEGER, "1024", CONFIG_VALUES);
 
+    /**
+     * The maximum number of Kafka brokers which can be restarted at the same time during a rolling restart. Brokers
+     * are only restarted together when doing so does not take any partition below its minimum in-sync replicas and,
+     * where the brokers have racks, only when they are in the same rack.
+     */
+    public static final ConfigParameter<Integer> MAX_CONCURRENT_BROKER_RESTARTS = new ConfigParameter<>("STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
+
+    /**
+     * The maximum number of independent steps of the Kafka reconciliation which run at the same time. With 1, the
+     * steps run one after another.
+     */
+    public static final ConfigParameter<Integer> RECONCILIATION_STEPS_PARALLELISM = new ConfigParameter<>("STRIMZI_RECONCILIATION_STEPS_PARALLELISM", strictlyPositive(INTEGER), "4", CONFIG_VALUES);
+
+    /**
+     * The certificate manager used to issue the CA and component certificates: openssl (default) runs openssl
+     * subprocesses, bouncycastle generates them in-process
+     */
+    public static final ConfigParameter<CertManagerType> CERT_MANAGER_TYPE = new ConfigParameter<>("STRIMZI_CERT_MANAGER_TYPE", ConfigParameterParser.CERT_MANAGER_TYPE, "openssl", CONFIG_VALUES);
+
+    /**
+     * The number of worker threads used to issue the certificates signed by the cluster and clients CAs
+     */
+    public static final ConfigParameter<Integer> CERTIFICATE_ISSUANCE_THREADS = new ConfigParameter<>("STRIMZI_CERTIFICATE_ISSUANCE_THREADS", strictlyPositive(INTEGER), "4", CONFIG_VALUES);
+
+    /**
+     * Set true to serve the reads of the Secrets, Services, ConfigMaps, ServiceAccounts, NetworkPolicies and
+     * PodDisruptionBudgets owned by Strimzi from informer-backed caches instead of the Kubernetes API
+     */
+    public static final ConfigParameter<Boolean> RESOURCE_CACHE_ENABLED = new ConfigParameter<>("STRIMZI_RESOURCE_CACHE_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
+    /**
+     * Set true to reconcile the Secrets, ConfigMaps, ServiceAccounts, NetworkPolicies and PodDisruptionBudgets using
+     * the server-side apply instead of reading, diffing and patching them
+     */
+    public static final ConfigParameter<Boolean> SERVER_SIDE_APPLY_ENABLED = new ConfigParameter<>("STRIMZI_SERVER_SIDE_APPLY_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
+    /**
+     * The maximum number of reconciliations of the same kind of custom resources which run at the same time. 0 means
+     * no limit.
+     */
+    public static final ConfigParameter<Integer> MAX_CONCURRENT_RECONCILIATIONS = new ConfigParameter<>("STRIMZI_MAX_CONCURRENT_RECONCILIATIONS", nonNegative(INTEGER), "0", CONFIG_VALUES);
+
+    /**
+     * Set true to spread the periodic reconciliations of the different custom resources across the reconciliation
+     * interval instead of starting all of them at the same time
+     */
+    public static final ConfigParameter<Boolean> SPREAD_PERIODIC_RECONCILIATIONS = new ConfigParameter<>("STRIMZI_SPREAD_PERIODIC_RECONCILIATIONS", BOOLEAN, "false", CONFIG_VALUES);
 
     /**
      * The Pod name of the cluster operator, used to identify source of K8s events the operator creates
@@ -498,6 +548,35 @@ public class ClusterOperatorConfig {
         return get(CREATE_CLUSTER_ROLES);
     }
 
+    /**
+     * @return  Indicates whether the informer-backed resource caches should be used
+     */
+    public boolean isResourceCacheEnabled() {
+        return get(RESOURCE_CACHE_ENABLED);
+    }
+
+    /**
+     * @return  Indicates whether the server-side apply should be used to reconcile the resources
+     */
+    public boolean isServerSideApplyEnabled() {
+        return get(SERVER_SIDE_APPLY_ENABLED);
+    }
+
+    /**
+     * @return  The maximum number of reconciliations of the same kind of custom resources which run at the same time or
+     *          0 when they are not limited
+     */
+    public int getMaxConcurrentReconciliations() {
+        return get(MAX_CONCURRENT_RECONCILIATIONS);
+    }
+
+    /**
+     * @return  Indicates whether the periodic reconciliations should be spread across the reconciliation interval
+     */
+    public boolean isSpreadPeriodicReconciliations() {
+        return get(SPREAD_PERIODIC_RECONCILIATIONS);
+    }
+
     /**
      * @return  Indicates whether Network policies should be generated
      */
@@ -582,6 +661,34 @@ public class ClusterOperatorConfig {
         return get(POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
     }
 
+    /**
+     * @return Returns the type of the certificate manager
+     */
+    public CertManagerType getCertManagerType() {
+        return get(CERT_MANAGER_TYPE);
+    }
+
+    /**
+     * @return Returns the number of worker threads used to issue the certificates
+     */
+    public int getCertificateIssuanceThreads() {
+        return get(CERTIFICATE_ISSUANCE_THREADS);
+    }
+
+    /**
+     * @return Returns the maximum number of Kafka brokers which can be restarted at the same time
+     */
+    public int getMaxConcurrentBrokerRestarts() {
+        return get(MAX_CONCURRENT_BROKER_RESTARTS);
+    }
+
+    /**
+     * @return  The maximum number of independent steps of the Kafka reconciliation which run at the same time
+     */
+    public int getReconciliationStepsParallelism() {
+        return get(RECONCILIATION_STEPS_PARALLELISM);
+    }
+
     /**
      * @return  The name of this operator
      */
@@ -627,6 +734,14 @@ public class ClusterOperatorConfig {
                 "\n\tdnsCacheTtlSec=" + getDnsCacheTtlSec() +
                 "\n\tpodSetReconciliationOnly=" + isPodSetReconciliationOnly() +
                 "\n\tpodSetControllerWorkQueueSize=" + getPodSetControllerWorkQueueSize() +
+                "\n\tmaxConcurrentBrokerRestarts=" + getMaxConcurrentBrokerRestarts() +
+                "\n\treconciliationStepsParallelism=" + getReconciliationStepsParallelism() +
+                "\n\tcertManagerType=" + getCertManagerType() +
+                "\n\tcertificateIssuanceThreads=" + getCertificateIssuanceThreads() +
+                "\n\tresourceCacheEnabled=" + isResourceCacheEnabled() +
+                "\n\tserverSideApplyEnabled=" + isServerSideApplyEnabled() +
+                "\n\tmaxConcurrentReconciliations=" + getMaxConcurrentReconciliations() +
+                "\n\tspreadPeriodicReconciliations=" + isSpreadPeriodicReconciliations() +
                 "\n\toperatorName='" + getOperatorName() + '\'' +
                 "\n\tpodSecurityProviderClass='" + getPodSecurityProviderClass() + '\'' +
                 "\n\tleaderElectionConfig='" + getLeaderElectionConfig() + '\'' +
@@ -8,9 +8,10 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManager;
 import io.strimzi.operator.cluster.model.securityprofiles.PodSecurityProviderFactory;
+import io.strimzi.operator.cluster.operator.assembly.AbstractOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperator;
@@ -26,6 +27,7 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ShutdownHook;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.ClusterRoleOperator;
+import io.strimzi.operator.common.operator.resource.InformerResourceCache;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -166,7 +168,16 @@ public class Main {
         KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator = null;
 
         if (!config.isPodSetReconciliationOnly()) {
-            OpenSslCertManager certManager = new OpenSslCertManager();
+            if (config.isResourceCacheEnabled()) {
+                List<InformerResourceCache<?>> caches = resourceOperatorSupplier.enableResourceCaches(config.getNamespaces());
+                shutdownHook.register(() -> caches.forEach(InformerResourceCache::stop));
+            }
+
+            if (config.isServerSideApplyEnabled()) {
+                resourceOperatorSupplier.enableServerSideApply();
+            }
+
+            CertManager certManager = config.getCertManagerType().createCertManager();
             PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                     "abcdefghijklmnopqrstuvwxyz" +
                             "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
@@ -175,11 +186,22 @@ public class Main {
                             "0123456789");
 
             kafkaClusterOperations = new KafkaAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
+            shutdownHook.register(kafkaClusterOperations::stop);
             kafkaConnectClusterOperations = new KafkaConnectAssemblyOperator(vertx, pfa, resourceOperatorSupplier, config);
             kafkaMirrorMaker2AssemblyOperator = new KafkaMirrorMaker2AssemblyOperator(vertx, pfa, resourceOperatorSupplier, config);
             kafkaMirrorMakerAssemblyOperator = new KafkaMirrorMakerAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
             kafkaBridgeAssemblyOperator = new KafkaBridgeAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
             kafkaRebalanceAssemblyOperator = new KafkaRebalanceAssemblyOperator(vertx, resourceOperatorSupplier, config);
+
+            // The scheduling is used only when the reconciliations should be limited or spread
+            if (config.getMaxConcurrentReconciliations() > 0 || config.isSpreadPeriodicReconciliations()) {
+                int maxConcurrentReconciliations = config.getMaxConcurrentReconciliations() > 0 ? config.getMaxConcurrentReconciliations() : Integer.MAX_VALUE;
+                long periodicSpreadMs = config.isSpreadPeriodicReconciliations() ? config.getReconciliationIntervalMs() : 0L;
+                for (AbstractOperator<?, ?, ?, ?> operator : List.of(kafkaClusterOperations, kafkaConnectClusterOperations, kafkaMirrorMaker2AssemblyOperator,
+                        kafkaMirrorMakerAssemblyOperator, kafkaBridgeAssemblyOperator, kafkaRebalanceAssemblyOperator)) {
+                    operator.enableReconciliationScheduler(maxConcurrentReconciliations, periodicSpreadMs);
+                }
+            }
         }
 
         List<Future<String>> futures = new ArrayList<>(config.getNamespaces().size());
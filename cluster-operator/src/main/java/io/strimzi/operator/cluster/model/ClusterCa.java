@@ -4,9 +4,7 @@
  */
 package io.strimzi.operator.cluster.model;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
@@ -16,6 +14,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -300,12 +300,8 @@ public class ClusterCa extends Ca {
     ) throws IOException {
         // Maps for storing the certificates => will be used in the new or updated secret. This map is filled in this method and returned at the end.
         Map<String, CertAndKey> certs = new HashMap<>();
-
-        // Temp files used when we need to generate new certificates
-        File brokerCsrFile = Files.createTempFile("tls", "broker-csr").toFile();
-        File brokerKeyFile = Files.createTempFile("tls", "broker-key").toFile();
-        File brokerCertFile = Files.createTempFile("tls", "broker-cert").toFile();
-        File brokerKeyStoreFile = Files.createTempFile("tls", "broker-p12").toFile();
+        // Certificates which are being generated by the certificate issuer. They are added to the certs map once they are all issued.
+        Map<String, CompletableFuture<CertAndKey>> issuedCerts = new HashMap<>();
 
         for (NodeRef node : nodes)  {
             String podName = node.podName();
@@ -348,24 +344,29 @@ public class ClusterCa extends Ca {
                 if (!reasons.isEmpty())  {
                     LOGGER.infoCr(reconciliation, "Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
 
-                    CertAndKey newCertAndKey = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                    certs.put(podName, newCertAndKey);
+                    issuedCerts.put(podName, issueSignedCert(subject));
                 }   else {
                     certs.put(podName, certAndKey);
                 }
             } else {
                 // A certificate for this node does not exist or it the CA got renewed, so we will generate new certificate
                 LOGGER.debugCr(reconciliation, "Generating new certificate for node {}", node);
-                CertAndKey k = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                certs.put(podName, k);
+                issuedCerts.put(podName, issueSignedCert(subject));
             }
         }
 
-        // Delete the temp files used to generate new certificates
-        delete(reconciliation, brokerCsrFile);
-        delete(reconciliation, brokerKeyFile);
-        delete(reconciliation, brokerCertFile);
-        delete(reconciliation, brokerKeyStoreFile);
+        // Wait for all the new certificates to be issued
+        for (Map.Entry<String, CompletableFuture<CertAndKey>> issuedCert : issuedCerts.entrySet()) {
+            try {
+                certs.put(issuedCert.getKey(), issuedCert.getValue().join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof IOException ioException) {
+                    throw ioException;
+                } else {
+                    throw new RuntimeException("Failed to generate certificate for pod " + issuedCert.getKey(), e.getCause());
+                }
+            }
+        }
 
         return certs;
     }
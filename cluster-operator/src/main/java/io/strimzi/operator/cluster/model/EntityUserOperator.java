@@ -22,11 +22,13 @@ import io.strimzi.api.kafka.model.JvmOptions;
 import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.api.kafka.model.template.ResourceTemplate;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.cluster.model.logging.LoggingModel;
 import io.strimzi.operator.cluster.model.logging.SupportsLogging;
 import io.strimzi.operator.cluster.model.securityprofiles.ContainerSecurityProviderContextImpl;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Ca;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -59,6 +61,7 @@ public class EntityUserOperator extends AbstractModel implements SupportsLogging
     /* test */ static final String ENV_VAR_CLIENTS_CA_NAMESPACE = "STRIMZI_CA_NAMESPACE";
     /* test */ static final String ENV_VAR_CLIENTS_CA_VALIDITY = "STRIMZI_CA_VALIDITY";
     /* test */ static final String ENV_VAR_CLIENTS_CA_RENEWAL = "STRIMZI_CA_RENEWAL";
+    /* test */ static final String ENV_VAR_CLIENTS_CA_KEY_ALGORITHM = "STRIMZI_CA_KEY_ALGORITHM";
     /* test */ static final String ENV_VAR_CLUSTER_CA_CERT_SECRET_NAME = "STRIMZI_CLUSTER_CA_CERT_SECRET_NAME";
     /* test */ static final String ENV_VAR_EO_KEY_SECRET_NAME = "STRIMZI_EO_KEY_SECRET_NAME";
     /* test */ static final String ENV_VAR_SECRET_PREFIX = "STRIMZI_SECRET_PREFIX";
@@ -76,6 +79,7 @@ public class EntityUserOperator extends AbstractModel implements SupportsLogging
     /* test */ long reconciliationIntervalMs;
     /* test */ int clientsCaValidityDays;
     /* test */ int clientsCaRenewalDays;
+    /* test */ KeyAlgorithm clientsCaKeyAlgorithm;
     private ResourceTemplate templateRoleBinding;
 
     private boolean aclsAdminApiSupported = false;
@@ -144,6 +148,10 @@ public class EntityUserOperator extends AbstractModel implements SupportsLogging
                 if (kafkaAssembly.getSpec().getClientsCa().getRenewalDays() > 0) {
                     result.clientsCaRenewalDays = kafkaAssembly.getSpec().getClientsCa().getRenewalDays();
                 }
+
+                if (kafkaAssembly.getSpec().getClientsCa().getKeyAlgorithm() != null) {
+                    result.clientsCaKeyAlgorithm = Ca.keyAlgorithm(kafkaAssembly.getSpec().getClientsCa().getKeyAlgorithm());
+                }
             }
 
             if (kafkaAssembly.getSpec().getKafka().getAuthorization() != null) {
@@ -201,6 +209,11 @@ public class EntityUserOperator extends AbstractModel implements SupportsLogging
 
         ContainerUtils.addContainerEnvsToExistingEnvs(reconciliation, varList, templateContainer);
 
+        // if the key algorithm is set, we pass it as environment variable
+        if (clientsCaKeyAlgorithm != null) {
+            varList.add(ContainerUtils.createEnvVar(ENV_VAR_CLIENTS_CA_KEY_ALGORITHM, clientsCaKeyAlgorithm.name()));
+        }
+
         // if maintenance time windows are set, we pass them as environment variable
         if (maintenanceWindows != null && !maintenanceWindows.isEmpty())    {
             // The Cron expressions can contain commas -> we use semi-colon as delimiter
@@ -30,13 +30,11 @@ import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableStatusedNamespacedResourceOperator;
 import io.strimzi.operator.common.model.StatusUtils;
-import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.shareddata.Lock;
 
 import java.util.ArrayList;
 import java.util.Map;
@@ -73,21 +71,34 @@ public abstract class AbstractOperator<
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractOperator.class);
 
     private static final long PROGRESS_WARNING = 60_000L;
-    protected static final int LOCK_TIMEOUT_MS = 10000;
+
+    /**
+     * Work identifier used for the reconciliations of the custom resources in the {@link KeyedReconciliationQueue}
+     */
+    protected static final String RECONCILE_WORK = "reconcile";
 
     /**
      * Prefix used for metrics provided by Strimzi operators
      */
     public static final String METRICS_PREFIX = "strimzi.";
 
+    /**
+     * Trigger used for the periodic reconciliations
+     */
+    public static final String PERIODIC_TRIGGER = "timer";
+
     protected final Vertx vertx;
     protected final O resourceOperator;
     private final String kind;
 
     private final LabelSelector selector;
+    private final Labels selectorLabels;
 
     protected final OperatorMetricsHolder metrics;
 
+    private final KeyedReconciliationQueue queue = new KeyedReconciliationQueue();
+    private volatile ReconciliationScheduler scheduler;
+
     private final Map<String, AtomicInteger> resourcesStateCounter = new ConcurrentHashMap<>(1);
 
     /**
@@ -106,6 +117,7 @@ public abstract class AbstractOperator<
         this.kind = kind;
         this.resourceOperator = resourceOperator;
         this.selector = (selectorLabels == null || selectorLabels.toMap().isEmpty()) ? null : new LabelSelector(null, selectorLabels.toMap());
+        this.selectorLabels = selectorLabels;
         this.metrics = metrics;
     }
 
@@ -135,14 +147,32 @@ public abstract class AbstractOperator<
     }
 
     /**
-     * Gets the name of the lock to be used for operating on the given {@code namespace} and
+     * Enables the scheduling of the reconciliations. Without it, each reconciliation is started right away.
+     *
+     * @param maxConcurrentReconciliations  Maximal number of reconciliations of this kind running at the same time
+     * @param periodicSpreadMs              Interval across which the periodic reconciliations are spread
+     */
+    public void enableReconciliationScheduler(int maxConcurrentReconciliations, long periodicSpreadMs) {
+        this.scheduler = new ReconciliationScheduler(vertx, maxConcurrentReconciliations, periodicSpreadMs,
+                new ReconciliationSchedulerMetricsHolder(kind, selectorLabels, metrics.metricsProvider()));
+    }
+
+    /**
+     * Gets the key of the queue slot used for operating on the given {@code namespace} and
      * cluster {@code name}
      *
      * @param namespace The namespace containing the cluster
      * @param name The name of the cluster
      */
-    /* test */ String getLockName(String namespace, String name) {
-        return "lock::" + namespace + "::" + kind() + "::" + name;
+    /* test */ String getQueueKey(String namespace, String name) {
+        return namespace + "::" + kind() + "::" + name;
+    }
+
+    /**
+     * @return  The queue used to run the work on the custom resources one at a time
+     */
+    /* test */ KeyedReconciliationQueue queue() {
+        return queue;
     }
 
     /**
@@ -179,13 +209,33 @@ public abstract class AbstractOperator<
      */
     @Override
     public final Future<Void> reconcile(Reconciliation reconciliation) {
+        ReconciliationScheduler scheduler = this.scheduler;
+
+        if (scheduler != null) {
+            // The scheduler slot is acquired before the queue slot of the resource, so the other work on the resource
+            // does not wait behind a reconciliation which is waiting for the scheduler
+            return scheduler.awaitPeriodicOffset(reconciliation)
+                    .compose(i -> scheduler.execute(reconciliation, () -> runExclusively(reconciliation, RECONCILE_WORK, () -> reconcileAndHandleResult(reconciliation))));
+        } else {
+            return runExclusively(reconciliation, RECONCILE_WORK, () -> reconcileAndHandleResult(reconciliation));
+        }
+    }
+
+    /**
+     * Reconciles the resource and handles the result. This is called from the resource's queue slot, so the
+     * reconciliations collapsed into a single run are counted only once.
+     *
+     * @param reconciliation The reconciliation.
+     * @return A Future which is completed with the result of the reconciliation.
+     */
+    private Future<Void> reconcileAndHandleResult(Reconciliation reconciliation) {
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
 
         metrics().reconciliationsCounter(reconciliation.namespace()).increment();
         Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry());
 
-        Future<Void> handler = withLock(reconciliation, LOCK_TIMEOUT_MS, () ->
+        Future<Void> handler = callSafely(reconciliation, () ->
             resourceOperator.getAsync(namespace, name)
                 .compose(cr -> cr != null ? reconcileResource(reconciliation, cr) : reconcileDeletion(reconciliation)));
 
@@ -368,47 +418,34 @@ public abstract class AbstractOperator<
     protected abstract S createStatus(T cr);
 
     /**
-     * The exception by which Futures returned by {@link #withLock(Reconciliation, long, Callable)} are failed when
-     * the lock cannot be acquired within the timeout.
-     */
-    static class UnableToAcquireLockException extends TimeoutException { }
-
-    /**
-     * Acquire the lock for the resource implied by the {@code reconciliation}
-     * and call the given {@code callable} with the lock held.
-     * Once the callable returns (or if it throws) release the lock and complete the returned Future.
-     * If the lock cannot be acquired the given {@code callable} is not called and the returned Future is completed with {@link UnableToAcquireLockException}.
+     * Runs the given {@code callable} in the queue slot of the resource implied by the {@code reconciliation}. Only
+     * one callable runs on the resource at a time. While the slot is busy, the callables submitted with the same
+     * {@code work} identifier are collapsed into a single follow-up run using the latest callable. Once the callable
+     * completes (or if it throws), the returned Future is completed and the next waiting work is started.
      *
      * @param reconciliation    Reconciliation marker
-     * @param callable          Function which will be called when the lock is acquired
-     *
-     * @param <T>   Type of the custom resource managed by this operator
+     * @param work              Identifier of the work used to collapse the waiting callables
+     * @param callable          Function which will be called when the slot is free
      *
-     * @return  Future which completes when the callable is completed.
+     * @return  Future which completes when the callable (or the follow-up run it was collapsed into) is completed.
      */
-    protected final <T> Future<T> withLock(Reconciliation reconciliation, long lockTimeoutMs, Callable<Future<T>> callable) {
-        Promise<T> handler = Promise.promise();
-        String namespace = reconciliation.namespace();
-        String name = reconciliation.name();
-        final String lockName = getLockName(namespace, name);
-        LOGGER.debugCr(reconciliation, "Try to acquire lock {}", lockName);
-        vertx.sharedData().getLockWithTimeout(lockName, lockTimeoutMs, res -> {
-            if (res.succeeded()) {
-                LOGGER.debugCr(reconciliation, "Lock {} acquired", lockName);
-
-                Lock lock = res.result();
-                long timerId = vertx.setPeriodic(PROGRESS_WARNING, timer -> LOGGER.infoCr(reconciliation, "Reconciliation is in progress"));
-
-                callSafely(reconciliation, callable)
-                    .onSuccess(handleSafely(reconciliation, handler::complete))
-                    .onFailure(handleSafely(reconciliation, handler::fail))
-                    .eventually(ignored -> releaseLockAndTimer(reconciliation, lock, lockName, timerId));
-            } else {
-                LOGGER.debugCr(reconciliation, "Failed to acquire lock {} within {}ms.", lockName, lockTimeoutMs);
-                handler.fail(new UnableToAcquireLockException());
-            }
+    protected final Future<Void> runExclusively(Reconciliation reconciliation, String work, Callable<Future<Void>> callable) {
+        String key = getQueueKey(reconciliation.namespace(), reconciliation.name());
+
+        return queue.submit(reconciliation, key, work, () -> {
+            LOGGER.debugCr(reconciliation, "Running {} on {}", work, key);
+            long timerId = vertx.setPeriodic(PROGRESS_WARNING, timer -> LOGGER.infoCr(reconciliation, "Reconciliation is in progress"));
+
+            Promise<Void> handler = Promise.promise();
+            callSafely(reconciliation, callable)
+                .onComplete(handleSafely(reconciliation, res -> {
+                    vertx.cancelTimer(timerId);
+                    LOGGER.debugCr(reconciliation, "Finished {} on {}", work, key);
+                    handler.handle(res);
+                }));
+
+            return handler.future();
         });
-        return handler.future();
     }
 
     /**
@@ -460,13 +497,6 @@ public abstract class AbstractOperator<
         };
     }
 
-    private Future<Void> releaseLockAndTimer(Reconciliation reconciliation, Lock lock, String lockName, long timerId) {
-        vertx.cancelTimer(timerId);
-        lock.release();
-        LOGGER.debugCr(reconciliation, "Lock {} released", lockName);
-        return Future.succeededFuture();
-    }
-
     public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
         return resourceOperator.listAsync(namespace, selector())
                 .map(resourceList ->
@@ -547,9 +577,6 @@ public abstract class AbstractOperator<
                     LOGGER.warnCr(reconciliation, "Failed to reconcile {}", cause.getMessage());
                     handlingResult.handle(stateUpdateResult);
                 });
-            } else if (cause instanceof UnableToAcquireLockException) {
-                metrics().lockedReconciliationsCounter(reconciliation.namespace()).increment();
-                handlingResult.complete();
             } else {
                 updateResourceState(reconciliation, false, cause).onComplete(stateUpdateResult -> {
                     metrics().failedReconciliationsCounter(reconciliation.namespace()).increment();
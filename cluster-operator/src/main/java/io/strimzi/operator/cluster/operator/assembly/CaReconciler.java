@@ -18,6 +18,7 @@ import io.strimzi.certs.CertManager;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.cluster.model.AbstractModel;
 import io.strimzi.operator.common.model.Ca;
+import io.strimzi.operator.common.model.CertificateIssuer;
 import io.strimzi.operator.common.model.ClientsCa;
 import io.strimzi.operator.cluster.model.ClusterCa;
 import io.strimzi.operator.common.model.InvalidResourceException;
@@ -26,6 +27,7 @@ import io.strimzi.operator.cluster.model.NodeRef;
 import io.strimzi.operator.cluster.model.RestartReason;
 import io.strimzi.operator.cluster.model.RestartReasons;
 import io.strimzi.operator.cluster.operator.resource.KafkaRoller;
+import io.strimzi.operator.cluster.operator.resource.KafkaRollerMetricsHolder;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.ZooKeeperRoller;
 import io.strimzi.operator.cluster.operator.resource.ZookeeperLeaderFinder;
@@ -74,7 +76,10 @@ public class CaReconciler {
     private final ZookeeperLeaderFinder zookeeperLeaderFinder;
     private final CertManager certManager;
     private final PasswordGenerator passwordGenerator;
+    private final CertificateIssuer certificateIssuer;
     private final KubernetesRestartEventPublisher eventPublisher;
+    private final int maxConcurrentBrokerRestarts;
+    private final KafkaRollerMetricsHolder kafkaRollerMetrics;
 
     // Fields based on the Kafka CR required for the reconciliation
     private final List<String> maintenanceWindows;
@@ -113,6 +118,31 @@ public class CaReconciler {
             Vertx vertx,
             CertManager certManager,
             PasswordGenerator passwordGenerator
+    ) {
+        this(reconciliation, kafkaCr, config, supplier, vertx, certManager, passwordGenerator, CertificateIssuer.CALLER_THREAD);
+    }
+
+    /**
+     * Constructs the CA reconciler which reconciles the Cluster and Client CAs
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param kafkaCr           The Kafka custom resource
+     * @param config            Cluster Operator Configuration
+     * @param supplier          Supplier with Kubernetes Resource Operators
+     * @param vertx             Vert.x instance
+     * @param certManager       Certificate Manager for managing certificates
+     * @param passwordGenerator Password generator for generating passwords
+     * @param certificateIssuer Certificate issuer used to generate the certificates signed by the CAs
+     */
+    public CaReconciler(
+            Reconciliation reconciliation,
+            Kafka kafkaCr,
+            ClusterOperatorConfig config,
+            ResourceOperatorSupplier supplier,
+            Vertx vertx,
+            CertManager certManager,
+            PasswordGenerator passwordGenerator,
+            CertificateIssuer certificateIssuer
     ) {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
@@ -127,8 +157,11 @@ public class CaReconciler {
         this.zookeeperLeaderFinder = supplier.zookeeperLeaderFinder;
         this.certManager = certManager;
         this.passwordGenerator = passwordGenerator;
+        this.certificateIssuer = certificateIssuer;
 
         this.eventPublisher = supplier.restartEventsPublisher;
+        this.maxConcurrentBrokerRestarts = config.getMaxConcurrentBrokerRestarts();
+        this.kafkaRollerMetrics = new KafkaRollerMetricsHolder(reconciliation.kind(), config.getCustomResourceSelector(), supplier.metricsProvider);
 
         // Extract required information from the Kafka CR
         this.maintenanceWindows = kafkaCr.getSpec().getMaintenanceTimeWindows();
@@ -256,6 +289,8 @@ public class CaReconciler {
                             ModelUtils.getCertificateValidity(clusterCaConfig),
                             ModelUtils.getRenewalDays(clusterCaConfig),
                             clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority(), clusterCaConfig != null ? clusterCaConfig.getCertificateExpirationPolicy() : null);
+                    clusterCa.setCertificateIssuer(certificateIssuer);
+                    clusterCa.setKeyAlgorithm(Ca.keyAlgorithm(clusterCaConfig != null ? clusterCaConfig.getKeyAlgorithm() : null));
                     clusterCa.initCaSecrets(clusterSecrets);
                     clusterCa.createRenewOrReplace(
                             reconciliation.namespace(), reconciliation.name(), caLabels,
@@ -274,6 +309,8 @@ public class CaReconciler {
                             ModelUtils.getRenewalDays(clientsCaConfig),
                             clientsCaConfig == null || clientsCaConfig.isGenerateCertificateAuthority(),
                             clientsCaConfig != null ? clientsCaConfig.getCertificateExpirationPolicy() : null);
+                    clientsCa.setCertificateIssuer(certificateIssuer);
+                    clientsCa.setKeyAlgorithm(Ca.keyAlgorithm(clientsCaConfig != null ? clientsCaConfig.getKeyAlgorithm() : null));
                     clientsCa.initBrokerSecret(brokersSecret);
                     clientsCa.createRenewOrReplace(reconciliation.namespace(), reconciliation.name(),
                             caLabels, Map.of(), Map.of(),
@@ -538,7 +575,9 @@ public class CaReconciler {
                 null,
                 null,
                 false,
-                eventPublisher
+                eventPublisher,
+                maxConcurrentBrokerRestarts,
+                kafkaRollerMetrics
         ).rollingRestart(pod -> {
             LOGGER.debugCr(reconciliation, "Rolling Pod {} due to {}", pod.getMetadata().getName(), podRollReasons.getReasons());
             return podRollReasons;
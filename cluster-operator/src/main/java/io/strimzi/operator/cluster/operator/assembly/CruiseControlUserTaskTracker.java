@@ -0,0 +1,283 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.cluster.model.CruiseControl;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRestException;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tracks the state of the Cruise Control user tasks (e.g. rebalances) for the KafkaRebalance resources. Instead of each
+ * KafkaRebalance resource polling Cruise Control on its own, the states of all tracked tasks of the same Cruise
+ * Control instance are fetched with a single request and passed to the subscribers of the individual tasks.
+ *
+ * The polling interval is adaptive. It starts with the minimal interval and it is doubled up to the maximal interval
+ * every time none of the tracked tasks changed its state. When any task changes its state or a new task starts being
+ * tracked, the polling interval goes back to the minimal interval.
+ */
+public class CruiseControlUserTaskTracker {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CruiseControlUserTaskTracker.class);
+
+    private final Vertx vertx;
+    private final long minPollingIntervalMs;
+    private final long maxPollingIntervalMs;
+
+    // Trackers for the individual Cruise Control instances
+    private final Map<String, HostTracker> hosts = new HashMap<>();
+
+    /**
+     * Creates the user task tracker
+     *
+     * @param vertx                 Vert.x instance
+     * @param minPollingIntervalMs  Minimal interval between requests to the same Cruise Control instance
+     * @param maxPollingIntervalMs  Maximal interval between requests to the same Cruise Control instance
+     */
+    public CruiseControlUserTaskTracker(Vertx vertx, long minPollingIntervalMs, long maxPollingIntervalMs) {
+        if (minPollingIntervalMs < 1 || maxPollingIntervalMs < minPollingIntervalMs) {
+            throw new IllegalArgumentException("Invalid polling intervals " + minPollingIntervalMs + "ms and " + maxPollingIntervalMs + "ms");
+        }
+
+        this.vertx = vertx;
+        this.minPollingIntervalMs = minPollingIntervalMs;
+        this.maxPollingIntervalMs = maxPollingIntervalMs;
+    }
+
+    /**
+     * Starts tracking the state of the user task. The handler is called with the state of the task after every request
+     * to Cruise Control until the returned subscription is cancelled.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param host              Cruise Control instance which runs the task
+     * @param apiClient         Cruise Control REST API client instance
+     * @param userTaskId        ID of the user task
+     * @param handler           Handler called with the state of the task
+     *
+     * @return  Subscription which should be cancelled when the state of the task is not needed anymore
+     */
+    public Subscription track(Reconciliation reconciliation, String host, CruiseControlApi apiClient, String userTaskId, UserTaskStateHandler handler) {
+        Subscription subscription = new Subscription(reconciliation, host, userTaskId, handler);
+        HostTracker tracker;
+
+        synchronized (this) {
+            tracker = hosts.computeIfAbsent(host, HostTracker::new);
+            tracker.apiClient = apiClient;
+            tracker.subscriptions.add(subscription);
+            tracker.intervalMs = minPollingIntervalMs;
+
+            if (tracker.timerId != null) {
+                // The new task should not wait for the backed off interval
+                vertx.cancelTimer(tracker.timerId);
+                tracker.timerId = null;
+            }
+
+            if (!tracker.polling) {
+                tracker.timerId = vertx.setTimer(minPollingIntervalMs, id -> poll(tracker));
+            }
+        }
+
+        LOGGER.debugCr(reconciliation, "Tracking Cruise Control user task {} on {}", userTaskId, host);
+        return subscription;
+    }
+
+    /**
+     * @param host  Cruise Control instance
+     *
+     * @return  The current polling interval for given Cruise Control instance or null if it is not being polled
+     */
+    /* test */ synchronized Long pollingIntervalMs(String host) {
+        HostTracker tracker = hosts.get(host);
+        return tracker != null ? tracker.intervalMs : null;
+    }
+
+    /**
+     * Gets the states of all tracked tasks from the Cruise Control instance and passes them to the subscribers.
+     *
+     * @param tracker   Tracker of the Cruise Control instance
+     */
+    private void poll(HostTracker tracker) {
+        List<Subscription> subscriptions;
+        Set<String> userTaskIds = new LinkedHashSet<>();
+        CruiseControlApi apiClient;
+
+        synchronized (this) {
+            tracker.timerId = null;
+
+            if (tracker.subscriptions.isEmpty()) {
+                hosts.remove(tracker.host);
+                return;
+            }
+
+            subscriptions = new ArrayList<>(tracker.subscriptions);
+            subscriptions.forEach(subscription -> userTaskIds.add(subscription.userTaskId));
+            apiClient = tracker.apiClient;
+            tracker.polling = true;
+        }
+
+        Future<Map<String, AsyncResult<JsonObject>>> states;
+
+        try {
+            states = apiClient.getUserTasksStatus(tracker.host, CruiseControl.REST_API_PORT, userTaskIds);
+        } catch (Throwable t) {
+            states = Future.failedFuture(t);
+        }
+
+        states.onComplete(res -> {
+            boolean changed = false;
+
+            synchronized (this) {
+                if (res.succeeded()) {
+                    for (String userTaskId : userTaskIds) {
+                        AsyncResult<JsonObject> state = res.result().get(userTaskId);
+
+                        if (state != null && state.succeeded() && !state.result().equals(tracker.lastStates.put(userTaskId, state.result()))) {
+                            changed = true;
+                        }
+                    }
+                }
+            }
+
+            for (Subscription subscription : subscriptions) {
+                if (!subscription.cancelled) {
+                    try {
+                        subscription.handler.handle(subscription, stateOf(subscription.userTaskId, res));
+                    } catch (Throwable t) {
+                        LOGGER.errorCr(subscription.reconciliation, "Failed to handle the state of Cruise Control user task {}", subscription.userTaskId, t);
+                    }
+                }
+            }
+
+            synchronized (this) {
+                tracker.polling = false;
+
+                if (tracker.subscriptions.isEmpty()) {
+                    hosts.remove(tracker.host);
+                } else if (tracker.timerId == null) {
+                    Set<String> trackedUserTaskIds = new HashSet<>();
+                    tracker.subscriptions.forEach(subscription -> trackedUserTaskIds.add(subscription.userTaskId));
+                    tracker.lastStates.keySet().retainAll(trackedUserTaskIds);
+
+                    // Tasks which did not report their state yet are treated as changed
+                    if (changed || !tracker.lastStates.keySet().containsAll(trackedUserTaskIds)) {
+                        tracker.intervalMs = minPollingIntervalMs;
+                    } else {
+                        tracker.intervalMs = Math.min(tracker.intervalMs * 2, maxPollingIntervalMs);
+                    }
+
+                    tracker.timerId = vertx.setTimer(tracker.intervalMs, id -> poll(tracker));
+                }
+            }
+        });
+    }
+
+    /**
+     * Gets the state of the task from the result of the request to Cruise Control
+     *
+     * @param userTaskId    ID of the user task
+     * @param res           Result of the request to Cruise Control
+     *
+     * @return  The state of the task or a failure if the request failed, the state of the task could not be obtained, or
+     *          the task is not known to Cruise Control
+     */
+    private static AsyncResult<JsonObject> stateOf(String userTaskId, AsyncResult<Map<String, AsyncResult<JsonObject>>> res) {
+        if (res.failed()) {
+            return Future.failedFuture(res.cause());
+        } else if (res.result().containsKey(userTaskId)) {
+            return res.result().get(userTaskId);
+        } else {
+            return Future.failedFuture(new CruiseControlRestException("User task " + userTaskId + " was not found"));
+        }
+    }
+
+    private synchronized void cancel(Subscription subscription) {
+        HostTracker tracker = hosts.get(subscription.host);
+
+        if (tracker != null) {
+            tracker.subscriptions.remove(subscription);
+
+            if (tracker.subscriptions.isEmpty() && !tracker.polling) {
+                if (tracker.timerId != null) {
+                    vertx.cancelTimer(tracker.timerId);
+                }
+
+                hosts.remove(subscription.host);
+            }
+        }
+    }
+
+    /**
+     * Handler called with the state of the tracked user task
+     */
+    @FunctionalInterface
+    public interface UserTaskStateHandler {
+        /**
+         * Handles the state of the user task
+         *
+         * @param subscription  Subscription for which the handler is called. It can be used to stop the tracking.
+         * @param state         The state of the user task or a failure if it could not be retrieved
+         */
+        void handle(Subscription subscription, AsyncResult<JsonObject> state);
+    }
+
+    /**
+     * Subscription for the state of a single user task
+     */
+    public final class Subscription {
+        private final Reconciliation reconciliation;
+        private final String host;
+        private final String userTaskId;
+        private final UserTaskStateHandler handler;
+        private volatile boolean cancelled = false;
+
+        private Subscription(Reconciliation reconciliation, String host, String userTaskId, UserTaskStateHandler handler) {
+            this.reconciliation = reconciliation;
+            this.host = host;
+            this.userTaskId = userTaskId;
+            this.handler = handler;
+        }
+
+        /**
+         * Stops tracking the user task for this subscription
+         */
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                CruiseControlUserTaskTracker.this.cancel(this);
+                LOGGER.debugCr(reconciliation, "Stopped tracking Cruise Control user task {} on {}", userTaskId, host);
+            }
+        }
+    }
+
+    /**
+     * Tracks the tasks of a single Cruise Control instance
+     */
+    private static final class HostTracker {
+        private final String host;
+        private final Set<Subscription> subscriptions = new LinkedHashSet<>();
+        private final Map<String, JsonObject> lastStates = new LinkedHashMap<>();
+        private CruiseControlApi apiClient;
+        private long intervalMs;
+        private Long timerId;
+        private boolean polling = false;
+
+        private HostTracker(String host) {
+            this.host = host;
+        }
+    }
+}
@@ -47,6 +47,9 @@ import io.strimzi.operator.common.ReconciliationException;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.VertxUtil;
+import io.strimzi.operator.common.WorkerPoolCertificateIssuer;
+import io.strimzi.operator.common.metrics.CertificateIssuerMetricsHolder;
+import io.strimzi.operator.common.model.CertificateIssuer;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.model.StatusUtils;
@@ -110,6 +113,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
     private final CrdOperator<KubernetesClient, KafkaNodePool, KafkaNodePoolList> nodePoolOperator;
+    private final CertificateIssuer certificateIssuer;
     protected Clock clock;
 
     /**
@@ -134,9 +138,18 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         this.kafkaOperator = supplier.kafkaOperator;
         this.nodePoolOperator = supplier.kafkaNodePoolOperator;
         this.strimziPodSetOperator = supplier.strimziPodSetOperator;
+        this.certificateIssuer = new WorkerPoolCertificateIssuer(config.getCertificateIssuanceThreads(),
+                new CertificateIssuerMetricsHolder(Kafka.RESOURCE_KIND, config.getCustomResourceSelector(), supplier.metricsProvider));
         this.clock = Clock.systemUTC();
     }
 
+    /**
+     * Stops the worker threads used to issue the certificates
+     */
+    public void stop() {
+        certificateIssuer.stop();
+    }
+
     @Override
     public Future<KafkaStatus> createOrUpdate(Reconciliation reconciliation, Kafka kafkaAssembly) {
         Promise<KafkaStatus> createOrUpdatePromise = Promise.promise();
@@ -423,7 +436,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
          * @return  CaReconciler instance
          */
         CaReconciler caReconciler()   {
-            return new CaReconciler(reconciliation, kafkaAssembly, config, supplier, vertx, certManager, passwordGenerator);
+            return new CaReconciler(reconciliation, kafkaAssembly, config, supplier, vertx, certManager, passwordGenerator, certificateIssuer);
         }
 
         /**
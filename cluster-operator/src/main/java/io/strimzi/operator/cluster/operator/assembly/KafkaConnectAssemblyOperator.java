@@ -407,8 +407,9 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                                     LOGGER.infoCr(r, "{} {} in namespace {} was {}, but Connect cluster {} does not exist", connectorKind, connectorName, namespace, action, connectName);
                                     return Future.succeededFuture();
                                 } else {
-                                    // grab the lock and call reconcileConnectors()
-                                    // (i.e. short circuit doing a whole KafkaConnect reconciliation).
+                                    // wait for the queue slot of the Connect cluster and call reconcileConnectors()
+                                    // (i.e. short circuit doing a whole KafkaConnect reconciliation). Pending events
+                                    // for the same connector are collapsed into a single run.
                                     Reconciliation reconciliation = new Reconciliation("connector-watch", kind(), resource.getMetadata().getNamespace(), connectName);
 
                                     if (!Util.matchesSelector(selector(), connect)) {
@@ -421,7 +422,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                                     } else {
                                         LOGGER.infoCr(reconciliation, "{} {} in namespace {} was {}", connectorKind, connectorName, namespace, action);
 
-                                        return withLock(reconciliation, LOCK_TIMEOUT_MS,
+                                        return runExclusively(reconciliation, "connector::" + connectorName,
                                                 () -> reconcileConnectorAndHandleResult(reconciliation,
                                                                 KafkaConnectResources.qualifiedServiceName(connectName, namespace), apiClient,
                                                                 isUseResources(connect),
@@ -152,6 +152,7 @@ public class KafkaRebalanceAssemblyOperator
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaRebalanceAssemblyOperator.class.getName());
 
     private static final long REBALANCE_POLLING_TIMER_MS = 5_000;
+    private static final int REBALANCE_POLLING_MAX_BACKOFF = 6;
     private static final int MAX_API_RETRIES = 5;
     protected static final String BROKER_LOAD_KEY = "brokerLoad.json";
     private final CrdOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList> kafkaRebalanceOperator;
@@ -161,6 +162,8 @@ public class KafkaRebalanceAssemblyOperator
     private boolean usingJbodStorage;
 
     private final ConfigMapOperator configMapOperator;
+    private CruiseControlUserTaskTracker userTaskTracker;
+
     /**
      * @param vertx The Vertx instance
      * @param supplier Supplies the operators for different resources
@@ -180,6 +183,17 @@ public class KafkaRebalanceAssemblyOperator
         return REBALANCE_POLLING_TIMER_MS;
     }
 
+    /**
+     * @return  The tracker of the Cruise Control user tasks shared by all KafkaRebalance resources
+     */
+    private synchronized CruiseControlUserTaskTracker userTaskTracker() {
+        if (userTaskTracker == null) {
+            userTaskTracker = new CruiseControlUserTaskTracker(vertx, rebalancePollingTimerDelay(), rebalancePollingTimerDelay() * REBALANCE_POLLING_MAX_BACKOFF);
+        }
+
+        return userTaskTracker;
+    }
+
     /**
      * Provides an implementation of the Cruise Control API client
      *
@@ -235,7 +249,7 @@ public class KafkaRebalanceAssemblyOperator
                 resource.getStatus() != null ? rebalanceStateConditionType(resource.getStatus()) : null,
                 ANNO_STRIMZI_IO_REBALANCE, rawRebalanceAnnotation(resource));
 
-        withLock(reconciliation, LOCK_TIMEOUT_MS,
+        runExclusively(reconciliation, "kafkarebalance-watch",
                 () -> reconcileRebalance(reconciliation, action == Watcher.Action.DELETED ? null : resource));
     }
 
@@ -953,8 +967,8 @@ public class KafkaRebalanceAssemblyOperator
 
     /**
      * This method handles the transition from {@code Rebalancing} state.
-     * It starts a periodic timer in order to check the status of the ongoing rebalance processing on Cruise Control side.
-     * In order to do that, it calls the related Cruise Control REST API about asking the user task status.
+     * It tracks the status of the ongoing rebalance processing on Cruise Control side using the {@link CruiseControlUserTaskTracker}
+     * which polls the Cruise Control REST API about the user tasks of all rebalances of the same Kafka cluster at once.
      * When the rebalance is finished, the next state is {@code Ready}.
      * If the user sets the strimzi.io/rebalance annotation to 'stop', it calls the Cruise Control REST API for stopping the ongoing task
      * and then transitions to the {@code Stopped} state.
@@ -975,25 +989,26 @@ public class KafkaRebalanceAssemblyOperator
                                                                                 AbstractRebalanceOptions.AbstractRebalanceOptionsBuilder<?, ?> rebalanceOptionsBuilder) {
         Promise<MapAndStatus<ConfigMap, KafkaRebalanceStatus>> p = Promise.promise();
         if (rebalanceAnnotation == KafkaRebalanceAnnotation.none) {
-            LOGGER.infoCr(reconciliation, "Starting Cruise Control rebalance user task status timer");
+            LOGGER.infoCr(reconciliation, "Starting Cruise Control rebalance user task status tracking");
             String sessionId = kafkaRebalance.getStatus().getSessionId();
             AtomicInteger ccApiErrorCount = new AtomicInteger();
-            vertx.setPeriodic(rebalancePollingTimerDelay(), t -> {
+            userTaskTracker().track(reconciliation, host, apiClient, sessionId, (subscription, userTaskState) -> {
                 // Check that we have not already failed to contact the API beyond the allowed number of times.
                 if (ccApiErrorCount.get() >= MAX_API_RETRIES) {
-                    vertx.cancelTimer(t);
+                    subscription.cancel();
                     p.fail(new CruiseControlRestException("Unable to reach Cruise Control API after " + MAX_API_RETRIES + " attempts"));
+                    return;
                 }
                 kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
                     .onSuccess(currentKafkaRebalance -> {
-                        // Checking that the resource was not deleted between periodic polls
+                        // Checking that the resource was not deleted between the Cruise Control polls
                         if (currentKafkaRebalance != null) {
                             // Check resource is in the right state as previous execution might have set the status and completed the future
-                            // Safety check as timer might be called again (from a delayed timer firing)
+                            // Safety check as the tracker might have already polled Cruise Control again
                             if (state(currentKafkaRebalance) == KafkaRebalanceState.Rebalancing) {
                                 if (rebalanceAnnotation(currentKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
                                     LOGGER.debugCr(reconciliation, "Stopping current Cruise Control rebalance user task");
-                                    vertx.cancelTimer(t);
+                                    subscription.cancel();
                                     apiClient.stopExecution(host, CruiseControl.REST_API_PORT)
                                         .onSuccess(r -> p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, StatusUtils.validate(reconciliation, kafkaRebalance))))
                                         .onFailure(e -> {
@@ -1002,7 +1017,7 @@ public class KafkaRebalanceAssemblyOperator
                                         });
                                 } else if (rebalanceAnnotation(currentKafkaRebalance) == KafkaRebalanceAnnotation.refresh) {
                                     LOGGER.debugCr(reconciliation, "Stopping current Cruise Control rebalance user task since refresh annotation is applied on the KafkaRebalance resource and requesting a new proposal");
-                                    vertx.cancelTimer(t);
+                                    subscription.cancel();
                                     apiClient.stopExecution(host, CruiseControl.REST_API_PORT)
                                             .onSuccess(r -> {
                                                 requestRebalance(reconciliation, host, apiClient, currentKafkaRebalance, true, rebalanceOptionsBuilder).onSuccess(p::complete);
@@ -1011,81 +1026,78 @@ public class KafkaRebalanceAssemblyOperator
                                                 LOGGER.errorCr(reconciliation, "Cruise Control stopping execution failed", e.getCause());
                                                 p.fail(e.getCause());
                                             });
-                                } else {
-                                    LOGGER.infoCr(reconciliation, "Getting Cruise Control rebalance user task status");
+                                } else if (userTaskState.succeeded()) {
+                                    LOGGER.infoCr(reconciliation, "Got Cruise Control rebalance user task status");
                                     Set<Condition> conditions = StatusUtils.validate(reconciliation, kafkaRebalance);
                                     validateAnnotation(reconciliation, conditions, KafkaRebalanceState.Rebalancing, rebalanceAnnotation(currentKafkaRebalance), kafkaRebalance);
-                                    apiClient.getUserTaskStatus(host, CruiseControl.REST_API_PORT, sessionId)
-                                        .onSuccess(cruiseControlResponse -> {
-                                            JsonObject taskStatusJson = cruiseControlResponse.getJson();
-                                            CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
-                                            switch (taskStatus) {
-                                                case COMPLETED:
-                                                    vertx.cancelTimer(t);
-                                                    LOGGER.infoCr(reconciliation, "Rebalance ({}) is now complete", sessionId);
-                                                    p.complete(buildRebalanceStatus(
-                                                            kafkaRebalance, null, KafkaRebalanceState.Ready, taskStatusJson, conditions));
-                                                    break;
-                                                case COMPLETED_WITH_ERROR:
-                                                    // TODO: There doesn't seem to be a way to retrieve the actual error message from the user tasks endpoint?
-                                                    //       We may need to propose an upstream PR for this.
-                                                    // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
-                                                    //       details of any issues while rebalancing.
-                                                    LOGGER.errorCr(reconciliation, "Rebalance ({}) optimization proposal has failed to complete", sessionId);
-                                                    vertx.cancelTimer(t);
-                                                    p.complete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady, conditions));
-                                                    break;
-                                                case IN_EXECUTION: // Rebalance is still in progress
-                                                    // We need to check that the status has been updated with the ongoing optimisation proposal
-                                                    // The proposal field can be empty if a rebalance(dryrun=false) was called and the optimisation
-                                                    // proposal was still being prepared (in progress). In that case the rebalance will start when
-                                                    // the proposal is complete but the optimisation proposal summary will be missing.
-                                                    if (currentKafkaRebalance.getStatus().getOptimizationResult() == null ||
-                                                            currentKafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
-                                                        LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is now ready and has been added to the status", sessionId);
-                                                        // Cancel the timer so that the status is returned and updated.
-                                                        vertx.cancelTimer(t);
-                                                        p.complete(buildRebalanceStatus(
-                                                                kafkaRebalance, sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson, conditions));
-                                                    }
-                                                    ccApiErrorCount.set(0);
-                                                    // TODO: Find out if there is any way to check the progress of a rebalance.
-                                                    //       We could parse the verbose proposal for total number of reassignments and compare to number completed (if available)?
-                                                    //       We can then update the status at this point.
-                                                    break;
-                                                case ACTIVE: // Rebalance proposal is still being calculated
-                                                    // If a rebalance(dryrun=false) was called and the proposal is still being prepared then the task
-                                                    // will be in an ACTIVE state. When the proposal is ready it will shift to IN_EXECUTION and we will
-                                                    // check that the optimisation proposal is added to the status on the next reconcile.
-                                                    LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is still being prepared", sessionId);
-                                                    ccApiErrorCount.set(0);
-                                                    break;
-                                                default:
-                                                    LOGGER.errorCr(reconciliation, "Unexpected state {}", taskStatus);
-                                                    vertx.cancelTimer(t);
-                                                    p.fail("Unexpected state " + taskStatus);
-                                                    break;
+                                    JsonObject taskStatusJson = userTaskState.result();
+                                    CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
+                                    switch (taskStatus) {
+                                        case COMPLETED:
+                                            subscription.cancel();
+                                            LOGGER.infoCr(reconciliation, "Rebalance ({}) is now complete", sessionId);
+                                            p.complete(buildRebalanceStatus(
+                                                    kafkaRebalance, null, KafkaRebalanceState.Ready, taskStatusJson, conditions));
+                                            break;
+                                        case COMPLETED_WITH_ERROR:
+                                            // TODO: There doesn't seem to be a way to retrieve the actual error message from the user tasks endpoint?
+                                            //       We may need to propose an upstream PR for this.
+                                            // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
+                                            //       details of any issues while rebalancing.
+                                            LOGGER.errorCr(reconciliation, "Rebalance ({}) optimization proposal has failed to complete", sessionId);
+                                            subscription.cancel();
+                                            p.complete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady, conditions));
+                                            break;
+                                        case IN_EXECUTION: // Rebalance is still in progress
+                                            // We need to check that the status has been updated with the ongoing optimisation proposal
+                                            // The proposal field can be empty if a rebalance(dryrun=false) was called and the optimisation
+                                            // proposal was still being prepared (in progress). In that case the rebalance will start when
+                                            // the proposal is complete but the optimisation proposal summary will be missing.
+                                            if (currentKafkaRebalance.getStatus().getOptimizationResult() == null ||
+                                                    currentKafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
+                                                LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is now ready and has been added to the status", sessionId);
+                                                // Stop the tracking so that the status is returned and updated.
+                                                subscription.cancel();
+                                                p.complete(buildRebalanceStatus(
+                                                        kafkaRebalance, sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson, conditions));
                                             }
-                                        })
-                                        .onFailure(e -> {
-                                            LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance task status failed", e.getCause());
-                                            // To make sure this error is not just a temporary problem with the network we retry several times.
-                                            // If the number of errors pass the MAX_API_ERRORS limit then the period method will fail the promise.
-                                            ccApiErrorCount.getAndIncrement();
-                                        });
+                                            ccApiErrorCount.set(0);
+                                            // TODO: Find out if there is any way to check the progress of a rebalance.
+                                            //       We could parse the verbose proposal for total number of reassignments and compare to number completed (if available)?
+                                            //       We can then update the status at this point.
+                                            break;
+                                        case ACTIVE: // Rebalance proposal is still being calculated
+                                            // If a rebalance(dryrun=false) was called and the proposal is still being prepared then the task
+                                            // will be in an ACTIVE state. When the proposal is ready it will shift to IN_EXECUTION and we will
+                                            // check that the optimisation proposal is added to the status on the next reconcile.
+                                            LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is still being prepared", sessionId);
+                                            ccApiErrorCount.set(0);
+                                            break;
+                                        default:
+                                            LOGGER.errorCr(reconciliation, "Unexpected state {}", taskStatus);
+                                            subscription.cancel();
+                                            p.fail("Unexpected state " + taskStatus);
+                                            break;
+                                    }
+                                } else {
+                                    LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance task status failed", userTaskState.cause());
+                                    // To make sure this error is not just a temporary problem with the network we retry several times.
+                                    // If the number of errors pass the MAX_API_ERRORS limit then the next update will fail the promise.
+                                    ccApiErrorCount.getAndIncrement();
                                 }
                             } else {
+                                subscription.cancel();
                                 p.complete(new MapAndStatus<>(null, currentKafkaRebalance.getStatus()));
                             }
                         } else {
                             LOGGER.warnCr(reconciliation, "Rebalance resource was deleted, rebalancing is still in progress but the status won't be reported");
-                            vertx.cancelTimer(t);
+                            subscription.cancel();
                             p.complete();
                         }
                     })
                     .onFailure(e -> {
                         LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance resource failed", e.getCause());
-                        vertx.cancelTimer(t);
+                        subscription.cancel();
                         p.fail(e.getCause());
                     });
             });
@@ -52,6 +52,7 @@ import io.strimzi.operator.common.model.StatusDiff;
 import io.strimzi.operator.cluster.model.nodepools.NodePoolUtils;
 import io.strimzi.operator.cluster.operator.resource.ConcurrentDeletionException;
 import io.strimzi.operator.cluster.operator.resource.KafkaRoller;
+import io.strimzi.operator.cluster.operator.resource.KafkaRollerMetricsHolder;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.StatefulSetOperator;
 import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEventPublisher;
@@ -149,6 +150,10 @@ public class KafkaReconciler {
     private final KubernetesRestartEventPublisher eventsPublisher;
 
     private final AdminClientProvider adminClientProvider;
+    private final int maxConcurrentBrokerRestarts;
+    private final KafkaRollerMetricsHolder kafkaRollerMetrics;
+    private final int reconciliationStepsParallelism;
+    private final ReconciliationStepsMetricsHolder reconciliationStepsMetrics;
 
     private final Set<String> fsResizingRestartRequest = new HashSet<>();
     private String logging = "";
@@ -247,6 +252,10 @@ public class KafkaReconciler {
         this.eventsPublisher = supplier.restartEventsPublisher;
 
         this.adminClientProvider = supplier.adminClientProvider;
+        this.maxConcurrentBrokerRestarts = config.getMaxConcurrentBrokerRestarts();
+        this.kafkaRollerMetrics = new KafkaRollerMetricsHolder(reconciliation.kind(), config.getCustomResourceSelector(), supplier.metricsProvider);
+        this.reconciliationStepsParallelism = config.getReconciliationStepsParallelism();
+        this.reconciliationStepsMetrics = new ReconciliationStepsMetricsHolder(reconciliation.kind(), config.getCustomResourceSelector(), supplier.metricsProvider);
     }
 
     /**
@@ -260,34 +269,45 @@ public class KafkaReconciler {
      * @return              Future which completes when the reconciliation completes
      */
     public Future<Void> reconcile(KafkaStatus kafkaStatus, Clock clock)    {
-        return modelWarnings(kafkaStatus)
-                .compose(i -> brokerScaleDownCheck())
-                .compose(i -> manualPodCleaning())
-                .compose(i -> networkPolicy())
-                .compose(i -> manualRollingUpdate())
-                .compose(i -> pvcs(kafkaStatus))
-                .compose(i -> serviceAccount())
-                .compose(i -> initClusterRoleBinding())
-                .compose(i -> scaleDown())
-                .compose(i -> updateNodePoolStatuses(kafkaStatus))
-                .compose(i -> listeners())
-                .compose(i -> certificateSecret(clock))
-                .compose(i -> brokerConfigurationConfigMaps())
-                .compose(i -> jmxSecret())
-                .compose(i -> podDisruptionBudget())
-                .compose(i -> migrateFromStatefulSetToPodSet())
-                .compose(i -> podSet())
-                .compose(podSetDiffs -> rollingUpdate(podSetDiffs)) // We pass the PodSet reconciliation result this way to avoid storing it in the instance
-                .compose(i -> podsReady())
-                .compose(i -> serviceEndpointsReady())
-                .compose(i -> headlessServiceEndpointsReady())
-                .compose(i -> clusterId(kafkaStatus))
-                .compose(i -> deletePersistentClaims())
-                .compose(i -> sharedKafkaConfigurationCleanup())
+        // The steps which depend on each other only through the state stored in this class still declare the
+        // dependency. For example the listeners have to be reconciled before the certificates and the configuration
+        // which use the listener addresses, and the PodSets use the hashes collected by the earlier steps. The steps
+        // which followed the manual rolling update and the scale-down in the sequential order wait for them, so that
+        // nothing else is changed while the brokers are being rolled or removed.
+        return new ReconciliationStepGraph(reconciliation, reconciliationStepsParallelism, reconciliationStepsMetrics)
+                .step("modelWarnings", () -> modelWarnings(kafkaStatus))
+                .step("brokerScaleDownCheck", this::brokerScaleDownCheck, "modelWarnings")
+                .step("manualPodCleaning", this::manualPodCleaning, "brokerScaleDownCheck")
+                .step("networkPolicy", this::networkPolicy, "brokerScaleDownCheck")
+                .step("manualRollingUpdate", this::manualRollingUpdate, "manualPodCleaning", "networkPolicy")
+                .step("pvcs", () -> pvcs(kafkaStatus), "manualRollingUpdate")
+                .step("serviceAccount", this::serviceAccount, "manualRollingUpdate")
+                .step("initClusterRoleBinding", this::initClusterRoleBinding, "manualRollingUpdate")
+                .step("scaleDown", this::scaleDown, "manualRollingUpdate")
+                .step("updateNodePoolStatuses", () -> updateNodePoolStatuses(kafkaStatus), "scaleDown")
+                .step("listeners", this::listeners, "scaleDown")
+                .step("certificateSecret", () -> certificateSecret(clock), "listeners")
+                .step("brokerConfigurationConfigMaps", this::brokerConfigurationConfigMaps, "listeners")
+                .step("jmxSecret", this::jmxSecret, "scaleDown")
+                .step("podDisruptionBudget", this::podDisruptionBudget, "scaleDown")
+                .step("migrateFromStatefulSetToPodSet", this::migrateFromStatefulSetToPodSet, "scaleDown")
+                // We pass the PodSet reconciliation result directly to the rolling update to avoid storing it in the instance
+                .step("podSetAndRollingUpdate", () -> podSet().compose(podSetDiffs -> rollingUpdate(podSetDiffs)),
+                        "networkPolicy", "manualRollingUpdate", "pvcs", "serviceAccount", "initClusterRoleBinding", "scaleDown",
+                        "updateNodePoolStatuses", "listeners", "certificateSecret", "brokerConfigurationConfigMaps", "jmxSecret",
+                        "podDisruptionBudget", "migrateFromStatefulSetToPodSet")
+                .step("podsReady", this::podsReady, "podSetAndRollingUpdate")
+                .step("serviceEndpointsReady", this::serviceEndpointsReady, "podsReady")
+                .step("headlessServiceEndpointsReady", this::headlessServiceEndpointsReady, "podsReady")
+                .step("clusterId", () -> clusterId(kafkaStatus), "serviceEndpointsReady", "headlessServiceEndpointsReady")
+                .step("deletePersistentClaims", this::deletePersistentClaims, "podsReady")
+                .step("sharedKafkaConfigurationCleanup", this::sharedKafkaConfigurationCleanup, "podsReady")
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(i -> nodePortExternalListenerStatus())
-                .compose(i -> addListenersToKafkaStatus(kafkaStatus))
-                .compose(i -> updateKafkaVersion(kafkaStatus));
+                .step("nodePortExternalListenerStatus", this::nodePortExternalListenerStatus, "podsReady")
+                .step("addListenersToKafkaStatus", () -> addListenersToKafkaStatus(kafkaStatus),
+                        "clusterId", "deletePersistentClaims", "sharedKafkaConfigurationCleanup", "nodePortExternalListenerStatus")
+                .step("updateKafkaVersion", () -> updateKafkaVersion(kafkaStatus), "addListenersToKafkaStatus")
+                .execute();
     }
 
     protected Future<Void> brokerScaleDownCheck() {
@@ -477,7 +497,9 @@ public class KafkaReconciler {
                                 logging,
                                 kafka.getKafkaVersion(),
                                 allowReconfiguration,
-                                eventsPublisher
+                                eventsPublisher,
+                                maxConcurrentBrokerRestarts,
+                                kafkaRollerMetrics
                         ).rollingRestart(podNeedsRestart));
     }
 
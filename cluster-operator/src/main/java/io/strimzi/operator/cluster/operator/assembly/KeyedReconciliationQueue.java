@@ -0,0 +1,147 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Runs the work on the custom resources one at a time per resource. Each resource has a single slot. When the slot is
+ * busy, the submitted work waits until the running work completes. Instead of queueing every submission, the pending
+ * submissions of the same work (for example the reconciliations triggered by a burst of events for the same custom
+ * resource) are collapsed into a single follow-up run, which uses the callable from the latest submission. A periodic
+ * submission does not replace an event-triggered one, so the follow-up run stays event-triggered if any of the
+ * collapsed submissions was. All collapsed submissions complete with the result of this follow-up run.
+ *
+ * Different work on the same resource (for example reconciliations of different connectors of the same Connect
+ * cluster) is not collapsed. It waits in the order of submission.
+ */
+public class KeyedReconciliationQueue {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KeyedReconciliationQueue.class);
+
+    // The resources with running work mapped to the work waiting for them
+    private final Map<String, Map<String, Work>> slots = new HashMap<>();
+
+    /**
+     * Submits the work on a resource.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param key               Key of the resource
+     * @param work              Identifier of the work used to collapse the pending submissions
+     * @param callable          Callable which runs the work
+     *
+     * @return  Future which completes when the work (or the follow-up run it was collapsed into) is complete
+     */
+    public Future<Void> submit(Reconciliation reconciliation, String key, String work, Callable<Future<Void>> callable) {
+        Work toRun;
+
+        synchronized (this) {
+            Map<String, Work> pending = slots.get(key);
+
+            if (pending == null) {
+                slots.put(key, new LinkedHashMap<>());
+                toRun = new Work(reconciliation, callable);
+            } else {
+                Work waiting = pending.get(work);
+
+                if (waiting != null) {
+                    LOGGER.debugCr(reconciliation, "{} is already waiting for {} and will run only once", work, key);
+
+                    // A periodic submission does not replace an event-triggered one, so the follow-up run keeps the
+                    // event trigger and its priority
+                    if (isPeriodic(waiting.reconciliation) || !isPeriodic(reconciliation)) {
+                        waiting.reconciliation = reconciliation;
+                        waiting.callable = callable;
+                    }
+
+                    return waiting.promise.future();
+                } else {
+                    LOGGER.debugCr(reconciliation, "{} will wait for the running work on {}", work, key);
+                    Work newWork = new Work(reconciliation, callable);
+                    pending.put(work, newWork);
+                    return newWork.promise.future();
+                }
+            }
+        }
+
+        run(key, toRun);
+        return toRun.promise.future();
+    }
+
+    private static boolean isPeriodic(Reconciliation reconciliation) {
+        return AbstractOperator.PERIODIC_TRIGGER.equals(reconciliation.trigger());
+    }
+
+    /**
+     * @param key   Key of the resource
+     *
+     * @return  True if some work is running on the resource. False otherwise.
+     */
+    /* test */ synchronized boolean isBusy(String key) {
+        return slots.containsKey(key);
+    }
+
+    /**
+     * Runs the work and once it completes, it starts the next waiting work or frees the slot.
+     *
+     * @param key   Key of the resource
+     * @param work  Work which should run
+     */
+    private void run(String key, Work work) {
+        Future<Void> result;
+
+        try {
+            result = work.callable.call();
+        } catch (Throwable t) {
+            LOGGER.errorCr(work.reconciliation, "Reconciliation failed", t);
+            result = Future.failedFuture(t);
+        }
+
+        result.onComplete(res -> {
+            Work next = null;
+
+            synchronized (this) {
+                Iterator<Work> pending = slots.get(key).values().iterator();
+
+                if (pending.hasNext()) {
+                    next = pending.next();
+                    pending.remove();
+                } else {
+                    slots.remove(key);
+                }
+            }
+
+            try {
+                work.promise.handle(res);
+            } finally {
+                if (next != null) {
+                    run(key, next);
+                }
+            }
+        });
+    }
+
+    /**
+     * Submitted work
+     */
+    private static final class Work {
+        private final Promise<Void> promise = Promise.promise();
+        private Reconciliation reconciliation;
+        private Callable<Future<Void>> callable;
+
+        private Work(Reconciliation reconciliation, Callable<Future<Void>> callable) {
+            this.reconciliation = reconciliation;
+            this.callable = callable;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Schedules the reconciliations of one kind of custom resources. It limits the number of reconciliations running at
+ * the same time and starts the event-triggered reconciliations ahead of the periodic ones. A fifth of the slots (at
+ * least one when there is more than one slot) is reserved for the event-triggered reconciliations. So they do not
+ * have to wait for long-running periodic reconciliations, such as rolling updates of Kafka clusters, to finish.
+ *
+ * Only one reconciliation of the same resource runs at a time. The reconciliations of a resource waiting for a slot
+ * are collapsed into a single task, which runs the latest submitted reconciliation and is event-triggered if any of
+ * the collapsed reconciliations was. So a burst of events for one resource takes at most one slot.
+ *
+ * The periodic reconciliations are spread across the reconciliation interval. Each resource gets its own offset within
+ * the interval derived from its namespace and name. So the periodic reconciliations of different resources do not all
+ * start at the same time, while each resource is still reconciled roughly once per interval.
+ */
+public class ReconciliationScheduler {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationScheduler.class);
+
+    private final Vertx vertx;
+    private final int maxConcurrentReconciliations;
+    private final int maxConcurrentPeriodicReconciliations;
+    private final long periodicSpreadMs;
+    private final ReconciliationSchedulerMetricsHolder metrics;
+
+    private final Deque<Task> eventQueue = new ArrayDeque<>();
+    private final Deque<Task> periodicQueue = new ArrayDeque<>();
+    private final Map<String, Task> queuedByKey = new HashMap<>();
+    private final Set<String> runningKeys = new HashSet<>();
+    private int running = 0;
+
+    /**
+     * Creates the reconciliation scheduler
+     *
+     * @param vertx                         Vert.x instance
+     * @param maxConcurrentReconciliations  Maximal number of reconciliations running at the same time
+     * @param periodicSpreadMs              Interval across which the periodic reconciliations are spread. Use 0 to
+     *                                      start them right away.
+     * @param metrics                       Metrics holder for the queue metrics
+     */
+    public ReconciliationScheduler(Vertx vertx, int maxConcurrentReconciliations, long periodicSpreadMs, ReconciliationSchedulerMetricsHolder metrics) {
+        if (maxConcurrentReconciliations < 1) {
+            throw new IllegalArgumentException("The maximal number of concurrent reconciliations must be at least 1, but is " + maxConcurrentReconciliations);
+        }
+
+        this.vertx = vertx;
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.maxConcurrentPeriodicReconciliations = maxConcurrentReconciliations - reservedForEvents(maxConcurrentReconciliations);
+        this.periodicSpreadMs = periodicSpreadMs;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Waits for the offset of the periodic reconciliation of the resource. The reconciliations with the
+     * {@link AbstractOperator#PERIODIC_TRIGGER} trigger are treated as periodic reconciliations. All others are treated
+     * as event-triggered and do not wait.
+     *
+     * @param reconciliation    Reconciliation marker
+     *
+     * @return  Future which completes when the reconciliation should be started
+     */
+    public Future<Void> awaitPeriodicOffset(Reconciliation reconciliation) {
+        long offsetMs = isPeriodic(reconciliation) ? periodicOffsetMs(key(reconciliation), periodicSpreadMs) : 0L;
+
+        if (offsetMs > 0) {
+            LOGGER.debugCr(reconciliation, "Periodic reconciliation will be started in {}ms", offsetMs);
+            Promise<Void> offset = Promise.promise();
+            vertx.setTimer(offsetMs, timerId -> offset.complete());
+            return offset.future();
+        } else {
+            return Future.succeededFuture();
+        }
+    }
+
+    /**
+     * Runs the reconciliation once there is a free slot and no other reconciliation of the same resource is running.
+     * The event-triggered reconciliations are started ahead of the periodic ones. When a reconciliation of the same
+     * resource is already waiting, the reconciliation is collapsed into it.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param reconcile         Function which runs the reconciliation
+     *
+     * @return  Future which completes when the reconciliation (or the one it was collapsed into) is complete
+     */
+    public Future<Void> execute(Reconciliation reconciliation, Supplier<Future<Void>> reconcile) {
+        Task task;
+
+        synchronized (this) {
+            task = queuedByKey.get(key(reconciliation));
+
+            if (task != null) {
+                LOGGER.debugCr(reconciliation, "Reconciliation is collapsed with the reconciliation already waiting for a slot");
+                task.reconciliation = reconciliation;
+                task.reconcile = reconcile;
+
+                if (task.periodic && !isPeriodic(reconciliation)) {
+                    // The collapsed reconciliation is now event-triggered and can use the slots reserved for events
+                    periodicQueue.remove(task);
+                    task.periodic = false;
+                    eventQueue.add(task);
+                }
+            } else {
+                task = new Task(reconciliation, reconcile, isPeriodic(reconciliation));
+                enqueue(task);
+            }
+        }
+
+        startNext();
+        return task.promise.future();
+    }
+
+    private static boolean isPeriodic(Reconciliation reconciliation) {
+        return AbstractOperator.PERIODIC_TRIGGER.equals(reconciliation.trigger());
+    }
+
+    /**
+     * Calculates the number of slots reserved for the event-triggered reconciliations. The periodic reconciliations
+     * cannot use them.
+     *
+     * @param maxConcurrentReconciliations  Maximal number of reconciliations running at the same time
+     *
+     * @return  Number of reserved slots
+     */
+    /* test */ static int reservedForEvents(int maxConcurrentReconciliations) {
+        return maxConcurrentReconciliations > 1 ? Math.max(1, maxConcurrentReconciliations / 5) : 0;
+    }
+
+    /**
+     * Calculates the offset of the periodic reconciliation of given resource.
+     *
+     * @param key       Key identifying the resource
+     * @param spreadMs  Interval across which the periodic reconciliations are spread
+     *
+     * @return  Offset in milliseconds
+     */
+    /* test */ static long periodicOffsetMs(String key, long spreadMs) {
+        return spreadMs > 0 ? Math.floorMod((long) key.hashCode(), spreadMs) : 0L;
+    }
+
+    /**
+     * Adds the task to the queue
+     *
+     * @param task  Task to be queued
+     */
+    private synchronized void enqueue(Task task) {
+        task.queued = Timer.start(metrics.metricsProvider().meterRegistry());
+        queuedByKey.put(key(task.reconciliation), task);
+
+        if (task.periodic) {
+            periodicQueue.add(task);
+        } else {
+            eventQueue.add(task);
+        }
+    }
+
+    /**
+     * Starts the queued tasks while there is a free slot. The event-triggered reconciliations are started first. The
+     * periodic reconciliations are started only while there is a free slot which is not reserved for events. The tasks
+     * of the resources with a running reconciliation are skipped.
+     */
+    private void startNext() {
+        while (true) {
+            Task task;
+
+            synchronized (this) {
+                if (running >= maxConcurrentReconciliations) {
+                    return;
+                }
+
+                task = pollRunnable(eventQueue);
+
+                if (task == null) {
+                    if (running >= maxConcurrentPeriodicReconciliations) {
+                        return;
+                    }
+
+                    task = pollRunnable(periodicQueue);
+
+                    if (task == null) {
+                        return;
+                    }
+                }
+
+                String key = key(task.reconciliation);
+                queuedByKey.remove(key);
+                runningKeys.add(key);
+                running++;
+            }
+
+            run(task);
+        }
+    }
+
+    /**
+     * Removes the first task of a resource without a running reconciliation from the queue
+     *
+     * @param queue     Queue with the tasks
+     *
+     * @return  The removed task or null if there is no such task
+     */
+    private Task pollRunnable(Deque<Task> queue) {
+        Iterator<Task> tasks = queue.iterator();
+
+        while (tasks.hasNext()) {
+            Task task = tasks.next();
+
+            if (!runningKeys.contains(key(task.reconciliation))) {
+                tasks.remove();
+                return task;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Runs the task and starts the next one when it completes
+     *
+     * @param task  Task which should be run
+     */
+    private void run(Task task) {
+        task.queued.stop(metrics.queueTimer(task.reconciliation.namespace(), task.periodic));
+
+        String key = key(task.reconciliation);
+        Future<Void> result;
+
+        try {
+            result = task.reconcile.get();
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+
+        result.onComplete(res -> {
+            synchronized (this) {
+                runningKeys.remove(key);
+                running--;
+            }
+
+            task.promise.handle(res);
+            startNext();
+        });
+    }
+
+    /**
+     * @return  The number of reconciliations waiting in the queue
+     */
+    /* test */ synchronized int queued() {
+        return eventQueue.size() + periodicQueue.size();
+    }
+
+    private static String key(Reconciliation reconciliation) {
+        return reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
+    /**
+     * Scheduled reconciliation
+     */
+    private static final class Task {
+        private Reconciliation reconciliation;
+        private Supplier<Future<Void>> reconcile;
+        private boolean periodic;
+        private final Promise<Void> promise = Promise.promise();
+        private Timer.Sample queued;
+
+        private Task(Reconciliation reconciliation, Supplier<Future<Void>> reconcile, boolean periodic) {
+            this.reconciliation = reconciliation;
+            this.reconcile = reconcile;
+            this.periodic = periodic;
+        }
+    }
+}
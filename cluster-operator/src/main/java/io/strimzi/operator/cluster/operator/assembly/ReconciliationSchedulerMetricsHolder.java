@@ -0,0 +1,45 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the metrics of the {@link ReconciliationScheduler}
+ */
+public class ReconciliationSchedulerMetricsHolder extends MetricsHolder {
+    private final Map<String, Timer> queueTimerMap = new ConcurrentHashMap<>(1);
+
+    /**
+     * Constructs the reconciliation scheduler metrics holder
+     *
+     * @param kind              Kind of the resources for which these metrics apply
+     * @param selectorLabels    Selector labels to select the controller resources
+     * @param metricsProvider   Metrics provider
+     */
+    public ReconciliationSchedulerMetricsHolder(String kind, Labels selectorLabels, MetricsProvider metricsProvider) {
+        super(kind, selectorLabels, metricsProvider);
+    }
+
+    /**
+     * Timer which measures how long the reconciliations wait in the queue before they are started.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param periodic      Whether the timer is for the periodic or for the event-triggered reconciliations
+     *
+     * @return  Metrics timer
+     */
+    public Timer queueTimer(String namespace, boolean periodic) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "reconciliation.queue.duration", metricsProvider, selectorLabels, Tags.of("trigger", periodic ? "periodic" : "event"), queueTimerMap,
+                "The time the reconciliations wait in the queue before they are started");
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Runs the steps of a reconciliation as a dependency graph instead of a strict chain. Each step declares the steps it
+ * depends on and is started once all of them completed successfully. Steps which do not depend on each other run at
+ * the same time, up to the maximal parallelism. When more steps are ready at the same time, they are started in the
+ * order in which they were added. So with the parallelism of 1, the steps run one after another in the order in which
+ * they were added.
+ *
+ * When a step fails, no more steps are started. The graph completes with the first failure once all the steps which
+ * are already running complete, so that nothing keeps changing the cluster after the reconciliation has finished.
+ *
+ * The graph is not reusable. Each reconciliation should create a new graph.
+ */
+public class ReconciliationStepGraph {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationStepGraph.class);
+
+    private final Reconciliation reconciliation;
+    private final int maxParallelism;
+    private final ReconciliationStepsMetricsHolder metrics;
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+
+    private final Set<String> started = new HashSet<>();
+    private final Set<String> completed = new HashSet<>();
+    private final Promise<Void> result = Promise.promise();
+    private int running = 0;
+    private Throwable failure;
+
+    /**
+     * Creates the reconciliation step graph
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param maxParallelism    Maximal number of steps running at the same time
+     * @param metrics           Metrics holder for the step duration metrics or null if the metrics should not be collected
+     */
+    public ReconciliationStepGraph(Reconciliation reconciliation, int maxParallelism, ReconciliationStepsMetricsHolder metrics) {
+        if (maxParallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be at least 1, but is " + maxParallelism);
+        }
+
+        this.reconciliation = reconciliation;
+        this.maxParallelism = maxParallelism;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Adds a step to the graph. The steps it depends on have to be added before it, which also makes sure that the
+     * graph does not have any cycles.
+     *
+     * @param name          Name of the step (used for logging and metrics)
+     * @param action        Action which starts the step and returns a Future which completes when the step is done
+     * @param dependencies  Names of the steps which have to complete before this step is started
+     *
+     * @return  This graph to allow chaining
+     */
+    public ReconciliationStepGraph step(String name, Supplier<Future<?>> action, String... dependencies) {
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Step " + name + " already exists");
+        }
+
+        for (String dependency : dependencies) {
+            if (!steps.containsKey(dependency)) {
+                throw new IllegalArgumentException("Step " + name + " depends on unknown step " + dependency);
+            }
+        }
+
+        steps.put(name, new Step(name, action, List.of(dependencies)));
+        return this;
+    }
+
+    /**
+     * Runs the steps of the graph.
+     *
+     * @return  Future which completes when all steps are completed or fails with the first failure of any step
+     */
+    public Future<Void> execute() {
+        schedule();
+        return result.future();
+    }
+
+    /**
+     * Starts all steps which are ready to run or completes the result when there is nothing more to run.
+     */
+    private synchronized void schedule() {
+        if (failure != null) {
+            if (running == 0) {
+                result.tryFail(failure);
+            }
+
+            return;
+        }
+
+        if (completed.size() == steps.size()) {
+            result.tryComplete();
+            return;
+        }
+
+        for (Step step : steps.values()) {
+            if (running >= maxParallelism || failure != null) {
+                break;
+            }
+
+            if (!started.contains(step.name()) && completed.containsAll(step.dependencies())) {
+                start(step);
+            }
+        }
+    }
+
+    /**
+     * Starts a single step
+     *
+     * @param step  Step which should be started
+     */
+    private void start(Step step) {
+        LOGGER.debugCr(reconciliation, "Starting reconciliation step {}", step.name());
+        started.add(step.name());
+        running++;
+
+        Timer.Sample sample = metrics != null ? Timer.start(metrics.metricsProvider().meterRegistry()) : null;
+        Future<?> stepFuture;
+
+        try {
+            stepFuture = step.action().get();
+        } catch (Throwable t) {
+            stepFuture = Future.failedFuture(t);
+        }
+
+        stepFuture.onComplete(res -> completed(step, sample, res.cause()));
+    }
+
+    /**
+     * Records the completion of a step and starts the steps which depend on it
+     *
+     * @param step      The completed step
+     * @param sample    Timer sample of the step or null if the metrics are not collected
+     * @param error     The error the step failed with or null if it succeeded
+     */
+    private synchronized void completed(Step step, Timer.Sample sample, Throwable error) {
+        running--;
+
+        if (sample != null) {
+            sample.stop(metrics.stepTimer(reconciliation.namespace(), step.name()));
+        }
+
+        if (error == null) {
+            LOGGER.debugCr(reconciliation, "Reconciliation step {} completed", step.name());
+            completed.add(step.name());
+        } else {
+            LOGGER.debugCr(reconciliation, "Reconciliation step {} failed", step.name(), error);
+
+            if (failure == null) {
+                failure = error;
+            }
+        }
+
+        schedule();
+    }
+
+    /**
+     * Step of the graph
+     *
+     * @param name          Name of the step
+     * @param action        Action of the step
+     * @param dependencies  Names of the steps this step depends on
+     */
+    private record Step(String name, Supplier<Future<?>> action, List<String> dependencies) { }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the metrics of the individual steps run by the {@link ReconciliationStepGraph}
+ */
+public class ReconciliationStepsMetricsHolder extends MetricsHolder {
+    private final Map<String, Timer> stepTimerMap = new ConcurrentHashMap<>(1);
+
+    /**
+     * Constructs the reconciliation steps metrics holder
+     *
+     * @param kind              Kind of the resources for which these metrics apply
+     * @param selectorLabels    Selector labels to select the controller resources
+     * @param metricsProvider   Metrics provider
+     */
+    public ReconciliationStepsMetricsHolder(String kind, Labels selectorLabels, MetricsProvider metricsProvider) {
+        super(kind, selectorLabels, metricsProvider);
+    }
+
+    /**
+     * Timer which measures how long the individual reconciliation steps take.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param step          Name of the reconciliation step
+     *
+     * @return  Metrics timer
+     */
+    public Timer stepTimer(String namespace, String step) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "reconciliation.step.duration", metricsProvider, selectorLabels, Tags.of("step", step), stepTimerMap,
+                "The time the individual steps of the reconciliation take to complete");
+    }
+}
@@ -14,11 +14,13 @@ import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +32,15 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * <p>One instance is used for a whole rolling restart. The first check describes all the topics and builds a
+ * {@link TopicPartitionIndex} from them. The following checks only describe the topics created since the previous
+ * check, the topics which the index has on the brokers being checked, and the topics with ongoing partition
+ * reassignments, so that the replicas and ISRs used by the check are current without describing the whole cluster
+ * for every broker. The partitions on the broker being checked are then looked up in the index instead of scanning
+ * all the descriptions. The {@code min.insync.replicas} of the topics on the broker is described on every check as
+ * well, because it can be changed while the brokers are rolled. The refreshes of the index are serialized, so that
+ * concurrent checks do not apply stale topic listings over newer ones.</p>
  */
 class KafkaAvailability {
 
@@ -39,19 +50,15 @@ class KafkaAvailability {
 
     private final Reconciliation reconciliation;
 
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final TopicPartitionIndex index = new TopicPartitionIndex();
+
+    // Refreshes of the index chained one after another, and whether a refresh describing all the topics succeeded
+    private Future<Void> refreshes = Future.succeededFuture();
+    private boolean indexed = false;
 
     KafkaAvailability(Reconciliation reconciliation, Admin ac) {
         this.ac = ac;
         this.reconciliation = reconciliation;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
-            LOGGER.traceCr(reconciliation, "Topic names {}", names);
-            return describeTopics(names);
-        });
     }
 
     /**
@@ -60,28 +67,45 @@ class KafkaAvailability {
      */
     Future<Boolean> canRoll(int podId) {
         LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
+        return canRollBroker(podId, Set.of());
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
-                }).recover(error -> {
+    /**
+     * Determine whether the given broker can be rolled while the given other brokers are being rolled, without
+     * affecting producers with acks=all publishing to topics with a {@code min.in.sync.replicas}. The brokers being
+     * rolled are treated as if they were not in the ISR of any partition. Where the brokers have racks, the given
+     * broker can only be rolled together with brokers in the same rack.
+     */
+    Future<Boolean> canRoll(int podId, Set<Integer> restartingPodIds) {
+        if (restartingPodIds.isEmpty()) {
+            return canRoll(podId);
+        }
+        LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled together with brokers {}", podId, restartingPodIds);
+        return canRollBroker(podId, restartingPodIds);
+    }
+
+    private Future<Boolean> canRollBroker(int podId, Set<Integer> restartingPodIds) {
+        // 1. Update the index and get the partitions on $broker
+        Set<Integer> checkedPodIds = new HashSet<>(restartingPodIds);
+        checkedPodIds.add(podId);
+        Future<Map<String, List<TopicPartitionInfo>>> partitionsOnGivenBroker = refreshIndex(checkedPodIds)
+                .map(ignored -> index.partitionsOnBroker(podId))
+                .recover(error -> {
                     LOGGER.warnCr(reconciliation, "failed to get topic descriptions", error);
                     return Future.failedFuture(error);
                 });
 
-        // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
+        // 2. Get the min.insync.replicas of the topics on $broker
+        Future<Map<String, Integer>> minIsrsOnGivenBroker = partitionsOnGivenBroker
+                .compose(partitions -> minIsrs(partitions.keySet()));
 
-        // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
-            Collection<TopicDescription> tds = topicsOnGivenBroker.result();
-            boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
+        // 3. join
+        return minIsrsOnGivenBroker.map(topicNameToMinIsr -> {
+            if (!isSameRack(podId, restartingPodIds)) {
+                return false;
+            }
+            boolean canRoll = partitionsOnGivenBroker.result().entrySet().stream().noneMatch(
+                e -> wouldAffectAvailability(podId, restartingPodIds, e.getKey(), topicNameToMinIsr.get(e.getKey()), e.getValue()));
             if (!canRoll) {
                 LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
             }
@@ -92,25 +116,102 @@ class KafkaAvailability {
         });
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
+    /**
+     * Brings the index up to date for checking the given brokers. The refresh is chained after the refreshes which
+     * were already requested.
+     */
+    private synchronized Future<Void> refreshIndex(Set<Integer> podIds) {
+        refreshes = refreshes.transform(ignored -> refreshTopics(podIds));
+        return refreshes;
+    }
+
+    private Future<Void> refreshTopics(Set<Integer> podIds) {
+        return topicNames().compose(names -> {
+            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
+            LOGGER.traceCr(reconciliation, "Topic names {}", names);
+            for (String name : index.topics()) {
+                if (!names.contains(name)) {
+                    index.remove(name);
+                }
+            }
+            if (!indexed) {
+                return Future.succeededFuture(names);
+            }
+            return reassigningTopics().map(reassigning -> {
+                Set<String> changed = new HashSet<>(names);
+                changed.removeAll(index.topics());
+                for (int podId : podIds) {
+                    changed.addAll(index.topicsOnBroker(podId));
+                }
+                changed.addAll(reassigning);
+                changed.retainAll(names);
+                return changed;
+            });
+        }).compose(names -> {
+            LOGGER.debugCr(reconciliation, "Describing {} topics", names.size());
+            return names.isEmpty() ? Future.<Collection<TopicDescription>>succeededFuture(List.of()) : describeTopics(names);
+        }).map(tds -> {
+            for (TopicDescription td : tds) {
+                LOGGER.traceCr(reconciliation, td);
+                index.update(td);
+            }
+            indexed = true;
+            return null;
+        });
+    }
+
+    private boolean isSameRack(int podId, Set<Integer> restartingPodIds) {
+        String rack = index.rack(podId);
+        if (rack != null) {
+            for (Integer restartingPodId : restartingPodIds) {
+                String restartingRack = index.rack(restartingPodId);
+                if (restartingRack != null && !rack.equals(restartingRack)) {
+                    LOGGER.debugCr(reconciliation, "Broker {} in rack {} cannot be rolled together with broker {} in rack {}", podId, rack, restartingPodId, restartingRack);
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the current {@code min.insync.replicas} of the given topics. Topics without {@code min.insync.replicas}
+     * have -1.
+     */
+    private Future<Map<String, Integer>> minIsrs(Set<String> topicNames) {
+        if (topicNames.isEmpty()) {
+            return Future.succeededFuture(Map.of());
+        }
+        return topicConfigs(topicNames).map(topicNameToConfig -> {
+            Map<String, Integer> result = new HashMap<>(topicNames.size());
+            for (String topicName : topicNames) {
+                Config config = topicNameToConfig.get(topicName);
+                result.put(topicName, config != null ? minIsr(topicName, config) : -1);
+            }
+            return result;
+        });
+    }
+
+    private int minIsr(String topicName, Config config) {
         ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
         if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
-            LOGGER.debugCr(reconciliation, "{} has {}={}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
+            int minIsr = parseInt(minIsrConfig.value());
+            LOGGER.debugCr(reconciliation, "{} has {}={}.", topicName, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
+            return minIsr;
         } else {
-            minIsr = -1;
-            LOGGER.debugCr(reconciliation, "{} lacks {}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+            LOGGER.debugCr(reconciliation, "{} lacks {}.", topicName, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+            return -1;
         }
+    }
 
-        for (TopicPartitionInfo pi : td.partitions()) {
-            List<Node> isr = pi.isr();
+    private boolean wouldAffectAvailability(int broker, Set<Integer> restartingBrokers, String topicName, int minIsr, List<TopicPartitionInfo> partitions) {
+        for (TopicPartitionInfo pi : partitions) {
+            List<Node> isr = restartingBrokers.isEmpty() ? pi.isr() : pi.isr().stream().filter(node -> !restartingBrokers.contains(node.id())).toList();
             if (minIsr >= 0) {
                 if (pi.replicas().size() <= minIsr) {
                     if (LOGGER.isDebugEnabled()) {
                         LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
+                                topicName, pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
                                 pi.replicas().size());
                     }
                 } else if (isr.size() < minIsr
@@ -125,7 +226,7 @@ class KafkaAvailability {
                                                           "so should not be restarted right now (it might be first to catch up).";
                         }
                         LOGGER.infoCr(reconciliation, msg,
-                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                                topicName, pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
                     }
                     return true;
                 } else if (isr.size() == minIsr
@@ -133,13 +234,13 @@ class KafkaAvailability {
                     if (minIsr < pi.replicas().size()) {
                         if (LOGGER.isInfoEnabled()) {
                             LOGGER.infoCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted.",
-                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                                    topicName, pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
                         }
                         return true;
                     } else {
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
+                                    topicName, pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
                                     pi.replicas().size());
                         }
                     }
@@ -177,21 +278,6 @@ class KafkaAvailability {
         return promise.future();
     }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            LOGGER.traceCr(reconciliation, td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
-                }
-            }
-        }
-        return topicPartitionInfos;
-    }
-
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
         Promise<Collection<TopicDescription>> descPromise = Promise.promise();
         ac.describeTopics(names).allTopicNames()
@@ -206,6 +292,23 @@ class KafkaAvailability {
         return descPromise.future();
     }
 
+    /**
+     * Gets the names of the topics with partitions being reassigned, whose replicas can be moving to any broker.
+     */
+    private Future<Set<String>> reassigningTopics() {
+        Promise<Set<String>> reassigningPromise = Promise.promise();
+        ac.listPartitionReassignments().reassignments()
+                .whenComplete((reassignments, error) -> {
+                    if (error != null) {
+                        reassigningPromise.fail(error);
+                    } else {
+                        LOGGER.debugCr(reconciliation, "Got {} partition reassignments", reassignments.size());
+                        reassigningPromise.complete(reassignments.keySet().stream().map(TopicPartition::topic).collect(Collectors.toSet()));
+                    }
+                });
+        return reassigningPromise.future();
+    }
+
     protected Future<Set<String>> topicNames() {
         Promise<Set<String>> namesPromise = Promise.promise();
         ac.listTopics(new ListTopicsOptions().listInternal(true)).names()
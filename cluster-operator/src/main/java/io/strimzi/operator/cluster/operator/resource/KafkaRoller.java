@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.operator.cluster.model.DnsNameGenerator;
 import io.strimzi.operator.cluster.model.KafkaCluster;
@@ -59,6 +60,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -94,6 +96,13 @@ import static java.util.Collections.singletonList;
  *
  * <p>Where "impacting availability" is defined by {@link KafkaAvailability}.</p>
  *
+ * <p>When more than one concurrent restart is allowed, the pods are considered by several threads at the same time.
+ * In step 5, a pod is restarted alongside the pods which are already restarting only when restarting all of them
+ * together would not impact availability (and, when the brokers have racks, only when they are all in the same rack).
+ * Otherwise the pod is checked again later, without counting this towards its back-off unless it waits for longer
+ * than the operation timeout. Pods which have to be force-rolled are rolled only when no other pods are being rolled.
+ * The ready pods are considered only after each of the unready pods was considered at least once.</p>
+ *
  * <p>Note the following important properties of this algorithm:</p>
  * <ul>
  *     <li>if there is a spontaneous change in controller while the rolling restart is happening, any new
@@ -125,7 +134,13 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
-    private Admin allClient;
+    private final int maxConcurrentRestarts;
+    private final KafkaRollerMetricsHolder metrics;
+    private final ScheduledExecutorService executor;
+    private final Set<Integer> restartingBrokers = new HashSet<>();
+    private int maxRestartingBrokers = 0;
+    private volatile Admin allClient;
+    private KafkaAvailability kafkaAvailability;
     private KafkaAgentClient kafkaAgentClient;
 
     /**
@@ -146,12 +161,15 @@ public class KafkaRoller {
      * @param kafkaVersion          Kafka version
      * @param allowReconfiguration  Flag indicting whether reconfiguration is allowed or not
      * @param eventsPublisher       Kubernetes Events publisher for publishing events about pod restarts
+     * @param maxConcurrentRestarts Maximum number of brokers which can be restarted at the same time
+     * @param metrics               Metrics holder for the rolling restart metrics
      */
     public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, Set<NodeRef> nodes,
                        Secret clusterCaCertSecret, Secret coKeySecret,
                        AdminClientProvider adminClientProvider,
-                       Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher) {
+                       Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher,
+                       int maxConcurrentRestarts, KafkaRollerMetricsHolder metrics) {
         this.namespace = reconciliation.namespace();
         this.cluster = reconciliation.name();
         this.nodes = nodes;
@@ -172,6 +190,14 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        if (maxConcurrentRestarts < 1) {
+            throw new IllegalArgumentException("The maximum number of concurrent restarts must be at least 1");
+        }
+        this.maxConcurrentRestarts = maxConcurrentRestarts;
+        this.metrics = metrics;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(maxConcurrentRestarts,
+            runnable -> new Thread(runnable, maxConcurrentRestarts == 1 ? "kafka-roller" : "kafka-roller-" + threadCount.getAndIncrement()));
     }
 
     /**
@@ -182,9 +208,6 @@ public class KafkaRoller {
         return podOperations.getAsync(namespace, KafkaResources.kafkaPodName(cluster, podId));
     }
 
-    private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
-        runnable -> new Thread(runnable, "kafka-roller"));
-
     private final ConcurrentHashMap<String, RestartContext> podToContext = new ConcurrentHashMap<>();
     private Function<Pod, RestartReasons> podNeedsRestart;
 
@@ -192,7 +215,7 @@ public class KafkaRoller {
      * If allClient has not been initialized yet, does exactly that
      * @return true if the creation of AC succeeded, false otherwise
      */
-    private boolean initAdminClient() {
+    private synchronized boolean initAdminClient() {
         if (this.allClient == null) {
             try {
                 this.allClient = adminClient(nodes, false);
@@ -215,10 +238,12 @@ public class KafkaRoller {
     public Future<Void> rollingRestart(Function<Pod, RestartReasons> podNeedsRestart) {
         this.podNeedsRestart = podNeedsRestart;
         Promise<Void> result = Promise.promise();
-        singleExecutor.submit(() -> {
+        Timer.Sample rollingRestartTimerSample = Timer.start(metrics.metricsProvider().meterRegistry());
+        executor.submit(() -> {
             try {
                 LOGGER.debugCr(reconciliation, "Verifying cluster pods are up-to-date.");
-                List<NodeRef> pods = new ArrayList<>(nodes.size());
+                List<NodeRef> unreadyPods = new ArrayList<>(nodes.size());
+                List<NodeRef> readyPods = new ArrayList<>(nodes.size());
 
                 for (NodeRef node : nodes) {
                     // Order the nodes unready first otherwise repeated reconciliations might each restart a pod
@@ -228,7 +253,11 @@ public class KafkaRoller {
                     //       limitations. Once managing controller nodes is supported with Kafka Admin API, this should be
                     //       fixed. This is tracked in https://github.com/strimzi/strimzi-kafka-operator/issues/8593.
                     if (node.broker()) {
-                        pods.add(podOperations.isReady(namespace, node.podName()) ? pods.size() : 0, node);
+                        if (podOperations.isReady(namespace, node.podName())) {
+                            readyPods.add(node);
+                        } else {
+                            unreadyPods.add(node);
+                        }
                     } else if (node.controller())   {
                         // We do not roll KRaft controllers yet, but we can throw a warning if it needs to be rolled
                         Pod pod = podOperations.get(namespace, node.podName());
@@ -243,14 +272,39 @@ public class KafkaRoller {
                     }
                 }
 
-                LOGGER.debugCr(reconciliation, "Initial order for updating pods (rolling restart or dynamic update) is {}", pods);
+                LOGGER.debugCr(reconciliation, "Initial order for updating pods (rolling restart or dynamic update) is {} followed by {}", unreadyPods, readyPods);
 
                 List<Future<Void>> futures = new ArrayList<>(nodes.size());
-                for (NodeRef node : pods) {
+                for (NodeRef node : readyPods) {
+                    futures.add(restartContext(node).promise.future());
+                }
+
+                // With more than one thread, the ready pods would be considered at the same time as the unready ones.
+                // So they are scheduled only once every unready pod was considered at least once.
+                AtomicInteger unconsideredUnreadyPods = new AtomicInteger(unreadyPods.size());
+                Runnable scheduleReadyPods = () -> {
+                    if (!executor.isShutdown()) {
+                        for (NodeRef node : readyPods) {
+                            schedule(node, 0, TimeUnit.MILLISECONDS);
+                        }
+                    }
+                };
+
+                for (NodeRef node : unreadyPods) {
+                    restartContext(node).afterFirstAttempt = () -> {
+                        if (unconsideredUnreadyPods.decrementAndGet() == 0) {
+                            scheduleReadyPods.run();
+                        }
+                    };
                     futures.add(schedule(node, 0, TimeUnit.MILLISECONDS));
                 }
+
+                if (unreadyPods.isEmpty()) {
+                    scheduleReadyPods.run();
+                }
                 Future.join(futures).onComplete(ar -> {
-                    singleExecutor.shutdown();
+                    executor.shutdown();
+                    recordMetrics(rollingRestartTimerSample);
                     try {
                         if (allClient != null) {
                             allClient.close(Duration.ofSeconds(30));
@@ -264,18 +318,35 @@ public class KafkaRoller {
                 // If anything happens, we have to raise the error otherwise the reconciliation would get stuck
                 // Its logged at upper level, so we just log it at debug here
                 LOGGER.debugCr(reconciliation, "Something went wrong when trying to do a rolling restart", e);
-                singleExecutor.shutdown();
+                executor.shutdown();
                 result.fail(e);
             }
         });
         return result.future();
     }
 
+    private void recordMetrics(Timer.Sample rollingRestartTimerSample) {
+        rollingRestartTimerSample.stop(metrics.rollingRestartsTimer(namespace));
+
+        int maxRestarting;
+        synchronized (restartingBrokers) {
+            maxRestarting = maxRestartingBrokers;
+        }
+
+        if (maxRestarting > 0) {
+            LOGGER.debugCr(reconciliation, "At most {} brokers were restarted at the same time", maxRestarting);
+            metrics.concurrentRestartsSummary(namespace).record(maxRestarting);
+        }
+    }
+
     protected static class RestartContext {
         final Promise<Void> promise;
         final BackOff backOff;
         RestartReasons restartReasons;
         private long connectionErrorStart = 0L;
+        private long concurrentRestartWaitStart = 0L;
+        // Called once the pod was considered for the first time
+        private Runnable afterFirstAttempt;
 
         boolean needsRestart;
         boolean needsReconfig;
@@ -303,6 +374,29 @@ public class KafkaRoller {
             }
         }
 
+        void clearConcurrentRestartWait() {
+            concurrentRestartWaitStart = 0L;
+        }
+
+        /**
+         * @return  For how long has the pod been waiting for the pods which are being rolled concurrently
+         */
+        long noteConcurrentRestartWait() {
+            long now = System.currentTimeMillis();
+            if (concurrentRestartWaitStart == 0L) {
+                concurrentRestartWaitStart = now;
+            }
+            return now - concurrentRestartWaitStart;
+        }
+
+        void firstAttemptCompleted() {
+            Runnable callback = afterFirstAttempt;
+            afterFirstAttempt = null;
+            if (callback != null) {
+                callback.run();
+            }
+        }
+
         @Override
         public String toString() {
             return "RestartContext{" +
@@ -316,7 +410,7 @@ public class KafkaRoller {
      * Schedule the rolling of the given pod at or after the given delay,
      * completed the returned Future when the pod is rolled.
      * When called multiple times with the same podId this method will return the same Future instance.
-     * Pods will be rolled one-at-a-time so the delay may be overrun.
+     * Pods will be rolled by at most {@code maxConcurrentRestarts} threads so the delay may be overrun.
      *
      * @param nodeRef   The reference to pod to roll.
      * @param delay     The delay.
@@ -325,9 +419,8 @@ public class KafkaRoller {
      * @return A future which completes when the pod has been rolled.
      */
     private Future<Void> schedule(NodeRef nodeRef, long delay, TimeUnit unit) {
-        RestartContext ctx = podToContext.computeIfAbsent(nodeRef.podName(),
-            k -> new RestartContext(backoffSupplier));
-        singleExecutor.schedule(() -> {
+        RestartContext ctx = restartContext(nodeRef);
+        executor.schedule(() -> {
             LOGGER.debugCr(reconciliation, "Considering updating pod {} after a delay of {} {}", nodeRef, delay, unit);
             try {
                 restartIfNecessary(nodeRef, ctx);
@@ -335,32 +428,56 @@ public class KafkaRoller {
             } catch (InterruptedException e) {
                 // Let the executor deal with interruption.
                 Thread.currentThread().interrupt();
+            } catch (ConcurrentRestartProblem e) {
+                long waitingMs = ctx.noteConcurrentRestartWait();
+                if (waitingMs < operationTimeoutMs) {
+                    LOGGER.debugCr(reconciliation, "Will check pod {} again after {}ms: {}", nodeRef, pollingIntervalMs, e.getMessage());
+                    schedule(nodeRef, pollingIntervalMs, TimeUnit.MILLISECONDS);
+                } else {
+                    // Waiting for the other pods for longer than the operation timeout counts as an attempt
+                    ctx.clearConcurrentRestartWait();
+                    retryOrFail(nodeRef, ctx, new UnforceableProblem("Pod " + nodeRef.podName() + " could not be rolled for " + waitingMs + "ms because of the pods which were rolled concurrently: " + e.getMessage()));
+                }
             } catch (FatalProblem e) {
                 LOGGER.infoCr(reconciliation, "Could not verify pod {} is up-to-date, giving up after {} attempts. Total delay between attempts {}ms",
                         nodeRef, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
                 ctx.promise.fail(e);
-                singleExecutor.shutdownNow();
+                executor.shutdownNow();
                 podToContext.forEachValue(Integer.MAX_VALUE, f -> {
                     f.promise.tryFail(e);
                 });
             } catch (Exception e) {
-                if (ctx.backOff.done()) {
-                    LOGGER.infoCr(reconciliation, "Could not verify pod {} is up-to-date, giving up after {} attempts. Total delay between attempts {}ms",
-                            nodeRef, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
-                    ctx.promise.fail(e instanceof TimeoutException ?
-                            new io.strimzi.operator.common.operator.resource.TimeoutException() :
-                            e);
-                } else {
-                    long delay1 = ctx.backOff.delayMs();
-                    LOGGER.infoCr(reconciliation, "Will temporarily skip verifying pod {} is up-to-date due to {}, retrying after at least {}ms",
-                            nodeRef, e, delay1);
-                    schedule(nodeRef, delay1, TimeUnit.MILLISECONDS);
-                }
+                retryOrFail(nodeRef, ctx, e);
+            } finally {
+                ctx.firstAttemptCompleted();
             }
         }, delay, unit);
         return ctx.promise.future();
     }
 
+    private RestartContext restartContext(NodeRef nodeRef) {
+        return podToContext.computeIfAbsent(nodeRef.podName(), k -> new RestartContext(backoffSupplier));
+    }
+
+    /**
+     * Schedules another attempt to roll the pod after the back-off delay or fails the rolling of the pod when the
+     * back-off is done.
+     */
+    private void retryOrFail(NodeRef nodeRef, RestartContext ctx, Exception e) {
+        if (ctx.backOff.done()) {
+            LOGGER.infoCr(reconciliation, "Could not verify pod {} is up-to-date, giving up after {} attempts. Total delay between attempts {}ms",
+                    nodeRef, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
+            ctx.promise.fail(e instanceof TimeoutException ?
+                    new io.strimzi.operator.common.operator.resource.TimeoutException() :
+                    e);
+        } else {
+            long delay = ctx.backOff.delayMs();
+            LOGGER.infoCr(reconciliation, "Will temporarily skip verifying pod {} is up-to-date due to {}, retrying after at least {}ms",
+                    nodeRef, e, delay);
+            schedule(nodeRef, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
     /**
      * Restart the given pod now if necessary according to {@link #podNeedsRestart}.
      * This method blocks.
@@ -395,11 +512,7 @@ public class KafkaRoller {
             try {
                 await(isReady(pod), operationTimeoutMs, TimeUnit.MILLISECONDS, e -> new RuntimeException(e));
             } catch (Exception e) {
-                //Initialise the client for KafkaAgent if pod is not ready
-                if (kafkaAgentClient == null) {
-                    this.kafkaAgentClient = initKafkaAgentClient();
-                }
-                BrokerState brokerState = kafkaAgentClient.getBrokerState(pod.getMetadata().getName());
+                BrokerState brokerState = kafkaAgentClient().getBrokerState(pod.getMetadata().getName());
                 if (brokerState.isBrokerInRecovery()) {
                     throw new UnforceableProblem("Pod " + nodeRef.podName() + " is not ready because the broker is performing log recovery. There are  " + brokerState.remainingLogsToRecover() + " logs and " + brokerState.remainingSegmentsToRecover() + " segments left to recover.", e.getCause());
                 }
@@ -417,20 +530,29 @@ public class KafkaRoller {
         try {
             checkReconfigurability(nodeRef, pod, restartContext);
             if (restartContext.forceRestart) {
-                LOGGER.debugCr(reconciliation, "Pod {} can be rolled now", nodeRef);
-                restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+                admitForcedRestart(nodeRef);
+                try {
+                    LOGGER.debugCr(reconciliation, "Pod {} can be rolled now", nodeRef);
+                    restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+                } finally {
+                    restartCompleted(nodeRef);
+                }
             } else if (restartContext.needsRestart || restartContext.needsReconfig) {
                 if (deferController(nodeRef, restartContext)) {
                     LOGGER.debugCr(reconciliation, "Pod {} is controller and there are other pods to verify. Non-controller pods will be verified first.", nodeRef);
                     throw new ForceableProblem("Pod " + nodeRef.podName() + " is controller and there are other pods to verify. Non-controller pods will be verified first");
                 } else {
                     if (canRoll(nodeRef, 60_000, TimeUnit.MILLISECONDS, false, restartContext)) {
-                        // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
-                        if (!maybeDynamicUpdateBrokerConfig(nodeRef, restartContext)) {
-                            LOGGER.debugCr(reconciliation, "Pod {} can be rolled now", nodeRef);
-                            restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
-                        } else {
-                            awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                        try {
+                            // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
+                            if (!maybeDynamicUpdateBrokerConfig(nodeRef, restartContext)) {
+                                LOGGER.debugCr(reconciliation, "Pod {} can be rolled now", nodeRef);
+                                restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+                            } else {
+                                awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                            }
+                        } finally {
+                            restartCompleted(nodeRef);
                         }
                     } else {
                         LOGGER.debugCr(reconciliation, "Pod {} cannot be updated right now", nodeRef);
@@ -455,7 +577,11 @@ public class KafkaRoller {
                     }
                     LOGGER.warnCr(reconciliation, "Pod {} will be force-rolled, due to error: {}", nodeRef, errorMsg);
                     restartContext.restartReasons.add(RestartReason.POD_FORCE_RESTART_ON_ERROR);
-                    restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+                    try {
+                        restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+                    } finally {
+                        restartCompleted(nodeRef);
+                    }
                 } else {
                     LOGGER.warnCr(reconciliation, "Pod {} can't be safely force-rolled; original error: ", nodeRef, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
                     throw e;
@@ -466,6 +592,16 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Initialises the client for KafkaAgent on first use
+     */
+    private synchronized KafkaAgentClient kafkaAgentClient() throws FatalProblem {
+        if (kafkaAgentClient == null) {
+            kafkaAgentClient = initKafkaAgentClient();
+        }
+        return kafkaAgentClient;
+    }
+
     KafkaAgentClient initKafkaAgentClient() throws FatalProblem {
         try {
             return new KafkaAgentClient(reconciliation, cluster, namespace, clusterCaCertSecret, coKeySecret);
@@ -701,6 +837,16 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Pod cannot be rolled until some of the pods being rolled concurrently are rolled. Does not count as an attempt
+     * unless the pod waits for longer than the operation timeout.
+     */
+    static final class ConcurrentRestartProblem extends Exception {
+        ConcurrentRestartProblem(String msg) {
+            super(msg);
+        }
+    }
+
     /** Immediately aborts rolling */
     static final class FatalProblem extends Exception {
         public FatalProblem(String message) {
@@ -712,10 +858,66 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Determines whether the given pod can be rolled now, alongside any pods which are already being rolled. When it
+     * can, the pod is counted as being rolled until {@link #restartCompleted(NodeRef)} is called for it.
+     *
+     * @throws ConcurrentRestartProblem When the pod cannot be rolled together with the pods which are already being
+     *                                  rolled, so it has to be checked again once some of them are rolled.
+     */
     private boolean canRoll(NodeRef nodeRef, long timeout, TimeUnit unit, boolean ignoreSslError, RestartContext restartContext)
+            throws ForceableProblem, ConcurrentRestartProblem, InterruptedException {
+        while (true) {
+            Set<Integer> restarting;
+            synchronized (restartingBrokers) {
+                if (restartingBrokers.size() >= maxConcurrentRestarts) {
+                    throw new ConcurrentRestartProblem("Pod " + nodeRef.podName() + " cannot be rolled while " + restartingBrokers.size() + " other pods are being rolled");
+                }
+                restarting = Set.copyOf(restartingBrokers);
+            }
+
+            boolean canRoll = canRoll(nodeRef, restarting, timeout, unit, ignoreSslError, restartContext);
+
+            synchronized (restartingBrokers) {
+                if (!restarting.containsAll(restartingBrokers)) {
+                    // Other pods started rolling in the meantime, so the check has to be repeated with them
+                    continue;
+                } else if (canRoll) {
+                    restartingBrokers.add(nodeRef.nodeId());
+                    maxRestartingBrokers = Math.max(maxRestartingBrokers, restartingBrokers.size());
+                    return true;
+                } else if (restarting.isEmpty()) {
+                    return false;
+                } else {
+                    throw new ConcurrentRestartProblem("Pod " + nodeRef.podName() + " cannot be rolled together with pods " + restarting);
+                }
+            }
+        }
+    }
+
+    /**
+     * Admits a pod which has to be rolled regardless of the availability (e.g. because it is stuck). Its availability
+     * is not checked, but it is rolled only when no other pods are being rolled, and it is counted as being rolled
+     * until {@link #restartCompleted(NodeRef)} is called for it, so that no other pods are rolled together with it
+     * unless that would not impact availability.
+     *
+     * @throws ConcurrentRestartProblem When other pods are being rolled.
+     */
+    private void admitForcedRestart(NodeRef nodeRef) throws ConcurrentRestartProblem {
+        synchronized (restartingBrokers) {
+            if (!restartingBrokers.isEmpty()) {
+                throw new ConcurrentRestartProblem("Pod " + nodeRef.podName() + " cannot be force-rolled while pods " + restartingBrokers + " are being rolled");
+            }
+            restartingBrokers.add(nodeRef.nodeId());
+            maxRestartingBrokers = Math.max(maxRestartingBrokers, restartingBrokers.size());
+        }
+    }
+
+    private boolean canRoll(NodeRef nodeRef, Set<Integer> restarting, long timeout, TimeUnit unit, boolean ignoreSslError, RestartContext restartContext)
             throws ForceableProblem, InterruptedException {
         try {
-            return await(availability(allClient).canRoll(nodeRef.nodeId()), timeout, unit,
+            KafkaAvailability availability = availability();
+            return await(restarting.isEmpty() ? availability.canRoll(nodeRef.nodeId()) : availability.canRoll(nodeRef.nodeId(), restarting), timeout, unit,
                 t -> new ForceableProblem("An error while trying to determine the possibility of updating Kafka pods", t));
         } catch (ForceableProblem e) {
             // If we're not able to connect then roll
@@ -728,6 +930,16 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Marks the rolling of a pod, for which {@link #canRoll(NodeRef, long, TimeUnit, boolean, RestartContext)} returned
+     * true or which was admitted by {@link #admitForcedRestart(NodeRef)}, as completed.
+     */
+    private void restartCompleted(NodeRef nodeRef) {
+        synchronized (restartingBrokers) {
+            restartingBrokers.remove(nodeRef.nodeId());
+        }
+    }
+
     /**
      * Synchronously restart the given pod
      * by deleting it and letting it be recreated by K8s, then synchronously wait for it to be ready.
@@ -824,6 +1036,17 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Returns the KafkaAvailability used for all pods during this rolling restart, so that its index of the partitions
+     * in the cluster is reused and only updated by each check.
+     */
+    private synchronized KafkaAvailability availability() {
+        if (kafkaAvailability == null) {
+            kafkaAvailability = availability(allClient);
+        }
+        return kafkaAvailability;
+    }
+
     protected KafkaAvailability availability(Admin ac) {
         return new KafkaAvailability(reconciliation, ac);
     }
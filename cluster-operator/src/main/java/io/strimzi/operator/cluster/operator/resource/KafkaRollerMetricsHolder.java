@@ -0,0 +1,57 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the metrics of the rolling restarts done by the {@link KafkaRoller}
+ */
+public class KafkaRollerMetricsHolder extends MetricsHolder {
+    private final Map<String, Timer> rollingRestartsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, DistributionSummary> concurrentRestartsSummaryMap = new ConcurrentHashMap<>(1);
+
+    /**
+     * Constructs the Kafka roller metrics holder
+     *
+     * @param kind              Kind of the resources for which these metrics apply
+     * @param selectorLabels    Selector labels to select the controller resources
+     * @param metricsProvider   Metrics provider
+     */
+    public KafkaRollerMetricsHolder(String kind, Labels selectorLabels, MetricsProvider metricsProvider) {
+        super(kind, selectorLabels, metricsProvider);
+    }
+
+    /**
+     * Timer which measures how long the rolling restarts of Kafka clusters take.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer rollingRestartsTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "kafka.roller.duration", metricsProvider, selectorLabels, rollingRestartsTimerMap,
+                "The time the rolling restart of a Kafka cluster takes to complete");
+    }
+
+    /**
+     * Distribution of the highest number of brokers restarted at the same time during each rolling restart.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics distribution summary
+     */
+    public DistributionSummary concurrentRestartsSummary(String namespace) {
+        return getDistributionSummary(namespace, kind, METRICS_PREFIX + "kafka.roller.concurrent.restarts", metricsProvider, selectorLabels, concurrentRestartsSummaryMap,
+                "The highest number of brokers restarted at the same time during a rolling restart");
+    }
+}
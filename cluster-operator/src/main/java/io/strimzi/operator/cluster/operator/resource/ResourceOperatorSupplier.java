@@ -31,6 +31,7 @@ import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.ResourceCacheMetricsHolder;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.BuildOperator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
@@ -38,6 +39,7 @@ import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.DeploymentOperator;
 import io.strimzi.operator.common.operator.resource.ImageStreamOperator;
+import io.strimzi.operator.common.operator.resource.InformerResourceCache;
 import io.strimzi.operator.common.operator.resource.IngressOperator;
 import io.strimzi.operator.common.operator.resource.NetworkPolicyOperator;
 import io.strimzi.operator.common.operator.resource.NodeOperator;
@@ -54,12 +56,20 @@ import io.strimzi.operator.common.operator.resource.StorageClassOperator;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 import io.vertx.core.Vertx;
 
+import java.util.List;
+import java.util.Set;
+
 /**
  * Class holding the various resource operator and providers of various clients
  */
 // Deprecation is suppressed because of KafkaMirrorMaker
 @SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "deprecation"})
 public class ResourceOperatorSupplier {
+    /**
+     * Name of the field manager used by the Cluster Operator for the server-side apply
+     */
+    public static final String SERVER_SIDE_APPLY_FIELD_MANAGER = "strimzi-cluster-operator";
+
     /**
      * Secret operator
      */
@@ -459,4 +469,36 @@ public class ResourceOperatorSupplier {
         this.sharedEnvironmentProvider = sharedEnvironmentProvider;
         this.brokerScaleDownOperations = brokerScaleDownOperations;
     }
+
+    /**
+     * Enables the informer-backed caches for the resources which are read the most during the reconciliation of the
+     * operands. The caches are used only for the resources owned by Strimzi.
+     *
+     * @param namespaces    Namespaces watched by the Cluster Operator
+     *
+     * @return  List with the started caches which should be stopped when the operator shuts down
+     */
+    public List<InformerResourceCache<?>> enableResourceCaches(Set<String> namespaces) {
+        return List.of(
+                secretOperations.enableCache(namespaces, 0L, new ResourceCacheMetricsHolder("Secret", metricsProvider)),
+                serviceOperations.enableCache(namespaces, 0L, new ResourceCacheMetricsHolder("Service", metricsProvider)),
+                configMapOperations.enableCache(namespaces, 0L, new ResourceCacheMetricsHolder("ConfigMap", metricsProvider)),
+                serviceAccountOperations.enableCache(namespaces, 0L, new ResourceCacheMetricsHolder("ServiceAccount", metricsProvider)),
+                networkPolicyOperator.enableCache(namespaces, 0L, new ResourceCacheMetricsHolder("NetworkPolicy", metricsProvider)),
+                podDisruptionBudgetOperator.enableCache(namespaces, 0L, new ResourceCacheMetricsHolder("PodDisruptionBudget", metricsProvider))
+        );
+    }
+
+    /**
+     * Enables the server-side apply for the resources which do not need any special handling of the fields set by
+     * Kubernetes or other controllers. The server-side apply uses the {@link #SERVER_SIDE_APPLY_FIELD_MANAGER} field
+     * manager.
+     */
+    public void enableServerSideApply() {
+        secretOperations.enableServerSideApply(SERVER_SIDE_APPLY_FIELD_MANAGER);
+        configMapOperations.enableServerSideApply(SERVER_SIDE_APPLY_FIELD_MANAGER);
+        serviceAccountOperations.enableServerSideApply(SERVER_SIDE_APPLY_FIELD_MANAGER);
+        networkPolicyOperator.enableServerSideApply(SERVER_SIDE_APPLY_FIELD_MANAGER);
+        podDisruptionBudgetOperator.enableServerSideApply(SERVER_SIDE_APPLY_FIELD_MANAGER);
+    }
 }
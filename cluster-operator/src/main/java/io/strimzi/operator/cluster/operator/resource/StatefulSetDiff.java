@@ -14,9 +14,7 @@ import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.AbstractJsonDiff;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import io.strimzi.operator.common.model.JsonPointerMatcher;
 
 /**
  * Class for diffing StatefulSets
@@ -26,41 +24,49 @@ public class StatefulSetDiff extends AbstractJsonDiff {
 
     private static final String SHORTENED_STRIMZI_DOMAIN = Annotations.STRIMZI_DOMAIN.substring(0, Annotations.STRIMZI_DOMAIN.length() - 1);
 
-    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
-        "^(/metadata/managedFields"
-        + "|/metadata/creationTimestamp"
-        + "|/metadata/resourceVersion"
-        + "|/metadata/generation"
-        + "|/metadata/uid"
-        + "|/spec/revisionHistoryLimit"
-        + "|/spec/template/metadata/annotations/" + SHORTENED_STRIMZI_DOMAIN + "~1generation"
-        + "|/spec/template/spec/initContainers/[0-9]+/resources"
-        + "|/spec/template/spec/initContainers/[0-9]+/terminationMessagePath"
-        + "|/spec/template/spec/initContainers/[0-9]+/terminationMessagePolicy"
-        + "|/spec/template/spec/initContainers/[0-9]+/env/[0-9]+/valueFrom/fieldRef/apiVersion"
-        + "|/spec/template/spec/containers/[0-9]+/resources"
-        + "|/spec/template/spec/containers/[0-9]+/env/[0-9]+/valueFrom/fieldRef/apiVersion"
-        + "|/spec/template/spec/containers/[0-9]+/livenessProbe/failureThreshold"
-        + "|/spec/template/spec/containers/[0-9]+/livenessProbe/periodSeconds"
-        + "|/spec/template/spec/containers/[0-9]+/livenessProbe/successThreshold"
-        + "|/spec/template/spec/containers/[0-9]+/readinessProbe/failureThreshold"
-        + "|/spec/template/spec/containers/[0-9]+/readinessProbe/periodSeconds"
-        + "|/spec/template/spec/containers/[0-9]+/readinessProbe/successThreshold"
-        + "|/spec/template/spec/containers/[0-9]+/terminationMessagePath"
-        + "|/spec/template/spec/containers/[0-9]+/terminationMessagePolicy"
-        + "|/spec/template/spec/dnsPolicy"
-        + "|/spec/template/spec/restartPolicy"
-        + "|/spec/template/spec/securityContext"
-        + "|/spec/template/spec/volumes/[0-9]+/configMap/defaultMode"
-        + "|/spec/template/spec/volumes/[0-9]+/secret/defaultMode"
-        + "|/spec/volumeClaimTemplates/[0-9]+/status"
-        + "|/spec/volumeClaimTemplates/[0-9]+/spec/volumeMode"
-        + "|/spec/volumeClaimTemplates/[0-9]+/spec/dataSource"
-        + "|/spec/template/spec/serviceAccount"
-        + "|/status)$");
-
-    private static final Pattern RESOURCE_PATH = Pattern.compile("^/spec/template/spec/(?:initContainers|containers)/[0-9]+/resources/(?:limits|requests)/(memory|cpu)$");
-    private static final Pattern VOLUME_SIZE = Pattern.compile("^/spec/volumeClaimTemplates/[0-9]+/spec/resources/.*$");
+    private static final JsonPointerMatcher IGNORABLE_PATHS = JsonPointerMatcher.compile(
+        "/metadata/managedFields",
+        "/metadata/creationTimestamp",
+        "/metadata/resourceVersion",
+        "/metadata/generation",
+        "/metadata/uid",
+        "/spec/revisionHistoryLimit",
+        "/spec/template/metadata/annotations/" + SHORTENED_STRIMZI_DOMAIN + "~1generation",
+        "/spec/template/spec/initContainers/*/resources",
+        "/spec/template/spec/initContainers/*/terminationMessagePath",
+        "/spec/template/spec/initContainers/*/terminationMessagePolicy",
+        "/spec/template/spec/initContainers/*/env/*/valueFrom/fieldRef/apiVersion",
+        "/spec/template/spec/containers/*/resources",
+        "/spec/template/spec/containers/*/env/*/valueFrom/fieldRef/apiVersion",
+        "/spec/template/spec/containers/*/livenessProbe/failureThreshold",
+        "/spec/template/spec/containers/*/livenessProbe/periodSeconds",
+        "/spec/template/spec/containers/*/livenessProbe/successThreshold",
+        "/spec/template/spec/containers/*/readinessProbe/failureThreshold",
+        "/spec/template/spec/containers/*/readinessProbe/periodSeconds",
+        "/spec/template/spec/containers/*/readinessProbe/successThreshold",
+        "/spec/template/spec/containers/*/terminationMessagePath",
+        "/spec/template/spec/containers/*/terminationMessagePolicy",
+        "/spec/template/spec/dnsPolicy",
+        "/spec/template/spec/restartPolicy",
+        "/spec/template/spec/securityContext",
+        "/spec/template/spec/volumes/*/configMap/defaultMode",
+        "/spec/template/spec/volumes/*/secret/defaultMode",
+        "/spec/volumeClaimTemplates/*/status",
+        "/spec/volumeClaimTemplates/*/spec/volumeMode",
+        "/spec/volumeClaimTemplates/*/spec/dataSource",
+        "/spec/template/spec/serviceAccount",
+        "/status");
+
+    private static final JsonPointerMatcher RESOURCE_PATH = JsonPointerMatcher.compile(
+        "/spec/template/spec/initContainers/*/resources/limits/memory",
+        "/spec/template/spec/initContainers/*/resources/limits/cpu",
+        "/spec/template/spec/initContainers/*/resources/requests/memory",
+        "/spec/template/spec/initContainers/*/resources/requests/cpu",
+        "/spec/template/spec/containers/*/resources/limits/memory",
+        "/spec/template/spec/containers/*/resources/limits/cpu",
+        "/spec/template/spec/containers/*/resources/requests/memory",
+        "/spec/template/spec/containers/*/resources/requests/cpu");
+    private static final JsonPointerMatcher VOLUME_SIZE = JsonPointerMatcher.compile("/spec/volumeClaimTemplates/*/spec/resources/**");
 
     private static boolean equalsOrPrefix(String path, String pathValue) {
         return pathValue.equals(path)
@@ -93,15 +99,14 @@ public class StatefulSetDiff extends AbstractJsonDiff {
         boolean changesSpecReplicas = false;
         for (JsonNode d : diff) {
             String pathValue = d.get("path").asText();
-            if (IGNORABLE_PATHS.matcher(pathValue).matches()) {
+            if (IGNORABLE_PATHS.matches(pathValue)) {
                 ObjectMeta md = current.getMetadata();
                 LOGGER.debugCr(reconciliation, "StatefulSet {}/{} ignoring diff {}", md.getNamespace(), md.getName(), d);
                 continue;
             }
-            Matcher resourceMatchers = RESOURCE_PATH.matcher(pathValue);
-            if (resourceMatchers.matches()) {
+            if (RESOURCE_PATH.matches(pathValue)) {
                 if ("replace".equals(d.path("op").asText())) {
-                    boolean same = compareMemoryAndCpuResources(source, target, pathValue, resourceMatchers);
+                    boolean same = compareMemoryAndCpuResources(source, target, pathValue);
                     if (same) {
                         ObjectMeta md = current.getMetadata();
                         LOGGER.debugCr(reconciliation, "StatefulSet {}/{} ignoring diff {}", md.getNamespace(), md.getName(), d);
@@ -120,7 +125,7 @@ public class StatefulSetDiff extends AbstractJsonDiff {
             num++;
             // Any volume claim template changes apart from size change should trigger rolling update
             // Size changes should not trigger rolling update. Therefore we need to separate these two in the diff.
-            changesVolumeClaimTemplate |= equalsOrPrefix("/spec/volumeClaimTemplates", pathValue) && !VOLUME_SIZE.matcher(pathValue).matches();
+            changesVolumeClaimTemplate |= equalsOrPrefix("/spec/volumeClaimTemplates", pathValue) && !VOLUME_SIZE.matches(pathValue);
             changesVolumeSize |= isVolumeSizeChanged(pathValue, source, target);
             // Change changes to /spec/template/spec, except to imagePullPolicy, which gets changed
             // by k8s
@@ -137,7 +142,7 @@ public class StatefulSetDiff extends AbstractJsonDiff {
     }
 
     private boolean isVolumeSizeChanged(String pathValue, JsonNode source, JsonNode target) {
-        if (VOLUME_SIZE.matcher(pathValue).matches()) {
+        if (VOLUME_SIZE.matches(pathValue)) {
             JsonNode current = lookupPath(source, pathValue);
             JsonNode desired = lookupPath(target, pathValue);
             return StorageUtils.convertToMillibytes(current.asText()) != StorageUtils.convertToMillibytes(desired.asText());
@@ -145,13 +150,12 @@ public class StatefulSetDiff extends AbstractJsonDiff {
         return false;
     }
 
-    boolean compareMemoryAndCpuResources(JsonNode source, JsonNode target, String pathValue, Matcher resourceMatchers) {
+    boolean compareMemoryAndCpuResources(JsonNode source, JsonNode target, String pathValue) {
         JsonNode s = lookupPath(source, pathValue);
         JsonNode t = lookupPath(target, pathValue);
-        String group = resourceMatchers.group(1);
         if (!s.isMissingNode()
             && !t.isMissingNode()) {
-            if ("cpu".equals(group)) {
+            if (pathValue.endsWith("/cpu")) {
                 // Ignore single millicpu differences as they could be due to rounding error
                 return Math.abs(Quantities.parseCpuAsMilliCpus(s.asText()) - Quantities.parseCpuAsMilliCpus(t.asText())) < 1;
             } else {
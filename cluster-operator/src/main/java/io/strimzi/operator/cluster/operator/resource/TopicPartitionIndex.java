@@ -0,0 +1,120 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the replicas and in-sync replicas of the partitions of a Kafka cluster, with an inverted index from each
+ * broker to the partitions it has replicas of. The index is updated one topic at a time from topic descriptions, so
+ * the partitions of a broker can be looked up without scanning the partitions of all the topics in the cluster.
+ *
+ * <p>The index is shared by the threads rolling the brokers, so all its methods are synchronized.</p>
+ */
+class TopicPartitionIndex {
+    private final Map<String, List<TopicPartitionInfo>> topics = new HashMap<>();
+    private final Map<TopicPartition, TopicPartitionInfo> partitions = new HashMap<>();
+    private final Map<Integer, Set<TopicPartition>> partitionsByBroker = new HashMap<>();
+    private final Map<Integer, String> racks = new HashMap<>();
+
+    /**
+     * Replaces the partitions of a topic with the ones from its description
+     *
+     * @param td    Description of the topic
+     */
+    synchronized void update(TopicDescription td) {
+        List<TopicPartitionInfo> previous = topics.put(td.name(), td.partitions());
+        if (previous != null) {
+            removeReplicas(td.name(), previous);
+        }
+        for (TopicPartitionInfo pi : td.partitions()) {
+            TopicPartition tp = new TopicPartition(td.name(), pi.partition());
+            partitions.put(tp, pi);
+            for (Node replica : pi.replicas()) {
+                partitionsByBroker.computeIfAbsent(replica.id(), id -> new HashSet<>()).add(tp);
+                if (replica.hasRack()) {
+                    racks.put(replica.id(), replica.rack());
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes a deleted topic from the index
+     *
+     * @param topic     Name of the topic
+     */
+    synchronized void remove(String topic) {
+        List<TopicPartitionInfo> previous = topics.remove(topic);
+        if (previous != null) {
+            removeReplicas(topic, previous);
+        }
+    }
+
+    private void removeReplicas(String topic, List<TopicPartitionInfo> topicPartitions) {
+        for (TopicPartitionInfo pi : topicPartitions) {
+            TopicPartition tp = new TopicPartition(topic, pi.partition());
+            partitions.remove(tp);
+            for (Node replica : pi.replicas()) {
+                Set<TopicPartition> brokerPartitions = partitionsByBroker.get(replica.id());
+                if (brokerPartitions != null) {
+                    brokerPartitions.remove(tp);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return  The names of the topics in the index
+     */
+    synchronized Set<String> topics() {
+        return new HashSet<>(topics.keySet());
+    }
+
+    /**
+     * @param broker    ID of the broker
+     *
+     * @return  The names of the topics with replicas on the broker
+     */
+    synchronized Set<String> topicsOnBroker(int broker) {
+        Set<String> names = new HashSet<>();
+        for (TopicPartition tp : partitionsByBroker.getOrDefault(broker, Set.of())) {
+            names.add(tp.topic());
+        }
+        return names;
+    }
+
+    /**
+     * @param broker    ID of the broker
+     *
+     * @return  The partitions with replicas on the broker, keyed by their topic
+     */
+    synchronized Map<String, List<TopicPartitionInfo>> partitionsOnBroker(int broker) {
+        Map<String, List<TopicPartitionInfo>> brokerPartitions = new HashMap<>();
+        for (TopicPartition tp : partitionsByBroker.getOrDefault(broker, Set.of())) {
+            brokerPartitions.computeIfAbsent(tp.topic(), topic -> new ArrayList<>()).add(partitions.get(tp));
+        }
+        return brokerPartitions;
+    }
+
+    /**
+     * @param broker    ID of the broker
+     *
+     * @return  The rack of the broker or null if it is not known
+     */
+    synchronized String rack(int broker) {
+        return racks.get(broker);
+    }
+}
@@ -4,7 +4,12 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * Cruise Control REST API interface definition
@@ -88,6 +93,18 @@ public interface CruiseControlApi {
      */
     Future<CruiseControlResponse> getUserTaskStatus(String host, int port, String userTaskID);
 
+    /**
+     *  Get the states of multiple tasks (e.g. rebalances) from the Cruise Control server in a single request.
+     *
+     * @param host The address of the Cruise Control server.
+     * @param port The port the Cruise Control Server is listening on.
+     * @param userTaskIds The unique IDs of the tasks which should be retrieved.
+     * @return A future for the map with the states of the tasks known to the Cruise Control server. The map is keyed
+     *         by the user task IDs. Tasks unknown to the Cruise Control server are missing from the map. Tasks for
+     *         which the server returned an error or an unexpected state have a failed result in the map.
+     */
+    Future<Map<String, AsyncResult<JsonObject>>> getUserTasksStatus(String host, int port, Collection<String> userTaskIds);
+
     /**
      *  Issue a stop command to the Cruise Control server. This will halt any task (e.g. a rebalance) which is currently
      *  in execution.
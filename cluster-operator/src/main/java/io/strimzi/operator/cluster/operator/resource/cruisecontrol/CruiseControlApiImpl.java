@@ -28,6 +28,9 @@ import io.vertx.core.net.PemTrustOptions;
 import java.net.ConnectException;
 import java.net.NoRouteToHostException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -40,6 +43,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     public static final int HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS = -1;
     private static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = false;
     private static final String STATUS_KEY = "Status";
+    private static final String USER_TASK_ID_KEY = "UserTaskId";
 
     private final Vertx vertx;
     private final long idleTimeout;
@@ -297,15 +301,102 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     }
 
     @Override
-    @SuppressWarnings("deprecation")
     public Future<CruiseControlResponse> getUserTaskStatus(String host, int port, String userTaskId) {
+        return getUserTasks(host, port, userTaskId)
+                .map(response -> new CruiseControlResponse(response.getUserTaskId(),
+                        userTaskStatusJson(host, port, response.getJson().getJsonArray("userTasks").getJsonObject(0))));
+    }
+
+    @Override
+    public Future<Map<String, AsyncResult<JsonObject>>> getUserTasksStatus(String host, int port, Collection<String> userTaskIds) {
+        return getUserTasks(host, port, String.join(",", userTaskIds))
+                .map(response -> {
+                    Map<String, AsyncResult<JsonObject>> statuses = new HashMap<>(userTaskIds.size());
+
+                    for (Object userTask : response.getJson().getJsonArray("userTasks")) {
+                        JsonObject jsonUserTask = (JsonObject) userTask;
+
+                        // A task with an error or an unexpected state should not fail the other tasks of the batch
+                        try {
+                            statuses.put(jsonUserTask.getString(USER_TASK_ID_KEY), Future.succeededFuture(userTaskStatusJson(host, port, jsonUserTask)));
+                        } catch (RuntimeException e) {
+                            statuses.put(jsonUserTask.getString(USER_TASK_ID_KEY), Future.failedFuture(e));
+                        }
+                    }
+
+                    return statuses;
+                });
+    }
+
+    /**
+     * Extracts the status of the user task from its entry in the user tasks response
+     *
+     * @param host          The address of the Cruise Control server
+     * @param port          The port the Cruise Control Server is listening on
+     * @param jsonUserTask  The user task entry from the user tasks response
+     *
+     * @return  JSON object with the status, and depending on it the summary and the broker load of the user task
+     */
+    private static JsonObject userTaskStatusJson(String host, int port, JsonObject jsonUserTask) {
+        // This should not be an error with a 200 status but we play it safe
+        if (jsonUserTask.containsKey(CC_REST_API_ERROR_KEY)) {
+            throw new CruiseControlRestException("Error for user task " + jsonUserTask.getString(USER_TASK_ID_KEY) + " on " + host + ":" + port +
+                    ". Server returned: " + jsonUserTask.getString(CC_REST_API_ERROR_KEY));
+        }
+
+        JsonObject statusJson = new JsonObject();
+        String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
+        statusJson.put(STATUS_KEY, taskStatusStr);
+        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
+        switch (taskStatus) {
+            case ACTIVE:
+                // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
+                break;
+            case IN_EXECUTION:
+                // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
+                // We handle these in the same way as COMPLETED tasks so we drop down to that case.
+            case COMPLETED:
+                // Completed tasks will have the original rebalance proposal summary in their original response
+                JsonObject originalResponse = (JsonObject) Json.decodeValue(jsonUserTask.getString(
+                        CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
+                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()));
+                // Extract the load before/after information for the brokers
+                statusJson.put(
+                        CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()));
+                statusJson.put(
+                        CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
+                break;
+            case COMPLETED_WITH_ERROR:
+                // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
+                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.getString(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
+                break;
+            default:
+                throw new IllegalStateException("Unexpected user task status: " + taskStatus);
+        }
 
+        return statusJson;
+    }
+
+    /**
+     * Gets the user tasks from the Cruise Control server
+     *
+     * @param host          The address of the Cruise Control server
+     * @param port          The port the Cruise Control Server is listening on
+     * @param userTaskIds   Comma separated list of the IDs of the user tasks which should be returned
+     *
+     * @return  Future with the user tasks response
+     */
+    @SuppressWarnings("deprecation")
+    private Future<CruiseControlResponse> getUserTasks(String host, int port, String userTaskIds) {
         PathBuilder pathBuilder = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
                         .withParameter(CruiseControlParameters.JSON, "true")
                         .withParameter(CruiseControlParameters.FETCH_COMPLETE, "true");
 
-        if (userTaskId != null) {
-            pathBuilder.withParameter(CruiseControlParameters.USER_TASK_IDS, userTaskId);
+        if (userTaskIds != null) {
+            pathBuilder.withParameter(CruiseControlParameters.USER_TASK_IDS, userTaskIds);
         }
 
         String path = pathBuilder.build();
@@ -324,49 +415,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                         if (response.succeeded()) {
                             if (response.result().statusCode() == 200 || response.result().statusCode() == 201) {
                                 String userTaskID = response.result().getHeader(CC_REST_API_USER_ID_HEADER);
-                                response.result().bodyHandler(buffer -> {
-                                    JsonObject json = buffer.toJsonObject();
-                                    JsonObject jsonUserTask = json.getJsonArray("userTasks").getJsonObject(0);
-                                    // This should not be an error with a 200 status but we play it safe
-                                    if (jsonUserTask.containsKey(CC_REST_API_ERROR_KEY)) {
-                                        result.fail(new CruiseControlRestException(
-                                                "Error for request: " + host + ":" + port + path + ". Server returned: " +
-                                                        json.getString(CC_REST_API_ERROR_KEY)));
-                                    }
-                                    JsonObject statusJson = new JsonObject();
-                                    String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
-                                    statusJson.put(STATUS_KEY, taskStatusStr);
-                                    CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
-                                    switch (taskStatus) {
-                                        case ACTIVE:
-                                            // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
-                                            break;
-                                        case IN_EXECUTION:
-                                            // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
-                                            // We handle these in the same way as COMPLETED tasks so we drop down to that case.
-                                        case COMPLETED:
-                                            // Completed tasks will have the original rebalance proposal summary in their original response
-                                            JsonObject originalResponse = (JsonObject) Json.decodeValue(jsonUserTask.getString(
-                                                    CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
-                                            statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()));
-                                            // Extract the load before/after information for the brokers
-                                            statusJson.put(
-                                                    CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()));
-                                            statusJson.put(
-                                                    CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
-                                            break;
-                                        case COMPLETED_WITH_ERROR:
-                                            // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
-                                            statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.getString(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
-                                            break;
-                                        default:
-                                            throw new IllegalStateException("Unexpected user task status: " + taskStatus);
-                                    }
-                                    result.complete(new CruiseControlResponse(userTaskID, statusJson));
-                                });
+                                response.result().bodyHandler(buffer -> result.complete(new CruiseControlResponse(userTaskID, buffer.toJsonObject())));
                             } else if (response.result().statusCode() == 500) {
                                 response.result().bodyHandler(buffer -> {
                                     JsonObject json = buffer.toJsonObject();
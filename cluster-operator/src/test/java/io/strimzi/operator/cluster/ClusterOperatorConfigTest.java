@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManagerConfig;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.UnsupportedVersionException;
@@ -380,4 +381,88 @@ public class ClusterOperatorConfigTest {
         config.getLeaderElectionConfig();
         assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getLeaderElectionConfig(), is(notNullValue()));
     }
+
+    @Test
+    public void testCertManagerType() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManagerType(), is(CertManagerType.OPENSSL));
+
+        envVars.put(ClusterOperatorConfig.CERT_MANAGER_TYPE.key(), "BouncyCastle");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManagerType(), is(CertManagerType.BOUNCYCASTLE));
+
+        envVars.put(ClusterOperatorConfig.CERT_MANAGER_TYPE.key(), "keytool");
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), containsString("Value keytool is not a valid certificate manager type"));
+    }
+
+    @Test
+    public void testCertificateIssuanceThreads() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertificateIssuanceThreads(), is(4));
+
+        envVars.put(ClusterOperatorConfig.CERTIFICATE_ISSUANCE_THREADS.key(), "16");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertificateIssuanceThreads(), is(16));
+
+        envVars.put(ClusterOperatorConfig.CERTIFICATE_ISSUANCE_THREADS.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testMaxConcurrentBrokerRestarts() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getMaxConcurrentBrokerRestarts(), is(1));
+
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_BROKER_RESTARTS.key(), "3");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getMaxConcurrentBrokerRestarts(), is(3));
+
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_BROKER_RESTARTS.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testResourceCacheEnabled() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isResourceCacheEnabled(), is(false));
+
+        envVars.put(ClusterOperatorConfig.RESOURCE_CACHE_ENABLED.key(), "true");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isResourceCacheEnabled(), is(true));
+    }
+
+    @Test
+    public void testServerSideApplyEnabled() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isServerSideApplyEnabled(), is(false));
+
+        envVars.put(ClusterOperatorConfig.SERVER_SIDE_APPLY_ENABLED.key(), "true");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isServerSideApplyEnabled(), is(true));
+    }
+
+    @Test
+    public void testReconciliationStepsParallelism() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getReconciliationStepsParallelism(), is(4));
+
+        envVars.put(ClusterOperatorConfig.RECONCILIATION_STEPS_PARALLELISM.key(), "1");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getReconciliationStepsParallelism(), is(1));
+
+        envVars.put(ClusterOperatorConfig.RECONCILIATION_STEPS_PARALLELISM.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testReconciliationScheduling() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxConcurrentReconciliations(), is(0));
+        assertThat(config.isSpreadPeriodicReconciliations(), is(false));
+
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS.key(), "3");
+        envVars.put(ClusterOperatorConfig.SPREAD_PERIODIC_RECONCILIATIONS.key(), "true");
+        config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxConcurrentReconciliations(), is(3));
+        assertThat(config.isSpreadPeriodicReconciliations(), is(true));
+
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS.key(), "-1");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
 }
@@ -10,6 +10,10 @@ import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.CertManager;
 import io.strimzi.certs.Subject;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.common.WorkerPoolCertificateIssuer;
+import io.strimzi.operator.common.metrics.CertificateIssuerMetricsHolder;
+import io.strimzi.operator.common.model.CertificateIssuer;
 import io.strimzi.operator.common.model.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.test.annotations.ParallelSuite;
@@ -26,6 +30,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -72,6 +77,29 @@ public class ClusterCaRenewalTest {
         assertThat(newCerts.get("pod2").storePassword(), is("new-password2"));
     }
 
+    @ParallelTest
+    public void renewalOfCertificatesWithWorkerPoolIssuer() throws IOException {
+        ClusterCa mockedCa = new MockedClusterCa(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, 2, 1, true, null);
+        CertificateIssuer issuer = new WorkerPoolCertificateIssuer(2, new CertificateIssuerMetricsHolder("Kafka", null, ResourceUtils.metricsProvider()));
+        mockedCa.setCertificateIssuer(issuer);
+
+        try {
+            Map<String, CertAndKey> newCerts = mockedCa.maybeCopyOrGenerateCerts(
+                    Reconciliation.DUMMY_RECONCILIATION,
+                    NODES,
+                    SUBJECT_FN,
+                    null,
+                    true);
+
+            // The certificates are issued concurrently, so we do not know which pod got which of them
+            assertThat(newCerts.keySet(), is(Set.of("pod0", "pod1", "pod2")));
+            assertThat(newCerts.values().stream().map(certAndKey -> new String(certAndKey.cert())).collect(Collectors.toSet()),
+                    is(Set.of("new-cert0", "new-cert1", "new-cert2")));
+        } finally {
+            issuer.stop();
+        }
+    }
+
     @ParallelTest
     public void renewalOfCertificatesWithCaRenewal() throws IOException {
         MockedClusterCa mockedCa = new MockedClusterCa(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, 2, 1, true, null);
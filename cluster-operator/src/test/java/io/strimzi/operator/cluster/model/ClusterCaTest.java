@@ -7,6 +7,8 @@ package io.strimzi.operator.cluster.model;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
+import io.strimzi.certs.CertAndKey;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.common.model.PasswordGenerator;
 import io.strimzi.operator.common.Annotations;
@@ -15,6 +17,9 @@ import io.strimzi.operator.common.model.Ca;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
 
+import java.io.IOException;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.Base64;
@@ -22,6 +27,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static java.util.Collections.emptyMap;
+import static org.hamcrest.CoreMatchers.endsWith;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -69,6 +75,19 @@ public class ClusterCaTest {
         assertThat(clusterCa.caCertSecret().getData().containsKey("ca-2023-03-23T09-00-00Z.crt"), is(false));
     }
 
+    @ParallelTest
+    public void testEllipticCurveKeys() throws IOException, CertificateException {
+        ClusterCa clusterCa = new ClusterCa(Reconciliation.DUMMY_RECONCILIATION, new OpenSslCertManager(), new PasswordGenerator(10, "a", "a"), cluster, null, null);
+        clusterCa.setKeyAlgorithm(KeyAlgorithm.ECDSA_P256);
+        clusterCa.createRenewOrReplace(namespace, cluster, emptyMap(), emptyMap(), emptyMap(), null, true);
+        assertThat(Ca.cert(clusterCa.caCertSecret(), Ca.CA_CRT).getPublicKey().getAlgorithm(), is("EC"));
+
+        CertAndKey certAndKey = clusterCa.generateSignedCert("my-broker");
+        X509Certificate cert = Ca.x509Certificate(certAndKey.cert());
+        assertThat(cert.getPublicKey().getAlgorithm(), is("EC"));
+        assertThat(cert.getSigAlgName(), endsWith("withECDSA"));
+    }
+
     @ParallelTest
     public void testIsExpiringCertificate() {
         // simulate certificate creation at following time, with expire at 365 days later (by default) and renewal days at 30 (by default)
@@ -21,7 +21,6 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
-import io.vertx.core.shareddata.Lock;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -30,10 +29,11 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 
-import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -57,53 +57,48 @@ class AbstractOperatorTest {
 
     @Test
     /*
-     * Verifies that the lock is released by a call to `releaseLockAndTimer`. 
-     * The call is made through a chain of futures ending with `eventually` after a normal/successful execution of the `Callable`
+     * Verifies that the queue slot is released after a normal/successful execution of the `Callable`
      */
-    void testWithLockCallableSuccessfulReleasesLock(VertxTestContext context) {
+    void testRunExclusivelyCallableSuccessfulReleasesSlot(VertxTestContext context) {
         var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
         @SuppressWarnings({ "unchecked", "rawtypes" })
         var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(), null);
         Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
-        String lockName = target.getLockName(reconciliation);
+        String queueKey = target.getQueueKey(reconciliation);
 
         Checkpoint callableSucceeded = context.checkpoint();
-        Checkpoint lockObtained  = context.checkpoint();
+        Checkpoint slotReleased = context.checkpoint();
         @SuppressWarnings("unchecked")
-        Future<String> result = target.withLockTest(reconciliation, () -> Future.succeededFuture("OK"));
+        Future<Void> result = target.runExclusivelyTest(reconciliation, Future::succeededFuture);
         Promise<Void> successHandlerCalled = Promise.promise();
 
         result.onComplete(context.succeeding(v -> context.verify(() -> {
-            assertThat(v, is("OK"));
             successHandlerCalled.complete();
             callableSucceeded.flag();
         })));
 
         successHandlerCalled.future()
-            .compose(v -> vertx.sharedData().getLockWithTimeout(lockName, 10000L))
-            .onComplete(context.succeeding(lock -> context.verify(() -> {
-                assertThat(lock, instanceOf(Lock.class));
-                lock.release();
-                lockObtained.flag();
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(target.queue().isBusy(queueKey), is(false));
+                slotReleased.flag();
             })));
     }
 
     @Test
     /*
-     * Verifies that the lock is released by a call to `releaseLockAndTimer`. 
-     * The call is made through a chain of futures ending with `eventually` after a failed execution via a handled exception in the `Callable`.
+     * Verifies that the queue slot is released after a failed execution via a handled exception in the `Callable`.
      */
-    void testWithLockCallableHandledExceptionReleasesLock(VertxTestContext context) {
+    void testRunExclusivelyCallableHandledExceptionReleasesSlot(VertxTestContext context) {
         var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
         @SuppressWarnings({ "unchecked", "rawtypes" })
         var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(), null);
         Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
-        String lockName = target.getLockName(reconciliation);
+        String queueKey = target.getQueueKey(reconciliation);
 
         Checkpoint callableFailed = context.checkpoint();
-        Checkpoint lockObtained  = context.checkpoint();
+        Checkpoint slotReleased = context.checkpoint();
         @SuppressWarnings("unchecked")
-        Future<String> result = target.withLockTest(reconciliation,
+        Future<Void> result = target.runExclusivelyTest(reconciliation,
                 () -> Future.failedFuture(new UnsupportedOperationException(EXPECTED_MESSAGE)));
 
         Promise<Void> failHandlerCalled = Promise.promise();
@@ -115,30 +110,27 @@ class AbstractOperatorTest {
         })));
 
         failHandlerCalled.future()
-            .compose(nothing -> vertx.sharedData().getLockWithTimeout(lockName, 10000L))
-            .onComplete(context.succeeding(lock -> context.verify(() -> {
-                assertThat(lock, instanceOf(Lock.class));
-                lock.release();
-                lockObtained.flag();
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(target.queue().isBusy(queueKey), is(false));
+                slotReleased.flag();
             })));
     }
 
     @Test
     /*
-     * Verifies that the lock is released by a call to `releaseLockAndTimer`.
-     * The call is made through a chain of futures ending with `eventually` after a failed execution via an unhandled exception in the `Callable`.
+     * Verifies that the queue slot is released after a failed execution via an unhandled exception in the `Callable`.
      */
-    void testWithLockCallableUnhandledExceptionReleasesLock(VertxTestContext context) {
+    void testRunExclusivelyCallableUnhandledExceptionReleasesSlot(VertxTestContext context) {
         var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
         @SuppressWarnings({ "unchecked", "rawtypes" })
         var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(), null);
         Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
-        String lockName = target.getLockName(reconciliation);
+        String queueKey = target.getQueueKey(reconciliation);
 
         Checkpoint callableFailed = context.checkpoint();
-        Checkpoint lockObtained  = context.checkpoint();
+        Checkpoint slotReleased = context.checkpoint();
         @SuppressWarnings("unchecked")
-        Future<String> result = target.withLockTest(reconciliation,
+        Future<Void> result = target.runExclusivelyTest(reconciliation,
                 () -> {
                     throw new UnsupportedOperationException(EXPECTED_MESSAGE);
                 });
@@ -152,39 +144,36 @@ class AbstractOperatorTest {
         })));
 
         failHandlerCalled.future()
-            .compose(nothing -> vertx.sharedData().getLockWithTimeout(lockName, 10000L))
-            .onComplete(context.succeeding(lock -> context.verify(() -> {
-                assertThat(lock, instanceOf(Lock.class));
-                lock.release();
-                lockObtained.flag();
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(target.queue().isBusy(queueKey), is(false));
+                slotReleased.flag();
             })));
     }
 
     @Test
     /*
-     * Verifies that lock is released by call to `releaseLockAndTimer`. 
-     * The call is made through a chain of futures ending with `eventually` after a failed execution via an unhandled exception in the `Callable`, 
+     * Verifies that the queue slot is released after a failed execution via an unhandled exception in the `Callable`,
      * followed by an unhandled exception occurring in the `onFailure` handler.
      */
-    void testWithLockFailHandlerUnhandledExceptionReleasesLock(VertxTestContext context) {
+    void testRunExclusivelyFailHandlerUnhandledExceptionReleasesSlot(VertxTestContext context) {
         var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
         @SuppressWarnings({ "unchecked", "rawtypes" })
         var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(), null);
         Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
-        String lockName = target.getLockName(reconciliation);
+        String queueKey = target.getQueueKey(reconciliation);
 
         Promise<Void> handlersRegistered = Promise.promise();
         Promise<Void> failHandlerCalled = Promise.promise();
 
         @SuppressWarnings("unchecked")
-        Future<String> result = target.withLockTest(reconciliation,
+        Future<Void> result = target.runExclusivelyTest(reconciliation,
                 // TEST SETUP: Do not throw the exception until all handlers registered
                 () -> handlersRegistered.future().compose(nothing -> {
                     throw new UnsupportedOperationException(EXPECTED_MESSAGE);
                 }));
 
         Checkpoint callableFailed = context.checkpoint();
-        Checkpoint lockObtained  = context.checkpoint();
+        Checkpoint slotReleased = context.checkpoint();
 
         result.onComplete(ar -> {
             assertThat(ar.failed(), is(true));
@@ -196,23 +185,64 @@ class AbstractOperatorTest {
             try {
                 throw new RuntimeException(e);
             } finally {
-                // Enables the subsequent lock retrieval to verify it has been unlocked.
+                // Enables the subsequent check that the slot has been released.
                 failHandlerCalled.complete();
             }
         });
 
         failHandlerCalled.future()
-            .compose(nothing ->
-                vertx.sharedData().getLockWithTimeout(lockName, 10000L))
-            .onComplete(context.succeeding(lock -> context.verify(() -> {
-                assertThat(lock, instanceOf(Lock.class));
-                lock.release();
-                lockObtained.flag();
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(target.queue().isBusy(queueKey), is(false));
+                slotReleased.flag();
             })));
 
         handlersRegistered.complete();
     }
 
+    @Test
+    /*
+     * Verifies that the work submitted while the slot is busy is collapsed into a single follow-up run which uses the
+     * latest callable.
+     */
+    void testRunExclusivelyCollapsesWaitingWork(VertxTestContext context) {
+        var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(), null);
+        Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
+        String queueKey = target.getQueueKey(reconciliation);
+
+        List<String> runs = new ArrayList<>();
+        Promise<Void> first = Promise.promise();
+
+        Future<Void> result1 = target.runExclusivelyTest(reconciliation, () -> {
+            runs.add("first");
+            return first.future();
+        });
+        Future<Void> result2 = target.runExclusivelyTest(reconciliation, () -> {
+            runs.add("second");
+            return Future.succeededFuture();
+        });
+        Future<Void> result3 = target.runExclusivelyTest(reconciliation, () -> {
+            runs.add("third");
+            return Future.succeededFuture();
+        });
+
+        Checkpoint async = context.checkpoint();
+        context.verify(() -> {
+            assertThat(runs, is(List.of("first")));
+            assertThat(result2 == result3, is(true));
+        });
+
+        first.complete();
+
+        Future.all(result1, result3)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(runs, is(List.of("first", "third")));
+                assertThat(target.queue().isBusy(queueKey), is(false));
+                async.flag();
+            })));
+    }
+
     private static class DefaultOperator<
             T extends CustomResource<P, S>,
             P extends Spec,
@@ -239,12 +269,12 @@ class AbstractOperatorTest {
             return null;
         }
 
-        public String getLockName(Reconciliation reconciliation) {
-            return getLockName(reconciliation.namespace(), reconciliation.name());
+        public String getQueueKey(Reconciliation reconciliation) {
+            return getQueueKey(reconciliation.namespace(), reconciliation.name());
         }
 
-        public <C> Future<C> withLockTest(Reconciliation reconciliation, Callable<Future<C>> callable) {
-            return withLock(reconciliation, LOCK_TIMEOUT_MS, callable);
+        public Future<Void> runExclusivelyTest(Reconciliation reconciliation, Callable<Future<Void>> callable) {
+            return runExclusively(reconciliation, "test", callable);
         }
     }
 
@@ -0,0 +1,163 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class CruiseControlUserTaskTrackerTest {
+    private static final String HOST = "my-cluster-cruise-control.my-namespace.svc";
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "KafkaRebalance", "my-namespace", "my-rebalance");
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static AsyncResult<JsonObject> state(String status) {
+        return Future.succeededFuture(new JsonObject().put("Status", status));
+    }
+
+    @Test
+    public void testTasksOfTheSameClusterArePolledTogether(VertxTestContext context) {
+        List<Collection<String>> requests = new CopyOnWriteArrayList<>();
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTasksStatus(anyString(), anyInt(), anyCollection())).thenAnswer(invocation -> {
+            requests.add(List.copyOf(invocation.getArgument(2)));
+            return Future.succeededFuture(Map.of("task-1", state("InExecution"), "task-2", state("Completed")));
+        });
+
+        CruiseControlUserTaskTracker tracker = new CruiseControlUserTaskTracker(vertx, 10, 100);
+        Checkpoint async = context.checkpoint(2);
+
+        tracker.track(RECONCILIATION, HOST, apiClient, "task-1", (subscription, state) -> context.verify(() -> {
+            assertThat(state.result().getString("Status"), is("InExecution"));
+            subscription.cancel();
+            async.flag();
+        }));
+        tracker.track(RECONCILIATION, HOST, apiClient, "task-2", (subscription, state) -> context.verify(() -> {
+            assertThat(state.result().getString("Status"), is("Completed"));
+            assertThat(requests.size(), is(1));
+            assertThat(requests.get(0), containsInAnyOrder("task-1", "task-2"));
+            subscription.cancel();
+            async.flag();
+        }));
+    }
+
+    @Test
+    public void testPollingBacksOffWhileTheStateDoesNotChange(VertxTestContext context) {
+        AtomicInteger requests = new AtomicInteger(0);
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        // The task is active for the first 3 requests and then in execution
+        when(apiClient.getUserTasksStatus(anyString(), anyInt(), anyCollection()))
+                .thenAnswer(invocation -> Future.succeededFuture(Map.of("task", state(requests.incrementAndGet() <= 3 ? "Active" : "InExecution"))));
+
+        CruiseControlUserTaskTracker tracker = new CruiseControlUserTaskTracker(vertx, 10, 40);
+        List<Long> intervals = new CopyOnWriteArrayList<>();
+        Checkpoint async = context.checkpoint();
+
+        tracker.track(RECONCILIATION, HOST, apiClient, "task", (subscription, state) -> {
+            if (requests.get() > 1) {
+                // The interval used for the current request
+                intervals.add(tracker.pollingIntervalMs(HOST));
+            }
+
+            if ("InExecution".equals(state.result().getString("Status"))) {
+                subscription.cancel();
+
+                context.verify(() -> {
+                    assertThat(intervals, is(List.of(10L, 20L, 40L)));
+                    async.flag();
+                });
+            }
+        });
+    }
+
+    @Test
+    public void testFailuresAndUnknownTasks(VertxTestContext context) {
+        AtomicInteger requests = new AtomicInteger(0);
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTasksStatus(anyString(), anyInt(), anyCollection()))
+                .thenAnswer(invocation -> requests.incrementAndGet() == 1 ? Future.failedFuture("Connection refused") : Future.succeededFuture(Map.of()));
+
+        CruiseControlUserTaskTracker tracker = new CruiseControlUserTaskTracker(vertx, 10, 100);
+        Checkpoint async = context.checkpoint();
+
+        tracker.track(RECONCILIATION, HOST, apiClient, "task", (subscription, state) -> context.verify(() -> {
+            assertThat(state.failed(), is(true));
+
+            if (requests.get() == 1) {
+                assertThat(state.cause().getMessage(), is("Connection refused"));
+            } else {
+                assertThat(state.cause().getMessage(), is("User task task was not found"));
+                subscription.cancel();
+                async.flag();
+            }
+        }));
+    }
+
+    @Test
+    public void testFailureOfSingleTask(VertxTestContext context) {
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTasksStatus(anyString(), anyInt(), anyCollection()))
+                .thenAnswer(invocation -> Future.succeededFuture(Map.of("task-1", Future.failedFuture("Unexpected user task status"), "task-2", state("Completed"))));
+
+        CruiseControlUserTaskTracker tracker = new CruiseControlUserTaskTracker(vertx, 10, 100);
+        Checkpoint async = context.checkpoint(2);
+
+        tracker.track(RECONCILIATION, HOST, apiClient, "task-1", (subscription, state) -> context.verify(() -> {
+            assertThat(state.failed(), is(true));
+            assertThat(state.cause().getMessage(), is("Unexpected user task status"));
+            subscription.cancel();
+            async.flag();
+        }));
+        tracker.track(RECONCILIATION, HOST, apiClient, "task-2", (subscription, state) -> context.verify(() -> {
+            assertThat(state.result().getString("Status"), is("Completed"));
+            subscription.cancel();
+            async.flag();
+        }));
+    }
+
+    @Test
+    public void testInvalidIntervals() {
+        assertThrows(IllegalArgumentException.class, () -> new CruiseControlUserTaskTracker(vertx, 0, 100));
+        assertThrows(IllegalArgumentException.class, () -> new CruiseControlUserTaskTracker(vertx, 100, 10));
+    }
+}
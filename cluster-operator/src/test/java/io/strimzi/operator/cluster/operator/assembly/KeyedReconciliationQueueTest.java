@@ -0,0 +1,98 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KeyedReconciliationQueueTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "KafkaConnect", "my-namespace", "my-connect");
+
+    @Test
+    public void testDifferentResourcesRunInParallel() {
+        KeyedReconciliationQueue queue = new KeyedReconciliationQueue();
+        List<String> runs = new ArrayList<>();
+
+        queue.submit(RECONCILIATION, "a", "reconcile", pending(runs, "a", Promise.promise()));
+        queue.submit(RECONCILIATION, "b", "reconcile", pending(runs, "b", Promise.promise()));
+
+        assertThat(runs, is(List.of("a", "b")));
+        assertThat(queue.isBusy("a"), is(true));
+        assertThat(queue.isBusy("b"), is(true));
+    }
+
+    @Test
+    public void testDifferentWorkWaitsInOrder() {
+        KeyedReconciliationQueue queue = new KeyedReconciliationQueue();
+        List<String> runs = new ArrayList<>();
+        Promise<Void> running = Promise.promise();
+        Promise<Void> connector1 = Promise.promise();
+
+        Future<Void> result1 = queue.submit(RECONCILIATION, "key", "reconcile", pending(runs, "reconcile", running));
+        Future<Void> result2 = queue.submit(RECONCILIATION, "key", "connector::c1", pending(runs, "c1", Promise.promise()));
+        Future<Void> result3 = queue.submit(RECONCILIATION, "key", "connector::c2", pending(runs, "c2", Promise.promise()));
+        Future<Void> result4 = queue.submit(RECONCILIATION, "key", "connector::c1", pending(runs, "c1-latest", connector1));
+
+        // The second event for the connector c1 is collapsed with the first one
+        assertThat(result2 == result4, is(true));
+        assertThat(runs, is(List.of("reconcile")));
+
+        running.fail("Failed");
+        assertThat(result1.failed(), is(true));
+        assertThat(runs, is(List.of("reconcile", "c1-latest")));
+
+        connector1.complete();
+        assertThat(result4.succeeded(), is(true));
+        assertThat(runs, is(List.of("reconcile", "c1-latest", "c2")));
+        assertThat(result3.isComplete(), is(false));
+        assertThat(queue.isBusy("key"), is(true));
+    }
+
+    @Test
+    public void testCollapsedEventIsNotReplacedByPeriodicSubmission() {
+        KeyedReconciliationQueue queue = new KeyedReconciliationQueue();
+        List<String> runs = new ArrayList<>();
+        Promise<Void> running = Promise.promise();
+        Reconciliation periodic = new Reconciliation(AbstractOperator.PERIODIC_TRIGGER, "KafkaConnect", "my-namespace", "my-connect");
+
+        queue.submit(RECONCILIATION, "key", "reconcile", pending(runs, "running", running));
+        queue.submit(periodic, "key", "reconcile", pending(runs, "periodic", Promise.promise()));
+        queue.submit(RECONCILIATION, "key", "reconcile", pending(runs, "event", Promise.promise()));
+        queue.submit(periodic, "key", "reconcile", pending(runs, "periodic-latest", Promise.promise()));
+
+        // The follow-up run uses the event-triggered submission
+        running.complete();
+        assertThat(runs, is(List.of("running", "event")));
+    }
+
+    @Test
+    public void testThrowingWorkReleasesTheSlot() {
+        KeyedReconciliationQueue queue = new KeyedReconciliationQueue();
+
+        Future<Void> result = queue.submit(RECONCILIATION, "key", "reconcile", () -> {
+            throw new RuntimeException("Failed");
+        });
+
+        assertThat(result.failed(), is(true));
+        assertThat(queue.isBusy("key"), is(false));
+        assertThat(queue.submit(RECONCILIATION, "key", "reconcile", Future::succeededFuture).succeeded(), is(true));
+    }
+
+    private static Callable<Future<Void>> pending(List<String> runs, String name, Promise<Void> promise) {
+        return () -> {
+            runs.add(name);
+            return promise.future();
+        };
+    }
+}
@@ -39,6 +39,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
@@ -244,15 +245,18 @@ public class OperatorMetricsTest {
     }
 
     @Test
-    public void testFailingWithLockReconcile(VertxTestContext context)  {
+    public void testCollapsedReconcilesAreCountedOnce(VertxTestContext context)  {
         MetricsProvider metricsProvider = createCleanMetricsProvider();
 
         AbstractWatchableStatusedNamespacedResourceOperator resourceOperator = resourceOperatorWithExistingResourceWithoutSelectorLabel();
 
+        Promise<Void> firstReconciliation = Promise.promise();
+        AtomicInteger createOrUpdateCalls = new AtomicInteger(0);
+
         AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metricsProvider, null) {
             @Override
             protected Future createOrUpdate(Reconciliation reconciliation, CustomResource resource) {
-                return Future.failedFuture(new UnableToAcquireLockException());
+                return createOrUpdateCalls.getAndIncrement() == 0 ? firstReconciliation.future() : Future.succeededFuture();
             }
 
             @Override
@@ -266,16 +270,20 @@ public class OperatorMetricsTest {
             }
         };
 
+        // The second and the third reconciliation arrive while the first one is running and are collapsed into a single run
+        Future<Void> first = operator.reconcile(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"));
+        operator.reconcile(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"));
+        Future<Void> third = operator.reconcile(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"));
+        firstReconciliation.complete();
+
         Checkpoint async = context.checkpoint();
-        operator.reconcile(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"))
-                .onComplete(context.failing(v -> context.verify(() -> {
+        Future.all(first, third)
+                .onComplete(context.succeeding(v -> context.verify(() -> {
                     MeterRegistry registry = metricsProvider.meterRegistry();
-                    Tag selectorTag = Tag.of("selector", "");
 
-                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations").meter().getId().getTags().get(2), is(selectorTag));
-                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations").tag("kind", "TestResource").counter().count(), is(1.0));
-                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.locked").meter().getId().getTags().get(2), is(selectorTag));
-                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.locked").tag("kind", "TestResource").counter().count(), is(1.0));
+                    assertThat(createOrUpdateCalls.get(), is(2));
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations").tag("kind", "TestResource").counter().count(), is(2.0));
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.successful").tag("kind", "TestResource").counter().count(), is(2.0));
                     async.flag();
                 })));
     }
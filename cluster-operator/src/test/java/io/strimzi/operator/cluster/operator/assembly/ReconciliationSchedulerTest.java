@@ -0,0 +1,241 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationSchedulerTest {
+    private static Vertx vertx;
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private ReconciliationScheduler scheduler(int maxConcurrentReconciliations, long periodicSpreadMs) {
+        registry = new SimpleMeterRegistry();
+        return new ReconciliationScheduler(vertx, maxConcurrentReconciliations, periodicSpreadMs,
+                new ReconciliationSchedulerMetricsHolder("Kafka", null, new MicrometerMetricsProvider(registry)));
+    }
+
+    private static Reconciliation event(String name) {
+        return new Reconciliation("watch", "Kafka", "my-namespace", name);
+    }
+
+    private static Reconciliation periodic(String name) {
+        return new Reconciliation(AbstractOperator.PERIODIC_TRIGGER, "Kafka", "my-namespace", name);
+    }
+
+    private static Supplier<Future<Void>> pending(List<String> started, String name, Promise<Void> promise) {
+        return () -> {
+            started.add(name);
+            return promise.future();
+        };
+    }
+
+    @Test
+    public void testConcurrencyLimitAndEventPriority() {
+        ReconciliationScheduler scheduler = scheduler(1, 0);
+        List<String> started = new ArrayList<>();
+        Promise<Void> first = Promise.promise();
+        Promise<Void> periodic = Promise.promise();
+        Promise<Void> event = Promise.promise();
+
+        Future<Void> firstResult = scheduler.execute(event("first"), pending(started, "first", first));
+        Future<Void> periodicResult = scheduler.execute(periodic("periodic"), pending(started, "periodic", periodic));
+        Future<Void> eventResult = scheduler.execute(event("event"), pending(started, "event", event));
+
+        // Only one reconciliation runs at a time
+        assertThat(started, is(List.of("first")));
+        assertThat(scheduler.queued(), is(2));
+
+        // The event-triggered reconciliation goes ahead of the periodic one
+        first.complete();
+        assertThat(firstResult.succeeded(), is(true));
+        assertThat(started, is(List.of("first", "event")));
+
+        event.fail("Failed");
+        assertThat(eventResult.failed(), is(true));
+        assertThat(started, is(List.of("first", "event", "periodic")));
+
+        periodic.complete();
+        assertThat(periodicResult.succeeded(), is(true));
+        assertThat(scheduler.queued(), is(0));
+    }
+
+    @Test
+    public void testSlotsReservedForEvents() {
+        ReconciliationScheduler scheduler = scheduler(5, 0);
+        List<String> started = new ArrayList<>();
+        List<Promise<Void>> periodics = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            Promise<Void> periodic = Promise.promise();
+            periodics.add(periodic);
+            scheduler.execute(periodic("periodic-" + i), pending(started, "periodic-" + i, periodic));
+        }
+
+        // One of the five slots is reserved for events
+        assertThat(started, is(List.of("periodic-0", "periodic-1", "periodic-2", "periodic-3")));
+        assertThat(scheduler.queued(), is(1));
+
+        // The event does not wait for the periodic reconciliations
+        Promise<Void> event = Promise.promise();
+        scheduler.execute(event("event"), pending(started, "event", event));
+        assertThat(started, is(List.of("periodic-0", "periodic-1", "periodic-2", "periodic-3", "event")));
+
+        // The queued periodic reconciliation starts once a periodic one completes and the event still runs
+        periodics.get(0).complete();
+        assertThat(started, is(List.of("periodic-0", "periodic-1", "periodic-2", "periodic-3", "event")));
+        periodics.get(1).complete();
+        assertThat(started, is(List.of("periodic-0", "periodic-1", "periodic-2", "periodic-3", "event", "periodic-4")));
+        assertThat(scheduler.queued(), is(0));
+    }
+
+    @Test
+    public void testReconciliationsOfTheSameResourceAreCollapsed() {
+        ReconciliationScheduler scheduler = scheduler(3, 0);
+        List<String> started = new ArrayList<>();
+        Promise<Void> first = Promise.promise();
+        Promise<Void> followUp = Promise.promise();
+
+        Future<Void> firstResult = scheduler.execute(event("my-cluster"), pending(started, "first", first));
+        Future<Void> periodicResult = scheduler.execute(periodic("my-cluster"), pending(started, "periodic", Promise.promise()));
+        Future<Void> eventResult = scheduler.execute(event("my-cluster"), pending(started, "event", followUp));
+
+        // The resource is reconciled only once at a time and the waiting reconciliations take no slot
+        assertThat(started, is(List.of("first")));
+        assertThat(scheduler.queued(), is(1));
+
+        Promise<Void> other = Promise.promise();
+        scheduler.execute(event("other-cluster"), pending(started, "other", other));
+        assertThat(started, is(List.of("first", "other")));
+
+        // The waiting reconciliations run once, using the latest one
+        first.complete();
+        assertThat(firstResult.succeeded(), is(true));
+        assertThat(started, is(List.of("first", "other", "event")));
+
+        followUp.complete();
+        assertThat(periodicResult.succeeded(), is(true));
+        assertThat(eventResult.succeeded(), is(true));
+        assertThat(scheduler.queued(), is(0));
+    }
+
+    @Test
+    public void testPeriodicReconciliationCollapsedWithEventKeepsEventPriority() {
+        ReconciliationScheduler scheduler = scheduler(2, 0);
+        List<String> started = new ArrayList<>();
+        Promise<Void> periodic = Promise.promise();
+
+        // The only slot available for periodic reconciliations is taken
+        scheduler.execute(periodic("busy"), pending(started, "busy", periodic));
+        scheduler.execute(periodic("my-cluster"), pending(started, "periodic", Promise.promise()));
+        assertThat(started, is(List.of("busy")));
+
+        // The event collapsed with the waiting periodic reconciliation uses the slot reserved for events
+        scheduler.execute(event("my-cluster"), pending(started, "event", Promise.promise()));
+        assertThat(started, is(List.of("busy", "event")));
+        assertThat(scheduler.queued(), is(0));
+    }
+
+    @Test
+    public void testReservedSlots() {
+        assertThat(ReconciliationScheduler.reservedForEvents(1), is(0));
+        assertThat(ReconciliationScheduler.reservedForEvents(2), is(1));
+        assertThat(ReconciliationScheduler.reservedForEvents(10), is(2));
+    }
+
+    @Test
+    public void testThrowingReconciliationReleasesTheSlot() {
+        ReconciliationScheduler scheduler = scheduler(1, 0);
+
+        Future<Void> result = scheduler.execute(event("first"), () -> {
+            throw new RuntimeException("Failed");
+        });
+        assertThat(result.failed(), is(true));
+
+        assertThat(scheduler.execute(event("second"), Future::succeededFuture).succeeded(), is(true));
+    }
+
+    @Test
+    public void testPeriodicOffset() {
+        assertThat(ReconciliationScheduler.periodicOffsetMs("my-namespace/my-cluster", 0L), is(0L));
+
+        for (int i = 0; i < 100; i++) {
+            long offset = ReconciliationScheduler.periodicOffsetMs("my-namespace/my-cluster-" + i, 120_000L);
+            assertThat(offset, is(greaterThanOrEqualTo(0L)));
+            assertThat(offset, is(lessThan(120_000L)));
+            assertThat(ReconciliationScheduler.periodicOffsetMs("my-namespace/my-cluster-" + i, 120_000L), is(offset));
+        }
+    }
+
+    @Test
+    public void testPeriodicReconciliationIsDelayed(VertxTestContext context) {
+        long spreadMs = 1_000L;
+        String name = "my-cluster";
+        long offset = ReconciliationScheduler.periodicOffsetMs("my-namespace/" + name, spreadMs);
+
+        ReconciliationScheduler scheduler = scheduler(1, spreadMs);
+        long start = System.currentTimeMillis();
+
+        Checkpoint async = context.checkpoint();
+        scheduler.awaitPeriodicOffset(periodic(name))
+                .compose(i -> scheduler.execute(periodic(name), () -> {
+                    context.verify(() -> assertThat(System.currentTimeMillis() - start, is(greaterThanOrEqualTo(offset))));
+                    return Future.succeededFuture();
+                }))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    Timer timer = registry.find("strimzi.reconciliation.queue.duration").tag("trigger", "periodic").timer();
+                    assertThat(timer, is(notNullValue()));
+                    assertThat(timer.count(), is(1L));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testEventReconciliationIsNotDelayed() {
+        ReconciliationScheduler scheduler = scheduler(1, 1_000_000L);
+
+        assertThat(scheduler.awaitPeriodicOffset(event("my-cluster")).succeeded(), is(true));
+    }
+
+    @Test
+    public void testInvalidConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> scheduler(0, 0));
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReconciliationStepGraphTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+    @Test
+    public void testSerialExecution() {
+        List<String> executed = new ArrayList<>();
+
+        Future<Void> result = new ReconciliationStepGraph(RECONCILIATION, 1, null)
+                .step("a", recording(executed, "a"))
+                .step("b", recording(executed, "b"))
+                .step("c", recording(executed, "c"), "a")
+                .step("d", recording(executed, "d"), "b", "c")
+                .execute();
+
+        assertThat(result.succeeded(), is(true));
+        assertThat(executed, is(List.of("a", "b", "c", "d")));
+    }
+
+    @Test
+    public void testDependenciesAndParallelism() {
+        List<String> executed = new ArrayList<>();
+        Promise<Void> a = Promise.promise();
+        Promise<Void> b = Promise.promise();
+        Promise<Void> c = Promise.promise();
+
+        Future<Void> result = new ReconciliationStepGraph(RECONCILIATION, 2, null)
+                .step("a", pending(executed, "a", a))
+                .step("b", pending(executed, "b", b))
+                .step("c", pending(executed, "c", c))
+                .step("d", recording(executed, "d"), "a", "b")
+                .execute();
+
+        // Only two steps can run at the same time
+        assertThat(executed, is(List.of("a", "b")));
+
+        // C is started when the first step completes, D has to wait for both A and B
+        a.complete();
+        assertThat(executed, is(List.of("a", "b", "c")));
+
+        c.complete();
+        assertThat(executed, is(List.of("a", "b", "c")));
+        assertThat(result.isComplete(), is(false));
+
+        b.complete();
+        assertThat(executed, is(List.of("a", "b", "c", "d")));
+        assertThat(result.succeeded(), is(true));
+    }
+
+    @Test
+    public void testFailureWaitsForRunningSteps() {
+        List<String> executed = new ArrayList<>();
+        Promise<Void> a = Promise.promise();
+        Promise<Void> b = Promise.promise();
+
+        Future<Void> result = new ReconciliationStepGraph(RECONCILIATION, 2, null)
+                .step("a", pending(executed, "a", a))
+                .step("b", pending(executed, "b", b))
+                .step("c", recording(executed, "c"))
+                .step("d", recording(executed, "d"), "b")
+                .execute();
+
+        a.fail(new RuntimeException("Step A failed"));
+
+        // No more steps are started, but the graph waits for B to complete
+        assertThat(executed, is(List.of("a", "b")));
+        assertThat(result.isComplete(), is(false));
+
+        b.complete();
+        assertThat(executed, is(List.of("a", "b")));
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("Step A failed"));
+    }
+
+    @Test
+    public void testStepThrowing() {
+        Future<Void> result = new ReconciliationStepGraph(RECONCILIATION, 1, null)
+                .step("a", () -> {
+                    throw new RuntimeException("Step A threw");
+                })
+                .step("b", Future::succeededFuture, "a")
+                .execute();
+
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("Step A threw"));
+    }
+
+    @Test
+    public void testInvalidGraph() {
+        assertThrows(IllegalArgumentException.class, () -> new ReconciliationStepGraph(RECONCILIATION, 0, null));
+
+        ReconciliationStepGraph graph = new ReconciliationStepGraph(RECONCILIATION, 1, null)
+                .step("a", Future::succeededFuture);
+
+        assertThrows(IllegalArgumentException.class, () -> graph.step("a", Future::succeededFuture));
+        assertThrows(IllegalArgumentException.class, () -> graph.step("b", Future::succeededFuture, "c"));
+    }
+
+    @Test
+    public void testStepMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReconciliationStepsMetricsHolder metrics = new ReconciliationStepsMetricsHolder("Kafka", null, new MicrometerMetricsProvider(registry));
+
+        Future<Void> result = new ReconciliationStepGraph(RECONCILIATION, 1, metrics)
+                .step("a", Future::succeededFuture)
+                .step("b", () -> Future.failedFuture("Step B failed"), "a")
+                .execute();
+
+        assertThat(result.failed(), is(true));
+
+        Timer timerA = registry.find("strimzi.reconciliation.step.duration").tag("step", "a").timer();
+        assertThat(timerA, is(notNullValue()));
+        assertThat(timerA.count(), is(1L));
+
+        Timer timerB = registry.find("strimzi.reconciliation.step.duration").tag("step", "b").timer();
+        assertThat(timerB, is(notNullValue()));
+        assertThat(timerB.count(), is(1L));
+    }
+
+    private static Supplier<Future<?>> recording(List<String> executed, String name) {
+        return () -> {
+            executed.add(name);
+            return Future.succeededFuture();
+        };
+    }
+
+    private static Supplier<Future<?>> pending(List<String> executed, String name, Promise<Void> promise) {
+        return () -> {
+            executed.add(name);
+            return promise.future();
+        };
+    }
+}
@@ -14,10 +14,13 @@ import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListPartitionReassignmentsResult;
 import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.PartitionReassignment;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
@@ -34,11 +37,14 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -128,9 +134,19 @@ public class KafkaAvailabilityTest {
         }
 
         private final Map<String, TSB> topics = new HashMap<>();
+        private final Set<TopicPartition> reassigning = new HashSet<>();
+        private final List<Collection<String>> described = new ArrayList<>();
         private final Map<Integer, BSB> brokers = new HashMap<>();
         private final Map<Integer, Node> nodes = new HashMap<>();
 
+        KSB addBrokerInRack(String rack, int... ids) {
+            addBroker(ids);
+            for (int id : ids) {
+                nodes.put(id, new Node(id, "localhost", 1234 + id, rack));
+            }
+            return this;
+        }
+
         TSB addNewTopic(String name, boolean internal) {
             return topics.computeIfAbsent(name, n -> new TSB(n, internal));
         }
@@ -158,6 +174,11 @@ public class KafkaAvailabilityTest {
             return ltr;
         }
 
+        KSB reassigning(String topic, int partition) {
+            reassigning.add(new TopicPartition(topic, partition));
+            return this;
+        }
+
         KSB listTopicsResult(Throwable t) {
             listTopicsResult = t;
             return this;
@@ -183,6 +204,7 @@ public class KafkaAvailabilityTest {
             when(mockAc.describeTopics(any(Collection.class))).thenAnswer(invocation -> {
                 DescribeTopicsResult dtr = mock(DescribeTopicsResult.class);
                 Collection<String> topicNames = invocation.getArgument(0);
+                described.add(List.copyOf(topicNames));
                 Throwable throwable = null;
                 for (String topicName : topicNames) {
                     throwable = describeTopicsResult.get(topicName);
@@ -193,7 +215,7 @@ public class KafkaAvailabilityTest {
                 if (throwable != null) {
                     when(dtr.allTopicNames()).thenReturn(failedFuture(throwable));
                 } else {
-                    Map<String, TopicDescription> tds = topics.entrySet().stream().collect(Collectors.toMap(
+                    Map<String, TopicDescription> tds = topics.entrySet().stream().filter(e -> topicNames.contains(e.getKey())).collect(Collectors.toMap(
                             Map.Entry::getKey,
                         e -> {
                             TSB tsb = e.getValue();
@@ -259,6 +281,16 @@ public class KafkaAvailabilityTest {
 
             mockDescribeConfigs(ac);
 
+            when(ac.listPartitionReassignments()).thenAnswer(invocation -> {
+                ListPartitionReassignmentsResult lprr = mock(ListPartitionReassignmentsResult.class);
+                Map<TopicPartition, PartitionReassignment> reassignments = new HashMap<>();
+                for (TopicPartition tp : reassigning) {
+                    reassignments.put(tp, new PartitionReassignment(List.of(), List.of(), List.of()));
+                }
+                when(lprr.reassignments()).thenReturn(KafkaFuture.completedFuture(reassignments));
+                return lprr;
+            });
+
             return ac;
         }
     }
@@ -632,4 +664,230 @@ public class KafkaAvailabilityTest {
             }
         }
     }
+
+    @Test
+    public void testCanRollTogether(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                .endTopic();
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint a = context.checkpoint(4);
+        kafkaAvailability.canRoll(1, Set.of()).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertTrue(canRoll, "broker 1 should be rollable on its own");
+            a.flag();
+        })));
+        kafkaAvailability.canRoll(1, Set.of(0)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertFalse(canRoll, "broker 1 should not be rollable together with broker 0, being minisr = 2 and sharing a partition with it");
+            a.flag();
+        })));
+        kafkaAvailability.canRoll(3, Set.of(0)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertTrue(canRoll, "broker 3 should be rollable together with broker 0, sharing no partitions with it");
+            a.flag();
+        })));
+        kafkaAvailability.canRoll(3, Set.of(0, 4)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertFalse(canRoll, "broker 3 should not be rollable together with broker 4, being minisr = 2 and sharing a partition with it");
+            a.flag();
+        })));
+    }
+
+    @Test
+    public void testCanRollTogetherOnlyWithinRack(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addBrokerInRack("rack-a", 0, 1)
+                .addBrokerInRack("rack-b", 2, 3)
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 2)
+                        .leader(0)
+                        .isr(0, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(1, 3)
+                        .leader(1)
+                        .isr(1, 3)
+                    .endPartition()
+                .endTopic();
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint a = context.checkpoint(2);
+        kafkaAvailability.canRoll(1, Set.of(0)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertTrue(canRoll, "broker 1 should be rollable together with broker 0 in the same rack");
+            a.flag();
+        })));
+        kafkaAvailability.canRoll(3, Set.of(0)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertFalse(canRoll, "broker 3 should not be rollable together with broker 0 in a different rack");
+            a.flag();
+        })));
+    }
+
+    @Test
+    public void testChangesDuringTheRollAreSeen(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(2, 3)
+                        .leader(2)
+                        .isr(2, 3)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll, "broker 0 should be rollable"));
+                    // A partition of B is being reassigned to broker 0 and is at its min ISR
+                    ksb.addNewTopic("B", false)
+                            .addNewPartition(0)
+                                .replicaOn(0, 2, 3)
+                                .isr(0);
+                    ksb.reassigning("B", 0);
+                    return kafkaAvailability.canRoll(0);
+                })
+                .compose(canRoll -> {
+                    context.verify(() -> assertFalse(canRoll, "broker 0 should not be rollable, the reassigned partition of B being at its min ISR"));
+                    // A new topic is created with a partition on broker 0 at its min ISR
+                    ksb.addNewTopic("B", false)
+                            .addNewPartition(0)
+                                .isr(0, 2, 3);
+                    ksb.addNewTopic("C", false)
+                            .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                            .addNewPartition(0)
+                                .replicaOn(0, 1)
+                                .leader(0)
+                                .isr(0);
+                    return kafkaAvailability.canRoll(0);
+                })
+                .compose(canRoll -> {
+                    context.verify(() -> assertFalse(canRoll, "broker 0 should not be rollable, the new topic C being at its min ISR"));
+                    ksb.addNewTopic("C", false)
+                            .addNewPartition(0)
+                                .isr(0, 1);
+                    // The min ISR of A is increased
+                    ksb.addNewTopic("A", false)
+                            .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2");
+                    ksb.addNewTopic("A", false)
+                            .addNewPartition(0)
+                                .replicaOn(0, 1, 3)
+                                .isr(0, 1);
+                    return kafkaAvailability.canRoll(0);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertFalse(canRoll, "broker 0 should not be rollable, A being at its new min ISR");
+                    a.flag();
+                })));
+    }
+
+    @Test
+    public void testOnlyChangedTopicsAreDescribedAfterTheFirstCheck(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(2, 3)
+                        .leader(2)
+                        .isr(2, 3)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("C", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(1, 3)
+                        .leader(1)
+                        .isr(1, 3)
+                    .endPartition()
+                .endTopic();
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    ksb.addNewTopic("D", false)
+                            .addNewPartition(0)
+                                .replicaOn(2, 3)
+                                .leader(2)
+                                .isr(2, 3);
+                    return kafkaAvailability.canRoll(1, Set.of(0));
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertThat(ksb.described.size(), is(2));
+                    assertThat(ksb.described.get(0), containsInAnyOrder("A", "B", "C"));
+                    assertThat(ksb.described.get(1), containsInAnyOrder("A", "C", "D"));
+                    a.flag();
+                })));
+    }
+
+    @Test
+    public void testConcurrentChecksRefreshOneAfterAnother(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(2, 3)
+                        .leader(2)
+                        .isr(2, 3)
+                    .endPartition()
+                .endTopic();
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint a = context.checkpoint(2);
+        kafkaAvailability.canRoll(0).onComplete(context.succeeding(canRoll -> a.flag()));
+        kafkaAvailability.canRoll(2).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            // The second check waited for the index built by the first one
+            assertThat(ksb.described.size(), is(2));
+            assertThat(ksb.described.get(0), containsInAnyOrder("A", "B"));
+            assertThat(ksb.described.get(1), containsInAnyOrder("B"));
+            a.flag();
+        })));
+    }
 }
@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.model.NodeRef;
 import io.strimzi.operator.cluster.model.RestartReason;
 import io.strimzi.operator.cluster.model.RestartReasons;
@@ -20,6 +21,7 @@ import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -44,6 +46,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -54,6 +57,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -587,6 +591,102 @@ public class KafkaRollerTest {
                 List.of());
     }
 
+    @Test
+    public void testConcurrentRollOfIndependentBrokers(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        KafkaRollerMetricsHolder metrics = new KafkaRollerMetricsHolder("Kafka", null, ResourceUtils.metricsProvider());
+        TestingKafkaRoller kafkaRoller = concurrentRoller(podOps, 3, (podId, restarting) -> succeededFuture(true), metrics);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(new HashSet<>(restarted()), is(Set.of(0, 1, 2, 3, 4)));
+                    assertThat(metrics.concurrentRestartsSummary(stsNamespace()).count(), is(1L));
+                    assertThat(metrics.concurrentRestartsSummary(stsNamespace()).max(), is(3.0));
+                    assertThat(metrics.rollingRestartsTimer(stsNamespace()).count(), is(1L));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testConcurrentRollWaitsForBrokersWhichCannotRollTogether(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        KafkaRollerMetricsHolder metrics = new KafkaRollerMetricsHolder("Kafka", null, ResourceUtils.metricsProvider());
+        // Brokers 0, 1 and 2 share partitions, brokers 3 and 4 do not share partitions with anyone
+        TestingKafkaRoller kafkaRoller = concurrentRoller(podOps, 3,
+            (podId, restarting) -> succeededFuture(podId > 2 || restarting.stream().noneMatch(restartingPodId -> restartingPodId <= 2)),
+            metrics);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(new HashSet<>(restarted()), is(Set.of(0, 1, 2, 3, 4)));
+                    assertThat(metrics.concurrentRestartsSummary(stsNamespace()).max(), is(3.0));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testConcurrentRollConsidersUnreadyPodsFirst(VertxTestContext testContext) {
+        // Pod 3 is not ready until it is restarted
+        PodOperator podOps = mockPodOps(podId -> podId == 3 && !restarted().contains(3) ? failedFuture(new TimeoutException("Timeout")) : succeededFuture());
+        KafkaRollerMetricsHolder metrics = new KafkaRollerMetricsHolder("Kafka", null, ResourceUtils.metricsProvider());
+        List<Integer> checkedBeforeUnreadyPodRestart = Collections.synchronizedList(new ArrayList<>());
+        BiFunction<Integer, Set<Integer>, Future<Boolean>> canRollFn = (podId, restarting) -> {
+            if (!restarted().contains(3)) {
+                checkedBeforeUnreadyPodRestart.add(podId);
+            }
+            return succeededFuture(true);
+        };
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(null, null, addPodNames(KafkaRollerTest.REPLICAS), podOps,
+                noException(), null, noException(), noException(), noException(),
+                podId -> canRollFn.apply(podId, Set.of()), canRollFn,
+                false, new DefaultAdminClientProvider(), false, null,
+                3, metrics, 200, -1);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(restarted().get(0), is(3));
+                    assertThat(checkedBeforeUnreadyPodRestart, is(List.of(3)));
+                    assertThat(new HashSet<>(restarted()), is(Set.of(0, 1, 2, 3, 4)));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testConcurrentRollForcesRestartsOneAtATime(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        KafkaRollerMetricsHolder metrics = new KafkaRollerMetricsHolder("Kafka", null, ResourceUtils.metricsProvider());
+        // The admin client cannot be created, so all pods are force-restarted without checking their availability
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(null, null, addPodNames(KafkaRollerTest.REPLICAS), podOps,
+                nodes -> new RuntimeException("Test Exception"), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true), (podId, restarting) -> succeededFuture(true),
+                false, new DefaultAdminClientProvider(), false, null,
+                3, metrics, 200, -1);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.empty())
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(new HashSet<>(restarted()), is(Set.of(0, 1, 2, 3, 4)));
+                    assertThat(metrics.concurrentRestartsSummary(stsNamespace()).max(), is(1.0));
+                    async.flag();
+                })));
+    }
+
+    private TestingKafkaRoller concurrentRoller(PodOperator podOps, int maxConcurrentRestarts,
+                                                BiFunction<Integer, Set<Integer>, Future<Boolean>> canRollTogetherFn,
+                                                KafkaRollerMetricsHolder metrics) {
+        return new TestingKafkaRoller(null, null, addPodNames(KafkaRollerTest.REPLICAS), podOps,
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true), canRollTogetherFn,
+                false, new DefaultAdminClientProvider(), false, null,
+                maxConcurrentRestarts, metrics, 200, -1);
+    }
+
     private TestingKafkaRoller rollerWithControllers(PodOperator podOps, int... controllers) {
         return new TestingKafkaRoller(null, null, addPodNames(KafkaRollerTest.REPLICAS), podOps,
                 noException(), null, noException(), noException(), noException(),
@@ -672,7 +772,7 @@ public class KafkaRollerTest {
 
     @BeforeEach
     public void clearRestarted() {
-        restarted = new ArrayList<>();
+        restarted = Collections.synchronizedList(new ArrayList<>());
     }
 
     private PodOperator mockPodOps(Function<Integer, Future<Void>> readiness) {
@@ -713,6 +813,9 @@ public class KafkaRollerTest {
         private final Function<Set<NodeRef>, RuntimeException> acOpenException;
         private final Throwable acCloseException;
         private final Function<Integer, Future<Boolean>> canRollFn;
+        private final BiFunction<Integer, Set<Integer>, Future<Boolean>> canRollTogetherFn;
+        private final KafkaRollerMetricsHolder metrics;
+        private final long restartDelayMs;
         private final Function<Integer, Throwable> controllerException;
         private final Function<Integer, ForceableProblem> alterConfigsException;
         private final Function<Integer, ForceableProblem> getConfigsException;
@@ -734,6 +837,26 @@ public class KafkaRollerTest {
                                    boolean delegateControllerCall,
                                    AdminClientProvider adminClientProvider,
                                    boolean delegateAdminClientCall, BrokerState brokerState, int... controllers) {
+            this(clusterCaCertSecret, coKeySecret, nodes, podOps, acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, (podId, restarting) -> canRollFn.apply(podId),
+                    delegateControllerCall, adminClientProvider, delegateAdminClientCall, brokerState,
+                    1, new KafkaRollerMetricsHolder("Kafka", null, ResourceUtils.metricsProvider()), 0, controllers);
+        }
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        private TestingKafkaRoller(Secret clusterCaCertSecret, Secret coKeySecret, Set<NodeRef> nodes,
+                                   PodOperator podOps,
+                                   Function<Set<NodeRef>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   BiFunction<Integer, Set<Integer>, Future<Boolean>> canRollTogetherFn,
+                                   boolean delegateControllerCall,
+                                   AdminClientProvider adminClientProvider,
+                                   boolean delegateAdminClientCall, BrokerState brokerState,
+                                   int maxConcurrentRestarts, KafkaRollerMetricsHolder metrics, long restartDelayMs, int... controllers) {
             super(
                     new Reconciliation("test", "Kafka", stsNamespace(), clusterName()),
                     KafkaRollerTest.vertx,
@@ -749,7 +872,9 @@ public class KafkaRollerTest {
                     "",
                     KafkaVersionTestUtils.getLatestVersion(),
                     true,
-                    mock(KubernetesRestartEventPublisher.class)
+                    mock(KubernetesRestartEventPublisher.class),
+                    maxConcurrentRestarts,
+                    metrics
             );
             this.delegateControllerCall = delegateControllerCall;
             this.delegateAdminClientCall = delegateAdminClientCall;
@@ -762,6 +887,9 @@ public class KafkaRollerTest {
             this.getConfigsException = getConfigsException;
             this.acCloseException = acCloseException;
             this.canRollFn = canRollFn;
+            this.canRollTogetherFn = canRollTogetherFn;
+            this.metrics = metrics;
+            this.restartDelayMs = restartDelayMs;
             this.unclosedAdminClients = new IdentityHashMap<>();
             this.brokerState = brokerState;
         }
@@ -820,6 +948,11 @@ public class KafkaRollerTest {
                 Future<Boolean> canRoll(int podId) {
                     return canRollFn.apply(podId);
                 }
+
+                @Override
+                Future<Boolean> canRoll(int podId, Set<Integer> restartingPodIds) {
+                    return canRollTogetherFn.apply(podId, restartingPodIds);
+                }
             };
         }
 
@@ -867,6 +1000,11 @@ public class KafkaRollerTest {
         @Override
         protected Future<Void> restart(Pod pod, RestartContext restartContext) {
             restarted.add(pod.getMetadata().getName());
+            if (restartDelayMs > 0) {
+                Promise<Void> restart = Promise.promise();
+                vertx.setTimer(restartDelayMs, id -> restart.complete());
+                return restart.future();
+            }
             return succeededFuture();
         }
 
@@ -0,0 +1,71 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ParallelSuite
+public class TopicPartitionIndexTest {
+    private static final Node NODE_0 = new Node(0, "localhost", 1234, "rack-a");
+    private static final Node NODE_1 = new Node(1, "localhost", 1235, "rack-b");
+    private static final Node NODE_2 = new Node(2, "localhost", 1236);
+
+    private static TopicDescription topic(String name, List<Node> replicas, List<Node> isr) {
+        return new TopicDescription(name, false, List.of(new TopicPartitionInfo(0, replicas.get(0), replicas, isr)));
+    }
+
+    @ParallelTest
+    public void testPartitionsOnBroker() {
+        TopicPartitionIndex index = new TopicPartitionIndex();
+        TopicDescription a = topic("A", List.of(NODE_0, NODE_1), List.of(NODE_0, NODE_1));
+        TopicDescription b = topic("B", List.of(NODE_1, NODE_2), List.of(NODE_1));
+        index.update(a);
+        index.update(b);
+
+        assertThat(index.topics(), is(Set.of("A", "B")));
+        assertThat(index.topicsOnBroker(0), is(Set.of("A")));
+        assertThat(index.topicsOnBroker(1), is(Set.of("A", "B")));
+        assertThat(index.partitionsOnBroker(2), is(Map.of("B", b.partitions())));
+        assertThat(index.partitionsOnBroker(3), is(Map.of()));
+        assertThat(index.rack(0), is("rack-a"));
+        assertThat(index.rack(2), is(nullValue()));
+    }
+
+    @ParallelTest
+    public void testUpdateMovesReplicas() {
+        TopicPartitionIndex index = new TopicPartitionIndex();
+        index.update(topic("A", List.of(NODE_0, NODE_1), List.of(NODE_0, NODE_1)));
+        TopicDescription reassigned = topic("A", List.of(NODE_1, NODE_2), List.of(NODE_1));
+        index.update(reassigned);
+
+        assertThat(index.topicsOnBroker(0), is(Set.of()));
+        assertThat(index.partitionsOnBroker(1), is(Map.of("A", reassigned.partitions())));
+        assertThat(index.partitionsOnBroker(2), is(Map.of("A", reassigned.partitions())));
+    }
+
+    @ParallelTest
+    public void testRemove() {
+        TopicPartitionIndex index = new TopicPartitionIndex();
+        index.update(topic("A", List.of(NODE_0, NODE_1), List.of(NODE_0, NODE_1)));
+        index.remove("A");
+        index.remove("B");
+
+        assertThat(index.topics(), is(Set.of()));
+        assertThat(index.topicsOnBroker(0), is(Set.of()));
+        assertThat(index.partitionsOnBroker(1), is(Map.of()));
+    }
+}
@@ -20,6 +20,7 @@ import org.mockserver.integration.ClientAndServer;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import static io.strimzi.operator.cluster.JSONObjectMatchers.hasEntry;
@@ -128,6 +129,23 @@ public class CruiseControlClientTest {
         }));
     }
 
+    @Test
+    public void testCCGetRebalanceUserTasks(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
+
+        MockCruiseControl.setupCCUserTasksResponseNoGoals(ccServer, 0, 0);
+
+        CruiseControlApi client = cruiseControlClientProvider(vertx);
+        String userTaskID = MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID;
+
+        Checkpoint checkpoint = context.checkpoint();
+        client.getUserTasksStatus(HOST, PORT, List.of(userTaskID)).onComplete(context.succeeding(result -> {
+            context.verify(() -> assertThat(result.keySet(), is(Set.of(userTaskID))));
+            context.verify(() -> assertThat(result.get(userTaskID).result().getString("Status"), is("Completed")));
+            context.verify(() -> assertThat(result.get(userTaskID).result().getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()), is(notNullValue())));
+            checkpoint.flag();
+        }));
+    }
+
     @Test
     public void testCCAddBroker(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
         AddBrokerOptions options = new AddBrokerOptions.AddBrokerOptionsBuilder()
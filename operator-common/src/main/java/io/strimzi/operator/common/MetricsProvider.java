@@ -5,6 +5,7 @@
 package io.strimzi.operator.common;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
@@ -51,4 +52,14 @@ public interface MetricsProvider {
      * @return              AtomicInteger which represents the Gauge metric
      */
     AtomicInteger gauge(String name, String description, Tags tags);
+
+    /**
+     * Creates new DistributionSummary type metric
+     *
+     * @param name          Name of the metric
+     * @param description   Description of the metric
+     * @param tags          Tags used for the metric
+     * @return              DistributionSummary metric
+     */
+    DistributionSummary distributionSummary(String name, String description, Tags tags);
 }
@@ -5,6 +5,7 @@
 package io.strimzi.operator.common;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
@@ -97,4 +98,20 @@ public class MicrometerMetricsProvider implements MetricsProvider {
 
         return gauge;
     }
+
+    /**
+     * Creates new DistributionSummary type metric
+     *
+     * @param name          Name of the metric
+     * @param description   Description of the metric
+     * @param tags          Tags used for the metric
+     * @return              DistributionSummary metric
+     */
+    @Override
+    public DistributionSummary distributionSummary(String name, String description, Tags tags) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tags(tags)
+                .register(metrics);
+    }
 }
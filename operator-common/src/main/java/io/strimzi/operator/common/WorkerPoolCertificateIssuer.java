@@ -0,0 +1,120 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.metrics.CertificateIssuerMetricsHolder;
+import io.strimzi.operator.common.model.CertificateIssuer;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Certificate issuer with a bounded worker pool. Issuing many certificates one after another (for example all the
+ * broker certificates after the CA key is replaced, or the certificates of many new users) takes a long time and
+ * blocks the thread doing it. This issuer runs the issuance tasks concurrently on a fixed number of worker threads and
+ * reports how long the tasks take and how many of them are waiting for a worker.
+ */
+public class WorkerPoolCertificateIssuer implements CertificateIssuer {
+    private final ThreadPoolExecutor executor;
+    private final CertificateIssuerMetricsHolder metrics;
+
+    /**
+     * Constructs the certificate issuer
+     *
+     * @param threads   Number of the worker threads issuing the certificates
+     * @param metrics   Metrics holder for the issuance metrics
+     */
+    public WorkerPoolCertificateIssuer(int threads, CertificateIssuerMetricsHolder metrics) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of certificate issuance threads must be at least 1, but is " + threads);
+        }
+
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "certificate-issuer-" + threadCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The pool is idle most of the time, so we do not keep the threads around
+        this.executor.allowCoreThreadTimeOut(true);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Reconciliation reconciliation, Callable<T> task) {
+        IssuanceTask<T> issuanceTask = new IssuanceTask<>(reconciliation, task);
+        issuanceTask.queueSize.incrementAndGet();
+
+        try {
+            executor.execute(issuanceTask);
+        } catch (RejectedExecutionException e) {
+            issuanceTask.abandon();
+        }
+
+        return issuanceTask.result;
+    }
+
+    /**
+     * Stops the worker threads. Issuance tasks which did not start yet are not run and their futures complete
+     * exceptionally, as do the futures of the tasks submitted after the issuer was stopped.
+     */
+    @Override
+    public void stop() {
+        for (Runnable runnable : executor.shutdownNow()) {
+            ((IssuanceTask<?>) runnable).abandon();
+        }
+    }
+
+    /**
+     * Issuance task waiting for a worker thread
+     *
+     * @param <T>   Type of the result of the task
+     */
+    private final class IssuanceTask<T> implements Runnable {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final Reconciliation reconciliation;
+        private final Callable<T> task;
+        private final AtomicInteger queueSize;
+
+        private IssuanceTask(Reconciliation reconciliation, Callable<T> task) {
+            this.reconciliation = reconciliation;
+            this.task = task;
+            this.queueSize = metrics.issuanceQueueSize(reconciliation.namespace());
+        }
+
+        @Override
+        public void run() {
+            queueSize.decrementAndGet();
+            Timer.Sample sample = Timer.start(metrics.metricsProvider().meterRegistry());
+            T value;
+
+            try {
+                value = task.call();
+            } catch (Throwable t) {
+                sample.stop(metrics.issuanceTimer(reconciliation.namespace()));
+                result.completeExceptionally(t);
+                return;
+            }
+
+            // The timer is stopped before completing the future so that the metrics are updated once the caller sees the result
+            sample.stop(metrics.issuanceTimer(reconciliation.namespace()));
+            result.complete(value);
+        }
+
+        /**
+         * Fails the task which will not be run because the issuer was stopped
+         */
+        private void abandon() {
+            queueSize.decrementAndGet();
+            result.completeExceptionally(new IllegalStateException("The certificate issuer was stopped before the certificate was issued"));
+        }
+    }
+}
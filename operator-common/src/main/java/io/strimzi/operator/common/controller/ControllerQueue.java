@@ -8,8 +8,11 @@ import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Controller queue class wraps a Blocking queue and exposes the methods used by controllers. This includes taking
@@ -19,7 +22,10 @@ public class ControllerQueue {
     private final static Logger LOGGER = LogManager.getLogger(ControllerQueue.class);
 
     /*test*/ final BlockingQueue<SimplifiedReconciliation> queue;
+    // Tracks the queued reconciliations to check for duplicates without iterating through the whole queue
+    private final Set<SimplifiedReconciliation> queued = ConcurrentHashMap.newKeySet();
     private final ControllerMetricsHolder metrics;
+    private final AtomicInteger queueSizeGauge;
 
     /**
      * Creates the controller queue. The controller should normally exist once per operator for cluster-wide mode or once per
@@ -29,8 +35,21 @@ public class ControllerQueue {
      * @param metrics       Holder for the controller metrics
      */
     public ControllerQueue(int queueSize, ControllerMetricsHolder metrics) {
+        this(queueSize, metrics, null);
+    }
+
+    /**
+     * Creates the controller queue which reports its current size in a gauge. This is used when the work is split
+     * between multiple queues.
+     *
+     * @param queueSize         The capacity of the work queue
+     * @param metrics           Holder for the controller metrics
+     * @param queueSizeGauge    Gauge for the current size of the queue or null if the size should not be reported
+     */
+    public ControllerQueue(int queueSize, ControllerMetricsHolder metrics, AtomicInteger queueSizeGauge) {
         this.queue = new ArrayBlockingQueue<>(queueSize);
         this.metrics = metrics;
+        this.queueSizeGauge = queueSizeGauge;
     }
 
     /**
@@ -39,7 +58,11 @@ public class ControllerQueue {
      * @throws InterruptedException InterruptedException is thrown if interrupted while waiting to get the next resource from the queue (e.g. when the queue is empty)
      */
     public SimplifiedReconciliation take() throws InterruptedException {
-        return queue.take();
+        SimplifiedReconciliation reconciliation = queue.take();
+        queued.remove(reconciliation);
+        updateQueueSize();
+
+        return reconciliation;
     }
 
     /**
@@ -49,15 +72,30 @@ public class ControllerQueue {
      * @param reconciliation    Reconciliation identifier
      */
     public void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!queue.contains(reconciliation)) {
+        if (queued.add(reconciliation)) {
             LOGGER.debug("Enqueueing {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace);
             if (!queue.offer(reconciliation))    {
+                queued.remove(reconciliation);
                 LOGGER.warn("Failed to enqueue an event because the controller queue is full");
             }
+
+            updateQueueSize();
         } else {
             metrics.alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
             LOGGER.debug("{} {} in namespace {} is already enqueued => ignoring", reconciliation.kind, reconciliation.name, reconciliation.namespace);
         }
     }
 
+    /**
+     * @return  The current number of reconciliations in the queue
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    private void updateQueueSize()  {
+        if (queueSizeGauge != null) {
+            queueSizeGauge.set(queue.size());
+        }
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sharded controller queue splits the work between multiple controller queues. Each reconciliation is enqueued into
+ * the shard selected based on the hash of the namespace and name of the resource. So all reconciliations of given
+ * resource always end up in the same shard. When each shard is consumed by a single controller loop, the same resource
+ * is never reconciled in parallel and the controller loops do not contend on a shared queue.
+ */
+public class ShardedControllerQueue {
+    private final List<ControllerQueue> shards;
+
+    /**
+     * Creates the sharded controller queue.
+     *
+     * @param shardCount    Number of shards
+     * @param queueSize     The capacity of the work queue of each shard
+     * @param namespace     Namespace used for the metrics
+     * @param metrics       Holder for the controller metrics
+     */
+    public ShardedControllerQueue(int shardCount, int queueSize, String namespace, ControllerMetricsHolder metrics) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("The number of shards must be at least 1, but is " + shardCount);
+        }
+
+        this.shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ControllerQueue(queueSize, metrics, metrics.shardQueueSize(namespace, i)));
+        }
+    }
+
+    /**
+     * @return  Number of shards
+     */
+    public int shardCount() {
+        return shards.size();
+    }
+
+    /**
+     * Returns the queue of given shard.
+     *
+     * @param shard     Index of the shard
+     *
+     * @return  The queue of the shard
+     */
+    public ControllerQueue shard(int shard) {
+        return shards.get(shard);
+    }
+
+    /**
+     * Enqueues the reconciliation into the shard which owns the resource.
+     *
+     * @param reconciliation    Reconciliation identifier
+     */
+    public void enqueue(SimplifiedReconciliation reconciliation) {
+        shards.get(shardFor(reconciliation)).enqueue(reconciliation);
+    }
+
+    /**
+     * Selects the shard for given reconciliation.
+     *
+     * @param reconciliation    Reconciliation identifier
+     *
+     * @return  Index of the shard which owns the resource
+     */
+    /*test*/ int shardFor(SimplifiedReconciliation reconciliation) {
+        return Math.floorMod(reconciliation.hashCode(), shards.size());
+    }
+}
@@ -4,6 +4,9 @@
  */
 package io.strimzi.operator.common.metrics;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 
@@ -17,6 +20,16 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class BatchOperatorMetricsHolder extends MetricsHolder {
     private final Map<String, AtomicInteger> reconciliationsMaxQueueMap = new ConcurrentHashMap<>(1);
     private final Map<String, AtomicInteger> reconciliationsMaxBatchMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> reconciliationsShardQueueSizeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> reconciliationsShardOverflowSizeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> reconciliationsShardQueueWaitTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> reconciliationsCoalescedCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> statusUpdateTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> skippedStatusUpdatesCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> cacheHitsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> cacheMissesCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> cacheSizeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> cacheStalenessMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the operator metrics holder
@@ -52,4 +65,131 @@ public class BatchOperatorMetricsHolder extends MetricsHolder {
         return getGauge(namespace, kind, METRICS_PREFIX + "reconciliations.max.batch.size",
             metricsProvider, selectorLabels, reconciliationsMaxBatchMap, "Max size recorded for a single event batch");
     }
+
+    /**
+     * Gauge metric for the current size of the event queue of a single shard.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     * @param shard     The shard of the event queue
+     *
+     * @return Metrics gauge
+     */
+    public AtomicInteger reconciliationsShardQueueSize(String namespace, int shard) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "reconciliations.shard.queue.size",
+            metricsProvider, selectorLabels, Tags.of("shard", String.valueOf(shard)), reconciliationsShardQueueSizeMap, "Current size of the event queue of a single shard");
+    }
+
+    /**
+     * Gauge metric for the current number of resources waiting in the overflow of a single shard because its event
+     * queue was full.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     * @param shard     The shard of the event queue
+     *
+     * @return Metrics gauge
+     */
+    public AtomicInteger reconciliationsShardOverflowSize(String namespace, int shard) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "reconciliations.shard.overflow.size",
+            metricsProvider, selectorLabels, Tags.of("shard", String.valueOf(shard)), reconciliationsShardOverflowSizeMap, "Current number of resources in the overflow of a single shard");
+    }
+
+    /**
+     * Timer which measures how long events wait in the event queue of a single shard before being added to a batch.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     * @param shard     The shard of the event queue
+     *
+     * @return Metrics timer
+     */
+    public Timer reconciliationsShardQueueWaitTimer(String namespace, int shard) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "reconciliations.shard.queue.wait",
+            metricsProvider, selectorLabels, Tags.of("shard", String.valueOf(shard)), reconciliationsShardQueueWaitTimerMap, "The time events wait in the event queue of a single shard");
+    }
+
+    /**
+     * Counter metric for number of events which were not reconciled individually because they were coalesced with
+     * another pending event for the same resource.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter reconciliationsCoalescedCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.coalesced",
+            metricsProvider, selectorLabels, reconciliationsCoalescedCounterMap, "Number of events coalesced with another pending event for the same resource");
+    }
+
+    /**
+     * Timer which measures how long status updates of the resources take.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics timer
+     */
+    public Timer statusUpdateTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "status.update.duration",
+            metricsProvider, selectorLabels, statusUpdateTimerMap, "The time a status update of a single resource takes");
+    }
+
+    /**
+     * Counter metric for number of status updates which were not made, either because the status was unchanged or
+     * because a later status update for the same resource superseded it.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter skippedStatusUpdatesCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "status.update.skipped",
+            metricsProvider, selectorLabels, skippedStatusUpdatesCounterMap, "Number of status updates skipped because the status was unchanged or superseded");
+    }
+
+    /**
+     * Counter metric for number of lookups of the current state of a resource which were served from the cache.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter cacheHitsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "cache.hits",
+            metricsProvider, selectorLabels, cacheHitsCounterMap, "Number of lookups of the current state of a resource served from the cache");
+    }
+
+    /**
+     * Counter metric for number of lookups of the current state of a resource which were not in the cache, so
+     * required a request to the server.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter cacheMissesCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "cache.misses",
+            metricsProvider, selectorLabels, cacheMissesCounterMap, "Number of lookups of the current state of a resource not served from the cache");
+    }
+
+    /**
+     * Gauge metric for the current number of entries in the cache.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics gauge
+     */
+    public AtomicInteger cacheSize(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "cache.size",
+            metricsProvider, selectorLabels, cacheSizeMap, "Current number of entries in the cache");
+    }
+
+    /**
+     * Gauge metric for the number of seconds since the cache was last successfully refreshed.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics gauge
+     */
+    public AtomicInteger cacheStalenessSeconds(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "cache.staleness.seconds",
+            metricsProvider, selectorLabels, cacheStalenessMap, "Number of seconds since the cache was last successfully refreshed");
+    }
 }
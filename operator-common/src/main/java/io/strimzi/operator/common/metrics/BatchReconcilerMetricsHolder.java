@@ -0,0 +1,118 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the metrics of the micro-batching reconcilers which send the Kafka Admin API requests in batches. The metrics
+ * are distinguished by the name of the batch reconciler.
+ */
+public class BatchReconcilerMetricsHolder extends MetricsHolder {
+    private final Map<String, DistributionSummary> batchFillRatioMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> batchWaitTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> adminRequestTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> batchSizeThresholdMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> batchLingerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> batchesInFlightMap = new ConcurrentHashMap<>(1);
+
+    /**
+     * Constructs the batch reconciler metrics holder
+     *
+     * @param kind              Kind of the resources for which these metrics apply
+     * @param selectorLabels    Selector labels to select the controller resources
+     * @param metricsProvider   Metrics provider
+     */
+    public BatchReconcilerMetricsHolder(String kind, Labels selectorLabels, MetricsProvider metricsProvider) {
+        super(kind, selectorLabels, metricsProvider);
+    }
+
+    /**
+     * Distribution summary of the ratio between the size of the batches sent to Kafka and the maximal batch size.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param reconciler    Name of the batch reconciler
+     *
+     * @return  Metrics distribution summary
+     */
+    public DistributionSummary batchFillRatio(String namespace, String reconciler) {
+        return getDistributionSummary(namespace, kind, METRICS_PREFIX + "batch.fill.ratio", metricsProvider, selectorLabels, Tags.of("reconciler", reconciler),
+                batchFillRatioMap, "Ratio between the size of the batches sent to Kafka and the maximal batch size");
+    }
+
+    /**
+     * Timer which measures how long the requests wait in the queue of the batch reconciler before they are sent to Kafka.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param reconciler    Name of the batch reconciler
+     *
+     * @return  Metrics timer
+     */
+    public Timer batchWaitTimer(String namespace, String reconciler) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "batch.wait", metricsProvider, selectorLabels, Tags.of("reconciler", reconciler),
+                batchWaitTimerMap, "The time requests wait in the batch reconciler queue before they are sent to Kafka");
+    }
+
+    /**
+     * Timer which measures how long the Kafka Admin API requests with the batches take.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param reconciler    Name of the batch reconciler
+     *
+     * @return  Metrics timer
+     */
+    public Timer adminRequestTimer(String namespace, String reconciler) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "batch.admin.request.duration", metricsProvider, selectorLabels, Tags.of("reconciler", reconciler),
+                adminRequestTimerMap, "The time the Kafka Admin API requests with the batches take");
+    }
+
+    /**
+     * Gauge metric for the current number of queued requests which triggers a new batch.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param reconciler    Name of the batch reconciler
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger batchSizeThreshold(String namespace, String reconciler) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "batch.size.threshold", metricsProvider, selectorLabels, Tags.of("reconciler", reconciler),
+                batchSizeThresholdMap, "Current number of queued requests which triggers a new batch");
+    }
+
+    /**
+     * Gauge metric for the current maximal time in milliseconds for which the requests are collected before a batch
+     * is sent.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param reconciler    Name of the batch reconciler
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger batchLingerMs(String namespace, String reconciler) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "batch.linger.ms", metricsProvider, selectorLabels, Tags.of("reconciler", reconciler),
+                batchLingerMap, "Current time in milliseconds for which the requests are collected before a batch is sent");
+    }
+
+    /**
+     * Gauge metric for the number of batches sent to Kafka which did not complete yet.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param reconciler    Name of the batch reconciler
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger batchesInFlight(String namespace, String reconciler) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "batch.in.flight", metricsProvider, selectorLabels, Tags.of("reconciler", reconciler),
+                batchesInFlightMap, "Number of batches sent to Kafka which did not complete yet");
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the metrics of the certificate issuance worker pool
+ */
+public class CertificateIssuerMetricsHolder extends MetricsHolder {
+    private final Map<String, Timer> issuanceTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> issuanceQueueSizeMap = new ConcurrentHashMap<>(1);
+
+    /**
+     * Constructs the certificate issuer metrics holder
+     *
+     * @param kind              Kind of the resources for which these metrics apply
+     * @param selectorLabels    Selector labels to select the controller resources
+     * @param metricsProvider   Metrics provider
+     */
+    public CertificateIssuerMetricsHolder(String kind, Labels selectorLabels, MetricsProvider metricsProvider) {
+        super(kind, selectorLabels, metricsProvider);
+    }
+
+    /**
+     * Timer which measures how long the certificate issuance tasks take once they are picked up by the worker pool.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer issuanceTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "certificate.issuance.duration", metricsProvider, selectorLabels, issuanceTimerMap,
+                "The time the certificate issuance tasks take to complete");
+    }
+
+    /**
+     * Gauge metric for the number of certificate issuance tasks waiting for a worker.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger issuanceQueueSize(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "certificate.issuance.queue.size", metricsProvider, selectorLabels, issuanceQueueSizeMap,
+                "Number of certificate issuance tasks waiting for a worker");
+    }
+}
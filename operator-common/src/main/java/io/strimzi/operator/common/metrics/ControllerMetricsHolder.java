@@ -5,17 +5,21 @@
 package io.strimzi.operator.common.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A metrics holder for controllers.
  */
 public class ControllerMetricsHolder extends MetricsHolder {
     private final Map<String, Counter> alreadyQueuedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> skippedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> shardQueueSizeMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the controller metrics holder
@@ -41,4 +45,31 @@ public class ControllerMetricsHolder extends MetricsHolder {
         return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.already.enqueued", metricsProvider, selectorLabels, alreadyQueuedReconciliationsCounterMap,
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running");
     }
+
+    /**
+     * Counter metric for number of periodic reconciliations which were skipped because the resource did not change
+     * since its last successful reconciliation. Together with the reconciliations counter, it shows how many of the
+     * reconciliations were skipped.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter skippedReconciliationsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.skipped", metricsProvider, selectorLabels, skippedReconciliationsCounterMap,
+                "Number of periodic reconciliations skipped because the resource did not change since its last reconciliation");
+    }
+
+    /**
+     * Gauge metric for the current size of the work queue of a single shard of the controller.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param shard         The shard of the work queue
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger shardQueueSize(String namespace, int shard) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "controller.shard.queue.size", metricsProvider, selectorLabels, Tags.of("shard", String.valueOf(shard)), shardQueueSizeMap,
+                "Current size of the work queue of a single shard of the controller");
+    }
 }
@@ -5,6 +5,7 @@
 package io.strimzi.operator.common.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
@@ -179,17 +180,36 @@ public abstract class MetricsHolder {
      * @param <M>   Type of the metric
      */
     private static <M> M metric(String namespace, String kind, Labels selectorLabels, Map<String, M> metricMap, Function<Tags, M> fn) {
+        return metric(namespace, kind, selectorLabels, Tags.empty(), metricMap, fn);
+    }
+
+    /**
+     * Utility method which gets or creates the metric with additional tags.
+     *
+     * @param namespace         Namespace or the resource
+     * @param kind              Kind of the resource
+     * @param selectorLabels    Selector labels used to filter the resources
+     * @param additionalTags    Additional tags which distinguish this metric from others with the same namespace and kind
+     * @param metricMap         The map with the metrics
+     * @param fn                Method fo generating the metrics tags
+     *
+     * @return  Metric
+     *
+     * @param <M>   Type of the metric
+     */
+    private static <M> M metric(String namespace, String kind, Labels selectorLabels, Tags additionalTags, Map<String, M> metricMap, Function<Tags, M> fn) {
         String selectorValue = selectorLabels != null ? selectorLabels.toSelectorString() : "";
         Tags metricTags;
-        String metricKey = namespace + "/" + kind;
+        StringBuilder metricKey = new StringBuilder(namespace).append("/").append(kind);
+        additionalTags.forEach(tag -> metricKey.append("/").append(tag.getKey()).append("=").append(tag.getValue()));
         if (namespace.equals("*")) {
             metricTags = Tags.of(Tag.of("kind", kind), Tag.of("namespace", ""), Tag.of("selector", selectorValue));
         } else {
             metricTags = Tags.of(Tag.of("kind", kind), Tag.of("namespace", namespace), Tag.of("selector", selectorValue));
         }
-        Tags finalMetricTags = metricTags;
+        Tags finalMetricTags = metricTags.and(additionalTags);
 
-        return metricMap.computeIfAbsent(metricKey, x -> fn.apply(finalMetricTags));
+        return metricMap.computeIfAbsent(metricKey.toString(), x -> fn.apply(finalMetricTags));
     }
 
     /**
@@ -242,4 +262,75 @@ public abstract class MetricsHolder {
     protected static Timer getTimer(String namespace, String kind, String metricName, MetricsProvider metrics, Labels selectorLabels, Map<String, Timer> timerMap, String metricHelp) {
         return metric(namespace, kind, selectorLabels, timerMap, tags -> metrics.timer(metricName, metricHelp, tags));
     }
+
+    /**
+     * Creates or gets a gauge-type metric with additional tags.
+     *
+     * @param namespace         Namespace of the resource
+     * @param kind              Kind of the resource
+     * @param metricName        Name of the metric
+     * @param metrics           Metrics provider
+     * @param selectorLabels    Selector labels used to filter the resources
+     * @param additionalTags    Additional tags of the metric
+     * @param gaugeMap          Map with gauges
+     * @param metricHelp        Help description of the metric
+     *
+     * @return  Gauge metric
+     */
+    protected static AtomicInteger getGauge(String namespace, String kind, String metricName, MetricsProvider metrics, Labels selectorLabels, Tags additionalTags, Map<String, AtomicInteger> gaugeMap, String metricHelp) {
+        return metric(namespace, kind, selectorLabels, additionalTags, gaugeMap, tags -> metrics.gauge(metricName, metricHelp, tags));
+    }
+
+    /**
+     * Creates or gets a timer-type metric with additional tags.
+     *
+     * @param namespace         Namespace of the resource
+     * @param kind              Kind of the resource
+     * @param metricName        Name of the metric
+     * @param metrics           Metrics provider
+     * @param selectorLabels    Selector labels used to filter the resources
+     * @param additionalTags    Additional tags of the metric
+     * @param timerMap          Map with timers
+     * @param metricHelp        Help description of the metric
+     *
+     * @return  Timer metric
+     */
+    protected static Timer getTimer(String namespace, String kind, String metricName, MetricsProvider metrics, Labels selectorLabels, Tags additionalTags, Map<String, Timer> timerMap, String metricHelp) {
+        return metric(namespace, kind, selectorLabels, additionalTags, timerMap, tags -> metrics.timer(metricName, metricHelp, tags));
+    }
+
+    /**
+     * Creates or gets a distribution-summary-type metric.
+     *
+     * @param namespace         Namespace of the resource
+     * @param kind              Kind of the resource
+     * @param metricName        Name of the metric
+     * @param metrics           Metrics provider
+     * @param selectorLabels    Selector labels used to filter the resources
+     * @param summaryMap        Map with distribution summaries
+     * @param metricHelp        Help description of the metric
+     *
+     * @return  Distribution summary metric
+     */
+    protected static DistributionSummary getDistributionSummary(String namespace, String kind, String metricName, MetricsProvider metrics, Labels selectorLabels, Map<String, DistributionSummary> summaryMap, String metricHelp) {
+        return metric(namespace, kind, selectorLabels, summaryMap, tags -> metrics.distributionSummary(metricName, metricHelp, tags));
+    }
+
+    /**
+     * Creates or gets a distribution-summary-type metric with additional tags.
+     *
+     * @param namespace         Namespace of the resource
+     * @param kind              Kind of the resource
+     * @param metricName        Name of the metric
+     * @param metrics           Metrics provider
+     * @param selectorLabels    Selector labels used to filter the resources
+     * @param additionalTags    Additional tags of the metric
+     * @param summaryMap        Map with distribution summaries
+     * @param metricHelp        Help description of the metric
+     *
+     * @return  Distribution summary metric
+     */
+    protected static DistributionSummary getDistributionSummary(String namespace, String kind, String metricName, MetricsProvider metrics, Labels selectorLabels, Tags additionalTags, Map<String, DistributionSummary> summaryMap, String metricHelp) {
+        return metric(namespace, kind, selectorLabels, additionalTags, summaryMap, tags -> metrics.distributionSummary(metricName, metricHelp, tags));
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.strimzi.operator.common.MetricsProvider;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the metrics of the informer-backed caches used by the resource operators to read the Kubernetes resources
+ */
+public class ResourceCacheMetricsHolder extends MetricsHolder {
+    private final Map<String, Counter> cacheHitsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> cacheMissesCounterMap = new ConcurrentHashMap<>(1);
+
+    /**
+     * Constructs the resource cache metrics holder
+     *
+     * @param kind              Kind of the cached resources
+     * @param metricsProvider   Metrics provider
+     */
+    public ResourceCacheMetricsHolder(String kind, MetricsProvider metricsProvider) {
+        super(kind, null, metricsProvider);
+    }
+
+    /**
+     * Counter metric for the reads which were served from the cache.
+     *
+     * @param namespace     Namespace of the resources being read
+     *
+     * @return  Metrics counter
+     */
+    public Counter cacheHitsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "resource.cache.hits", metricsProvider, selectorLabels, cacheHitsCounterMap,
+                "Number of reads of Kubernetes resources served from the informer cache");
+    }
+
+    /**
+     * Counter metric for the reads which could not be served from the cache and were done against the Kubernetes API.
+     *
+     * @param namespace     Namespace of the resources being read
+     *
+     * @return  Metrics counter
+     */
+    public Counter cacheMissesCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "resource.cache.misses", metricsProvider, selectorLabels, cacheMissesCounterMap,
+                "Number of reads of Kubernetes resources which could not be served from the informer cache and were done against the Kubernetes API");
+    }
+}
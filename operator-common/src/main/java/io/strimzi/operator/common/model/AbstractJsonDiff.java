@@ -10,6 +10,13 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.MissingNode;
 import io.fabric8.kubernetes.client.utils.Serialization;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
 /**
  * Abstract class for diffing Json and YAML resources
  */
@@ -21,6 +28,9 @@ public abstract class AbstractJsonDiff {
             .configure(SerializationFeature.WRITE_EMPTY_JSON_ARRAYS, false);
 
     protected static JsonNode lookupPath(JsonNode source, String path) {
+        if (path.isEmpty()) {
+            return source;
+        }
         JsonNode s = source;
         for (String component : path.substring(1).split("/")) {
             if (s.isArray()) {
@@ -36,6 +46,164 @@ public abstract class AbstractJsonDiff {
         return s;
     }
 
+    /**
+     * Walks the source and target trees together and finds the first difference between them which is not ignorable.
+     * Unlike {@code JsonDiff.asJson()}, this does not build the JSON patch of all the differences: the walk stops at
+     * the first significant difference, and the subtree at an ignorable path is skipped as soon as a difference is
+     * found inside it. So a path is ignorable if it, or any path containing it, is matched by {@code isIgnorable}.
+     * Arrays are compared element by element, with the elements beyond the end of the shorter array being differences.
+     *
+     * @param source        The source tree
+     * @param target        The target tree
+     * @param isIgnorable   Tests whether differences at the given JSON pointer (and in the subtree below it) are ignorable
+     * @param onIgnored     Called with the JSON pointer of each ignored subtree
+     *
+     * @return  The JSON pointer of the first significant difference, or null if the trees differ only in ignorable paths
+     */
+    protected static String firstDifference(JsonNode source, JsonNode target, Predicate<String> isIgnorable, Consumer<String> onIgnored) {
+        return new TreeWalker(isIgnorable, onIgnored).walk(source, target);
+    }
+
+    /**
+     * Walks two trees together without building the paths of the nodes it visits. The path of a node is only built
+     * (from the stack of field names and array indexes) when a difference is found at it.
+     */
+    private static class TreeWalker {
+        private static final int NOT_SKIPPING = -1;
+
+        private final Predicate<String> isIgnorable;
+        private final Consumer<String> onIgnored;
+        private final List<Object> segments = new ArrayList<>();
+        private String difference;
+        /**
+         * When a difference is found in an ignorable subtree, the depth of that subtree, so that the walk can skip
+         * the rest of it.
+         */
+        private int skipTo = NOT_SKIPPING;
+
+        TreeWalker(Predicate<String> isIgnorable, Consumer<String> onIgnored) {
+            this.isIgnorable = isIgnorable;
+            this.onIgnored = onIgnored;
+        }
+
+        String walk(JsonNode source, JsonNode target) {
+            walk(source, target, 0);
+            return difference;
+        }
+
+        /**
+         * @return  True if the walk is over, either because a significant difference was found, or because the rest
+         *          of the subtree containing the node at the given depth is ignorable.
+         */
+        private boolean walk(JsonNode source, JsonNode target, int depth) {
+            if (source == target) {
+                return false;
+            } else if (source.isObject() && target.isObject()) {
+                return walkObject(source, target, depth);
+            } else if (source.isArray() && target.isArray()) {
+                return walkArray(source, target, depth);
+            } else if (!source.equals(target)) {
+                return differs(depth);
+            } else {
+                return false;
+            }
+        }
+
+        private boolean walkObject(JsonNode source, JsonNode target, int depth) {
+            Iterator<Map.Entry<String, JsonNode>> fields = source.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode targetValue = target.get(field.getKey());
+                segments.add(field.getKey());
+                boolean done = targetValue == null ? differs(depth + 1) : walk(field.getValue(), targetValue, depth + 1);
+                segments.remove(depth);
+                if (done && isDone(depth)) {
+                    return true;
+                }
+            }
+            Iterator<String> targetNames = target.fieldNames();
+            while (targetNames.hasNext()) {
+                String name = targetNames.next();
+                if (!source.has(name)) {
+                    segments.add(name);
+                    boolean done = differs(depth + 1);
+                    segments.remove(depth);
+                    if (done && isDone(depth)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean walkArray(JsonNode source, JsonNode target, int depth) {
+            int size = Math.max(source.size(), target.size());
+            for (int i = 0; i < size; i++) {
+                segments.add(i);
+                boolean done = i < source.size() && i < target.size() ? walk(source.get(i), target.get(i), depth + 1) : differs(depth + 1);
+                segments.remove(depth);
+                if (done && isDone(depth)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Called when a child of the node at the given depth has finished the walk.
+         *
+         * @return  True if the walk of the node at the given depth is over too
+         */
+        private boolean isDone(int depth) {
+            if (difference != null) {
+                return true;
+            } else if (skipTo <= depth) {
+                // This node is within the ignorable subtree too
+                return true;
+            } else {
+                // The ignorable subtree was a child of this node, so carry on with its other children
+                skipTo = NOT_SKIPPING;
+                return false;
+            }
+        }
+
+        /**
+         * Handles a difference at the node at the given depth (i.e. with the path given by the first depth segments).
+         *
+         * @return  True, because either the difference is significant or the subtree it's in is ignorable
+         */
+        private boolean differs(int depth) {
+            StringBuilder path = new StringBuilder();
+            // The root is never ignorable, so start from its children
+            for (int i = 0; i < depth; i++) {
+                path.append('/');
+                appendEscaped(path, segments.get(i));
+                String prefix = path.toString();
+                if (isIgnorable.test(prefix)) {
+                    onIgnored.accept(prefix);
+                    skipTo = i + 1;
+                    return true;
+                }
+            }
+            difference = depth == 0 ? "" : path.toString();
+            return true;
+        }
+
+        private static void appendEscaped(StringBuilder path, Object segment) {
+            String s = segment.toString();
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c == '~') {
+                    path.append("~0");
+                } else if (c == '/') {
+                    path.append("~1");
+                } else {
+                    path.append(c);
+                }
+            }
+        }
+    }
+
     /**
      * Returns whether the Diff is empty or not.
      *
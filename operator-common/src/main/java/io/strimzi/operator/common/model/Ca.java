@@ -7,8 +7,10 @@ package io.strimzi.operator.common.model;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
+import io.strimzi.api.kafka.model.CertificateKeyAlgorithm;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.CertManager;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.certs.SecretCertProvider;
 import io.strimzi.certs.Subject;
 import io.strimzi.operator.common.Annotations;
@@ -42,6 +44,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -181,6 +184,8 @@ public abstract class Ca {
     private final PasswordGenerator passwordGenerator;
     protected final Reconciliation reconciliation;
     private Clock clock;
+    private CertificateIssuer certificateIssuer = CertificateIssuer.CALLER_THREAD;
+    private KeyAlgorithm keyAlgorithm = KeyAlgorithm.RSA;
 
     /**
      * Enum describing whether an event related to a certificate renewal is happening or not.
@@ -335,6 +340,47 @@ public abstract class Ca {
         this.clock = clock;
     }
 
+    /**
+     * Sets the issuer used to generate the certificates signed by this CA. By default, the certificates are generated
+     * in the calling thread.
+     *
+     * @param certificateIssuer     Certificate issuer which should be used to generate the certificates
+     */
+    public void setCertificateIssuer(CertificateIssuer certificateIssuer) {
+        this.certificateIssuer = certificateIssuer;
+    }
+
+    /**
+     * Sets the algorithm of the private keys generated by this CA. It is used for the keys of the certificates issued
+     * from now on and for the CA key when it is next generated. Existing keys are kept until they are replaced. By
+     * default, RSA keys are generated.
+     *
+     * @param keyAlgorithm  Algorithm of the generated private keys
+     */
+    public void setKeyAlgorithm(KeyAlgorithm keyAlgorithm) {
+        this.keyAlgorithm = keyAlgorithm;
+    }
+
+    /**
+     * Converts the key algorithm from the custom resource to the key algorithm used by the certificate manager.
+     *
+     * @param keyAlgorithm  Key algorithm from the CertificateAuthority section of the custom resource or null if it is
+     *                      not set
+     *
+     * @return  The key algorithm which should be used to generate the private keys
+     */
+    public static KeyAlgorithm keyAlgorithm(CertificateKeyAlgorithm keyAlgorithm) {
+        if (keyAlgorithm == null) {
+            return KeyAlgorithm.RSA;
+        }
+
+        return switch (keyAlgorithm) {
+            case RSA -> KeyAlgorithm.RSA;
+            case ECDSA_P256 -> KeyAlgorithm.ECDSA_P256;
+            case ECDSA_P384 -> KeyAlgorithm.ECDSA_P384;
+        };
+    }
+
     protected static void delete(Reconciliation reconciliation, File file) {
         if (!file.delete()) {
             LOGGER.warnCr(reconciliation, "{} cannot be deleted", file.getName());
@@ -416,7 +462,7 @@ public abstract class Ca {
                                            File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
         LOGGER.infoCr(reconciliation, "Generating certificate {}, signed by CA {}", subject, this);
 
-        certManager.generateCsr(keyFile, csrFile, subject);
+        certManager.generateCsr(keyFile, csrFile, subject, keyAlgorithm);
         certManager.generateCert(csrFile, currentCaKey(), currentCaCertBytes(),
                 certFile, subject, validityDays);
 
@@ -451,11 +497,6 @@ public abstract class Ca {
      * @throws IOException If the cert could not be generated.
      */
     public CertAndKey generateSignedCert(String commonName, String organization) throws IOException {
-        File csrFile = Files.createTempFile("tls", "csr").toFile();
-        File keyFile = Files.createTempFile("tls", "key").toFile();
-        File certFile = Files.createTempFile("tls", "cert").toFile();
-        File keyStoreFile = Files.createTempFile("tls", "p12").toFile();
-
         Subject.Builder subject = new Subject.Builder();
 
         if (organization != null) {
@@ -464,14 +505,45 @@ public abstract class Ca {
 
         subject.withCommonName(commonName);
 
-        CertAndKey result = generateSignedCert(subject.build(),
-                csrFile, keyFile, certFile, keyStoreFile);
+        return generateSignedCert(subject.build());
+    }
 
-        delete(reconciliation, csrFile);
-        delete(reconciliation, keyFile);
-        delete(reconciliation, certFile);
-        delete(reconciliation, keyStoreFile);
-        return result;
+    /**
+     * Generates a certificate signed by this CA using its own temporary files, so that multiple certificates can be
+     * generated at the same time.
+     *
+     * @param subject   Subject of the certificate to be generated
+     *
+     * @return The CertAndKey
+     *
+     * @throws IOException If the cert could not be generated.
+     */
+    protected CertAndKey generateSignedCert(Subject subject) throws IOException {
+        File csrFile = Files.createTempFile("tls", "csr").toFile();
+        File keyFile = Files.createTempFile("tls", "key").toFile();
+        File certFile = Files.createTempFile("tls", "cert").toFile();
+        File keyStoreFile = Files.createTempFile("tls", "p12").toFile();
+
+        try {
+            return generateSignedCert(subject, csrFile, keyFile, certFile, keyStoreFile);
+        } finally {
+            delete(reconciliation, csrFile);
+            delete(reconciliation, keyFile);
+            delete(reconciliation, certFile);
+            delete(reconciliation, keyStoreFile);
+        }
+    }
+
+    /**
+     * Generates a certificate signed by this CA using the certificate issuer of this CA. Depending on the issuer, the
+     * certificate is generated right away in the calling thread or later in one of the issuer worker threads.
+     *
+     * @param subject   Subject of the certificate to be generated
+     *
+     * @return Future which completes with the CertAndKey
+     */
+    protected CompletableFuture<CertAndKey> issueSignedCert(Subject subject) {
+        return certificateIssuer.submit(reconciliation, () -> generateSignedCert(subject));
     }
 
     /**
@@ -1000,7 +1072,7 @@ public abstract class Ca {
                         trustStorePassword = passwordGenerator.generate();
                     }
                     try {
-                        certManager.generateSelfSignedCert(keyFile, certFile, subject, validityDays);
+                        certManager.generateSelfSignedCert(keyFile, certFile, subject, validityDays, keyAlgorithm);
                         certManager.addCertToTrustStore(certFile, CA_CRT, trustStoreFile, trustStorePassword);
                         CertAndKey ca = new CertAndKey(
                                 Files.readAllBytes(keyFile.toPath()),
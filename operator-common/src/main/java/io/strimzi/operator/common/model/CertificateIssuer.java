@@ -0,0 +1,49 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import io.strimzi.operator.common.Reconciliation;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs the tasks issuing certificates. Generating keys and signing certificates is CPU intensive and takes from tens
+ * to hundreds of milliseconds per certificate. Implementations of this interface decide where these tasks run, for
+ * example in a bounded worker pool so that many certificates can be issued concurrently.
+ */
+public interface CertificateIssuer {
+    /**
+     * Issuer which runs the issuance tasks in the calling thread, one after another
+     */
+    CertificateIssuer CALLER_THREAD = new CertificateIssuer() {
+        @Override
+        public <T> CompletableFuture<T> submit(Reconciliation reconciliation, Callable<T> task) {
+            try {
+                return CompletableFuture.completedFuture(task.call());
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+    };
+
+    /**
+     * Issues one or more certificates.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param task              Task issuing the certificates
+     *
+     * @return  Future which completes with the result of the task
+     *
+     * @param <T>   Type of the result of the task
+     */
+    <T> CompletableFuture<T> submit(Reconciliation reconciliation, Callable<T> task);
+
+    /**
+     * Stops the issuer. Issuers which do not use their own threads do not need to do anything.
+     */
+    default void stop() {
+    }
+}
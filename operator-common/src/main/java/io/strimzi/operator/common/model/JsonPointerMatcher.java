@@ -0,0 +1,167 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Matches JSON pointers (such as the paths in a JSON patch) against a set of path templates. The templates are
+ * compiled once into a trie of their segments, so a pointer is matched segment by segment against only the templates
+ * sharing its prefix, without the backtracking of a regular expression with many alternatives and without allocating.
+ *
+ * <p>Each template is a JSON pointer (with {@code ~1} for {@code /} and {@code ~0} for {@code ~} in names) whose
+ * segments can also be:</p>
+ * <ul>
+ *     <li>{@code *}, which matches any single segment, such as an array index,</li>
+ *     <li>{@code prefix*}, which matches a segment starting with {@code prefix} together with all the segments after it,</li>
+ *     <li>{@code **} as the last segment, which matches all the segments after it.</li>
+ * </ul>
+ *
+ * <p>For example {@code /spec/template/spec/containers/*}{@code /resources} matches
+ * {@code /spec/template/spec/containers/0/resources} but not {@code /spec/template/spec/containers/0/resources/limits},
+ * and {@code /metadata/annotations/example.com~1*} matches {@code /metadata/annotations/example.com~1foo}.</p>
+ */
+public class JsonPointerMatcher {
+    private static final String ANY_SEGMENT = "*";
+    private static final String ANY_SEGMENTS = "**";
+
+    private final Node root = new Node();
+    private final List<String> templates;
+
+    private JsonPointerMatcher(List<String> templates) {
+        this.templates = templates;
+        for (String template : templates) {
+            add(template);
+        }
+    }
+
+    /**
+     * Compiles a matcher from path templates
+     *
+     * @param templates     The path templates
+     *
+     * @return  The matcher
+     */
+    public static JsonPointerMatcher compile(String... templates) {
+        return new JsonPointerMatcher(List.of(templates));
+    }
+
+    /**
+     * Compiles a matcher which matches the paths matched by this matcher and by the additional templates
+     *
+     * @param templates     The additional path templates
+     *
+     * @return  The matcher
+     */
+    public JsonPointerMatcher and(String... templates) {
+        List<String> all = new ArrayList<>(this.templates);
+        all.addAll(List.of(templates));
+        return new JsonPointerMatcher(all);
+    }
+
+    private void add(String template) {
+        if (!template.startsWith("/")) {
+            throw new IllegalArgumentException("Path template " + template + " does not start with /");
+        }
+        Node node = root;
+        String[] segments = template.substring(1).split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (ANY_SEGMENTS.equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("Path template " + template + " has ** before its last segment");
+                }
+                node.prefixes.add("");
+                return;
+            } else if (ANY_SEGMENT.equals(segment)) {
+                if (node.anySegment == null) {
+                    node.anySegment = new Node();
+                }
+                node = node.anySegment;
+            } else if (segment.endsWith("*")) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("Path template " + template + " has a prefix segment before its last segment");
+                }
+                node.prefixes.add(segment.substring(0, segment.length() - 1));
+                return;
+            } else {
+                node = node.literal(segment);
+            }
+        }
+        node.terminal = true;
+    }
+
+    /**
+     * Tests whether a JSON pointer matches any of the templates
+     *
+     * @param pointer   The JSON pointer
+     *
+     * @return  True if the pointer matches
+     */
+    public boolean matches(String pointer) {
+        return pointer.startsWith("/") && matches(root, pointer, 1);
+    }
+
+    /**
+     * @param node      The node of the trie
+     * @param pointer   The JSON pointer
+     * @param start     The index of the start of the next segment of the pointer
+     *
+     * @return  True if the rest of the pointer matches the subtrie at the node
+     */
+    private static boolean matches(Node node, String pointer, int start) {
+        for (int i = 0; i < node.prefixes.size(); i++) {
+            if (pointer.startsWith(node.prefixes.get(i), start)) {
+                return true;
+            }
+        }
+        int end = pointer.indexOf('/', start);
+        boolean last = end < 0;
+        if (last) {
+            end = pointer.length();
+        }
+        for (int i = 0; i < node.names.size(); i++) {
+            String name = node.names.get(i);
+            if (name.length() == end - start
+                    && pointer.startsWith(name, start)
+                    && matchesChild(node.children.get(i), pointer, end, last)) {
+                return true;
+            }
+        }
+        return node.anySegment != null && matchesChild(node.anySegment, pointer, end, last);
+    }
+
+    private static boolean matchesChild(Node child, String pointer, int end, boolean last) {
+        return last ? child.terminal : matches(child, pointer, end + 1);
+    }
+
+    @Override
+    public String toString() {
+        return "JsonPointerMatcher(" + String.join(", ", templates) + ")";
+    }
+
+    /**
+     * Node of the trie. Its children are kept in lists rather than a map, because a node only has a few of them, and
+     * looking them up in a map would need a substring of the pointer.
+     */
+    private static class Node {
+        private final List<String> names = new ArrayList<>(1);
+        private final List<Node> children = new ArrayList<>(1);
+        private final List<String> prefixes = new ArrayList<>(0);
+        private Node anySegment;
+        private boolean terminal;
+
+        private Node literal(String name) {
+            int index = names.indexOf(name);
+            if (index < 0) {
+                names.add(name);
+                children.add(new Node());
+                index = names.size() - 1;
+            }
+            return children.get(index);
+        }
+    }
+}
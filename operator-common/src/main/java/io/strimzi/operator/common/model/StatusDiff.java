@@ -9,15 +9,13 @@ import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.api.kafka.model.status.Status;
 import io.strimzi.operator.common.ReconciliationLogger;
 
-import java.util.regex.Pattern;
-
 /**
  * Diffs status section of a custom resource
  */
 public class StatusDiff extends AbstractJsonDiff {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StatusDiff.class.getName());
-    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
-            "^(/conditions/[0-9]+/lastTransitionTime)$");
+    private static final JsonPointerMatcher IGNORABLE_PATHS = JsonPointerMatcher.compile(
+            "/conditions/*/lastTransitionTime");
 
     private final boolean isEmpty;
 
@@ -37,7 +35,7 @@ public class StatusDiff extends AbstractJsonDiff {
         for (JsonNode d : diff) {
             String pathValue = d.get("path").asText();
 
-            if (IGNORABLE_PATHS.matcher(pathValue).matches()) {
+            if (IGNORABLE_PATHS.matches(pathValue)) {
                 LOGGER.debugOp("Ignoring Status diff {}", d);
                 continue;
             }
@@ -8,7 +8,9 @@ import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.Informable;
@@ -20,16 +22,21 @@ import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.VertxUtil;
+import io.strimzi.operator.common.metrics.ResourceCacheMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.net.HttpURLConnection;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -54,6 +61,9 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      */
     public final static String ANY_NAMESPACE = "*";
 
+    private volatile InformerResourceCache<T> cache;
+    private volatile String serverSideApplyFieldManager;
+
     /**
      * Constructor.
      * @param vertx The vertx instance.
@@ -99,34 +109,132 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             return Future.failedFuture("Given name " + name + " incompatible with desired name " + desired.getMetadata().getName());
         }
 
+        InformerResourceCache<T> cache = this.cache;
+        String fieldManager = this.serverSideApplyFieldManager;
         Promise<ReconcileResult<T>> promise = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
             future -> {
-                T current = operation().inNamespace(namespace).withName(name).get();
-                if (desired != null) {
-                    if (current == null) {
-                        LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
-                        internalCreate(reconciliation, namespace, name, desired).onComplete(future);
-                    } else {
-                        LOGGER.debugCr(reconciliation, "{} {}/{} already exists, updating it", resourceKind, namespace, name);
-                        internalUpdate(reconciliation, namespace, name, current, desired).onComplete(future);
-                    }
-                } else {
-                    if (current != null) {
-                        // Deletion is desired
-                        LOGGER.debugCr(reconciliation, "{} {}/{} exist, deleting it", resourceKind, namespace, name);
-                        internalDelete(reconciliation, namespace, name).onComplete(future);
-                    } else {
-                        LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, noop", resourceKind, namespace, name);
-                        future.complete(ReconcileResult.noop(null));
+                if (desired != null && fieldManager != null) {
+                    internalApply(reconciliation, namespace, name, desired, fieldManager, cache).onComplete(future);
+                    return;
+                }
+
+                if (cache != null && cache.covers(namespace, name)) {
+                    T cached = cache.get(namespace, name);
+
+                    // When the resource is not in the cache and should be deleted, we do a live read to not miss
+                    // resources which were created only recently and are not in the cache yet. A noop decided
+                    // against a cached resource which changed in the meantime is corrected by the next reconciliation.
+                    if (cached != null || desired != null) {
+                        cache.hit(namespace);
+                        reconcile(reconciliation, namespace, name, withPrecondition(desired, cached), cached)
+                                .recover(error -> {
+                                    if (isOutdated(error)) {
+                                        LOGGER.debugCr(reconciliation, "{} {}/{} has changed since it was cached, retrying with a live read", resourceKind, namespace, name);
+                                        cache.miss(namespace);
+                                        return getLiveAsync(namespace, name)
+                                                .compose(current -> reconcile(reconciliation, namespace, name, desired, current));
+                                    } else {
+                                        return Future.failedFuture(error);
+                                    }
+                                })
+                                .onComplete(future);
+                        return;
                     }
                 }
 
+                if (cache != null) {
+                    cache.miss(namespace);
+                }
+
+                reconcile(reconciliation, namespace, name, desired, getLive(namespace, name)).onComplete(future);
             },
             false,
             promise
         );
-        return promise.future();
+        return promise.future().onSuccess(result -> written(namespace, name, result));
+    }
+
+    /**
+     * Records the write done by the reconciliation in the cache, so that the following reads do not return the
+     * resource from the cache until the cache observes the write.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param result        Result of the reconciliation
+     */
+    private void written(String namespace, String name, ReconcileResult<T> result) {
+        InformerResourceCache<T> cache = this.cache;
+
+        if (cache != null && !(result instanceof ReconcileResult.Noop)) {
+            cache.written(namespace, name, result.resourceOpt().orElse(null));
+        }
+    }
+
+    /**
+     * Reconciles the resource with the given namespace and name against its current state.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param namespace         Namespace of the resource
+     * @param name              Name of the resource
+     * @param desired           Desired resource or null if the resource should be deleted
+     * @param current           Current resource or null if it does not exist
+     *
+     * @return  Future which completes when the resource has been reconciled
+     */
+    private Future<ReconcileResult<T>> reconcile(Reconciliation reconciliation, String namespace, String name, T desired, T current) {
+        if (desired != null) {
+            if (current == null) {
+                LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
+                return internalCreate(reconciliation, namespace, name, desired);
+            } else {
+                LOGGER.debugCr(reconciliation, "{} {}/{} already exists, updating it", resourceKind, namespace, name);
+                return internalUpdate(reconciliation, namespace, name, current, desired);
+            }
+        } else {
+            if (current != null) {
+                // Deletion is desired
+                LOGGER.debugCr(reconciliation, "{} {}/{} exist, deleting it", resourceKind, namespace, name);
+                return internalDelete(reconciliation, namespace, name);
+            } else {
+                LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, noop", resourceKind, namespace, name);
+                return Future.succeededFuture(ReconcileResult.noop(null));
+            }
+        }
+    }
+
+    /**
+     * Copies the desired resource and sets the resource version of the cached resource in it. When the desired resource
+     * is patched or replaced, the resource version is used by the Kubernetes API as a precondition. So when the cached
+     * resource is outdated, the patch fails with a conflict instead of being decided against an outdated state.
+     *
+     * @param desired   Desired resource or null if the resource should be deleted
+     * @param cached    Cached resource or null if it is not in the cache
+     *
+     * @return  Copy of the desired resource with the cached resource version or the original desired resource if there
+     *          is no cached resource
+     */
+    private T withPrecondition(T desired, T cached) {
+        if (desired != null && cached != null) {
+            T copy = client.getKubernetesSerialization().clone(desired);
+            copy.getMetadata().setResourceVersion(cached.getMetadata().getResourceVersion());
+            return copy;
+        } else {
+            return desired;
+        }
+    }
+
+    /**
+     * Checks whether the error indicates that the resource read from the cache was outdated. That happens when the
+     * resource was created or changed (conflict) or deleted (not found) after it was cached.
+     *
+     * @param error     Error which should be checked
+     *
+     * @return  True if the error is a conflict or not found error. False otherwise.
+     */
+    private static boolean isOutdated(Throwable error) {
+        return error instanceof KubernetesClientException kce
+                && (kce.getCode() == HttpURLConnection.HTTP_CONFLICT || kce.getCode() == HttpURLConnection.HTTP_NOT_FOUND);
     }
 
     /**
@@ -259,7 +367,8 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
 
     /**
      * Method for patching or replacing a resource. By default, is using JSON-type patch. Overriding this method can be
-     * used to use replace instead of patch or different patch strategies.
+     * used to use replace instead of patch or different patch strategies. When the current resource was read from the
+     * cache, the desired resource carries its resource version which the Kubernetes API uses as a precondition.
      *
      * @param namespace     Namespace of the resource
      * @param name          Name of the resource
@@ -271,6 +380,69 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         return operation().inNamespace(namespace).withName(name).patch(PatchContext.of(PatchType.JSON), desired);
     }
 
+    /**
+     * Creates or updates the resource with the given namespace and name using server-side apply. The desired resource is
+     * sent to the Kubernetes API without reading the current resource first. The API server merges it with the current
+     * resource and takes over the ownership of the fields set in the desired resource for the field manager. Whether
+     * the resource was created or patched is decided from the applied resource returned by the API server. When the
+     * cache has the resource in the same resource version as the applied resource, the apply did not change anything
+     * and it is reported as noop. Without the cache, an apply which did not change anything is reported as patched.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param namespace         Namespace of the resource
+     * @param name              Name of the resource
+     * @param desired           Desired resource
+     * @param fieldManager      Name of the field manager used for the server-side apply
+     * @param cache             Cache of the resources or null if the cache is not enabled
+     *
+     * @return  Future which completes when the resource has been applied
+     */
+    protected Future<ReconcileResult<T>> internalApply(Reconciliation reconciliation, String namespace, String name, T desired, String fieldManager, InformerResourceCache<T> cache) {
+        String previousVersion = null;
+
+        if (cache != null && cache.covers(namespace, name)) {
+            previousVersion = cache.resourceVersion(namespace, name);
+            cache.hit(namespace);
+        }
+
+        try {
+            T result = operation().inNamespace(namespace).resource(desired).fieldManager(fieldManager).forceConflicts().serverSideApply();
+            LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been applied", resourceKind, name, namespace);
+
+            if (previousVersion != null && previousVersion.equals(result.getMetadata().getResourceVersion())) {
+                return Future.succeededFuture(ReconcileResult.noop(result));
+            } else if (wasCreatedByApply(result, fieldManager)) {
+                return Future.succeededFuture(ReconcileResult.created(result));
+            } else {
+                return Future.succeededFuture(ReconcileResult.patched(result));
+            }
+        } catch (Exception e) {
+            LOGGER.debugCr(reconciliation, "Caught exception while applying {} {} in namespace {}", resourceKind, name, namespace, e);
+            return Future.failedFuture(e);
+        }
+    }
+
+    /**
+     * Checks whether the applied resource was created by the server-side apply. The API server sets the time of the
+     * managed fields entry of the field manager whenever its apply changes the resource. When the apply created the
+     * resource, this time is the same as the creation timestamp of the resource.
+     *
+     * @param applied       Resource returned by the server-side apply
+     * @param fieldManager  Name of the field manager used for the server-side apply
+     *
+     * @return  True if the resource was created by the apply. False otherwise.
+     */
+    private static boolean wasCreatedByApply(HasMetadata applied, String fieldManager) {
+        ObjectMeta metadata = applied.getMetadata();
+
+        return metadata.getCreationTimestamp() != null
+                && metadata.getManagedFields() != null
+                && metadata.getManagedFields().stream()
+                    .anyMatch(entry -> fieldManager.equals(entry.getManager())
+                            && "Apply".equals(entry.getOperation())
+                            && metadata.getCreationTimestamp().equals(entry.getTime()));
+    }
+
     /**
      * Creates a resource with the given namespace and name with the given desired state
      * and completes the given future accordingly.
@@ -296,7 +468,13 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
-        return operation().inNamespace(namespace).withName(name).get();
+
+        T cached = getFromCache(namespace, name);
+        if (cached != null) {
+            return cached;
+        }
+
+        return getLive(namespace, name);
     }
 
     /**
@@ -310,7 +488,108 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             return Future.failedFuture(new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name."));
         }
 
-        return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
+        T cached = getFromCache(namespace, name);
+        if (cached != null) {
+            return Future.succeededFuture(cached);
+        }
+
+        return getLiveAsync(namespace, name);
+    }
+
+    /**
+     * Synchronously gets the resource from the Kubernetes API and records the read in the cache when it is enabled.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  The resource or null if it does not exist
+     */
+    private T getLive(String namespace, String name) {
+        T resource = operation().inNamespace(namespace).withName(name).get();
+        readLive(namespace, name, resource);
+        return resource;
+    }
+
+    /**
+     * Asynchronously gets the resource from the Kubernetes API and records the read in the cache when it is enabled.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Future with the resource or null if it does not exist
+     */
+    private Future<T> getLiveAsync(String namespace, String name) {
+        return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name))
+                .onSuccess(resource -> readLive(namespace, name, resource));
+    }
+
+    /**
+     * Records the live read of the resource in the cache when it is enabled.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param resource      The resource read from the Kubernetes API or null if it does not exist
+     */
+    private void readLive(String namespace, String name, T resource) {
+        InformerResourceCache<T> cache = this.cache;
+
+        if (cache != null) {
+            cache.readLive(namespace, name, resource);
+        }
+    }
+
+    /**
+     * Gets the resource from the cache when the cache is enabled. Only resources found in the cache are returned. When
+     * the resource is not in the cache, it might have been created only recently, so the caller should do a live read.
+     * The same applies when the resource was written through this operator and the cache did not observe the write yet.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Resource from the cache or null if it is not cached
+     */
+    private T getFromCache(String namespace, String name) {
+        InformerResourceCache<T> cache = this.cache;
+
+        if (cache != null) {
+            T cached = cache.covers(namespace, name) ? cache.get(namespace, name) : null;
+
+            if (cached != null) {
+                cache.hit(namespace);
+            } else {
+                cache.miss(namespace);
+            }
+
+            return cached;
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Lists the resources from the cache when the cache is enabled and can serve given selector.
+     *
+     * @param namespace     Namespace of the resources
+     * @param selector      Selector of the resources
+     *
+     * @return  Resources from the cache or null if the list cannot be served from the cache
+     */
+    private List<T> listFromCache(String namespace, Labels selector) {
+        InformerResourceCache<T> cache = this.cache;
+
+        if (cache != null) {
+            List<T> cached = cache.list(namespace, selector);
+
+            if (cached != null) {
+                cache.hit(namespace);
+            } else {
+                cache.miss(namespace);
+            }
+
+            return cached;
+        } else {
+            return null;
+        }
     }
 
     /**
@@ -320,6 +599,11 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return A list of matching resources.
      */
     public List<T> list(String namespace, Labels selector) {
+        List<T> cached = listFromCache(namespace, selector);
+        if (cached != null) {
+            return cached;
+        }
+
         return list(applySelector(applyNamespace(namespace), selector));
     }
 
@@ -347,6 +631,11 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        List<T> cached = listFromCache(namespace, selector);
+        if (cached != null) {
+            return Future.succeededFuture(cached);
+        }
+
         return listAsync(applySelector(applyNamespace(namespace), selector));
     }
 
@@ -402,6 +691,68 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             () -> predicate.test(namespace, name));
     }
 
+    /**
+     * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * matches the predicate. Unlike the polling {@code waitFor} methods, it watches the resource and evaluates the
+     * predicate against the watch events. So it completes as soon as the resource changes without doing any additional
+     * requests to the Kubernetes API. The predicate is evaluated with null when the resource does not exist or gets
+     * deleted. When the watch cannot be opened or fails, it falls back to polling with the remaining time.
+     *
+     * @param reconciliation The reconciliation
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds used when falling back to polling.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param predicate The predicate evaluated against the resource.
+     * @return A future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * matches the predicate.
+     */
+    public Future<Void> waitForWatched(Reconciliation reconciliation, String namespace, String name, String logState, long pollIntervalMs, long timeoutMs, Predicate<T> predicate) {
+        return waitForWatched(reconciliation, namespace, name, logState, pollIntervalMs, timeoutMs, predicate, (ns, n) -> predicate.test(operation().inNamespace(ns).withName(n).get()));
+    }
+
+    /**
+     * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * matches the predicate. It watches the resource and evaluates the predicate against the watch events. When the
+     * watch cannot be opened or fails, it falls back to polling with the {@code pollPredicate} for the remaining time.
+     *
+     * @param reconciliation The reconciliation
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds used when falling back to polling.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param predicate The predicate evaluated against the watched resource (null when the resource does not exist).
+     * @param pollPredicate The predicate used when falling back to polling.
+     * @return A future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * matches the predicate.
+     */
+    protected Future<Void> waitForWatched(Reconciliation reconciliation, String namespace, String name, String logState, long pollIntervalMs, long timeoutMs,
+                                          Predicate<T> predicate, BiPredicate<String, String> pollPredicate) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        R resourceOp = operation().inNamespace(namespace).withName(name);
+
+        return resourceSupport.selfClosingWatch(
+                    reconciliation,
+                    resourceOp,
+                    resourceOp,
+                    timeoutMs,
+                    "observe " + resourceKind + " " + namespace + "/" + name + " to get " + logState,
+                    (action, resource) -> predicate.test(action == Watcher.Action.DELETED ? null : resource) ? Boolean.TRUE : null,
+                    resource -> predicate.test(resource) ? Boolean.TRUE : null)
+                .<Void>mapEmpty()
+                .recover(error -> {
+                    if (error instanceof TimeoutException) {
+                        LOGGER.errorCr(reconciliation, "Exceeded timeout of {}ms while waiting for {} resource {} in namespace {} to be {}", timeoutMs, resourceKind, name, namespace, logState);
+                        return Future.failedFuture(error);
+                    } else {
+                        LOGGER.warnCr(reconciliation, "Failed to watch {} resource {} in namespace {}. Falling back to polling.", resourceKind, name, namespace, error);
+                        return waitFor(reconciliation, namespace, name, logState, pollIntervalMs, Math.max(deadline - System.currentTimeMillis(), 0), pollPredicate);
+                    }
+                });
+    }
+
     /**
      * Asynchronously deletes the resource with the given {@code name} in the given {@code namespace}.
      *
@@ -413,7 +764,9 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return                  A Future with True if the deletion succeeded and False when it failed.
      */
     public Future<Void> deleteAsync(Reconciliation reconciliation, String namespace, String name, boolean cascading) {
-        return internalDelete(reconciliation, namespace, name, cascading).map((Void) null);
+        return internalDelete(reconciliation, namespace, name, cascading)
+                .onSuccess(result -> written(namespace, name, result))
+                .map((Void) null);
     }
 
     /**
@@ -471,6 +824,58 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         return informable.runnableInformer(resyncIntervalMs);
     }
 
+    /**
+     * Enables the informer-backed cache for this resource operator. The cache is used to serve the reads of the
+     * resources owned by Strimzi (the get, list and reconcile methods) from memory instead of the Kubernetes API. It
+     * creates and starts one informer for each of the namespaces. The returned cache should be stopped when the
+     * operator shuts down.
+     *
+     * @param namespaces        Namespaces which should be cached or a set with * for all namespaces
+     * @param resyncIntervalMs  The interval in which the resync of the informers should happen in milliseconds
+     * @param metrics           Metrics holder for the cache hit and miss metrics
+     *
+     * @return  The started cache
+     */
+    public InformerResourceCache<T> enableCache(Set<String> namespaces, long resyncIntervalMs, ResourceCacheMetricsHolder metrics) {
+        Map<String, SharedIndexInformer<T>> informers = new HashMap<>(namespaces.size());
+
+        if (namespaces.contains(ANY_NAMESPACE)) {
+            informers.put(ANY_NAMESPACE, informer(ANY_NAMESPACE, InformerResourceCache.CACHED_RESOURCES_SELECTOR, resyncIntervalMs));
+        } else {
+            for (String namespace : namespaces) {
+                informers.put(namespace, informer(namespace, InformerResourceCache.CACHED_RESOURCES_SELECTOR, resyncIntervalMs));
+            }
+        }
+
+        InformerResourceCache<T> cache = new InformerResourceCache<>(resourceKind, informers, client.getKubernetesSerialization(), metrics);
+        cache.start();
+        useCache(cache);
+
+        return cache;
+    }
+
+    /**
+     * Enables the server-side apply for this resource operator. When enabled, the resources which should exist are
+     * reconciled by applying the desired resource instead of reading the current resource, diffing it with the desired
+     * resource and patching it. The deletion of resources is not affected. Only fields which are set in the desired
+     * resources are managed by the operator. Fields which were set by the previous versions of the desired resources
+     * before the server-side apply was enabled and which are not set anymore are not removed.
+     *
+     * @param fieldManager  Name of the field manager used for the server-side apply
+     */
+    public void enableServerSideApply(String fieldManager) {
+        this.serverSideApplyFieldManager = fieldManager;
+    }
+
+    /**
+     * Sets the cache used by this resource operator.
+     *
+     * @param cache     Cache which should be used
+     */
+    /*test*/ void useCache(InformerResourceCache<T> cache) {
+        this.cache = cache;
+    }
+
     /**
      * Returns the Kubernetes client for given resource type
      *
@@ -13,13 +13,13 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.Listable;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.JsonPointerMatcher;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Abstract resource creation, for a generic resource type {@code R}.
@@ -65,9 +65,9 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     }
 
     /**
-     * @return  Returns the Pattern for matching paths which can be ignored in the resource diff
+     * @return  Returns the matcher of the paths which can be ignored in the resource diff
      */
-    protected Pattern ignorablePaths() {
+    protected JsonPointerMatcher ignorablePaths() {
         return ResourceDiff.DEFAULT_IGNORABLE_PATHS;
     }
 
@@ -7,6 +7,8 @@ package io.strimzi.operator.common.operator.resource;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 
@@ -15,6 +17,7 @@ import java.io.StringReader;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.Collections;
 import java.util.HashSet;
@@ -131,6 +134,22 @@ public interface ConfigParameterParser<T> {
         };
     }
 
+    /**
+     * Non-negative Number
+     * @param parser ConfigParameterParser object
+     * @param <T>    Type of parameter
+     * @return Zero or positive number
+     */
+    static <T extends Number> ConfigParameterParser<T> nonNegative(ConfigParameterParser<T> parser) {
+        return configValue -> {
+            var value = parser.parse(configValue);
+            if (value.longValue() < 0) {
+                throw new InvalidConfigurationException("Failed to parse. Negative value is not supported for this configuration");
+            }
+            return value;
+        };
+    }
+
     /**
      * A Java Boolean
      */
@@ -153,6 +172,28 @@ public interface ConfigParameterParser<T> {
         }
     };
 
+    /**
+     * The type of the certificate manager
+     */
+    ConfigParameterParser<CertManagerType> CERT_MANAGER_TYPE = configValue -> {
+        try {
+            return CertManagerType.forValue(configValue);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidConfigurationException("Failed to parse. Value " + configValue + " is not a valid certificate manager type", e);
+        }
+    };
+
+    /**
+     * The algorithm of the generated private keys
+     */
+    ConfigParameterParser<KeyAlgorithm> KEY_ALGORITHM = configValue -> {
+        try {
+            return KeyAlgorithm.valueOf(configValue.trim().toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidConfigurationException("Failed to parse. Value " + configValue + " is not a valid key algorithm", e);
+        }
+    };
+
     /**
      * A kubernetes LocalObjectReference list
      */
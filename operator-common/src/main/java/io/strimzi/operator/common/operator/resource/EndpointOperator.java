@@ -9,6 +9,9 @@ import io.fabric8.kubernetes.api.model.EndpointsList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.readiness.Readiness;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
 /**
@@ -28,4 +31,21 @@ public class EndpointOperator extends AbstractReadyNamespacedResourceOperator<Ku
     protected MixedOperation<Endpoints, EndpointsList, Resource<Endpoints>> operation() {
         return client.endpoints();
     }
+
+    /**
+     * Waits for the endpoints to get ready. The readiness is evaluated from the watch events, so it completes as soon
+     * as the endpoints get ready. It falls back to polling only when the watch fails.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param namespace         Namespace of the endpoints
+     * @param name              Name of the endpoints
+     * @param pollIntervalMs    How often should it poll for readiness when the watch fails
+     * @param timeoutMs         How long should it wait for the endpoints to get ready
+     *
+     * @return  A future which completes when the endpoints are ready or times out
+     */
+    @Override
+    public Future<Void> readiness(Reconciliation reconciliation, String namespace, String name, long pollIntervalMs, long timeoutMs) {
+        return waitForWatched(reconciliation, namespace, name, "ready", pollIntervalMs, timeoutMs, endpoints -> endpoints != null && Readiness.isEndpointsReady(endpoints), this::isReady);
+    }
 }
@@ -0,0 +1,343 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.strimzi.operator.common.InformerUtils;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.ResourceCacheMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Informer-backed cache of the Kubernetes resources of one kind. It is used by the resource operators to serve the
+ * reads done during the reconciliation from memory instead of the Kubernetes API. Only the resources owned by Strimzi
+ * (resources with the strimzi.io/cluster label) are cached, so the cache does not hold for example all the Secrets or
+ * ConfigMaps in the watched namespaces.
+ *
+ * The cache never answers a read which it cannot answer reliably. When the informer for given namespace does not exist
+ * or is not synced yet, or when a list uses a selector which does not select only the cached resources, the caller is
+ * expected to do a live read instead. The resources returned by the cache are copies, so the callers can modify them
+ * without corrupting the cache.
+ *
+ * The writes done through the resource operator are recorded in the cache. Until the informer observes the written
+ * resource version (or the deletion), the cache does not answer reads of the written resource, so the callers always
+ * read their own writes.
+ *
+ * @param <T>   Type of the cached resource
+ */
+public class InformerResourceCache<T extends HasMetadata> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(InformerResourceCache.class);
+    private static final long STOP_TIMEOUT_MS = 5_000L;
+    private static final String DELETED = "";
+
+    /**
+     * The label which has to be present on all cached resources
+     */
+    public static final String CACHED_RESOURCES_LABEL = Labels.STRIMZI_CLUSTER_LABEL;
+
+    /**
+     * Label selector selecting the cached resources
+     */
+    public static final LabelSelector CACHED_RESOURCES_SELECTOR = new LabelSelectorBuilder()
+            .addNewMatchExpression()
+                .withKey(CACHED_RESOURCES_LABEL)
+                .withOperator("Exists")
+            .endMatchExpression()
+            .build();
+
+    private final String resourceKind;
+    private final Map<String, SharedIndexInformer<T>> informers;
+    private final KubernetesSerialization serialization;
+    private final ResourceCacheMetricsHolder metrics;
+    private final Map<String, String> unobservedWrites = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the cache. The informers have to use the {@link #CACHED_RESOURCES_SELECTOR} and should not be started
+     * yet. They are started by the {@link #start()} method.
+     *
+     * @param resourceKind  Kind of the cached resources (used for logging)
+     * @param informers     Map with the informers for the individual namespaces. The key is the namespace or * for a
+     *                      cluster-wide informer.
+     * @param serialization Kubernetes serialization used to copy the cached resources
+     * @param metrics       Metrics holder for the cache hit and miss metrics
+     */
+    public InformerResourceCache(String resourceKind, Map<String, SharedIndexInformer<T>> informers, KubernetesSerialization serialization, ResourceCacheMetricsHolder metrics) {
+        this.resourceKind = resourceKind;
+        this.informers = informers;
+        this.serialization = serialization;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Starts the informers
+     */
+    public void start() {
+        for (SharedIndexInformer<T> informer : informers.values()) {
+            informer.exceptionHandler((isStarted, throwable) -> InformerUtils.loggingExceptionHandler(resourceKind, isStarted, throwable));
+            informer.addEventHandler(new WriteObserver());
+            informer.start();
+        }
+
+        LOGGER.infoOp("Started the {} cache for namespaces {}", resourceKind, informers.keySet());
+    }
+
+    /**
+     * Stops the informers
+     */
+    @SuppressWarnings("unchecked")
+    public void stop() {
+        InformerUtils.stopAll(STOP_TIMEOUT_MS, informers.values().toArray(new SharedIndexInformer[0]));
+    }
+
+    /**
+     * @return  True if all informers of this cache are synced. False otherwise.
+     */
+    public boolean isSynced() {
+        return informers.values().stream().allMatch(SharedIndexInformer::hasSynced);
+    }
+
+    /**
+     * Indicates whether the cache can answer reads in given namespace.
+     *
+     * @param namespace     Namespace
+     *
+     * @return  True if the namespace is covered by a synced informer. False otherwise.
+     */
+    public boolean covers(String namespace) {
+        return informer(namespace) != null;
+    }
+
+    /**
+     * Records a write of the resource done through the resource operator.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param resource      The resource returned by the Kubernetes API or null if the resource was deleted
+     */
+    void written(String namespace, String name, T resource) {
+        unobservedWrites.put(Cache.namespaceKeyFunc(namespace, name), resource != null ? resource.getMetadata().getResourceVersion() : DELETED);
+    }
+
+    /**
+     * Indicates whether the cache can answer reads of given resource. That is the case when the namespace is covered
+     * by the cache and the informer already observed the last write of the resource done through the resource operator.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  True if the cache can answer reads of the resource. False otherwise.
+     */
+    public boolean covers(String namespace, String name) {
+        return covers(namespace) && hasObservedWrite(namespace, name);
+    }
+
+    /**
+     * Records a live read of the resource. When the informer has the same resource version as the Kubernetes API, it
+     * is up-to-date. So it answers the reads of the resource again even when it never observed the last write, for
+     * example because the resource was changed again in the meantime.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param resource      The resource read from the Kubernetes API or null if it does not exist
+     */
+    void readLive(String namespace, String name, T resource) {
+        String key = Cache.namespaceKeyFunc(namespace, name);
+
+        if (unobservedWrites.containsKey(key)
+                && Objects.equals(resourceVersion(namespace, name), resource != null ? resource.getMetadata().getResourceVersion() : null)) {
+            unobservedWrites.remove(key);
+        }
+    }
+
+    /**
+     * Checks whether the informer observed the last write of given resource done through the resource operator.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  True if the write was observed or there was no write. False otherwise.
+     */
+    private boolean hasObservedWrite(String namespace, String name) {
+        String key = Cache.namespaceKeyFunc(namespace, name);
+        String written = unobservedWrites.get(key);
+
+        if (written == null) {
+            return true;
+        }
+
+        String cachedVersion = resourceVersion(namespace, name);
+
+        if (written.equals(cachedVersion != null ? cachedVersion : DELETED)) {
+            unobservedWrites.remove(key, written);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether the informer observed all writes in given namespace done through the resource operator.
+     *
+     * @param namespace     Namespace or * for all namespaces
+     *
+     * @return  True if all writes were observed. False otherwise.
+     */
+    private boolean hasObservedWrites(String namespace) {
+        for (String key : unobservedWrites.keySet()) {
+            String[] namespaceAndName = key.split("/", 2);
+
+            if ((AbstractNamespacedResourceOperator.ANY_NAMESPACE.equals(namespace) || namespace.equals(namespaceAndName[0]))
+                    && !hasObservedWrite(namespaceAndName[0], namespaceAndName[1])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the resource from the cache. Null is returned both when the resource does not exist and when the namespace
+     * is not covered by the cache. Use {@link #covers(String)} to distinguish these two cases.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Copy of the cached resource or null if it is not in the cache
+     */
+    public T get(String namespace, String name) {
+        SharedIndexInformer<T> informer = informer(namespace);
+
+        if (informer != null) {
+            T resource = informer.getStore().getByKey(Cache.namespaceKeyFunc(namespace, name));
+            return resource != null ? serialization.clone(resource) : null;
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the resource version of the cached resource. Null is returned both when the resource does not exist and when
+     * the namespace is not covered by the cache. Use {@link #covers(String)} to distinguish these two cases.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Resource version of the cached resource or null if it is not in the cache
+     */
+    public String resourceVersion(String namespace, String name) {
+        SharedIndexInformer<T> informer = informer(namespace);
+
+        if (informer != null) {
+            T resource = informer.getStore().getByKey(Cache.namespaceKeyFunc(namespace, name));
+            return resource != null ? resource.getMetadata().getResourceVersion() : null;
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Lists the resources from the cache. Only selectors which select the cached resources (which use the
+     * {@link #CACHED_RESOURCES_LABEL} label) can be served from the cache.
+     *
+     * @param namespace     Namespace of the resources or * for all namespaces
+     * @param selector      Selector of the resources
+     *
+     * @return  List with copies of the matching resources or null if the list cannot be served from the cache
+     */
+    public List<T> list(String namespace, Labels selector) {
+        SharedIndexInformer<T> informer = informer(namespace);
+
+        if (informer == null
+                || selector == null
+                || !selector.toMap().containsKey(CACHED_RESOURCES_LABEL)
+                || !hasObservedWrites(namespace)) {
+            return null;
+        }
+
+        List<T> resources = AbstractNamespacedResourceOperator.ANY_NAMESPACE.equals(namespace)
+                ? informer.getIndexer().list()
+                : informer.getIndexer().byIndex(Cache.NAMESPACE_INDEX, namespace);
+        Map<String, String> selectorLabels = selector.toMap();
+
+        return resources.stream()
+                .filter(resource -> resource.getMetadata().getLabels() != null
+                        && resource.getMetadata().getLabels().entrySet().containsAll(selectorLabels.entrySet()))
+                .map(serialization::clone)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Records a read served from the cache
+     *
+     * @param namespace     Namespace of the read resource
+     */
+    void hit(String namespace) {
+        metrics.cacheHitsCounter(namespace).increment();
+    }
+
+    /**
+     * Records a read which could not be served from the cache
+     *
+     * @param namespace     Namespace of the read resource
+     */
+    void miss(String namespace) {
+        metrics.cacheMissesCounter(namespace).increment();
+    }
+
+    /**
+     * Forgets the recorded writes once the informer observes them. Without it, a write which is followed by another
+     * change before the cache is read would never be seen in the cache and the resource would be always read from the
+     * Kubernetes API.
+     */
+    private class WriteObserver implements ResourceEventHandler<T> {
+        @Override
+        public void onAdd(T resource) {
+            observed(resource, resource.getMetadata().getResourceVersion());
+        }
+
+        @Override
+        public void onUpdate(T oldResource, T newResource) {
+            observed(newResource, newResource.getMetadata().getResourceVersion());
+        }
+
+        @Override
+        public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+            observed(resource, DELETED);
+        }
+
+        private void observed(T resource, String version) {
+            unobservedWrites.remove(Cache.metaNamespaceKeyFunc(resource), version);
+        }
+    }
+
+    /**
+     * Finds the synced informer covering given namespace.
+     *
+     * @param namespace     Namespace
+     *
+     * @return  The informer or null if the namespace is not covered by a synced informer
+     */
+    private SharedIndexInformer<T> informer(String namespace) {
+        SharedIndexInformer<T> informer = informers.get(namespace);
+
+        if (informer == null) {
+            informer = informers.get(AbstractNamespacedResourceOperator.ANY_NAMESPACE);
+        }
+
+        return informer != null && informer.hasSynced() ? informer : null;
+    }
+}
@@ -9,22 +9,15 @@ import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicyList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.model.JsonPointerMatcher;
 import io.vertx.core.Vertx;
 
-import java.util.regex.Pattern;
-
 /**
  * Operator for managing network policies
  */
 public class NetworkPolicyOperator extends AbstractNamespacedResourceOperator<KubernetesClient, NetworkPolicy, NetworkPolicyList, Resource<NetworkPolicy>> {
-    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
-            "^(/metadata/managedFields" +
-                    "|/metadata/creationTimestamp" +
-                    "|/metadata/resourceVersion" +
-                    "|/metadata/generation" +
-                    "|/metadata/uid" +
-                    "|/spec/policyTypes" +
-                    "|/status)$");
+    private static final JsonPointerMatcher IGNORABLE_PATHS = ResourceDiff.DEFAULT_IGNORABLE_PATHS.and(
+            "/spec/policyTypes");
 
     /**
      * Constructs the Network Policy Operator
@@ -42,10 +35,10 @@ public class NetworkPolicyOperator extends AbstractNamespacedResourceOperator<Ku
     }
 
     /**
-     * @return  Returns the Pattern for matching paths which can be ignored in the resource diff
+     * @return  Returns the matcher of the paths which can be ignored in the resource diff
      */
     @Override
-    protected Pattern ignorablePaths() {
+    protected JsonPointerMatcher ignorablePaths() {
         return IGNORABLE_PATHS;
     }
 }
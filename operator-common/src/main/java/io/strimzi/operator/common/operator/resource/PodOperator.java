@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.fabric8.kubernetes.client.readiness.Readiness;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.vertx.core.Future;
@@ -38,6 +39,23 @@ public class PodOperator extends AbstractReadyNamespacedResourceOperator<Kuberne
         return client.pods();
     }
 
+    /**
+     * Waits for the pod to get ready. The readiness is evaluated from the watch events of the pod, so it completes as
+     * soon as the pod gets ready. It falls back to polling only when the watch fails.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param namespace         Namespace of the pod
+     * @param name              Name of the pod
+     * @param pollIntervalMs    How often should it poll for readiness when the watch fails
+     * @param timeoutMs         How long should it wait for the pod to get ready
+     *
+     * @return  A future which completes when the pod is ready or times out
+     */
+    @Override
+    public Future<Void> readiness(Reconciliation reconciliation, String namespace, String name, long pollIntervalMs, long timeoutMs) {
+        return waitForWatched(reconciliation, namespace, name, "ready", pollIntervalMs, timeoutMs, pod -> pod != null && Readiness.isPodReady(pod), this::isReady);
+    }
+
     /**
      * Asynchronously delete the given pod, return a Future which completes when the Pod has been recreated.
      * Note: The pod might not be "ready" when the returned Future completes.
@@ -60,9 +78,9 @@ public class PodOperator extends AbstractReadyNamespacedResourceOperator<Kuberne
         LOGGER.debugCr(reconciliation, "Waiting for pod {} to be deleted", podName);
         Future<Void> podReconcileFuture =
                 reconcile(reconciliation, namespace, podName, null)
-                        .compose(ignore -> waitFor(reconciliation, namespace, podName, "deleted", pollingIntervalMs, timeoutMs, (ignore1, ignore2) -> {
+                        .compose(ignore -> waitForWatched(reconciliation, namespace, podName, "deleted", pollingIntervalMs, timeoutMs, current -> {
                             // predicate - changed generation means pod has been updated
-                            String newUid = getPodUid(get(namespace, podName));
+                            String newUid = getPodUid(current);
                             boolean done = !deleted.equals(newUid);
 
                             if (done) {
@@ -6,15 +6,14 @@ package io.strimzi.operator.common.operator.resource;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.AbstractJsonDiff;
-
-import java.util.regex.Pattern;
+import io.strimzi.operator.common.model.JsonPointerMatcher;
 
 /**
- * Diffs two Kubernetes resources of the same type to see if the changed
+ * Diffs two Kubernetes resources of the same type to see if they differ. The diff stops at the first difference which
+ * is not in an ignorable path, so it only tells whether the resources differ and not how.
  *
  * @param <T>   Type of the resource which is being diffed
  */
@@ -24,13 +23,13 @@ public class ResourceDiff<T extends HasMetadata> extends AbstractJsonDiff {
     /**
      * Pattern with JSON paths which should be ignored if they differ
      */
-    public static final Pattern DEFAULT_IGNORABLE_PATHS = Pattern.compile(
-            "^(/metadata/managedFields" +
-                    "|/metadata/creationTimestamp" +
-                    "|/metadata/resourceVersion" +
-                    "|/metadata/generation" +
-                    "|/metadata/uid" +
-                    "|/status)$");
+    public static final JsonPointerMatcher DEFAULT_IGNORABLE_PATHS = JsonPointerMatcher.compile(
+            "/metadata/managedFields",
+            "/metadata/creationTimestamp",
+            "/metadata/resourceVersion",
+            "/metadata/generation",
+            "/metadata/uid",
+            "/status");
 
     private final boolean isEmpty;
 
@@ -42,34 +41,22 @@ public class ResourceDiff<T extends HasMetadata> extends AbstractJsonDiff {
      * @param resourceName      Name of the resource
      * @param current           Current resource
      * @param desired           Desired resource
-     * @param ignorableFields   Pattern with fields which should be ignored
+     * @param ignorableFields   Matcher of the paths which should be ignored
      */
-    public ResourceDiff(Reconciliation reconciliation, String resourceKind, String resourceName, T current, T desired, Pattern ignorableFields) {
+    public ResourceDiff(Reconciliation reconciliation, String resourceKind, String resourceName, T current, T desired, JsonPointerMatcher ignorableFields) {
         JsonNode source = PATCH_MAPPER.valueToTree(current == null ? "{}" : current);
         JsonNode target = PATCH_MAPPER.valueToTree(desired == null ? "{}" : desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
-
-        int num = 0;
-
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
-
-            if (ignorableFields.matcher(pathValue).matches()) {
-                LOGGER.debugCr(reconciliation, "Ignoring {} {} diff {}", resourceKind, resourceName, d);
-                continue;
-            }
-
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debugCr(reconciliation, "{} {} differs: {}", resourceKind, resourceName, d);
-                LOGGER.debugCr(reconciliation, "Current {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(source, pathValue));
-                LOGGER.debugCr(reconciliation, "Desired {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(target, pathValue));
-            }
+        String pathValue = firstDifference(source, target,
+                ignorableFields::matches,
+                path -> LOGGER.debugCr(reconciliation, "Ignoring {} {} diff at path {}", resourceKind, resourceName, path));
 
-            num++;
-            break;
+        if (pathValue != null && LOGGER.isDebugEnabled()) {
+            LOGGER.debugCr(reconciliation, "{} {} differs at path {}", resourceKind, resourceName, pathValue);
+            LOGGER.debugCr(reconciliation, "Current {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(source, pathValue));
+            LOGGER.debugCr(reconciliation, "Desired {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(target, pathValue));
         }
 
-        this.isEmpty = num == 0;
+        this.isEmpty = pathValue == null;
     }
 
     @Override
@@ -187,6 +187,8 @@ public class ResourceSupport {
                     watchPromise.complete(watch);
                 } catch (Throwable t) {
                     watchPromise.fail(t);
+                    donePromise.tryFail(t);
+                    vertx.cancelTimer(timerId);
                 }
             }
 
@@ -217,7 +219,10 @@ public class ResourceSupport {
 
             @Override
             public void onClose(WatcherException cause) {
-
+                if (cause != null && donePromise.tryFail(cause)) {
+                    LOGGER.debugCr(reconciliation, "Watch for evaluation of {} was closed", watchFnDescription, cause);
+                    vertx.cancelTimer(timerId);
+                }
             }
 
         }.resultPromise.future();
@@ -15,12 +15,12 @@ import io.fabric8.kubernetes.client.dsl.ServiceResource;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.model.JsonPointerMatcher;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
 import java.util.Map;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -28,18 +28,12 @@ import java.util.stream.Collectors;
  */
 public class ServiceOperator extends AbstractNamespacedResourceOperator<KubernetesClient, Service, ServiceList, ServiceResource<Service>> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ServiceOperator.class);
-    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
-            "^(/metadata/managedFields" +
-                    "|/metadata/creationTimestamp" +
-                    "|/metadata/resourceVersion" +
-                    "|/metadata/generation" +
-                    "|/metadata/uid" +
-                    "|/spec/sessionAffinity" +
-                    "|/spec/clusterIP" +
-                    "|/spec/clusterIPs" +
-                    "|/spec/ipFamilies" + // Immutable field
-                    "|/spec/internalTrafficPolicy" + // Set by Kubernetes to Cluster as default (not configurable through Strimzi as it does nto seem to make much sense for us, so we ignore it)
-                    "|/status)$");
+    private static final JsonPointerMatcher IGNORABLE_PATHS = ResourceDiff.DEFAULT_IGNORABLE_PATHS.and(
+            "/spec/sessionAffinity",
+            "/spec/clusterIP",
+            "/spec/clusterIPs",
+            "/spec/ipFamilies", // Immutable field
+            "/spec/internalTrafficPolicy"); // Set by Kubernetes to Cluster as default (not configurable through Strimzi as it does nto seem to make much sense for us, so we ignore it)
 
     private final EndpointOperator endpointOperations;
     /**
@@ -59,9 +53,9 @@ public class ServiceOperator extends AbstractNamespacedResourceOperator<Kubernet
     }
 
     /**
-     * @return  Returns the Pattern for matching paths which can be ignored in the resource diff
+     * @return  Returns the matcher of the paths which can be ignored in the resource diff
      */
-    protected Pattern ignorablePaths() {
+    protected JsonPointerMatcher ignorablePaths() {
         return IGNORABLE_PATHS;
     }
 
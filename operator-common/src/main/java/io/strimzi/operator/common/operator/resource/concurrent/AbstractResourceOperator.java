@@ -8,7 +8,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
-import java.util.regex.Pattern;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
@@ -19,6 +18,7 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.Listable;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.JsonPointerMatcher;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.ResourceDiff;
 
@@ -69,9 +69,9 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     }
 
     /**
-     * @return  Returns the Pattern for matching paths which can be ignored in the resource diff
+     * @return  Returns the matcher of the paths which can be ignored in the resource diff
      */
-    protected Pattern ignorablePaths() {
+    protected JsonPointerMatcher ignorablePaths() {
         return ResourceDiff.DEFAULT_IGNORABLE_PATHS;
     }
 
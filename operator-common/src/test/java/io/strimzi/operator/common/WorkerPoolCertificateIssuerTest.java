@@ -0,0 +1,119 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.metrics.CertificateIssuerMetricsHolder;
+import io.strimzi.operator.common.model.CertificateIssuer;
+import io.strimzi.operator.common.model.Labels;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WorkerPoolCertificateIssuerTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "kind", "my-namespace", "my-name");
+
+    @Test
+    public void testCallerThread() {
+        Thread caller = Thread.currentThread();
+        CompletableFuture<Thread> result = CertificateIssuer.CALLER_THREAD.submit(RECONCILIATION, Thread::currentThread);
+
+        assertThat(result.isDone(), is(true));
+        assertThat(result.join(), is(caller));
+
+        CompletableFuture<Object> failure = CertificateIssuer.CALLER_THREAD.submit(RECONCILIATION, () -> {
+            throw new IOException("Failed");
+        });
+
+        CompletionException e = assertThrows(CompletionException.class, failure::join);
+        assertThat(e.getCause(), instanceOf(IOException.class));
+    }
+
+    @Test
+    public void testConcurrentIssuance() throws InterruptedException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CertificateIssuer issuer = new WorkerPoolCertificateIssuer(2, new CertificateIssuerMetricsHolder("kind", Labels.EMPTY, new MicrometerMetricsProvider(registry)));
+
+        try {
+            CountDownLatch started = new CountDownLatch(2);
+            CountDownLatch release = new CountDownLatch(1);
+
+            List<CompletableFuture<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                int index = i;
+                results.add(issuer.submit(RECONCILIATION, () -> {
+                    started.countDown();
+                    release.await();
+                    return index;
+                }));
+            }
+
+            // Two tasks run at the same time while the third one waits for a worker
+            assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+            assertThat(registry.get("strimzi.certificate.issuance.queue.size").tag("kind", "kind").tag("namespace", "my-namespace").gauge().value(), is(1.0));
+
+            release.countDown();
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(results.get(i).join(), is(i));
+            }
+
+            assertThat(registry.get("strimzi.certificate.issuance.queue.size").tag("kind", "kind").tag("namespace", "my-namespace").gauge().value(), is(0.0));
+            assertThat(registry.get("strimzi.certificate.issuance.duration").tag("kind", "kind").tag("namespace", "my-namespace").timer().count(), is(3L));
+        } finally {
+            issuer.stop();
+        }
+    }
+
+    @Test
+    public void testFailedIssuance() {
+        CertificateIssuer issuer = new WorkerPoolCertificateIssuer(1, new CertificateIssuerMetricsHolder("kind", Labels.EMPTY, new MicrometerMetricsProvider(new SimpleMeterRegistry())));
+
+        try {
+            CompletableFuture<Object> failure = issuer.submit(RECONCILIATION, () -> {
+                throw new IOException("Failed");
+            });
+
+            CompletionException e = assertThrows(CompletionException.class, failure::join);
+            assertThat(e.getCause(), instanceOf(IOException.class));
+        } finally {
+            issuer.stop();
+        }
+    }
+
+    @Test
+    public void testStopFailsWaitingIssuance() throws InterruptedException {
+        CertificateIssuer issuer = new WorkerPoolCertificateIssuer(1, new CertificateIssuerMetricsHolder("kind", Labels.EMPTY, new MicrometerMetricsProvider(new SimpleMeterRegistry())));
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<Object> running = issuer.submit(RECONCILIATION, () -> {
+            started.countDown();
+            new CountDownLatch(1).await();
+            return null;
+        });
+        CompletableFuture<Object> waiting = issuer.submit(RECONCILIATION, () -> null);
+        assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+
+        issuer.stop();
+        CompletableFuture<Object> afterStop = issuer.submit(RECONCILIATION, () -> null);
+
+        // The running task is interrupted and the other tasks are never run
+        assertThat(assertThrows(CompletionException.class, running::join).getCause(), instanceOf(InterruptedException.class));
+        assertThat(assertThrows(CompletionException.class, waiting::join).getCause(), instanceOf(IllegalStateException.class));
+        assertThat(assertThrows(CompletionException.class, afterStop::join).getCause(), instanceOf(IllegalStateException.class));
+    }
+}
@@ -13,6 +13,7 @@ import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class ControllerQueueTest {
@@ -37,4 +38,22 @@ public class ControllerQueueTest {
         // Test metric
         assertThat(metricsRegistry.get("strimzi.reconciliations.already.enqueued").tag("kind", "kind").tag("namespace", "my-namespace").counter().count(), is(1.0));
     }
+
+    @Test
+    public void testEnqueueingTaken() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(10, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+        SimplifiedReconciliation r2 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "timer");
+
+        q.enqueue(r1);
+        assertThat(q.take(), is(r1));
+
+        // The reconciliation was taken from the queue => it can be enqueued again
+        q.enqueue(r2);
+        assertThat(q.queue.size(), is(1));
+        assertThat(metricsRegistry.find("strimzi.reconciliations.already.enqueued").counter(), is(nullValue()));
+    }
 }
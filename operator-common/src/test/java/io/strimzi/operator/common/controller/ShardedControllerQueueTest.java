@@ -0,0 +1,52 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ShardedControllerQueueTest {
+    @Test
+    public void testSameResourceEndsUpInTheSameShard() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ShardedControllerQueue q = new ShardedControllerQueue(4, 100, "my-namespace", new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        for (int i = 0; i < 100; i++) {
+            q.enqueue(new SimplifiedReconciliation("kind", "my-namespace", "my-name-" + i, "watch"));
+        }
+
+        // Enqueue the same resources again => they should be deduplicated in their shards
+        for (int i = 0; i < 100; i++) {
+            q.enqueue(new SimplifiedReconciliation("kind", "my-namespace", "my-name-" + i, "timer"));
+        }
+
+        int total = 0;
+        for (int shard = 0; shard < q.shardCount(); shard++) {
+            int size = q.shard(shard).size();
+            total += size;
+
+            assertThat(metricsRegistry.get("strimzi.controller.shard.queue.size").tag("kind", "kind").tag("namespace", "my-namespace").tag("shard", String.valueOf(shard)).gauge().value(), is((double) size));
+
+            // Each resource in the shard belongs to it
+            for (int i = 0; i < size; i++) {
+                assertThat(q.shardFor(q.shard(shard).take()), is(shard));
+            }
+
+            assertThat(metricsRegistry.get("strimzi.controller.shard.queue.size").tag("kind", "kind").tag("namespace", "my-namespace").tag("shard", String.valueOf(shard)).gauge().value(), is(0.0));
+        }
+
+        assertThat(total, is(100));
+        assertThat(metricsRegistry.get("strimzi.reconciliations.already.enqueued").tag("kind", "kind").tag("namespace", "my-namespace").counter().count(), is(100.0));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ParallelSuite
+public class JsonPointerMatcherTest {
+    @ParallelTest
+    public void testLiteralPaths() {
+        JsonPointerMatcher matcher = JsonPointerMatcher.compile("/metadata/resourceVersion", "/metadata/uid", "/status");
+
+        assertThat(matcher.matches("/metadata/resourceVersion"), is(true));
+        assertThat(matcher.matches("/metadata/uid"), is(true));
+        assertThat(matcher.matches("/status"), is(true));
+
+        assertThat(matcher.matches("/metadata"), is(false));
+        assertThat(matcher.matches("/metadata/resourceVersion/foo"), is(false));
+        assertThat(matcher.matches("/metadata/resourceVersio"), is(false));
+        assertThat(matcher.matches("/metadata/resourceVersionX"), is(false));
+        assertThat(matcher.matches("/status/conditions"), is(false));
+        assertThat(matcher.matches("/spec"), is(false));
+        assertThat(matcher.matches("status"), is(false));
+        assertThat(matcher.matches(""), is(false));
+    }
+
+    @ParallelTest
+    public void testAnySegment() {
+        JsonPointerMatcher matcher = JsonPointerMatcher.compile("/spec/containers/*/resources", "/spec/containers/0/name", "/conditions/*/lastTransitionTime");
+
+        assertThat(matcher.matches("/spec/containers/0/resources"), is(true));
+        assertThat(matcher.matches("/spec/containers/12/resources"), is(true));
+        assertThat(matcher.matches("/spec/containers/0/name"), is(true));
+        assertThat(matcher.matches("/conditions/3/lastTransitionTime"), is(true));
+
+        assertThat(matcher.matches("/spec/containers/1/name"), is(false));
+        assertThat(matcher.matches("/spec/containers/0"), is(false));
+        assertThat(matcher.matches("/spec/containers/0/resources/limits"), is(false));
+        assertThat(matcher.matches("/spec/containers/0/1/resources"), is(false));
+        assertThat(matcher.matches("/conditions/3/type"), is(false));
+    }
+
+    @ParallelTest
+    public void testPrefixes() {
+        JsonPointerMatcher matcher = JsonPointerMatcher.compile("/metadata/annotations/pv.kubernetes.io~1*", "/spec/volumeClaimTemplates/*/spec/resources/**");
+
+        assertThat(matcher.matches("/metadata/annotations/pv.kubernetes.io~1bind-completed"), is(true));
+        assertThat(matcher.matches("/metadata/annotations/pv.kubernetes.io~1"), is(true));
+        assertThat(matcher.matches("/metadata/annotations/pv.kubernetes.io~1foo/bar"), is(true));
+        assertThat(matcher.matches("/spec/volumeClaimTemplates/0/spec/resources/requests/storage"), is(true));
+        assertThat(matcher.matches("/spec/volumeClaimTemplates/0/spec/resources/requests"), is(true));
+        assertThat(matcher.matches("/spec/volumeClaimTemplates/0/spec/resources/"), is(true));
+
+        assertThat(matcher.matches("/metadata/annotations/pv.kubernetes.io"), is(false));
+        assertThat(matcher.matches("/metadata/annotations/example.com~1foo"), is(false));
+        assertThat(matcher.matches("/spec/volumeClaimTemplates/0/spec/resources"), is(false));
+        assertThat(matcher.matches("/spec/volumeClaimTemplates/0/spec/volumeMode"), is(false));
+    }
+
+    @ParallelTest
+    public void testAnd() {
+        JsonPointerMatcher matcher = JsonPointerMatcher.compile("/status");
+        JsonPointerMatcher extended = matcher.and("/spec/clusterIP");
+
+        assertThat(extended.matches("/status"), is(true));
+        assertThat(extended.matches("/spec/clusterIP"), is(true));
+        assertThat(matcher.matches("/spec/clusterIP"), is(false));
+    }
+
+    @ParallelTest
+    public void testInvalidTemplates() {
+        assertThrows(IllegalArgumentException.class, () -> JsonPointerMatcher.compile("status"));
+        assertThrows(IllegalArgumentException.class, () -> JsonPointerMatcher.compile("/spec/**/name"));
+        assertThrows(IllegalArgumentException.class, () -> JsonPointerMatcher.compile("/metadata/annotations/example.com~1*/foo"));
+    }
+}
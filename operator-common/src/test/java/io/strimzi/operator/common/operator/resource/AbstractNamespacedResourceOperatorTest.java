@@ -7,6 +7,7 @@ package io.strimzi.operator.common.operator.resource;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
 import io.fabric8.kubernetes.client.GracePeriodConfigurable;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
@@ -240,6 +241,107 @@ public abstract class AbstractNamespacedResourceOperatorTest<C extends Kubernete
         })));
     }
 
+    @Test
+    public void testServerSideApply(VertxTestContext context) {
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.fieldManager(eq("strimzi-test"))).thenReturn(mockResource);
+        when(mockResource.forceConflicts()).thenReturn(mockResource);
+        when(mockResource.serverSideApply()).thenReturn(resource);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+        when(mockNameable.resource(eq(resource))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperationsWithMockedReadiness(vertx, mockClient);
+        op.enableServerSideApply("strimzi-test");
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, resource).onComplete(context.succeeding(rr -> context.verify(() -> {
+            assertThat(rr instanceof ReconcileResult.Patched, is(true));
+            verify(mockResource).serverSideApply();
+            verify(mockResource, never()).get();
+            verify(mockResource, never()).patch(any(), any());
+            verify(mockResource, never()).create();
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testServerSideApplyCreatingResource(VertxTestContext context) {
+        T resource = resource();
+        // The creation timestamp is the same as the time of the apply, so the apply created the resource
+        T applied = resource();
+        applied.getMetadata().setCreationTimestamp("2023-10-17T10:00:00Z");
+        applied.getMetadata().setManagedFields(List.of(new ManagedFieldsEntryBuilder()
+                .withManager("strimzi-test")
+                .withOperation("Apply")
+                .withTime("2023-10-17T10:00:00Z")
+                .build()));
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.fieldManager(eq("strimzi-test"))).thenReturn(mockResource);
+        when(mockResource.forceConflicts()).thenReturn(mockResource);
+        when(mockResource.serverSideApply()).thenReturn(applied);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+        when(mockNameable.resource(eq(resource))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperationsWithMockedReadiness(vertx, mockClient);
+        op.enableServerSideApply("strimzi-test");
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, resource).onComplete(context.succeeding(rr -> context.verify(() -> {
+            assertThat(rr instanceof ReconcileResult.Created, is(true));
+            verify(mockResource).serverSideApply();
+            verify(mockResource, never()).get();
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testServerSideApplyThrows(VertxTestContext context) {
+        T resource = resource();
+        RuntimeException ex = new RuntimeException("Testing this exception is handled correctly");
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.fieldManager(any())).thenReturn(mockResource);
+        when(mockResource.forceConflicts()).thenReturn(mockResource);
+        when(mockResource.serverSideApply()).thenThrow(ex);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+        when(mockNameable.resource(eq(resource))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperationsWithMockedReadiness(vertx, mockClient);
+        op.enableServerSideApply("strimzi-test");
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, resource).onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e, is(ex));
+            async.flag();
+        })));
+    }
+
     @Test
     public void testCreateOrUpdateThrowsWhenCreateThrows(VertxTestContext context) {
         T resource = resource();
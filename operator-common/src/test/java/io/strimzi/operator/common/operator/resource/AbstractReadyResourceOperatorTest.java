@@ -7,6 +7,7 @@ package io.strimzi.operator.common.operator.resource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
@@ -20,6 +21,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
@@ -38,6 +40,8 @@ public abstract class AbstractReadyResourceOperatorTest<C extends KubernetesClie
     public void testReadinessThrowsWhenResourceDoesNotExist(VertxTestContext context) {
         T resource = resource();
         Resource mockResource = mock(resourceType());
+        // Operators using watch-based readiness fall back to polling when the watch fails
+        when(mockResource.watch(any())).thenThrow(new KubernetesClientException("Watch failed"));
         when(mockResource.get()).thenReturn(null);
 
         NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
@@ -67,6 +71,8 @@ public abstract class AbstractReadyResourceOperatorTest<C extends KubernetesClie
         RuntimeException ex = new RuntimeException("This is a test exception");
 
         Resource mockResource = mock(resourceType());
+        // Operators using watch-based readiness fall back to polling when the watch fails
+        when(mockResource.watch(any())).thenThrow(new KubernetesClientException("Watch failed"));
         when(mockResource.get()).thenThrow(ex);
 
         NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
@@ -107,6 +113,8 @@ public abstract class AbstractReadyResourceOperatorTest<C extends KubernetesClie
     public void waitUntilReadySuccessful(VertxTestContext context, int unreadyCount) {
         T resource = resource();
         Resource mockResource = mock(resourceType());
+        // Operators using watch-based readiness fall back to polling when the watch fails
+        when(mockResource.watch(any())).thenThrow(new KubernetesClientException("Watch failed"));
         when(mockResource.get()).thenReturn(resource);
         AtomicInteger count = new AtomicInteger();
         when(mockResource.isReady()).then(invocation -> {
@@ -145,6 +153,8 @@ public abstract class AbstractReadyResourceOperatorTest<C extends KubernetesClie
         T resource = resource();
 
         Resource mockResource = mock(resourceType());
+        // Operators using watch-based readiness fall back to polling when the watch fails
+        when(mockResource.watch(any())).thenThrow(new KubernetesClientException("Watch failed"));
         when(mockResource.get()).thenReturn(resource);
         when(mockResource.isReady()).thenReturn(Boolean.FALSE);
 
@@ -176,6 +186,8 @@ public abstract class AbstractReadyResourceOperatorTest<C extends KubernetesClie
         RuntimeException ex = new RuntimeException("This is a test exception");
 
         Resource mockResource = mock(resourceType());
+        // Operators using watch-based readiness fall back to polling when the watch fails
+        when(mockResource.watch(any())).thenThrow(new KubernetesClientException("Watch failed"));
         when(mockResource.get()).thenReturn(resource());
         when(mockResource.isReady()).thenThrow(ex);
 
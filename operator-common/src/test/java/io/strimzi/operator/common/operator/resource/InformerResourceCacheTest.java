@@ -0,0 +1,410 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.ResourceCacheMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class InformerResourceCacheTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String NAME = "my-cluster-kafka-config";
+
+    private static Vertx vertx;
+
+    private MeterRegistry metricsRegistry;
+    private Indexer<ConfigMap> indexer;
+    private SharedIndexInformer<ConfigMap> informer;
+    private InformerResourceCache<ConfigMap> cache;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        metricsRegistry = new SimpleMeterRegistry();
+        indexer = mock(Indexer.class);
+        informer = mock(SharedIndexInformer.class);
+        when(informer.hasSynced()).thenReturn(true);
+        when(informer.getStore()).thenReturn(indexer);
+        when(informer.getIndexer()).thenReturn(indexer);
+
+        cache = new InformerResourceCache<>("ConfigMap", Map.of(NAMESPACE, informer), new KubernetesSerialization(),
+                new ResourceCacheMetricsHolder("ConfigMap", new MicrometerMetricsProvider(metricsRegistry)));
+    }
+
+    private static ConfigMap configMap(String name, String cluster, String value) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion("1")
+                    .withLabels(Map.of(Labels.STRIMZI_CLUSTER_LABEL, cluster))
+                .endMetadata()
+                .withData(Map.of("key", value))
+                .build();
+    }
+
+    private double counter(String name) {
+        return metricsRegistry.get(name).counter().count();
+    }
+
+    @Test
+    public void testGetReturnsCopies() {
+        ConfigMap cached = configMap(NAME, "my-cluster", "value");
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, NAME))).thenReturn(cached);
+
+        ConfigMap cm = cache.get(NAMESPACE, NAME);
+        assertThat(cm, is(cached));
+
+        cm.getData().put("key", "modified");
+        assertThat(cached.getData().get("key"), is("value"));
+
+        assertThat(cache.get(NAMESPACE, "other"), is(nullValue()));
+    }
+
+    @Test
+    public void testUncoveredNamespaces() {
+        assertThat(cache.covers(NAMESPACE), is(true));
+        assertThat(cache.covers("other-namespace"), is(false));
+        assertThat(cache.get("other-namespace", NAME), is(nullValue()));
+
+        when(informer.hasSynced()).thenReturn(false);
+        assertThat(cache.covers(NAMESPACE), is(false));
+        assertThat(cache.isSynced(), is(false));
+        assertThat(cache.list(NAMESPACE, Labels.forStrimziCluster("my-cluster")), is(nullValue()));
+    }
+
+    @Test
+    public void testList() {
+        ConfigMap cm1 = configMap("cm1", "my-cluster", "value");
+        ConfigMap cm2 = configMap("cm2", "my-cluster", "value");
+        ConfigMap cm3 = configMap("cm3", "other-cluster", "value");
+        when(indexer.byIndex(Cache.NAMESPACE_INDEX, NAMESPACE)).thenReturn(List.of(cm1, cm2, cm3));
+
+        assertThat(cache.list(NAMESPACE, Labels.forStrimziCluster("my-cluster")), is(List.of(cm1, cm2)));
+        assertThat(cache.list(NAMESPACE, Labels.forStrimziCluster("other-cluster")), is(List.of(cm3)));
+
+        // Selectors which do not select only the cached resources cannot be served from the cache
+        assertThat(cache.list(NAMESPACE, Labels.fromMap(Map.of("app", "my-app"))), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, null), is(nullValue()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetIsServedFromCache() {
+        ConfigMap cached = configMap(NAME, "my-cluster", "value");
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, NAME))).thenReturn(cached);
+
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        when(mockResource.get()).thenReturn(null);
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(any())).thenReturn(mockResource);
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(eq(NAMESPACE))).thenReturn(mockNameable);
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        when(mockClient.configMaps()).thenReturn(mockCms);
+
+        ConfigMapOperator op = new ConfigMapOperator(vertx, mockClient);
+        op.useCache(cache);
+
+        assertThat(op.get(NAMESPACE, NAME), is(cached));
+        verify(mockResource, never()).get();
+
+        // Resources missing in the cache are read from the Kubernetes API
+        assertThat(op.get(NAMESPACE, "other"), is(nullValue()));
+        verify(mockResource).get();
+
+        assertThat(counter("strimzi.resource.cache.hits"), is(1.0));
+        assertThat(counter("strimzi.resource.cache.misses"), is(1.0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReconcileUsesCachedResource(VertxTestContext context) {
+        ConfigMap cached = configMap(NAME, "my-cluster", "value");
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, NAME))).thenReturn(cached);
+
+        ConfigMap desired = configMap(NAME, "my-cluster", "new-value");
+        desired.getMetadata().setResourceVersion(null);
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        when(mockResource.patch(any(), any(ConfigMap.class))).thenReturn(new ConfigMapBuilder(desired).editMetadata().withResourceVersion("2").endMetadata().build());
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(eq(NAME))).thenReturn(mockResource);
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(eq(NAMESPACE))).thenReturn(mockNameable);
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        when(mockClient.configMaps()).thenReturn(mockCms);
+        when(mockClient.getKubernetesSerialization()).thenReturn(new KubernetesSerialization());
+
+        ConfigMapOperator op = new ConfigMapOperator(vertx, mockClient);
+        op.useCache(cache);
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, NAME, desired).onComplete(context.succeeding(rr -> context.verify(() -> {
+            assertThat(rr instanceof ReconcileResult.Patched, is(true));
+            verify(mockResource, never()).get();
+
+            // The resource version of the cached resource is sent as a precondition, without modifying the desired resource
+            ArgumentCaptor<ConfigMap> patched = ArgumentCaptor.forClass(ConfigMap.class);
+            verify(mockResource).patch(any(), patched.capture());
+            assertThat(patched.getValue().getMetadata().getResourceVersion(), is("1"));
+            assertThat(desired.getMetadata().getResourceVersion(), is(nullValue()));
+
+            assertThat(counter("strimzi.resource.cache.hits"), is(1.0));
+            async.flag();
+        })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCachedNoopDoesNotReadLive(VertxTestContext context) {
+        ConfigMap cached = configMap(NAME, "my-cluster", "value");
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, NAME))).thenReturn(cached);
+
+        ConfigMap desired = configMap(NAME, "my-cluster", "value");
+        desired.getMetadata().setResourceVersion(null);
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(eq(NAME))).thenReturn(mockResource);
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(eq(NAMESPACE))).thenReturn(mockNameable);
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        when(mockClient.configMaps()).thenReturn(mockCms);
+        when(mockClient.getKubernetesSerialization()).thenReturn(new KubernetesSerialization());
+
+        ConfigMapOperator op = new ConfigMapOperator(vertx, mockClient);
+        op.useCache(cache);
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, NAME, desired)
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    assertThat(rr instanceof ReconcileResult.Noop, is(true));
+                    verify(mockResource, never()).get();
+                    verify(mockResource, never()).patch(any(), any(ConfigMap.class));
+                    assertThat(counter("strimzi.resource.cache.hits"), is(1.0));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReadsFollowingWritesAreLiveUntilTheWriteIsObserved(VertxTestContext context) {
+        ConfigMap cached = configMap(NAME, "my-cluster", "value");
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, NAME))).thenReturn(cached);
+        when(indexer.byIndex(Cache.NAMESPACE_INDEX, NAMESPACE)).thenReturn(List.of(cached));
+
+        ConfigMap desired = configMap(NAME, "my-cluster", "new-value");
+        desired.getMetadata().setResourceVersion(null);
+        ConfigMap patched = new ConfigMapBuilder(desired).editMetadata().withResourceVersion("2").endMetadata().build();
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        when(mockResource.get()).thenReturn(patched);
+        when(mockResource.patch(any(), any(ConfigMap.class))).thenReturn(patched);
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(eq(NAME))).thenReturn(mockResource);
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(eq(NAMESPACE))).thenReturn(mockNameable);
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        when(mockClient.configMaps()).thenReturn(mockCms);
+        when(mockClient.getKubernetesSerialization()).thenReturn(new KubernetesSerialization());
+
+        ConfigMapOperator op = new ConfigMapOperator(vertx, mockClient);
+        op.useCache(cache);
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, NAME, desired).onComplete(context.succeeding(rr -> context.verify(() -> {
+            assertThat(rr instanceof ReconcileResult.Patched, is(true));
+
+            // The cache did not observe the patch yet
+            assertThat(op.get(NAMESPACE, NAME), is(patched));
+            verify(mockResource).get();
+            assertThat(cache.covers(NAMESPACE, NAME), is(false));
+            assertThat(cache.list(NAMESPACE, Labels.forStrimziCluster("my-cluster")), is(nullValue()));
+
+            // Once the cache observes the patch, it is used again
+            when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, NAME))).thenReturn(patched);
+            when(indexer.byIndex(Cache.NAMESPACE_INDEX, NAMESPACE)).thenReturn(List.of(patched));
+            assertThat(op.get(NAMESPACE, NAME), is(patched));
+            verify(mockResource).get();
+            assertThat(cache.list(NAMESPACE, Labels.forStrimziCluster("my-cluster")), is(List.of(patched)));
+
+            async.flag();
+        })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testConflictFallsBackToLiveRead(VertxTestContext context) {
+        // The resource is not in the cache yet, but it already exists
+        ConfigMap current = configMap(NAME, "my-cluster", "value");
+        ConfigMap desired = configMap(NAME, "my-cluster", "new-value");
+
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        when(mockResource.get()).thenReturn(current);
+        when(mockResource.create()).thenThrow(new KubernetesClientException("Already exists", 409, null));
+        when(mockResource.patch(any(), any(ConfigMap.class))).thenReturn(new ConfigMapBuilder(desired).editMetadata().withResourceVersion("2").endMetadata().build());
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(eq(NAME))).thenReturn(mockResource);
+        when(mockNameable.resource(eq(desired))).thenReturn(mockResource);
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(eq(NAMESPACE))).thenReturn(mockNameable);
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        when(mockClient.configMaps()).thenReturn(mockCms);
+
+        ConfigMapOperator op = new ConfigMapOperator(vertx, mockClient);
+        op.useCache(cache);
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, NAME, desired).onComplete(context.succeeding(rr -> context.verify(() -> {
+            assertThat(rr instanceof ReconcileResult.Patched, is(true));
+            verify(mockResource).create();
+            verify(mockResource).get();
+            verify(mockResource).patch(any(), any(ConfigMap.class));
+            assertThat(counter("strimzi.resource.cache.misses"), is(1.0));
+            async.flag();
+        })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDeletionOfUncachedResourceUsesLiveRead(VertxTestContext context) {
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        when(mockResource.get()).thenReturn(null);
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(eq(NAME))).thenReturn(mockResource);
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(eq(NAMESPACE))).thenReturn(mockNameable);
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        when(mockClient.configMaps()).thenReturn(mockCms);
+
+        ConfigMapOperator op = new ConfigMapOperator(vertx, mockClient);
+        op.useCache(cache);
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, NAME, null).onComplete(context.succeeding(rr -> context.verify(() -> {
+            assertThat(rr instanceof ReconcileResult.Noop, is(true));
+            verify(mockResource).get();
+            assertThat(counter("strimzi.resource.cache.misses"), is(1.0));
+            async.flag();
+        })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testServerSideApplyUsesCachedResourceVersion(VertxTestContext context) {
+        ConfigMap cached = configMap(NAME, "my-cluster", "value");
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, NAME))).thenReturn(cached);
+
+        ConfigMap desired = configMap(NAME, "my-cluster", "value");
+        desired.getMetadata().setResourceVersion(null);
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        when(mockResource.fieldManager(eq("strimzi-test"))).thenReturn(mockResource);
+        when(mockResource.forceConflicts()).thenReturn(mockResource);
+        // The API server did not change the resource, so the resource version stays the same
+        when(mockResource.serverSideApply()).thenReturn(cached);
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.resource(eq(desired))).thenReturn(mockResource);
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(eq(NAMESPACE))).thenReturn(mockNameable);
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        when(mockClient.configMaps()).thenReturn(mockCms);
+
+        ConfigMapOperator op = new ConfigMapOperator(vertx, mockClient);
+        op.useCache(cache);
+        op.enableServerSideApply("strimzi-test");
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, NAME, desired).onComplete(context.succeeding(rr -> context.verify(() -> {
+            assertThat(rr instanceof ReconcileResult.Noop, is(true));
+            verify(mockResource).serverSideApply();
+            verify(mockResource, never()).get();
+            async.flag();
+        })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testServerSideApplyOfUncachedExistingResource(VertxTestContext context) {
+        // The resource is not in the cache yet, but it existed before the apply
+        ConfigMap desired = configMap(NAME, "my-cluster", "value");
+        desired.getMetadata().setResourceVersion(null);
+        ConfigMap applied = new ConfigMapBuilder(configMap(NAME, "my-cluster", "value"))
+                .editMetadata()
+                    .withCreationTimestamp("2023-10-17T10:00:00Z")
+                    .addNewManagedField()
+                        .withManager("strimzi-test")
+                        .withOperation("Apply")
+                        .withTime("2023-10-17T10:05:00Z")
+                    .endManagedField()
+                .endMetadata()
+                .build();
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        when(mockResource.fieldManager(eq("strimzi-test"))).thenReturn(mockResource);
+        when(mockResource.forceConflicts()).thenReturn(mockResource);
+        when(mockResource.serverSideApply()).thenReturn(applied);
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.resource(eq(desired))).thenReturn(mockResource);
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(eq(NAMESPACE))).thenReturn(mockNameable);
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        when(mockClient.configMaps()).thenReturn(mockCms);
+
+        ConfigMapOperator op = new ConfigMapOperator(vertx, mockClient);
+        op.useCache(cache);
+        op.enableServerSideApply("strimzi-test");
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, NAME, desired).onComplete(context.succeeding(rr -> context.verify(() -> {
+            assertThat(rr instanceof ReconcileResult.Patched, is(true));
+            async.flag();
+        })));
+    }
+}
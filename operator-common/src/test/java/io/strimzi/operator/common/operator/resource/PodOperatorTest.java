@@ -8,11 +8,30 @@ import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.matches;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class PodOperatorTest extends
@@ -58,4 +77,100 @@ public class PodOperatorTest extends
     protected PodOperator createResourceOperations(Vertx vertx, KubernetesClient mockClient) {
         return new PodOperator(vertx, mockClient);
     }
+
+    private static Pod readyPod(Pod pod) {
+        return new PodBuilder(pod)
+                .withNewStatus()
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("True")
+                    .endCondition()
+                .endStatus()
+                .build();
+    }
+
+    private PodOperator mockWatchedPod(Resource mockResource, AtomicReference<Watcher<Pod>> watcher, AtomicBoolean watchClosed) {
+        when(mockResource.watch(any())).thenAnswer(invocation -> {
+            watcher.set(invocation.getArgument(0));
+            return (Watch) () -> {
+                watchClosed.set(true);
+            };
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockPods = mock(MixedOperation.class);
+        when(mockPods.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockPods);
+
+        return createResourceOperations(vertx, mockClient);
+    }
+
+    @Test
+    public void testReadinessCompletesFromWatchEvent(VertxTestContext context) {
+        Pod pod = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(pod);
+
+        AtomicReference<Watcher<Pod>> watcher = new AtomicReference<>();
+        AtomicBoolean watchClosed = new AtomicBoolean(false);
+        PodOperator op = mockWatchedPod(mockResource, watcher, watchClosed);
+
+        Checkpoint async = context.checkpoint();
+        op.readiness(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, 20, 5_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // The readiness is evaluated from the watched pod without polling it
+                verify(mockResource, times(1)).get();
+                verify(mockResource, never()).isReady();
+                assertThat(watchClosed.get(), is(true));
+                async.flag();
+            })));
+
+        watcher.get().eventReceived(Watcher.Action.MODIFIED, pod);
+        watcher.get().eventReceived(Watcher.Action.MODIFIED, readyPod(pod));
+    }
+
+    @Test
+    public void testReadinessCompletesInPreCheck(VertxTestContext context) {
+        Pod pod = readyPod(resource());
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(pod);
+
+        AtomicReference<Watcher<Pod>> watcher = new AtomicReference<>();
+        AtomicBoolean watchClosed = new AtomicBoolean(false);
+        PodOperator op = mockWatchedPod(mockResource, watcher, watchClosed);
+
+        Checkpoint async = context.checkpoint();
+        op.readiness(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, 20, 5_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                verify(mockResource, never()).isReady();
+                assertThat(watchClosed.get(), is(true));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testReadinessFallsBackToPollingWhenWatchFails(VertxTestContext context) {
+        Pod pod = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(pod);
+        when(mockResource.isReady()).thenReturn(Boolean.TRUE);
+
+        AtomicReference<Watcher<Pod>> watcher = new AtomicReference<>();
+        AtomicBoolean watchClosed = new AtomicBoolean(false);
+        PodOperator op = mockWatchedPod(mockResource, watcher, watchClosed);
+
+        Checkpoint async = context.checkpoint();
+        op.readiness(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, 20, 5_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                verify(mockResource, times(1)).isReady();
+                assertThat(watchClosed.get(), is(true));
+                async.flag();
+            })));
+
+        watcher.get().onClose(new WatcherException("Watch failed"));
+    }
 }
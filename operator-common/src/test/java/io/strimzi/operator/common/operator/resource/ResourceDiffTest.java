@@ -0,0 +1,158 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.JsonPointerMatcher;
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ParallelSuite
+public class ResourceDiffTest {
+    private static final Service SERVICE = new ServiceBuilder()
+            .withNewMetadata()
+                .withName("my-service")
+                .withNamespace("my-namespace")
+                .withResourceVersion("1")
+                .addToLabels("app", "my-app")
+                .addToAnnotations("example.com/annotation", "value")
+            .endMetadata()
+            .withNewSpec()
+                .withType("NodePort")
+                .addNewPort()
+                    .withName("plain")
+                    .withPort(9092)
+                    .withNodePort(31000)
+                .endPort()
+                .addNewPort()
+                    .withName("tls")
+                    .withPort(9093)
+                    .withNodePort(31001)
+                .endPort()
+            .endSpec()
+            .build();
+
+    private static boolean isEmpty(Service current, Service desired, JsonPointerMatcher ignorablePaths) {
+        return new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "Service", "my-service", current, desired, ignorablePaths).isEmpty();
+    }
+
+    @ParallelTest
+    public void testIdenticalResources() {
+        assertThat(isEmpty(SERVICE, new ServiceBuilder(SERVICE).build(), ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(true));
+    }
+
+    @ParallelTest
+    public void testDifferencesInIgnorablePaths() {
+        Service desired = new ServiceBuilder(SERVICE)
+                .editMetadata()
+                    .withResourceVersion("2")
+                    .withGeneration(2L)
+                    .withUid("some-uid")
+                .endMetadata()
+                .withNewStatus()
+                    .withNewLoadBalancer()
+                    .endLoadBalancer()
+                .endStatus()
+                .build();
+
+        assertThat(isEmpty(SERVICE, desired, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(true));
+    }
+
+    @ParallelTest
+    public void testDifferencesBelowIgnorablePaths() {
+        Service current = new ServiceBuilder(SERVICE)
+                .withNewStatus()
+                    .withNewLoadBalancer()
+                        .addNewIngress()
+                            .withHostname("my-service.example.com")
+                        .endIngress()
+                    .endLoadBalancer()
+                .endStatus()
+                .build();
+        Service desired = new ServiceBuilder(SERVICE)
+                .withNewStatus()
+                    .withNewLoadBalancer()
+                        .addNewIngress()
+                            .withHostname("my-other-service.example.com")
+                        .endIngress()
+                    .endLoadBalancer()
+                .endStatus()
+                .build();
+
+        assertThat(isEmpty(current, desired, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(true));
+    }
+
+    @ParallelTest
+    public void testSignificantDifferences() {
+        Service changedLabel = new ServiceBuilder(SERVICE)
+                .editMetadata()
+                    .addToLabels("app", "my-other-app")
+                .endMetadata()
+                .build();
+        Service addedAnnotation = new ServiceBuilder(SERVICE)
+                .editMetadata()
+                    .addToAnnotations("example.com/other-annotation", "value")
+                .endMetadata()
+                .build();
+        Service removedPort = new ServiceBuilder(SERVICE)
+                .editSpec()
+                    .removeMatchingFromPorts(port -> "tls".equals(port.getName()))
+                .endSpec()
+                .build();
+
+        assertThat(isEmpty(SERVICE, changedLabel, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(false));
+        assertThat(isEmpty(SERVICE, addedAnnotation, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(false));
+        assertThat(isEmpty(addedAnnotation, SERVICE, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(false));
+        assertThat(isEmpty(SERVICE, removedPort, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(false));
+        assertThat(isEmpty(removedPort, SERVICE, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(false));
+    }
+
+    @ParallelTest
+    public void testSignificantDifferenceAfterIgnorableDifference() {
+        Service desired = new ServiceBuilder(SERVICE)
+                .editMetadata()
+                    .withResourceVersion("2")
+                .endMetadata()
+                .editSpec()
+                    .withType("LoadBalancer")
+                .endSpec()
+                .build();
+
+        assertThat(isEmpty(SERVICE, desired, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(false));
+    }
+
+    @ParallelTest
+    public void testIgnorablePathsInArraysAndEscapedNames() {
+        JsonPointerMatcher ignorablePaths = JsonPointerMatcher.compile("/metadata/resourceVersion", "/metadata/annotations/example.com~1annotation", "/spec/ports/*/nodePort");
+        Service desired = new ServiceBuilder(SERVICE)
+                .editMetadata()
+                    .addToAnnotations("example.com/annotation", "other-value")
+                .endMetadata()
+                .editSpec()
+                    .editFirstPort()
+                        .withNodePort(32000)
+                    .endPort()
+                    .editLastPort()
+                        .withNodePort(32001)
+                    .endPort()
+                .endSpec()
+                .build();
+
+        assertThat(isEmpty(SERVICE, desired, ignorablePaths), is(true));
+        assertThat(isEmpty(SERVICE, desired, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(false));
+    }
+
+    @ParallelTest
+    public void testMissingResources() {
+        assertThat(isEmpty(null, null, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(true));
+        assertThat(isEmpty(null, SERVICE, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(false));
+        assertThat(isEmpty(SERVICE, null, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(false));
+    }
+}
@@ -6,49 +6,64 @@ package io.strimzi.operator.topic.v2;
 
 import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.metrics.BatchOperatorMetricsHolder;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Encapsulates a queue (actually a deque) of {@link TopicEvent}s and a pool of threads (see {@link LoopRunnable}) servicing
  * the reconciliation of those events using a {@link BatchingTopicController}.
- * Any given KafkaTopic is only being reconciled by a single thread at any one time.
+ * The queue is sharded by {@link KubeRef}, with each shard serviced by a single thread,
+ * so any given KafkaTopic is only being reconciled by a single thread at any one time.
  */
 class BatchingLoop {
 
     static final ReconciliationLogger LOGGER = ReconciliationLogger.create(BatchingLoop.class);
 
     private final BatchingTopicController controller;
-    private final BlockingDeque<TopicEvent> queue;
 
     /**
-     * The set of topics currently being reconciled by a controller.
-     * Guarded by the monitor of the BatchingLoop.
-     * This functions as mechanism for preventing concurrent reconciliation of the same topic.
+     * The shards of the queue. Each {@link TopicEvent} is assigned to a shard by the hash of its {@link KubeRef}
+     * and each shard is serviced by exactly one {@link LoopRunnable}, so there is no need for any shared state
+     * (or lock) to prevent concurrent reconciliation of the same topic.
      */
-    private final Set<KubeRef> inFlight = new HashSet<>(); // guarded by this
+    private final Shard[] shards;
     private final LoopRunnable[] threads;
     private final int maxBatchSize;
     private final long maxBatchLingerMs;
     private final ItemStore<KafkaTopic> itemStore;
     private final Runnable stop;
     private final int maxQueueSize;
+    /**
+     * The number of refs in the queues of all the shards. The shards share a single capacity of
+     * {@link #maxQueueSize} rather than each having a fixed part of it, so that topics which happen
+     * to hash to the same shard don't exhaust that shard's capacity while the others are mostly empty.
+     */
+    private final AtomicInteger queued = new AtomicInteger(0);
+    private final boolean queueOverflowEnabled;
     private final BatchOperatorMetricsHolder metrics;
     private final String namespace;
 
     public BatchingLoop(
             int maxQueueSize,
+            boolean queueOverflowEnabled,
             BatchingTopicController controller,
             int maxThreads,
             int maxBatchSize,
@@ -58,18 +73,20 @@ class BatchingLoop {
             BatchOperatorMetricsHolder metrics,
             String namespace) {
         this.maxQueueSize = maxQueueSize;
-        this.queue = new LinkedBlockingDeque<>(maxQueueSize);
+        this.queueOverflowEnabled = queueOverflowEnabled;
         this.controller = controller;
+        this.metrics = metrics;
+        this.namespace = namespace;
+        this.shards = new Shard[maxThreads];
         this.threads = new LoopRunnable[maxThreads];
         for (int i = 0; i < maxThreads; i++) {
-            threads[i] = new LoopRunnable("LoopRunnable-" + i);
+            shards[i] = new Shard(i);
+            threads[i] = new LoopRunnable("LoopRunnable-" + i, shards[i]);
         }
         this.maxBatchSize = maxBatchSize;
         this.maxBatchLingerMs = maxBatchLingerMs;
         this.itemStore = itemStore;
         this.stop = stop;
-        this.metrics = metrics;
-        this.namespace = namespace;
     }
 
     /**
@@ -95,15 +112,67 @@ class BatchingLoop {
     }
 
     /**
-     * Add an event to be reconciled to the tail of the {@link #queue}.
+     * @param ref The reference to the KafkaTopic.
+     * @return The shard which owns the given KafkaTopic.
+     */
+    /* test */ Shard shardFor(KubeRef ref) {
+        return shards[Math.floorMod(ref.hashCode(), shards.length)];
+    }
+
+    /**
+     * Reserve a place in the queue, if the total number of queued refs is below {@link #maxQueueSize}.
+     * A successful reservation must be followed by adding a ref to the queue of a shard.
+     * @return True if the place was reserved.
+     */
+    private boolean reserveQueueCapacity() {
+        int size;
+        do {
+            size = queued.get();
+            if (size >= maxQueueSize) {
+                return false;
+            }
+        } while (!queued.compareAndSet(size, size + 1));
+        return true;
+    }
+
+    /**
+     * Add an event to be reconciled to the front of the queue of the shard which owns the event's topic.
+     * If an event for the same topic is already pending on the queue the two are coalesced
+     * (see {@link Pending#merge(TopicEvent)}) and the queue is unchanged.
+     * If the queues of all the shards together already hold {@link TopicOperatorConfig#MAX_QUEUE_SIZE} refs then either the event's topic is added to the shard's overflow
+     * (if {@link TopicOperatorConfig#QUEUE_OVERFLOW_ENABLED} is set) or the operator is stopped.
      * @param event The event
      */
     public void offer(TopicEvent event) {
-        if (queue.offerFirst(event)) {
-            LOGGER.debugOp("Item {} added to front of queue", event);
-            metrics.reconciliationsMaxQueueSize(namespace).getAndUpdate(size -> Math.max(size, queue.size()));
+        KubeRef ref = event.toRef();
+        Shard shard = shardFor(ref);
+        boolean[] added = new boolean[1];
+        int[] coalesced = new int[1];
+        shard.pending.compute(ref, (k, existing) -> {
+            if (existing == null) {
+                added[0] = true;
+                return Pending.of(event);
+            } else {
+                Pending merged = existing.merge(event);
+                coalesced[0] = existing.size() + 1 - merged.size();
+                return merged;
+            }
+        });
+        if (!added[0]) {
+            LOGGER.debugOp("Item {} coalesced with pending item in shard {}", event, shard.id);
+            if (coalesced[0] > 0) {
+                metrics.reconciliationsCoalescedCounter(namespace).increment(coalesced[0]);
+            }
+        } else if (reserveQueueCapacity()) {
+            shard.queue.offerFirst(ref);
+            LOGGER.debugOp("Item {} added to front of queue of shard {}", event, shard.id);
+            int size = shard.updateQueueSize();
+            metrics.reconciliationsMaxQueueSize(namespace).getAndUpdate(max -> Math.max(max, size));
+        } else if (queueOverflowEnabled) {
+            shard.overflow(ref);
         } else {
-            LOGGER.errorOp("Queue length {} exceeded, stopping operator. Please increase {} environment variable.",
+            shard.pending.remove(ref);
+            LOGGER.errorOp("Queue length {} (total of all shards) exceeded, stopping operator. Please increase {} environment variable.",
                     maxQueueSize,
                     TopicOperatorConfig.MAX_QUEUE_SIZE.key());
             this.stop.run();
@@ -146,15 +215,138 @@ class BatchingLoop {
     }
 
     /**
-     * A thread that services the head of the {@link #queue}.
+     * The events for a single KafkaTopic which are waiting to be added to a batch.
+     * At most one delete and one upsert are retained. When both are present the delete happened first,
+     * so it must be reconciled before the upsert.
+     * @param delete The pending delete, or null.
+     * @param upsert The pending upsert, or null.
+     */
+    /* test */ record Pending(TopicDelete delete, TopicUpsert upsert) {
+        static Pending of(TopicEvent event) {
+            return event instanceof TopicDelete delete ? new Pending(delete, null) : new Pending(null, (TopicUpsert) event);
+        }
+
+        /**
+         * Coalesce a subsequent event for the same KafkaTopic with this one.
+         * <ul>
+         *     <li>A delete supersedes everything which is pending, since it's the latest state of the KafkaTopic.</li>
+         *     <li>An upsert supersedes a pending upsert. Because upserts are reconciled using the latest state
+         *     in the item store there's no need to reconcile the earlier one.
+         *     The time at which the earlier upsert was received is retained.</li>
+         *     <li>An upsert following a delete (i.e. the KafkaTopic was deleted and recreated) cannot be simplified,
+         *     since the deletion of the topic in Kafka must still happen.</li>
+         * </ul>
+         * @param event The new event.
+         * @return The result of coalescing.
+         */
+        Pending merge(TopicEvent event) {
+            if (event instanceof TopicDelete newDelete) {
+                return new Pending(newDelete, null);
+            } else {
+                TopicUpsert newUpsert = (TopicUpsert) event;
+                if (upsert != null) {
+                    newUpsert = new TopicUpsert(upsert.nanosStartOffset(), newUpsert.namespace(), newUpsert.name(), newUpsert.resourceVersion());
+                }
+                return new Pending(delete, newUpsert);
+            }
+        }
+
+        int size() {
+            return (delete != null ? 1 : 0) + (upsert != null ? 1 : 0);
+        }
+
+        long ageNs() {
+            return delete != null ? delete.ageNs() : upsert.ageNs();
+        }
+    }
+
+    /**
+     * A partition of the queue. Only the {@link LoopRunnable} which owns the shard takes events from it.
+     * The queue itself only holds the {@link KubeRef}s, with the events for each one held in {@link #pending},
+     * so that events for a topic which is already queued can be coalesced.
+     * When the queues of all the shards together are full (see {@link #queued}), refs are added to the {@link #overflow} instead, and moved to the queue
+     * as it drains. Because events are coalesced, each KafkaTopic appears at most once in either the queue or the
+     * overflow, so the overflow is bounded by the number of KafkaTopics.
+     */
+    class Shard {
+        private final int id;
+        private final BlockingDeque<KubeRef> queue;
+        private final Map<KubeRef, Pending> pending = new ConcurrentHashMap<>();
+        private final Deque<KubeRef> overflow = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger queueSize;
+        private final AtomicInteger overflowSize;
+        private final Timer queueWaitTimer;
+
+        Shard(int id) {
+            this.id = id;
+            // Bounded by the capacity shared between all the shards
+            this.queue = new LinkedBlockingDeque<>();
+            this.queueSize = metrics.reconciliationsShardQueueSize(namespace, id);
+            this.overflowSize = metrics.reconciliationsShardOverflowSize(namespace, id);
+            this.queueWaitTimer = metrics.reconciliationsShardQueueWaitTimer(namespace, id);
+        }
+
+        private void overflow(KubeRef ref) {
+            overflow.addLast(ref);
+            if (overflowSize.getAndIncrement() == 0) {
+                LOGGER.warnOp("Queue length {} (total of all shards) exceeded, reconciliations in shard {} will be delayed. Consider increasing {} environment variable.",
+                        maxQueueSize,
+                        id,
+                        TopicOperatorConfig.MAX_QUEUE_SIZE.key());
+            } else {
+                LOGGER.debugOp("Ref {} added to overflow of shard {}", ref, id);
+            }
+        }
+
+        /**
+         * Move refs from the overflow to the queue, for as long as there is capacity.
+         */
+        private void readmitOverflow() {
+            while (overflowSize.get() > 0 && reserveQueueCapacity()) {
+                KubeRef ref = overflow.pollFirst();
+                if (ref == null) {
+                    queued.decrementAndGet();
+                    break;
+                }
+                // Same end as offer(), so overflowed refs are taken next rather than after any newer events
+                queue.offerFirst(ref);
+                overflowSize.decrementAndGet();
+                LOGGER.debugOp("Ref {} readmitted from overflow of shard {}", ref, id);
+            }
+            updateQueueSize();
+        }
+
+        private int updateQueueSize() {
+            int size = queue.size();
+            queueSize.set(size);
+            return size;
+        }
+
+        /* test */ int id() {
+            return id;
+        }
+    }
+
+    /**
+     * A thread that services the head of the queue of its {@link Shard}.
      */
     class LoopRunnable extends Thread {
 
         private volatile boolean stopRequested = false;
+        private final Shard shard;
 
-        LoopRunnable(String name) {
+        /**
+         * Events taken from the shard's queue which could not be added to the batch being filled
+         * because the batch already contained an event for the same topic.
+         * They're added to the following batch ahead of any events still on the queue.
+         * Only accessed by this thread.
+         */
+        private final Deque<TopicEvent> deferred = new ArrayDeque<>();
+
+        LoopRunnable(String name, Shard shard) {
             super(name);
             setDaemon(false);
+            this.shard = shard;
         }
 
         static final ReconciliationLogger LOGGER = ReconciliationLogger.create(LoopRunnable.class);
@@ -189,15 +381,9 @@ class BatchingLoop {
 
         private boolean runOnce(int batchId, Batch batch) {
             try {
-                synchronized (BatchingLoop.this) {
-                    // remove the old batch from the inflight set and reset the batch
-                    LOGGER.debugOp("[Batch #{}] Removing batch from inflight", batchId - 1);
-                    batch.toUpdate.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
-                    batch.toDelete.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
-                    batch.clear();
-                    // fill a new batch
-                    fillBatch(batchId, batch);
-                }
+                // reset the batch and fill a new one
+                batch.clear();
+                fillBatch(batchId, batch);
 
                 if (batch.size() > 0) {
                     LOGGER.debugOp("[Batch #{}] Reconciling {} topics", batchId, batch.size());
@@ -241,7 +427,12 @@ class BatchingLoop {
 
         private void fillBatch(int batchId, Batch batch) throws InterruptedException {
             LOGGER.traceOp("[Batch #{}] Filling", batchId);
-            List<TopicEvent> rejected = new ArrayList<>();
+            shard.readmitOverflow();
+            // Start with the events which were deferred from the previous batch
+            int numDeferred = deferred.size();
+            for (int i = 0; i < numDeferred && batch.size() < maxBatchSize; i++) {
+                addToBatch(batchId, batch, deferred.pollFirst());
+            }
 
             final long deadlineNanoTime = System.nanoTime() + maxBatchLingerMs * 1_000_000;
             while (true) {
@@ -255,35 +446,41 @@ class BatchingLoop {
                     LOGGER.traceOp("[Batch #{}] {}ms linger expired", batchId, maxBatchLingerMs);
                     break;
                 }
-                LOGGER.traceOp("[Batch #{}] Taking next item from deque head with timeout {}ns", batchId, timeoutNs);
-                TopicEvent topicEvent = queue.pollFirst(timeoutNs, TimeUnit.NANOSECONDS);
+                LOGGER.traceOp("[Batch #{}] Taking next item from deque head of shard {} with timeout {}ns", batchId, shard.id, timeoutNs);
+                KubeRef ref = shard.queue.pollFirst(timeoutNs, TimeUnit.NANOSECONDS);
 
-                if (topicEvent == null) {
+                if (ref == null) {
                     LOGGER.traceOp("[Batch #{}] linger expired, batch complete", batchId);
                     break;
                 }
-                addToBatch(batchId, batch, rejected, topicEvent);
+                queued.decrementAndGet();
+                shard.readmitOverflow();
+                // Any events offered for this ref from now on will be queued afresh
+                Pending pending = shard.pending.remove(ref);
+                if (pending == null) {
+                    continue;
+                }
+                shard.queueWaitTimer.record(pending.ageNs(), TimeUnit.NANOSECONDS);
+                if (pending.delete() != null) {
+                    addToBatch(batchId, batch, pending.delete());
+                    if (pending.upsert() != null) {
+                        // Must not be reconciled in the same batch as the delete
+                        deferred.addLast(pending.upsert());
+                    }
+                } else {
+                    addToBatch(batchId, batch, pending.upsert());
+                }
             }
             LOGGER.traceOp("[Batch #{}] Filled with {} topics", batchId, batch.size());
             metrics.reconciliationsMaxBatchSize(namespace).getAndUpdate(size -> Math.max(size, batch.size()));
-
-            // here we need a deque and can push `rejected` back on the front of the queue
-            //      where they can be taken by the next thread.
-            for (int i = rejected.size() - 1; i >= 0; i--) {
-                TopicEvent item = rejected.get(i);
-                offer(item);
-            }
         }
 
-        private void addToBatch(int batchId, Batch batch, List<TopicEvent> rejected, TopicEvent topicEvent) {
-            // We could add logic here to cope properly with interleaved upserts and deletes
-            // of the same topic in the same batch.
-            // E.g. upset then delete is equivalent to just a delete
-            // It's actually a bit tricky since you have to process the events in reverse order to correctly
-            // simplify them, so `Batch` would have to be something like a `Map<Ref, List<TopicEvent>>`.
+        private void addToBatch(int batchId, Batch batch, TopicEvent topicEvent) {
+            // Events for the same topic are coalesced while they're pending (see Pending#merge), but an
+            // event offered after the topic was taken from the queue can still arrive while the batch is filling.
             KubeRef ref = topicEvent.toRef();
-            if (inFlight.add(ref)) {
-                // wasn't already inflight
+            if (batch.refs.add(ref)) {
+                // wasn't already in this batch
                 LOGGER.debugOp("[Batch #{}] Adding {}", batchId, topicEvent);
                 if (topicEvent instanceof TopicUpsert) {
                     batch.toUpdate.add((TopicUpsert) topicEvent);
@@ -291,19 +488,20 @@ class BatchingLoop {
                     batch.toDelete.add((TopicDelete) topicEvent);
                 }
             } else {
-                LOGGER.debugOp("[Batch #{}] Rejecting item {}, already inflight", batchId, topicEvent);
-                rejected.add(topicEvent);
+                LOGGER.debugOp("[Batch #{}] Deferring item {}, already in batch", batchId, topicEvent);
+                deferred.addLast(topicEvent);
                 metrics.lockedReconciliationsCounter(namespace).increment();
             }
         }
     }
 
-    private record Batch(List<TopicUpsert> toUpdate, List<TopicDelete> toDelete) {
+    private record Batch(Set<KubeRef> refs, List<TopicUpsert> toUpdate, List<TopicDelete> toDelete) {
         public Batch(int maxBatchSize) {
-            this(new ArrayList<>(maxBatchSize), new ArrayList<>(maxBatchSize));
+            this(new HashSet<>(maxBatchSize), new ArrayList<>(maxBatchSize), new ArrayList<>(maxBatchSize));
         }
 
         public void clear() {
+            refs.clear();
             toUpdate.clear();
             toDelete.clear();
         }
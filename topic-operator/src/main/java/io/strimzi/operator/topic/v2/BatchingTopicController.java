@@ -15,7 +15,7 @@ import io.strimzi.api.kafka.model.status.ConditionBuilder;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
-import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.strimzi.operator.common.metrics.BatchOperatorMetricsHolder;
 import io.strimzi.operator.common.model.StatusUtils;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AlterConfigOp;
@@ -43,6 +43,7 @@ import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 
 import java.io.InterruptedIOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -51,6 +52,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -77,15 +79,25 @@ public class BatchingTopicController {
     // Key: topic name, Value: The KafkaTopics known to manage that topic
     /* test */ final Map<String, Set<KubeRef>> topics = new HashMap<>();
 
-    private final MetricsHolder metrics;
+    private final BatchOperatorMetricsHolder metrics;
     private final String namespace;
+    private final StatusWriter statusWriter;
+    private final TopicCache topicCache;
+
+    /**
+     * The status writes submitted to the {@link #statusWriter} for the batch currently being reconciled.
+     * Only accessed by the thread calling {@link #onUpdate(List)} or {@link #onDelete(List)}.
+     */
+    private final List<CompletableFuture<Void>> statusWrites = new ArrayList<>();
 
     BatchingTopicController(Map<String, String> selector,
                             Admin admin,
                             KubernetesClient kubeClient,
                             boolean useFinalizer,
-                            MetricsHolder metrics,
-                            String namespace) throws ExecutionException, InterruptedException {
+                            BatchOperatorMetricsHolder metrics,
+                            String namespace,
+                            StatusWriter statusWriter,
+                            TopicCache topicCache) throws ExecutionException, InterruptedException {
         this.selector = Objects.requireNonNull(selector);
         this.useFinalizer = useFinalizer;
         this.admin = admin;
@@ -111,6 +123,8 @@ public class BatchingTopicController {
         this.kubeClient = kubeClient;
         this.metrics = metrics;
         this.namespace = namespace;
+        this.statusWriter = statusWriter;
+        this.topicCache = topicCache;
     }
 
     /* test */ static boolean isManaged(KafkaTopic kt) {
@@ -391,6 +405,7 @@ public class BatchingTopicController {
     void onUpdate(List<ReconcilableTopic> topics) throws InterruptedException {
         try {
             updateInternal(topics);
+            awaitStatusWrites();
         } catch (UncheckedInterruptedException e) {
             throw e.getCause();
         } catch (KubernetesClientException e) {
@@ -399,6 +414,9 @@ public class BatchingTopicController {
             } else {
                 throw e;
             }
+        } finally {
+            // discard the writes of a batch which failed part way through
+            statusWrites.clear();
         }
     }
 
@@ -452,17 +470,31 @@ public class BatchingTopicController {
         // figure out necessary updates
         List<Pair<ReconcilableTopic, Collection<AlterConfigOp>>> someAlterConfigs = configChanges(results, currentStatesOrError);
         List<Pair<ReconcilableTopic, NewPartitions>> someCreatePartitions = partitionChanges(results, currentStatesOrError);
-
-        // execute those updates
-        var alterConfigsResults = alterConfigs(someAlterConfigs);
-        var createPartitionsResults = createPartitions(someCreatePartitions);
-
-        accumulateResults(results, currentStatesOrError, alterConfigsResults, createPartitionsResults);
+        var apparentlyDifferentRf = apparentlyDifferentRf(currentStatesOrError);
+        // the topics we're about to change, or which are still being reassigned, need to be described afresh next time
+        Stream.of(someAlterConfigs.stream(), someCreatePartitions.stream(), apparentlyDifferentRf.stream())
+                .flatMap(pairs -> pairs)
+                .forEach(pair -> topicCache.invalidate(pair.getKey().topicName()));
+
+        // send those updates (and the reassignments query needed to check RF changes) without waiting,
+        // so that the Admin requests are in flight concurrently
+        var alterConfigsFutures = alterConfigs(someAlterConfigs);
+        var createPartitionsFutures = createPartitions(someCreatePartitions);
+        var reassignmentsFuture = listPartitionReassignments(apparentlyDifferentRf);
+
+        // while they're in flight, update the statuses of the topics whose results are already final
+        var settled = settledResults(results, someAlterConfigs, someCreatePartitions, apparentlyDifferentRf);
+        updateStatuses(settled);
+
+        // then wait for the updates
+        accumulateResults(results, apparentlyDifferentRf, reassignmentsFuture,
+                awaitResults(alterConfigsFutures), awaitResults(createPartitionsFutures));
 
         updateStatuses(results);
         remainingAfterDeletions.forEach(this::stopTimer);
 
-        LOGGER.traceOp("Total time reconciling batch of {} KafkaTopics: {}ns", results.size(), System.nanoTime() - t3);
+        LOGGER.traceOp("Total time reconciling batch of {} KafkaTopics ({} settled before and {} after the Admin updates): {}ns",
+                settled.size() + results.size(), settled.size(), results.size(), System.nanoTime() - t3);
     }
 
     private List<ReconcilableTopic> validateManagedTopics(Map<Boolean, List<ReconcilableTopic>> partitionedByManaged) {
@@ -519,8 +551,37 @@ public class BatchingTopicController {
         }
     }
 
+    /**
+     * Wait for all the status writes for the current batch to complete, so that the next batch for any of
+     * the same KafkaTopics will observe them.
+     * If any of the writes failed, the first failure is rethrown.
+     */
+    private void awaitStatusWrites() {
+        try {
+            RuntimeException failure = null;
+            for (var statusWrite : statusWrites) {
+                try {
+                    statusWrite.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof InterruptedException ie) {
+                        throw new UncheckedInterruptedException(ie);
+                    } else if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException re ? re : new RuntimeException(e.getCause());
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } catch (InterruptedException e) {
+            throw new UncheckedInterruptedException(e);
+        } finally {
+            statusWrites.clear();
+        }
+    }
+
     private void updateStatuses(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results) {
-        // Update statues with the overall results.
+        // Submit status updates with the overall results.
         var t0 = System.nanoTime();
         results.entrySet().stream().forEach(entry -> {
             var reconcilableTopic = entry.getKey();
@@ -531,10 +592,47 @@ public class BatchingTopicController {
                 updateStatusForException(reconcilableTopic, either.left());
             }
         });
-        LOGGER.traceOp("Updated status of {} KafkaTopics in {}ns", results.size(), System.nanoTime() - t0);
+        LOGGER.traceOp("Submitted status updates of {} KafkaTopics in {}ns", results.size(), System.nanoTime() - t0);
     }
 
-    private void accumulateResults(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results, PartitionedByError<ReconcilableTopic, CurrentState> currentStatesOrError, PartitionedByError<ReconcilableTopic, Void> alterConfigsResults, PartitionedByError<ReconcilableTopic, Void> createPartitionsResults) {
+    /**
+     * Removes from {@code results} and returns the results which cannot change once the
+     * Admin requests for config changes, partition changes and partition reassignments have completed.
+     */
+    private static Map<ReconcilableTopic, Either<TopicOperatorException, Object>> settledResults(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results,
+                                                                                                List<Pair<ReconcilableTopic, Collection<AlterConfigOp>>> someAlterConfigs,
+                                                                                                List<Pair<ReconcilableTopic, NewPartitions>> someCreatePartitions,
+                                                                                                List<Pair<ReconcilableTopic, CurrentState>> apparentlyDifferentRf) {
+        Set<ReconcilableTopic> unsettled = Stream.of(someAlterConfigs.stream().map(Pair::getKey),
+                        someCreatePartitions.stream().map(Pair::getKey),
+                        apparentlyDifferentRf.stream().map(Pair::getKey))
+                .flatMap(x -> x)
+                .collect(Collectors.toSet());
+        Map<ReconcilableTopic, Either<TopicOperatorException, Object>> settled = new HashMap<>();
+        var it = results.entrySet().iterator();
+        while (it.hasNext()) {
+            var entry = it.next();
+            if (!unsettled.contains(entry.getKey())) {
+                settled.put(entry.getKey(), entry.getValue());
+                it.remove();
+            }
+        }
+        return settled;
+    }
+
+    private static List<Pair<ReconcilableTopic, CurrentState>> apparentlyDifferentRf(PartitionedByError<ReconcilableTopic, CurrentState> currentStatesOrError) {
+        return currentStatesOrError.ok().filter(pair -> {
+            var reconcilableTopic = pair.getKey();
+            var currentState = pair.getValue();
+            return currentState.uniqueReplicationFactor() != reconcilableTopic.kt().getSpec().getReplicas();
+        }).toList();
+    }
+
+    private void accumulateResults(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results,
+                                   List<Pair<ReconcilableTopic, CurrentState>> apparentlyDifferentRf,
+                                   KafkaFuture<Map<TopicPartition, PartitionReassignment>> reassignmentsFuture,
+                                   PartitionedByError<ReconcilableTopic, Void> alterConfigsResults,
+                                   PartitionedByError<ReconcilableTopic, Void> createPartitionsResults) {
         // add the successes to the results
         alterConfigsResults.ok().forEach(pair -> putResult(results, pair.getKey(), Either.ofRight(null)));
         createPartitionsResults.ok().forEach(pair -> putResult(results, pair.getKey(), Either.ofRight(null)));
@@ -542,13 +640,8 @@ public class BatchingTopicController {
         // add to errors (potentially overwriting some successes, e.g. if configs succeeded but partitions failed)
         alterConfigsResults.errors().forEach(pair -> putResult(results, pair.getKey(), Either.ofLeft(pair.getValue())));
         createPartitionsResults.errors().forEach(pair -> putResult(results, pair.getKey(), Either.ofLeft(pair.getValue())));
-        var apparentlyDifferentRf = currentStatesOrError.ok().filter(pair -> {
-            var reconcilableTopic = pair.getKey();
-            var currentState = pair.getValue();
-            return currentState.uniqueReplicationFactor() != reconcilableTopic.kt().getSpec().getReplicas();
-        }).toList();
 
-        var actuallyDifferentRf = partitionedByError(filterByReassignmentTargetReplicas(apparentlyDifferentRf).stream());
+        var actuallyDifferentRf = partitionedByError(filterByReassignmentTargetReplicas(apparentlyDifferentRf, reassignmentsFuture).stream());
         actuallyDifferentRf.errors().forEach(pair -> {
             putResult(results, pair.getKey(), Either.ofLeft(pair.getValue()));
         });
@@ -592,10 +685,10 @@ public class BatchingTopicController {
         return someCreatePartitions;
     }
 
-    private List<Pair<ReconcilableTopic, Either<TopicOperatorException, CurrentState>>> filterByReassignmentTargetReplicas(
+    private KafkaFuture<Map<TopicPartition, PartitionReassignment>> listPartitionReassignments(
             List<Pair<ReconcilableTopic, CurrentState>> apparentlyDifferentRfTopics) {
         if (apparentlyDifferentRfTopics.isEmpty()) {
-            return List.of();
+            return KafkaFuture.completedFuture(Map.of());
         }
         Set<TopicPartition> apparentDifferentRfPartitions = apparentlyDifferentRfTopics.stream().flatMap(pair -> {
             return pair.getValue().topicDescription.partitions().stream()
@@ -607,14 +700,31 @@ public class BatchingTopicController {
                     .map(pi -> new TopicPartition(pair.getKey().topicName(), pi.partition()));
         }).collect(Collectors.toSet());
 
-        Map<TopicPartition, PartitionReassignment> reassignments;
         LOGGER.traceOp("Admin.listPartitionReassignments({})", apparentDifferentRfPartitions);
         long t0 = System.nanoTime();
+        var reassignments = admin.listPartitionReassignments(apparentDifferentRfPartitions).reassignments();
+        if (LOGGER.isTraceEnabled()) {
+            reassignments.whenComplete((i, e) -> {
+                if (e != null) {
+                    LOGGER.traceOp("Admin.listPartitionReassignments({}) took {}ns to fail with {}", apparentDifferentRfPartitions, System.nanoTime() - t0, String.valueOf(e));
+                } else {
+                    LOGGER.traceOp("Admin.listPartitionReassignments({}) took {}ns", apparentDifferentRfPartitions, System.nanoTime() - t0);
+                }
+            });
+        }
+        return reassignments;
+    }
+
+    private List<Pair<ReconcilableTopic, Either<TopicOperatorException, CurrentState>>> filterByReassignmentTargetReplicas(
+            List<Pair<ReconcilableTopic, CurrentState>> apparentlyDifferentRfTopics,
+            KafkaFuture<Map<TopicPartition, PartitionReassignment>> reassignmentsFuture) {
+        if (apparentlyDifferentRfTopics.isEmpty()) {
+            return List.of();
+        }
+        Map<TopicPartition, PartitionReassignment> reassignments;
         try {
-            reassignments = admin.listPartitionReassignments(apparentDifferentRfPartitions).reassignments().get();
-            LOGGER.traceOp("Admin.listPartitionReassignments({}) took {}ns", apparentDifferentRfPartitions, System.nanoTime() - t0);
+            reassignments = reassignmentsFuture.get();
         } catch (ExecutionException e) {
-            LOGGER.traceOp("Admin.listPartitionReassignments({}) took {}ns to fail with {}", apparentDifferentRfPartitions, System.nanoTime() - t0, e);
             return apparentlyDifferentRfTopics.stream().map(pair ->
                     pair(pair.getKey, Either.<TopicOperatorException, CurrentState>ofLeft(handleAdminException(e)))).toList();
         } catch (InterruptedException e) {
@@ -651,9 +761,21 @@ public class BatchingTopicController {
         return new Pair<>(key, value);
     }
 
-    private PartitionedByError<ReconcilableTopic, Void> alterConfigs(List<Pair<ReconcilableTopic, Collection<AlterConfigOp>>> someAlterConfigs) {
+    private static PartitionedByError<ReconcilableTopic, Void> awaitResults(Map<ReconcilableTopic, KafkaFuture<Void>> futures) {
+        return partitionedByError(futures.entrySet().stream().map(entry -> {
+            try {
+                return pair(entry.getKey(), Either.<TopicOperatorException, Void>ofRight(entry.getValue().get()));
+            } catch (ExecutionException e) {
+                return pair(entry.getKey(), Either.<TopicOperatorException, Void>ofLeft(handleAdminException(e)));
+            } catch (InterruptedException e) {
+                throw new UncheckedInterruptedException(e);
+            }
+        }));
+    }
+
+    private Map<ReconcilableTopic, KafkaFuture<Void>> alterConfigs(List<Pair<ReconcilableTopic, Collection<AlterConfigOp>>> someAlterConfigs) {
         if (someAlterConfigs.isEmpty()) {
-            return new PartitionedByError<>(List.of(), List.of());
+            return Map.of();
         }
         Map<ConfigResource, Collection<AlterConfigOp>> alteredConfigs = someAlterConfigs.stream().collect(Collectors.toMap(entry -> topicConfigResource(entry.getKey().topicName()), Pair::getValue));
         LOGGER.debugOp("Admin.incrementalAlterConfigs({})", alteredConfigs);
@@ -669,21 +791,13 @@ public class BatchingTopicController {
             });
         }
         var alterConfigsResult = acr.values();
-        Stream<Pair<ReconcilableTopic, Either<TopicOperatorException, Void>>> entryStream = someAlterConfigs.stream().map(entry -> {
-            try {
-                return pair(entry.getKey(), Either.ofRight(alterConfigsResult.get(topicConfigResource(entry.getKey().topicName())).get()));
-            } catch (ExecutionException e) {
-                return pair(entry.getKey(), Either.ofLeft(handleAdminException(e)));
-            } catch (InterruptedException e) {
-                throw new UncheckedInterruptedException(e);
-            }
-        });
-        return partitionedByError(entryStream);
+        return someAlterConfigs.stream().collect(Collectors.toMap(Pair::getKey,
+                entry -> alterConfigsResult.get(topicConfigResource(entry.getKey().topicName()))));
     }
 
-    private PartitionedByError<ReconcilableTopic, Void> createPartitions(List<Pair<ReconcilableTopic, NewPartitions>> someCreatePartitions) {
+    private Map<ReconcilableTopic, KafkaFuture<Void>> createPartitions(List<Pair<ReconcilableTopic, NewPartitions>> someCreatePartitions) {
         if (someCreatePartitions.isEmpty()) {
-            return new PartitionedByError<>(List.of(), List.of());
+            return Map.of();
         }
         Map<String, NewPartitions> newPartitions = someCreatePartitions.stream().collect(Collectors.toMap(pair -> pair.getKey().topicName(), Pair::getValue));
         LOGGER.debugOp("Admin.createPartitions({})", newPartitions);
@@ -699,17 +813,8 @@ public class BatchingTopicController {
             });
         }
         var createPartitionsResult = cpr.values();
-        var entryStream = someCreatePartitions.stream().map(entry -> {
-            try {
-                createPartitionsResult.get(entry.getKey().topicName()).get();
-                return pair(entry.getKey(), Either.<TopicOperatorException, Void>ofRight(null));
-            } catch (ExecutionException e) {
-                return pair(entry.getKey(), Either.<TopicOperatorException, Void>ofLeft(handleAdminException(e)));
-            } catch (InterruptedException e) {
-                throw new UncheckedInterruptedException(e);
-            }
-        });
-        return partitionedByError(entryStream);
+        return someCreatePartitions.stream().collect(Collectors.toMap(Pair::getKey,
+                entry -> createPartitionsResult.get(entry.getKey().topicName())));
     }
 
     private static ConfigResource topicConfigResource(String tn) {
@@ -720,6 +825,28 @@ public class BatchingTopicController {
         if (batch.isEmpty()) {
             return new PartitionedByError<>(List.of(), List.of());
         }
+        List<Pair<ReconcilableTopic, Either<TopicOperatorException, CurrentState>>> results = new ArrayList<>(batch.size());
+        List<ReconcilableTopic> uncached = new ArrayList<>();
+        for (var reconcilableTopic : batch) {
+            CurrentState cached = topicCache.get(reconcilableTopic.topicName());
+            if (cached != null) {
+                results.add(pair(reconcilableTopic, Either.ofRight(cached)));
+            } else {
+                uncached.add(reconcilableTopic);
+            }
+        }
+        if (uncached.isEmpty()) {
+            LOGGER.debugOp("Current state of all {} topics found in the cache", batch.size());
+            return partitionedByError(results.stream());
+        }
+        var described = describeTopicUncached(uncached);
+        results.addAll(described.okList());
+        results.addAll(described.errorsList());
+        return partitionedByError(results.stream());
+    }
+
+    private PartitionedByError<ReconcilableTopic, CurrentState> describeTopicUncached(List<ReconcilableTopic> batch) {
+        long fetchedNanoTime = System.nanoTime();
         Set<ConfigResource> configResources = batch.stream()
                 .map(reconcilableTopic -> topicConfigResource(reconcilableTopic.topicName()))
                 .collect(Collectors.toSet());
@@ -782,7 +909,9 @@ public class BatchingTopicController {
             if (exception != null) {
                 return pair(reconcilableTopic, Either.ofLeft(handleAdminException(exception)));
             } else {
-                return pair(reconcilableTopic, Either.ofRight(new CurrentState(description, configs)));
+                var currentState = new CurrentState(description, configs);
+                topicCache.put(reconcilableTopic.topicName(), currentState, fetchedNanoTime);
+                return pair(reconcilableTopic, Either.ofRight(currentState));
             }
         }));
     }
@@ -790,6 +919,7 @@ public class BatchingTopicController {
     void onDelete(List<ReconcilableTopic> batch) throws InterruptedException {
         try {
             deleteInternal(batch, true);
+            awaitStatusWrites();
         } catch (UncheckedInterruptedException e) {
             throw e.getCause();
         } catch (KubernetesClientException e) {
@@ -798,6 +928,9 @@ public class BatchingTopicController {
             } else {
                 throw e;
             }
+        } finally {
+            // discard the writes of a batch which failed part way through
+            statusWrites.clear();
         }
     }
 
@@ -877,6 +1010,7 @@ public class BatchingTopicController {
         if (topicNames.isEmpty()) {
             return new PartitionedByError<>(List.of(), List.of());
         }
+        topicNames.forEach(topicCache::invalidate);
         var someDeleteTopics = TopicCollection.ofTopicNames(topicNames);
         LOGGER.debugOp("Admin.deleteTopics({})", someDeleteTopics.topicNames());
 
@@ -1039,16 +1173,10 @@ public class BatchingTopicController {
                         .withTopicName(newTopicName)
                         .withConditions(condition)
                     .endStatus().build();
-            LOGGER.debugCr(reconciliation, "Updating status with {}", updatedTopic.getStatus());
-            long t0 = System.nanoTime();
-            var got = Crds.topicOperation(kubeClient)
-                    .resource(updatedTopic)
-                    .updateStatus();
-            LOGGER.traceCr(reconciliation, "Updated status to observedGeneration {}, resourceVersion now {}, took {}ns",
-                    got.getStatus().getObservedGeneration(),
-                    resourceVersion(got), System.nanoTime() - t0);
+            statusWrites.add(statusWriter.write(reconciliation, updatedTopic));
         } else {
             LOGGER.traceCr(reconciliation, "Unchanged status of {}", kt.getStatus());
+            metrics.skippedStatusUpdatesCounter(namespace).increment();
         }
     }
 
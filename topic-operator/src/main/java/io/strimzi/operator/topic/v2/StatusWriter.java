@@ -0,0 +1,173 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.BatchOperatorMetricsHolder;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes the statuses of KafkaTopics to Kube using a pool of threads, so that the writes for a batch are made concurrently.
+ * The number of writes in flight is limited by the size of the pool, and the rate at which they're started can
+ * optionally be limited too.
+ * A write for a KafkaTopic which already has a write waiting to start is coalesced with it, so only the latest status is written.
+ */
+class StatusWriter {
+
+    static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StatusWriter.class);
+
+    private final KubernetesClient kubeClient;
+    private final ExecutorService executor;
+    private final long minNanosBetweenWrites;
+    private final BatchOperatorMetricsHolder metrics;
+    private final String namespace;
+    private final Map<KubeRef, PendingWrite> pending = new ConcurrentHashMap<>();
+    private long nextWriteNanoTime = System.nanoTime(); // guarded by this
+    private volatile boolean stopped = false;
+
+    /**
+     * @param kubeClient The Kube client.
+     * @param maxInFlight The maximum number of status writes in flight at once.
+     * @param maxWritesPerSecond The maximum number of status writes started per second, or 0 for no limit.
+     * @param metrics The metrics holder.
+     * @param namespace The namespace of the KafkaTopics.
+     */
+    StatusWriter(KubernetesClient kubeClient,
+                 int maxInFlight,
+                 int maxWritesPerSecond,
+                 BatchOperatorMetricsHolder metrics,
+                 String namespace) {
+        this.kubeClient = kubeClient;
+        AtomicInteger threadId = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxInFlight, runnable -> {
+            Thread thread = new Thread(runnable, "StatusWriter-" + threadId.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.minNanosBetweenWrites = maxWritesPerSecond > 0 ? 1_000_000_000L / maxWritesPerSecond : 0;
+        this.metrics = metrics;
+        this.namespace = namespace;
+    }
+
+    private class PendingWrite implements Runnable {
+        private final KubeRef ref;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        // Only changed while holding the lock for ref in pending
+        private volatile Reconciliation reconciliation;
+        private volatile KafkaTopic updatedTopic;
+
+        PendingWrite(KubeRef ref, Reconciliation reconciliation, KafkaTopic updatedTopic) {
+            this.ref = ref;
+            this.reconciliation = reconciliation;
+            this.updatedTopic = updatedTopic;
+        }
+
+        @Override
+        public void run() {
+            try {
+                awaitRateLimit();
+                // Once removed, any further write for this KafkaTopic will be a new PendingWrite
+                pending.remove(ref, this);
+                LOGGER.debugCr(reconciliation, "Updating status with {}", updatedTopic.getStatus());
+                Timer.Sample sample = Timer.start(metrics.metricsProvider().meterRegistry());
+                long t0 = System.nanoTime();
+                var got = Crds.topicOperation(kubeClient)
+                        .resource(updatedTopic)
+                        .updateStatus();
+                sample.stop(metrics.statusUpdateTimer(namespace));
+                LOGGER.traceCr(reconciliation, "Updated status to observedGeneration {}, resourceVersion now {}, took {}ns",
+                        got.getStatus().getObservedGeneration(),
+                        BatchingTopicController.resourceVersion(got), System.nanoTime() - t0);
+                future.complete(null);
+            } catch (InterruptedException e) {
+                pending.remove(ref, this);
+                Thread.currentThread().interrupt();
+                future.completeExceptionally(e);
+            } catch (Throwable t) {
+                // Complete the future even on an Error, otherwise the caller waits for it forever
+                pending.remove(ref, this);
+                future.completeExceptionally(t);
+            }
+        }
+    }
+
+    /**
+     * Submit the status of the given KafkaTopic to be written.
+     * @param reconciliation The reconciliation.
+     * @param updatedTopic The KafkaTopic with the status to be written.
+     * @return A future which completes when the status has been written, or completes exceptionally if the writer has been stopped.
+     */
+    CompletableFuture<Void> write(Reconciliation reconciliation, KafkaTopic updatedTopic) {
+        if (stopped) {
+            return CompletableFuture.failedFuture(new IllegalStateException("The status writer has been stopped"));
+        }
+        KubeRef ref = new KubeRef(updatedTopic.getMetadata().getNamespace(), updatedTopic.getMetadata().getName(), 0);
+        PendingWrite[] created = new PendingWrite[1];
+        PendingWrite write = pending.compute(ref, (k, existing) -> {
+            if (existing == null) {
+                created[0] = new PendingWrite(ref, reconciliation, updatedTopic);
+                return created[0];
+            } else {
+                existing.reconciliation = reconciliation;
+                existing.updatedTopic = updatedTopic;
+                return existing;
+            }
+        });
+        if (created[0] != null) {
+            try {
+                executor.execute(write);
+            } catch (RejectedExecutionException e) {
+                // Lost a race with stop()
+                pending.remove(ref, write);
+                write.future.completeExceptionally(new IllegalStateException("The status writer has been stopped", e));
+            }
+        } else {
+            LOGGER.debugCr(reconciliation, "Coalesced status update with a pending update");
+            metrics.skippedStatusUpdatesCounter(namespace).increment();
+        }
+        return write.future;
+    }
+
+    private void awaitRateLimit() throws InterruptedException {
+        if (minNanosBetweenWrites > 0) {
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long writeNanoTime = Math.max(now, nextWriteNanoTime);
+                nextWriteNanoTime = writeNanoTime + minNanosBetweenWrites;
+                waitNanos = writeNanoTime - now;
+            }
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
+    }
+
+    /**
+     * Stop the threads. Writes which have not yet started are abandoned, and their futures completed exceptionally,
+     * as are the futures of any writes submitted after this method is called.
+     */
+    void stop() {
+        stopped = true;
+        for (Runnable runnable : executor.shutdownNow()) {
+            PendingWrite write = (PendingWrite) runnable;
+            pending.remove(write.ref, write);
+            write.future.completeExceptionally(new IllegalStateException("The status writer has been stopped"));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.BatchOperatorMetricsHolder;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.TopicListing;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A cache of the {@link BatchingTopicController.CurrentState} of topics in Kafka, so that reconciliations of
+ * KafkaTopics whose topics have not changed don't need to describe the topic and its configs.
+ *
+ * <p>Entries are added when a topic is described, and removed when:</p>
+ * <ul>
+ *     <li>the operator changes the topic (see {@link #invalidate(String)}),</li>
+ *     <li>a periodic {@code Admin.listTopics()} shows the topic has been deleted, or deleted and recreated, or</li>
+ *     <li>they are older than the maximum age, which bounds how long changes made to a topic
+ *     by something other than the operator can go unnoticed.</li>
+ * </ul>
+ *
+ * <p>When the cache is disabled every lookup is a miss and nothing is cached.</p>
+ */
+class TopicCache {
+
+    static final ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicCache.class);
+
+    private record Entry(BatchingTopicController.CurrentState state, long fetchedNanoTime) { }
+
+    private final boolean enabled;
+    private final Admin admin;
+    private final long refreshIntervalMs;
+    private final long maxAgeNanos;
+    private final BatchOperatorMetricsHolder metrics;
+    private final String namespace;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile long lastRefreshNanoTime = System.nanoTime();
+    private ScheduledExecutorService executor;
+
+    /**
+     * @param enabled Whether the cache is enabled.
+     * @param admin The Admin client.
+     * @param refreshIntervalMs The interval between refreshes of the cache, in ms.
+     * @param maxAgeMs The maximum age of an entry, in ms.
+     * @param metrics The metrics holder.
+     * @param namespace The namespace of the KafkaTopics.
+     */
+    TopicCache(boolean enabled,
+               Admin admin,
+               long refreshIntervalMs,
+               long maxAgeMs,
+               BatchOperatorMetricsHolder metrics,
+               String namespace) {
+        this.enabled = enabled;
+        this.admin = admin;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMs);
+        this.metrics = metrics;
+        this.namespace = namespace;
+    }
+
+    /**
+     * Start refreshing the cache periodically.
+     */
+    synchronized void start() {
+        if (enabled && executor == null) {
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "TopicCache-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleWithFixedDelay(this::refresh, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stop refreshing the cache.
+     */
+    synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * @param topicName The name of the topic.
+     * @return The cached state of the topic, or null if it's not cached.
+     */
+    BatchingTopicController.CurrentState get(String topicName) {
+        if (!enabled) {
+            return null;
+        }
+        updateStaleness();
+        Entry entry = entries.get(topicName);
+        if (entry != null && System.nanoTime() - entry.fetchedNanoTime() > maxAgeNanos) {
+            entries.remove(topicName, entry);
+            updateSize();
+            entry = null;
+        }
+        if (entry == null) {
+            metrics.cacheMissesCounter(namespace).increment();
+            return null;
+        }
+        metrics.cacheHitsCounter(namespace).increment();
+        return entry.state();
+    }
+
+    /**
+     * @param topicName The name of the topic.
+     * @param state The state of the topic, as just described.
+     * @param fetchedNanoTime The {@link System#nanoTime()} before the topic was described.
+     */
+    void put(String topicName, BatchingTopicController.CurrentState state, long fetchedNanoTime) {
+        if (enabled) {
+            entries.put(topicName, new Entry(state, fetchedNanoTime));
+            updateSize();
+        }
+    }
+
+    /**
+     * Remove the topic from the cache because it has been (or may have been) changed.
+     * @param topicName The name of the topic.
+     */
+    void invalidate(String topicName) {
+        if (enabled && entries.remove(topicName) != null) {
+            updateSize();
+        }
+    }
+
+    /**
+     * Remove from the cache the topics which no longer exist, or which have been recreated since they were cached.
+     */
+    /* test */ void refresh() {
+        long t0 = System.nanoTime();
+        Map<String, TopicListing> listings;
+        try {
+            LOGGER.debugOp("Admin.listTopics()");
+            listings = admin.listTopics(new ListTopicsOptions().listInternal(true)).namesToListings().get();
+        } catch (ExecutionException e) {
+            LOGGER.warnOp("Failed to refresh the topic cache", e.getCause());
+            updateStaleness();
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        // Entries put after the listing was requested might be for topics created since, so keep those
+        entries.entrySet().removeIf(e -> {
+            if (e.getValue().fetchedNanoTime() - t0 >= 0) {
+                return false;
+            }
+            var listing = listings.get(e.getKey());
+            boolean stale = listing == null
+                    || !listing.topicId().equals(e.getValue().state().topicDescription().topicId());
+            if (stale) {
+                LOGGER.debugOp("Topic {} has been deleted or recreated, removing it from the cache", e.getKey());
+            }
+            return stale;
+        });
+        LOGGER.traceOp("Admin.listTopics() took {}ns", System.nanoTime() - t0);
+        lastRefreshNanoTime = t0;
+        updateSize();
+        updateStaleness();
+    }
+
+    private void updateSize() {
+        metrics.cacheSize(namespace).set(entries.size());
+    }
+
+    private void updateStaleness() {
+        metrics.cacheStalenessSeconds(namespace).set((int) TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - lastRefreshNanoTime));
+    }
+}
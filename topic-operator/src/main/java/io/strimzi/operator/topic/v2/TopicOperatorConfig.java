@@ -24,6 +24,7 @@ import static io.strimzi.operator.common.operator.resource.ConfigParameterParser
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LONG;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.NON_EMPTY_STRING;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.STRING;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.nonNegative;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.strictlyPositive;
 
 /**
@@ -49,6 +50,13 @@ import static io.strimzi.operator.common.operator.resource.ConfigParameterParser
  * @param maxQueueSize                  The capacity of the queue
  * @param maxBatchSize                  The maximum size of a reconciliation batch
  * @param maxBatchLingerMs              The maximum time to wait for a reconciliation batch to contain {@code maxBatchSize} items.
+ * @param queueOverflowEnabled          Whether events which don't fit in the queue should wait in an overflow, rather than the operator stopping.
+ * @param maxThreads                    The number of threads reconciling the batches, each with its own shard of the queue.
+ * @param statusUpdateMaxInFlight       The maximum number of KafkaTopic status updates in flight at once.
+ * @param statusUpdateMaxRate           The maximum number of KafkaTopic status updates started per second, or 0 for no limit.
+ * @param topicCacheEnabled             Whether to cache the state of topics in Kafka between reconciliations.
+ * @param topicCacheRefreshIntervalMs   The interval between checks for topics deleted from Kafka, in ms.
+ * @param topicCacheMaxAgeMs            The maximum time the state of a topic is cached for, in ms.
  */
 record TopicOperatorConfig(
         String namespace,
@@ -70,7 +78,14 @@ record TopicOperatorConfig(
         boolean useFinalizer,
         int maxQueueSize,
         int maxBatchSize,
-        long maxBatchLingerMs
+        long maxBatchLingerMs,
+        boolean queueOverflowEnabled,
+        int maxThreads,
+        int statusUpdateMaxInFlight,
+        int statusUpdateMaxRate,
+        boolean topicCacheEnabled,
+        long topicCacheRefreshIntervalMs,
+        long topicCacheMaxAgeMs
 ) {
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicOperatorConfig.class);
 
@@ -96,6 +111,13 @@ record TopicOperatorConfig(
     static final ConfigParameter<Integer> MAX_QUEUE_SIZE = new ConfigParameter<>("STRIMZI_MAX_QUEUE_SIZE", strictlyPositive(INTEGER), "1024", CONFIG_VALUES);
     static final ConfigParameter<Integer> MAX_BATCH_SIZE = new ConfigParameter<>("STRIMZI_MAX_BATCH_SIZE", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
     static final ConfigParameter<Long> MAX_BATCH_LINGER_MS = new ConfigParameter<>("STRIMZI_MAX_BATCH_LINGER_MS", strictlyPositive(LONG), "100", CONFIG_VALUES);
+    static final ConfigParameter<Boolean> QUEUE_OVERFLOW_ENABLED = new ConfigParameter<>("STRIMZI_QUEUE_OVERFLOW_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+    static final ConfigParameter<Integer> MAX_THREADS = new ConfigParameter<>("STRIMZI_MAX_THREADS", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
+    static final ConfigParameter<Integer> STATUS_UPDATE_MAX_IN_FLIGHT = new ConfigParameter<>("STRIMZI_STATUS_UPDATE_MAX_IN_FLIGHT", strictlyPositive(INTEGER), "10", CONFIG_VALUES);
+    static final ConfigParameter<Integer> STATUS_UPDATE_MAX_RATE = new ConfigParameter<>("STRIMZI_STATUS_UPDATE_MAX_RATE", nonNegative(INTEGER), "0", CONFIG_VALUES);
+    static final ConfigParameter<Boolean> TOPIC_CACHE_ENABLED = new ConfigParameter<>("STRIMZI_TOPIC_CACHE_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+    static final ConfigParameter<Long> TOPIC_CACHE_REFRESH_INTERVAL_MS = new ConfigParameter<>("STRIMZI_TOPIC_CACHE_REFRESH_INTERVAL_MS", strictlyPositive(LONG), "30000", CONFIG_VALUES);
+    static final ConfigParameter<Long> TOPIC_CACHE_MAX_AGE_MS = new ConfigParameter<>("STRIMZI_TOPIC_CACHE_MAX_AGE_MS", strictlyPositive(LONG), "300000", CONFIG_VALUES);
 
     @SuppressWarnings("unchecked")
     private static <T> T get(Map<String, Object> map, ConfigParameter<T> value) {
@@ -138,7 +160,14 @@ record TopicOperatorConfig(
                 get(map, USE_FINALIZERS),
                 get(map, MAX_QUEUE_SIZE),
                 get(map, MAX_BATCH_SIZE),
-                get(map, MAX_BATCH_LINGER_MS)
+                get(map, MAX_BATCH_LINGER_MS),
+                get(map, QUEUE_OVERFLOW_ENABLED),
+                get(map, MAX_THREADS),
+                get(map, STATUS_UPDATE_MAX_IN_FLIGHT),
+                get(map, STATUS_UPDATE_MAX_RATE),
+                get(map, TOPIC_CACHE_ENABLED),
+                get(map, TOPIC_CACHE_REFRESH_INTERVAL_MS),
+                get(map, TOPIC_CACHE_MAX_AGE_MS)
         );
     }
 
@@ -242,6 +271,13 @@ record TopicOperatorConfig(
                 "\n\tmaxQueueSize=" + maxQueueSize +
                 "\n\tmaxBatchSize=" + maxBatchSize +
                 "\n\tmaxBatchLingerMs=" + maxBatchLingerMs +
+                "\n\tqueueOverflowEnabled=" + queueOverflowEnabled +
+                "\n\tmaxThreads=" + maxThreads +
+                "\n\tstatusUpdateMaxInFlight=" + statusUpdateMaxInFlight +
+                "\n\tstatusUpdateMaxRate=" + statusUpdateMaxRate +
+                "\n\ttopicCacheEnabled=" + topicCacheEnabled +
+                "\n\ttopicCacheRefreshIntervalMs=" + topicCacheRefreshIntervalMs +
+                "\n\ttopicCacheMaxAgeMs=" + topicCacheMaxAgeMs +
                 '}';
     }
 }
@@ -48,6 +48,8 @@ public class TopicOperatorMain implements Liveness, Readiness {
     private final long resyncIntervalMs;
     private final BasicItemStore<KafkaTopic> itemStore;
     /* test */ final BatchingTopicController controller;
+    private final StatusWriter statusWriter;
+    private final TopicCache topicCache;
     private final Admin admin;
     private SharedIndexInformer<KafkaTopic> informer; // guarded by this
     Thread shutdownHook; // guarded by this
@@ -68,9 +70,11 @@ public class TopicOperatorMain implements Liveness, Readiness {
         this.admin = admin;
         MetricsProvider metricsProvider = createMetricsProvider();
         BatchOperatorMetricsHolder metrics = new BatchOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, Labels.fromMap(selector), metricsProvider);
-        this.controller = new BatchingTopicController(selector, admin, client, config.useFinalizer(), metrics, namespace);
+        this.statusWriter = new StatusWriter(client, config.statusUpdateMaxInFlight(), config.statusUpdateMaxRate(), metrics, namespace);
+        this.topicCache = new TopicCache(config.topicCacheEnabled(), admin, config.topicCacheRefreshIntervalMs(), config.topicCacheMaxAgeMs(), metrics, namespace);
+        this.controller = new BatchingTopicController(selector, admin, client, config.useFinalizer(), metrics, namespace, statusWriter, topicCache);
         this.itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
-        this.queue = new BatchingLoop(config.maxQueueSize(), controller, 1, config.maxBatchSize(), config.maxBatchLingerMs(), itemStore, this::stop, metrics, namespace);
+        this.queue = new BatchingLoop(config.maxQueueSize(), config.queueOverflowEnabled(), controller, config.maxThreads(), config.maxBatchSize(), config.maxBatchLingerMs(), itemStore, this::stop, metrics, namespace);
         this.handler = new TopicOperatorEventHandler(queue, config.useFinalizer(), metrics, namespace);
         this.healthAndMetricsServer = new HealthCheckAndMetricsServer(8080, this, this, metricsProvider);
     }
@@ -86,6 +90,8 @@ public class TopicOperatorMain implements Liveness, Readiness {
         Runtime.getRuntime().addShutdownHook(shutdownHook);
         LOGGER.infoOp("Starting health and metrics");
         healthAndMetricsServer.start();
+        LOGGER.infoOp("Starting topic cache");
+        topicCache.start();
         LOGGER.infoOp("Starting queue");
         queue.start();
         informer = Crds.topicOperation(client)
@@ -128,6 +134,8 @@ public class TopicOperatorMain implements Liveness, Readiness {
                 informer = null;
             }
             this.queue.stop();
+            this.statusWriter.stop();
+            this.topicCache.stop();
             this.admin.close();
             this.healthAndMetricsServer.stop();
             LOGGER.infoOp("Shutdown completed normally");
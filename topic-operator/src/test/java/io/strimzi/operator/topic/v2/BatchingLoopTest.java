@@ -0,0 +1,297 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.metrics.BatchOperatorMetricsHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static io.strimzi.api.kafka.model.KafkaTopic.RESOURCE_KIND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchingLoopTest {
+    private static final String NAMESPACE = "ns";
+    private static final int MAX_QUEUE_SIZE = 1000;
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final long MAX_BATCH_LINGER_MS = 10;
+
+    private BatchingTopicController controller;
+    private ItemStore<KafkaTopic> itemStore;
+    private Runnable stop;
+    private BatchOperatorMetricsHolder metrics;
+    private BatchingLoop loop;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void beforeEach() {
+        controller = mock(BatchingTopicController.class);
+        itemStore = mock(ItemStore.class);
+        when(itemStore.get(anyString())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            return new KafkaTopicBuilder()
+                    .withNewMetadata()
+                        .withNamespace(NAMESPACE)
+                        .withName(key.substring(key.indexOf('/') + 1))
+                        .withResourceVersion("1")
+                    .endMetadata()
+                    .build();
+        });
+        stop = mock(Runnable.class);
+        metrics = new BatchOperatorMetricsHolder(RESOURCE_KIND, null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        if (loop != null) {
+            loop.stop();
+        }
+    }
+
+    private BatchingLoop loop(int maxQueueSize, int maxThreads) {
+        return loop(maxQueueSize, false, maxThreads);
+    }
+
+    private BatchingLoop loop(int maxQueueSize, boolean queueOverflowEnabled, int maxThreads) {
+        loop = new BatchingLoop(maxQueueSize, queueOverflowEnabled, controller, maxThreads, MAX_BATCH_SIZE, MAX_BATCH_LINGER_MS, itemStore, stop, metrics, NAMESPACE);
+        return loop;
+    }
+
+    @Test
+    void shouldAssignTopicsToShardsConsistently() {
+        var loop = loop(MAX_QUEUE_SIZE, 4);
+        for (int i = 0; i < 100; i++) {
+            var ref = new KubeRef(NAMESPACE, "t" + i, 0);
+            assertEquals(loop.shardFor(ref).id(), loop.shardFor(new KubeRef(NAMESPACE, "t" + i, 1)).id());
+        }
+    }
+
+    @Test
+    void shouldNotReconcileSameTopicConcurrently() throws InterruptedException {
+        Set<String> inProgress = ConcurrentHashMap.newKeySet();
+        Set<String> reconciled = ConcurrentHashMap.newKeySet();
+        AtomicBoolean concurrent = new AtomicBoolean(false);
+        doAnswer(invocation -> {
+            List<ReconcilableTopic> batch = invocation.getArgument(0);
+            for (var rt : batch) {
+                if (!inProgress.add(rt.kt().getMetadata().getName())) {
+                    concurrent.set(true);
+                }
+            }
+            TimeUnit.MILLISECONDS.sleep(1);
+            for (var rt : batch) {
+                inProgress.remove(rt.kt().getMetadata().getName());
+                reconciled.add(rt.kt().getMetadata().getName());
+            }
+            return null;
+        }).when(controller).onUpdate(any());
+
+        var loop = loop(MAX_QUEUE_SIZE, 4);
+        loop.start();
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "t" + i, String.valueOf(round)));
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (reconciled.size() < 50 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertEquals(50, reconciled.size());
+        assertFalse(concurrent.get());
+    }
+
+    @Test
+    void shouldExposePerShardMetrics() throws InterruptedException {
+        var loop = loop(MAX_QUEUE_SIZE, 2);
+        loop.start();
+        for (int i = 0; i < 20; i++) {
+            loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "t" + i, "1"));
+        }
+        var registry = metrics.metricsProvider().meterRegistry();
+        for (int shard = 0; shard < 2; shard++) {
+            assertNotNull(registry.get("strimzi.reconciliations.shard.queue.size")
+                    .tags("kind", RESOURCE_KIND, "namespace", NAMESPACE, "shard", String.valueOf(shard)).gauge());
+            assertNotNull(registry.get("strimzi.reconciliations.shard.queue.wait")
+                    .tags("kind", RESOURCE_KIND, "namespace", NAMESPACE, "shard", String.valueOf(shard)).timer());
+        }
+    }
+
+    @Test
+    void shouldCoalescePendingEvents() throws InterruptedException {
+        var loop = loop(MAX_QUEUE_SIZE, 1);
+        for (int i = 0; i < 5; i++) {
+            loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "t0", String.valueOf(i)));
+        }
+        loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "t1", "1"));
+        loop.offer(new TopicDelete(System.nanoTime(), kafkaTopic("t1")));
+        loop.offer(new TopicDelete(System.nanoTime(), kafkaTopic("t2")));
+        loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "t2", "2"));
+
+        var registry = metrics.metricsProvider().meterRegistry();
+        // 4 upserts of t0 and 1 upsert of t1
+        assertEquals(5.0, registry.get("strimzi.reconciliations.coalesced").tags("kind", RESOURCE_KIND, "namespace", NAMESPACE).counter().count());
+
+        List<String> updated = new CopyOnWriteArrayList<>();
+        List<String> deleted = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            List<ReconcilableTopic> batch = invocation.getArgument(0);
+            batch.forEach(rt -> updated.add(rt.kt().getMetadata().getName()));
+            return null;
+        }).when(controller).onUpdate(any());
+        doAnswer(invocation -> {
+            List<ReconcilableTopic> batch = invocation.getArgument(0);
+            batch.forEach(rt -> deleted.add(rt.kt().getMetadata().getName()));
+            return null;
+        }).when(controller).onDelete(any());
+        loop.start();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (updated.size() < 2 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        // the deleted and recreated t2 must be both deleted and then upserted
+        assertEquals(Set.of("t0", "t2"), Set.copyOf(updated));
+        assertEquals(2, updated.size());
+        assertEquals(Set.of("t1", "t2"), Set.copyOf(deleted));
+        assertEquals(2, deleted.size());
+    }
+
+    @Test
+    void shouldStopIfQueueFullAndOverflowDisabled() {
+        var loop = loop(1, false, 1);
+        loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "t0", "1"));
+        verify(stop, never()).run();
+        loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "t1", "1"));
+        verify(stop).run();
+    }
+
+    @Test
+    void shouldShareQueueCapacityBetweenShards() {
+        var loop = loop(8, false, 4);
+        var shard = loop.shardFor(new KubeRef(NAMESPACE, "t0", 0));
+        // all the topics are owned by the same shard
+        var names = IntStream.range(0, 1000).mapToObj(i -> "t" + i)
+                .filter(name -> loop.shardFor(new KubeRef(NAMESPACE, name, 0)) == shard)
+                .limit(9)
+                .toList();
+        for (int i = 0; i < 8; i++) {
+            loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, names.get(i), "1"));
+        }
+        verify(stop, never()).run();
+        loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, names.get(8), "1"));
+        verify(stop).run();
+    }
+
+    @Test
+    void shouldOverflowIfQueueFullAndOverflowEnabled()throws InterruptedException {
+        Set<String> reconciled = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            List<ReconcilableTopic> batch = invocation.getArgument(0);
+            batch.forEach(rt -> reconciled.add(rt.kt().getMetadata().getName()));
+            return null;
+        }).when(controller).onUpdate(any());
+
+        var loop = loop(10, true, 1);
+        for (int i = 0; i < 100; i++) {
+            loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "t" + i, "1"));
+        }
+        // events for topics already in the overflow are coalesced too
+        for (int i = 0; i < 100; i++) {
+            loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "t" + i, "2"));
+        }
+        verify(stop, never()).run();
+        var registry = metrics.metricsProvider().meterRegistry();
+        var tags = new String[]{"kind", RESOURCE_KIND, "namespace", NAMESPACE, "shard", "0"};
+        assertEquals(90.0, registry.get("strimzi.reconciliations.shard.overflow.size").tags(tags).gauge().value());
+
+        loop.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (reconciled.size() < 100 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertEquals(100, reconciled.size());
+        assertEquals(0.0, registry.get("strimzi.reconciliations.shard.overflow.size").tags(tags).gauge().value());
+    }
+
+    @Test
+    void shouldTakeReadmittedOverflowBeforeQueuedEvents() throws InterruptedException {
+        List<String> reconciled = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            List<ReconcilableTopic> batch = invocation.getArgument(0);
+            batch.forEach(rt -> reconciled.add(rt.kt().getMetadata().getName()));
+            return null;
+        }).when(controller).onUpdate(any());
+
+        var loop = loop(2, true, 1);
+        loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "t0", "1"));
+        loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "t1", "1"));
+        // goes to the overflow
+        loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "t2", "1"));
+
+        loop.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (reconciled.size() < 3 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        // t2 is readmitted at the same end of the queue as new events are added, so it's taken next
+        assertEquals(List.of("t1", "t2", "t0"), reconciled);
+    }
+
+    @Test
+    void shouldMergePendingEvents() {
+        var upsert1 = new TopicUpsert(1, NAMESPACE, "t0", "1");
+        var upsert2 = new TopicUpsert(2, NAMESPACE, "t0", "2");
+        var delete = new TopicDelete(3, kafkaTopic("t0"));
+
+        var pending = BatchingLoop.Pending.of(upsert1).merge(upsert2);
+        assertNull(pending.delete());
+        assertEquals("2", pending.upsert().resourceVersion());
+        assertEquals(1, pending.upsert().nanosStartOffset());
+
+        pending = pending.merge(delete);
+        assertEquals(delete, pending.delete());
+        assertNull(pending.upsert());
+
+        pending = pending.merge(upsert2);
+        assertEquals(delete, pending.delete());
+        assertEquals(upsert2, pending.upsert());
+        assertEquals(2, pending.size());
+    }
+
+    private static KafkaTopic kafkaTopic(String name) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                    .withResourceVersion("1")
+                .endMetadata()
+                .build();
+    }
+}
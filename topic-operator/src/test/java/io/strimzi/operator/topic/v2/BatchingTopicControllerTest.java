@@ -16,8 +16,7 @@ import io.strimzi.api.kafka.model.KafkaTopicBuilder;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
-import io.strimzi.operator.common.metrics.MetricsHolder;
-import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
+import io.strimzi.operator.common.metrics.BatchOperatorMetricsHolder;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.AlterConfigsResult;
@@ -73,7 +72,7 @@ class BatchingTopicControllerTest {
 
     private Admin[] admin = new Admin[] {null};
 
-    private MetricsHolder metrics;
+    private BatchOperatorMetricsHolder metrics;
 
     private static <T> KafkaFuture<T> interruptedFuture() throws ExecutionException, InterruptedException {
         var future = mock(KafkaFuture.class);
@@ -112,7 +111,7 @@ class BatchingTopicControllerTest {
     public void beforeEach() {
         this.client = new KubernetesClientBuilder().build();
         MetricsProvider metricsProvider = new MicrometerMetricsProvider(new SimpleMeterRegistry());
-        this.metrics = new OperatorMetricsHolder(RESOURCE_KIND, null, metricsProvider);
+        this.metrics = new BatchOperatorMetricsHolder(RESOURCE_KIND, null, metricsProvider);
     }
 
     @AfterEach
@@ -130,7 +129,7 @@ class BatchingTopicControllerTest {
     }
 
     private void assertOnUpdateThrowsInterruptedException(KubernetesClient client, Admin admin, KafkaTopic kt) throws ExecutionException, InterruptedException {
-        controller = new BatchingTopicController(Map.of("key", "VALUE"), admin, client, true, metrics, NAMESPACE);
+        controller = new BatchingTopicController(Map.of("key", "VALUE"), admin, client, true, metrics, NAMESPACE, new StatusWriter(client, 1, 0, metrics, NAMESPACE), new TopicCache(false, admin, 30_000, 300_000, metrics, NAMESPACE));
         List<ReconcilableTopic> batch = List.of(new ReconcilableTopic(new Reconciliation("test", "KafkaTopic", NAMESPACE, NAME), kt, BatchingTopicController.topicName(kt)));
         assertThrows(InterruptedException.class, () -> controller.onUpdate(batch));
     }
@@ -0,0 +1,164 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.KafkaTopicList;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.BatchOperatorMetricsHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static io.strimzi.api.kafka.model.KafkaTopic.RESOURCE_KIND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@EnableKubernetesMockClient(crud = true)
+class StatusWriterTest {
+    private static final String NAMESPACE = "ns";
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+
+    private BatchOperatorMetricsHolder metrics;
+    private StatusWriter statusWriter;
+
+    @BeforeEach
+    void beforeEach() {
+        metrics = new BatchOperatorMetricsHolder(RESOURCE_KIND, null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void afterEach() {
+        statusWriter.stop();
+    }
+
+    private KafkaTopic createKafkaTopic(String name) {
+        return Crds.topicOperation(client).resource(new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(1)
+                    .withReplicas(1)
+                .endSpec()
+                .build()).create();
+    }
+
+    private static KafkaTopic withObservedGeneration(KafkaTopic kt, long observedGeneration) {
+        return new KafkaTopicBuilder(kt)
+                .editMetadata()
+                    .withResourceVersion(null)
+                .endMetadata()
+                .editOrNewStatus()
+                    .withObservedGeneration(observedGeneration)
+                .endStatus()
+                .build();
+    }
+
+    @Test
+    void shouldWriteStatusesConcurrently() throws ExecutionException, InterruptedException {
+        statusWriter = new StatusWriter(client, 4, 0, metrics, NAMESPACE);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            var kt = createKafkaTopic("t" + i);
+            futures.add(statusWriter.write(Reconciliation.DUMMY_RECONCILIATION, withObservedGeneration(kt, 1)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(1L, Crds.topicOperation(client).inNamespace(NAMESPACE).withName("t" + i).get().getStatus().getObservedGeneration());
+        }
+        var timer = metrics.metricsProvider().meterRegistry().get("strimzi.status.update.duration")
+                .tags("kind", RESOURCE_KIND, "namespace", NAMESPACE).timer();
+        assertEquals(20, timer.count());
+    }
+
+    @Test
+    void shouldCoalescePendingWritesForSameTopic() throws ExecutionException, InterruptedException {
+        // the rate limit means the first write for t0 can't start until well after all the writes have been submitted
+        statusWriter = new StatusWriter(client, 1, 2, metrics, NAMESPACE);
+        var other = createKafkaTopic("other");
+        var kt = createKafkaTopic("t0");
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        futures.add(statusWriter.write(Reconciliation.DUMMY_RECONCILIATION, withObservedGeneration(other, 1)));
+        for (int i = 1; i <= 5; i++) {
+            futures.add(statusWriter.write(Reconciliation.DUMMY_RECONCILIATION, withObservedGeneration(kt, i)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+
+        assertEquals(5L, Crds.topicOperation(client).inNamespace(NAMESPACE).withName("t0").get().getStatus().getObservedGeneration());
+        var registry = metrics.metricsProvider().meterRegistry();
+        assertEquals(4.0, registry.get("strimzi.status.update.skipped").tags("kind", RESOURCE_KIND, "namespace", NAMESPACE).counter().count());
+        assertEquals(2, registry.get("strimzi.status.update.duration").tags("kind", RESOURCE_KIND, "namespace", NAMESPACE).timer().count());
+    }
+
+    @Test
+    void shouldLimitRate() throws ExecutionException, InterruptedException {
+        statusWriter = new StatusWriter(client, 4, 20, metrics, NAMESPACE);
+        List<KafkaTopic> kts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            kts.add(createKafkaTopic("t" + i));
+        }
+        long t0 = System.nanoTime();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (var kt : kts) {
+            futures.add(statusWriter.write(Reconciliation.DUMMY_RECONCILIATION, withObservedGeneration(kt, 1)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        // 10 writes at 20 per second need at least 9 intervals of 50ms
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0) >= 400);
+    }
+
+    @Test
+    void shouldFailWritesAfterStop() throws InterruptedException {
+        // the rate limit means only the first write can start before the writer is stopped
+        statusWriter = new StatusWriter(client, 1, 1, metrics, NAMESPACE);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            var kt = createKafkaTopic("t" + i);
+            futures.add(statusWriter.write(Reconciliation.DUMMY_RECONCILIATION, withObservedGeneration(kt, 1)));
+        }
+        statusWriter.stop();
+        futures.add(statusWriter.write(Reconciliation.DUMMY_RECONCILIATION, withObservedGeneration(createKafkaTopic("t3"), 1)));
+
+        for (var future : futures.subList(1, futures.size())) {
+            var e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof IllegalStateException || e.getCause() instanceof InterruptedException, e.getCause().toString());
+        }
+        assertTrue(futures.get(3).isCompletedExceptionally());
+    }
+
+    @Test
+    void shouldFailWriteWhenErrorIsThrown() {
+        KubernetesClient failingClient = mock(KubernetesClient.class);
+        when(failingClient.resources(KafkaTopic.class, KafkaTopicList.class)).thenThrow(new NoClassDefFoundError("Failed"));
+        statusWriter = new StatusWriter(failingClient, 1, 0, metrics, NAMESPACE);
+
+        var future = statusWriter.write(Reconciliation.DUMMY_RECONCILIATION, withObservedGeneration(createKafkaTopic("t0"), 1));
+
+        var e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof NoClassDefFoundError, e.getCause().toString());
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.metrics.BatchOperatorMetricsHolder;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Uuid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static io.strimzi.api.kafka.model.KafkaTopic.RESOURCE_KIND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TopicCacheTest {
+    private static final String NAMESPACE = "ns";
+
+    private Admin admin;
+    private BatchOperatorMetricsHolder metrics;
+
+    @BeforeEach
+    void beforeEach() {
+        admin = mock(Admin.class);
+        metrics = new BatchOperatorMetricsHolder(RESOURCE_KIND, null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+    }
+
+    private static BatchingTopicController.CurrentState currentState(String topicName, Uuid topicId) {
+        return new BatchingTopicController.CurrentState(
+                new TopicDescription(topicName, false, List.of(), null, topicId),
+                new Config(List.of()));
+    }
+
+    private void givenTopicsInKafka(Map<String, Uuid> topics) {
+        var result = mock(ListTopicsResult.class);
+        when(result.namesToListings()).thenReturn(KafkaFuture.completedFuture(topics.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> new TopicListing(e.getKey(), e.getValue(), false)))));
+        when(admin.listTopics(any(ListTopicsOptions.class))).thenReturn(result);
+    }
+
+    private double counterValue(String name) {
+        return metrics.metricsProvider().meterRegistry().get(name).tags("kind", RESOURCE_KIND, "namespace", NAMESPACE).counter().count();
+    }
+
+    private double gaugeValue(String name) {
+        return metrics.metricsProvider().meterRegistry().get(name).tags("kind", RESOURCE_KIND, "namespace", NAMESPACE).gauge().value();
+    }
+
+    @Test
+    void shouldNotCacheWhenDisabled() {
+        var cache = new TopicCache(false, admin, 30_000, 300_000, metrics, NAMESPACE);
+        cache.put("t0", currentState("t0", Uuid.randomUuid()), System.nanoTime());
+        assertNull(cache.get("t0"));
+    }
+
+    @Test
+    void shouldCountHitsAndMisses() {
+        var cache = new TopicCache(true, admin, 30_000, 300_000, metrics, NAMESPACE);
+        var state = currentState("t0", Uuid.randomUuid());
+        assertNull(cache.get("t0"));
+        cache.put("t0", state, System.nanoTime());
+        assertSame(state, cache.get("t0"));
+        assertSame(state, cache.get("t0"));
+
+        assertEquals(2.0, counterValue("strimzi.cache.hits"));
+        assertEquals(1.0, counterValue("strimzi.cache.misses"));
+        assertEquals(1.0, gaugeValue("strimzi.cache.size"));
+    }
+
+    @Test
+    void shouldInvalidate() {
+        var cache = new TopicCache(true, admin, 30_000, 300_000, metrics, NAMESPACE);
+        cache.put("t0", currentState("t0", Uuid.randomUuid()), System.nanoTime());
+        cache.invalidate("t0");
+        assertNull(cache.get("t0"));
+        assertEquals(0.0, gaugeValue("strimzi.cache.size"));
+    }
+
+    @Test
+    void shouldExpireEntriesOlderThanMaxAge() throws InterruptedException {
+        var cache = new TopicCache(true, admin, 30_000, 10, metrics, NAMESPACE);
+        cache.put("t0", currentState("t0", Uuid.randomUuid()), System.nanoTime());
+        TimeUnit.MILLISECONDS.sleep(20);
+        assertNull(cache.get("t0"));
+        assertEquals(1.0, counterValue("strimzi.cache.misses"));
+    }
+
+    @Test
+    void shouldRemoveDeletedAndRecreatedTopicsOnRefresh() {
+        var cache = new TopicCache(true, admin, 30_000, 300_000, metrics, NAMESPACE);
+        Uuid unchangedId = Uuid.randomUuid();
+        var unchanged = currentState("unchanged", unchangedId);
+        long fetched = System.nanoTime();
+        cache.put("unchanged", unchanged, fetched);
+        cache.put("deleted", currentState("deleted", Uuid.randomUuid()), fetched);
+        cache.put("recreated", currentState("recreated", Uuid.randomUuid()), fetched);
+        givenTopicsInKafka(Map.of("unchanged", unchangedId, "recreated", Uuid.randomUuid()));
+
+        cache.refresh();
+
+        assertSame(unchanged, cache.get("unchanged"));
+        assertNull(cache.get("deleted"));
+        assertNull(cache.get("recreated"));
+        assertEquals(1.0, gaugeValue("strimzi.cache.size"));
+        assertEquals(0.0, gaugeValue("strimzi.cache.staleness.seconds"));
+    }
+
+    @Test
+    void shouldKeepEntriesCachedSinceTheRefreshStarted() {
+        var cache = new TopicCache(true, admin, 30_000, 300_000, metrics, NAMESPACE);
+        var created = currentState("created", Uuid.randomUuid());
+        // the topic is described while the listing is in flight, so doesn't appear in it
+        var result = mock(ListTopicsResult.class);
+        when(result.namesToListings()).thenAnswer(invocation -> {
+            cache.put("created", created, System.nanoTime());
+            return KafkaFuture.completedFuture(Map.<String, TopicListing>of());
+        });
+        when(admin.listTopics(any(ListTopicsOptions.class))).thenReturn(result);
+
+        cache.refresh();
+
+        assertSame(created, cache.get("created"));
+    }
+}
@@ -1188,7 +1188,7 @@ class TopicControllerIT {
                 false, "", "", "", "", "",
                 false, "", "", "", "",
                 useFinalizer,
-                100, 100, 10);
+                100, 100, 10, false, 1, 10, 0, false, 30_000, 300_000);
     }
 
     @ParameterizedTest
@@ -1913,7 +1913,7 @@ class TopicControllerIT {
                 false, "", "", "", "", "",
                 false, "", "", "", "",
                 true,
-                1, 100, 5_0000);
+                1, 100, 5_0000, false, 1, 10, 0, false, 30_000, 300_000);
 
         maybeStartOperator(config);
 
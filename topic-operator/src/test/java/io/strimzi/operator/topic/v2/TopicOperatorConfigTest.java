@@ -186,6 +186,24 @@ class TopicOperatorConfigTest {
     }
 
 
+    @Test
+    void shouldThrowIfStatusUpdateMaxRateIsNegative() {
+        var e = assertThrows(InvalidConfigurationException.class, () -> TopicOperatorConfig.buildFromMap(Map.of(
+                TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+                TopicOperatorConfig.NAMESPACE.key(), "some-namespace",
+                TopicOperatorConfig.STATUS_UPDATE_MAX_RATE.key(), "-1")));
+        assertEquals("Failed to parse. Negative value is not supported for this configuration", e.getMessage());
+    }
+
+    @Test
+    void shouldThrowIfMaxThreadsIsNotPositive() {
+        var e = assertThrows(InvalidConfigurationException.class, () -> TopicOperatorConfig.buildFromMap(Map.of(
+                TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+                TopicOperatorConfig.NAMESPACE.key(), "some-namespace",
+                TopicOperatorConfig.MAX_THREADS.key(), "0")));
+        assertEquals("Failed to parse. Negative value is not supported for this configuration", e.getMessage());
+    }
+
     @Test
     void shouldThrowIfSecurityProtocolInconsistentWithTls() {
         // given
@@ -132,7 +132,7 @@ public class TopicOperatorMetricsTest {
         assertMetricMatches("strimzi.reconciliations.max.queue.size", tags, "gauge", lessThanOrEqualTo(Double.valueOf(MAX_QUEUE_SIZE)));
         assertMetricMatches("strimzi.reconciliations.max.batch.size", tags, "gauge", greaterThan(0.0));
         assertMetricMatches("strimzi.reconciliations.max.batch.size", tags, "gauge", lessThanOrEqualTo(Double.valueOf(MAX_BATCH_SIZE)));
-        assertMetricMatches("strimzi.reconciliations.locked", tags, "counter", greaterThan(0.0));
+        assertMetricMatches("strimzi.reconciliations.coalesced", tags, "counter", greaterThan(0.0));
         batchingLoop.stop();
     }
     
@@ -142,6 +142,7 @@ public class TopicOperatorMetricsTest {
         Runnable stop = mock(Runnable.class);
         BatchingLoop batchingLoop = new BatchingLoop(
             MAX_QUEUE_SIZE,
+            false,
             controller,
             MAX_THREADS,
             MAX_BATCH_SIZE,
@@ -157,7 +158,8 @@ public class TopicOperatorMetricsTest {
     @Test
     public void shouldHaveMetricsAfterSomeReconciliations(KafkaCluster cluster) throws ExecutionException, InterruptedException {
         Admin admin = Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, cluster.getBootstrapServers()));
-        BatchingTopicController controller = new BatchingTopicController(Map.of("key", "VALUE"), admin, client, true, metrics, NAMESPACE);
+        StatusWriter statusWriter = new StatusWriter(client, 1, 0, metrics, NAMESPACE);
+        BatchingTopicController controller = new BatchingTopicController(Map.of("key", "VALUE"), admin, client, true, metrics, NAMESPACE, statusWriter, new TopicCache(false, admin, 30_000, 300_000, metrics, NAMESPACE));
 
         KafkaTopic t1 = createResource(client, "t1", "t1");
         KafkaTopic t2 = createResource(client, "t2", "t1");
@@ -176,6 +178,8 @@ public class TopicOperatorMetricsTest {
         assertMetricMatches("strimzi.reconciliations.successful", tags, "counter", is(2.0));
         assertMetricMatches("strimzi.reconciliations.failed", tags, "counter", is(1.0));
         assertMetricMatches("strimzi.reconciliations.duration", tags, "timer", greaterThan(0.0));
+        assertMetricMatches("strimzi.status.update.duration", tags, "timer", greaterThan(0.0));
+        statusWriter.stop();
     }
 
     private KafkaTopic createResource(KubernetesClient client, String resourceName, String topicName) {
@@ -16,14 +16,17 @@ import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.api.kafka.KafkaUserList;
 import io.strimzi.api.kafka.model.KafkaUser;
-import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.OperatorKubernetesClientBuilder;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPoolCertificateIssuer;
 import io.strimzi.operator.common.http.HealthCheckAndMetricsServer;
+import io.strimzi.operator.common.metrics.BatchReconcilerMetricsHolder;
+import io.strimzi.operator.common.metrics.CertificateIssuerMetricsHolder;
+import io.strimzi.operator.common.model.CertificateIssuer;
 import io.strimzi.operator.common.operator.resource.concurrent.CrdOperator;
 import io.strimzi.operator.common.operator.resource.concurrent.SecretOperator;
 import io.strimzi.operator.user.operator.DisabledSimpleAclOperator;
@@ -80,18 +83,22 @@ public class Main {
         Admin adminClient = createAdminClient(config, secretOperator, new DefaultAdminClientProvider());
         var kafkaUserCrdOperator = new CrdOperator<>(kafkaUserOperatorExecutor, client, KafkaUser.class, KafkaUserList.class, "KafkaUser");
 
+        MetricsProvider metricsProvider = createMetricsProvider();
+        CertificateIssuer certificateIssuer = new WorkerPoolCertificateIssuer(config.getCertificateIssuanceThreads(),
+                new CertificateIssuerMetricsHolder(KafkaUser.RESOURCE_KIND, config.getLabels(), metricsProvider));
+        BatchReconcilerMetricsHolder batchMetrics = new BatchReconcilerMetricsHolder(KafkaUser.RESOURCE_KIND, config.getLabels(), metricsProvider);
+
         KafkaUserOperator kafkaUserOperator = new KafkaUserOperator(
                 config,
-                new OpenSslCertManager(),
+                config.getCertManagerType().createCertManager(),
                 secretOperator,
                 kafkaUserCrdOperator,
-                new ScramCredentialsOperator(adminClient, config, kafkaUserOperatorExecutor),
-                new QuotasOperator(adminClient, config, kafkaUserOperatorExecutor),
-                config.isAclsAdminApiSupported() ? new SimpleAclOperator(adminClient, config, kafkaUserOperatorExecutor) : new DisabledSimpleAclOperator()
+                new ScramCredentialsOperator(adminClient, config, kafkaUserOperatorExecutor, batchMetrics),
+                new QuotasOperator(adminClient, config, kafkaUserOperatorExecutor, batchMetrics),
+                config.isAclsAdminApiSupported() ? new SimpleAclOperator(adminClient, config, kafkaUserOperatorExecutor, batchMetrics) : new DisabledSimpleAclOperator(),
+                certificateIssuer
         );
 
-        MetricsProvider metricsProvider = createMetricsProvider();
-
         // Create the User controller
         UserController controller = new UserController(
                 config,
@@ -16,8 +16,8 @@ import io.strimzi.operator.common.InformerUtils;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.controller.AbstractControllerLoop;
-import io.strimzi.operator.common.controller.ControllerQueue;
 import io.strimzi.operator.common.controller.ReconciliationLockManager;
+import io.strimzi.operator.common.controller.ShardedControllerQueue;
 import io.strimzi.operator.common.controller.SimplifiedReconciliation;
 import io.strimzi.operator.common.http.Liveness;
 import io.strimzi.operator.common.http.Readiness;
@@ -52,7 +52,7 @@ public class UserController implements Liveness, Readiness {
 
     private final KafkaUserOperator userOperator;
     private final ControllerMetricsHolder metrics;
-    private final ControllerQueue workQueue;
+    private final ShardedControllerQueue workQueue;
     private final List<UserControllerLoop> threadPool;
 
     private final String watchedNamespace;
@@ -102,8 +102,10 @@ public class UserController implements Liveness, Readiness {
         // Set up the metrics holder
         this.metrics = new ControllerMetricsHolder(RESOURCE_KIND, Labels.fromMap(userSelector), metricsProvider);
 
-        // Set up the work queue
-        this.workQueue = new ControllerQueue(config.getWorkQueueSize(), this.metrics);
+        // Set up the work queue => it has one shard for each controller loop. All events for given user always end up
+        // in the same shard, so that the user is never reconciled in parallel and the loops do not contend on a single
+        // queue.
+        this.workQueue = new ShardedControllerQueue(config.getControllerThreadPoolSize(), config.getWorkQueueSize(), watchedNamespace, this.metrics);
 
         // Secret informer and lister is used to get events about Secrets and get Secrets quickly
         this.secretInformer = secretOperator.informer(watchedNamespace, secretSelector, DEFAULT_RESYNC_PERIOD_MS);
@@ -119,10 +121,11 @@ public class UserController implements Liveness, Readiness {
         // Create the reconciliation lock manager
         ReconciliationLockManager lockManager = new ReconciliationLockManager();
 
-        // Create a thread pool for the reconciliation loops and add the reconciliation loops
-        this.threadPool = new ArrayList<>(config.getControllerThreadPoolSize());
-        for (int i = 0; i < config.getControllerThreadPoolSize(); i++)  {
-            threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue, lockManager, scheduledExecutor, userLister, secretLister, userCrdOperator, userOperator, metrics, config));
+        // Create a thread pool for the reconciliation loops and add the reconciliation loops => each loop consumes its
+        // own shard of the work queue
+        this.threadPool = new ArrayList<>(workQueue.shardCount());
+        for (int i = 0; i < workQueue.shardCount(); i++)  {
+            threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue.shard(i), lockManager, scheduledExecutor, userLister, secretLister, userCrdOperator, userOperator, metrics, config));
         }
     }
 
@@ -280,7 +283,7 @@ public class UserController implements Liveness, Readiness {
 
             try {
                 Set<NamespaceAndName> allUsers = allUsersFuture.toCompletableFuture().get(operationTimeoutMs, TimeUnit.MILLISECONDS);
-                allUsers.forEach(user -> workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, user.getNamespace(), user.getName(), "timer")));
+                allUsers.forEach(user -> workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, user.getNamespace(), user.getName(), UserControllerLoop.PERIODIC_TRIGGER)));
             } catch (TimeoutException e)    {
                 LOGGER.errorOp("Periodic reconciliation of {} resources for namespace {} timed out", RESOURCE_KIND, watchedNamespace, e);
                 allUsersFuture.toCompletableFuture().cancel(true);
@@ -41,6 +41,8 @@ import java.util.concurrent.TimeoutException;
  */
 public class UserControllerLoop extends AbstractControllerLoop {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(UserControllerLoop.class);
+    // Trigger of the periodic reconciliations
+    static final String PERIODIC_TRIGGER = "timer";
 
     private final Lister<KafkaUser> userLister;
     private final Lister<Secret> secretLister;
@@ -102,6 +104,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
         LOGGER.infoCr(reconciliation, "{} will be reconciled", reconciliation.kind());
 
         KafkaUser user = userLister.namespace(reconciliation.namespace()).get(reconciliation.name());
+        Secret userSecret = secretLister.namespace(reconciliation.namespace()).get(KafkaUserModel.getSecretName(secretPrefix, reconciliation.name()));
 
         if (user != null && Annotations.isReconciliationPausedWithAnnotation(user)) {
             // Reconciliation is paused => we make sure the status is up-to-date but don't do anything
@@ -109,10 +112,10 @@ public class UserControllerLoop extends AbstractControllerLoop {
             KafkaUserStatus status = UserControllerUtils.pausedStatus(reconciliation, user);
             metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
             maybeUpdateStatus(reconciliation, user, status);
-        } else {
+        } else if (!maybeSkipUnchanged(reconciliation, user, userSecret)) {
             // Resource is not paused or is null (and we should trigger deletion) => we should proceed with reconciliation
             CompletionStage<KafkaUserStatus> reconciliationResult = userOperator
-                    .reconcile(reconciliation, user, secretLister.namespace(reconciliation.namespace()).get(KafkaUserModel.getSecretName(secretPrefix, reconciliation.name())));
+                    .reconcile(reconciliation, user, userSecret);
 
             try {
                 KafkaUserStatus status = new KafkaUserStatus();
@@ -144,6 +147,42 @@ public class UserControllerLoop extends AbstractControllerLoop {
         }
     }
 
+    /**
+     * Skips the periodic reconciliation of users which did not change since their last successful reconciliation.
+     * The status is still updated when needed.
+     *
+     * @param reconciliation    Reconciliation in which this is executed
+     * @param user              The KafkaUser resource
+     * @param userSecret        The user Secret
+     *
+     * @return  True if the reconciliation was skipped. False otherwise.
+     */
+    private boolean maybeSkipUnchanged(Reconciliation reconciliation, KafkaUser user, Secret userSecret) {
+        if (!PERIODIC_TRIGGER.equals(reconciliation.trigger())) {
+            // Events from the watches are always reconciled
+            return false;
+        }
+
+        KafkaUserStatus status = userOperator.unchangedUserStatus(reconciliation, user, userSecret);
+
+        if (status == null) {
+            return false;
+        }
+
+        LOGGER.infoCr(reconciliation, "{} {} in namespace {} did not change since the last reconciliation => skipping", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
+        metrics().skippedReconciliationsCounter(reconciliation.namespace()).increment();
+        metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
+
+        try {
+            StatusUtils.addConditionsToStatus(status, StatusUtils.validate(reconciliation, user));
+            maybeUpdateStatus(reconciliation, user, status);
+        } catch (Throwable t) {
+            LOGGER.errorCr(reconciliation, "Failed to update status for {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), t);
+        }
+
+        return true;
+    }
+
     /**
      * Updates the status of the KafkaUser. The status will be updated only when it changed since last time.
      *
@@ -4,7 +4,10 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerType;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.operator.common.operator.resource.ConfigParameter;
+import io.strimzi.operator.common.operator.resource.ConfigParameterParser;
 import io.strimzi.operator.common.model.Labels;
 
 import java.util.HashMap;
@@ -22,6 +25,7 @@ import static io.strimzi.operator.common.operator.resource.ConfigParameterParser
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.STRING;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LABEL_PREDICATE;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.BOOLEAN;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.nonNegative;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.strictlyPositive;
 
 /**
@@ -92,7 +96,7 @@ public class UserOperatorConfig {
      */
     public static final ConfigParameter<Long> OPERATION_TIMEOUT_MS = new ConfigParameter<>("STRIMZI_OPERATION_TIMEOUT_MS", LONG, "300000", CONFIG_VALUES);
     /**
-     * Indicates the size of the StrimziPodSetController work queue
+     * Indicates the size of the work queue of each User Controller loop
      */
     public static final ConfigParameter<Integer> WORK_QUEUE_SIZE = new ConfigParameter<>("STRIMZI_WORK_QUEUE_SIZE", INTEGER, "1024", CONFIG_VALUES);
     /**
@@ -115,6 +119,19 @@ public class UserOperatorConfig {
      * Maximal batch time for micro-batching the Kafka Admin API requests
      */
     public static final ConfigParameter<Integer> BATCH_MAXIMUM_BLOCK_TIME_MS = new ConfigParameter<>("STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
+    /**
+     * Maximal number of batches of Kafka Admin API requests sent to Kafka at the same time by each micro-batching
+     * reconciler. 0 means no limit.
+     */
+    public static final ConfigParameter<Integer> BATCH_MAXIMUM_IN_FLIGHT = new ConfigParameter<>("STRIMZI_BATCH_MAXIMUM_IN_FLIGHT", nonNegative(INTEGER), "0", CONFIG_VALUES);
+    /**
+     * Whether the batch size and time for micro-batching the Kafka Admin API requests adapt to the load and latency
+     */
+    public static final ConfigParameter<Boolean> BATCH_ADAPTIVE = new ConfigParameter<>("STRIMZI_BATCH_ADAPTIVE", BOOLEAN, "false", CONFIG_VALUES);
+    /**
+     * Whether the periodic reconciliations should skip the users which did not change since their last reconciliation
+     */
+    public static final ConfigParameter<Boolean> SKIP_UNCHANGED_USERS = new ConfigParameter<>("STRIMZI_SKIP_UNCHANGED_USERS", BOOLEAN, "false", CONFIG_VALUES);
     /**
      * Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
@@ -127,6 +144,18 @@ public class UserOperatorConfig {
      * Lit of maintenance windows
      */
     public static final ConfigParameter<List<String>> MAINTENANCE_TIME_WINDOWS = new ConfigParameter<>("STRIMZI_MAINTENANCE_TIME_WINDOWS", SEMICOLON_SEPARATED_LIST, "", CONFIG_VALUES);
+    /**
+     * The certificate manager used to issue the user certificates: openssl (default) or bouncycastle
+     */
+    public static final ConfigParameter<CertManagerType> CERT_MANAGER_TYPE = new ConfigParameter<>("STRIMZI_CERT_MANAGER_TYPE", ConfigParameterParser.CERT_MANAGER_TYPE, "openssl", CONFIG_VALUES);
+    /**
+     * Number of worker threads used to issue the user certificates
+     */
+    public static final ConfigParameter<Integer> CERTIFICATE_ISSUANCE_THREADS = new ConfigParameter<>("STRIMZI_CERTIFICATE_ISSUANCE_THREADS", strictlyPositive(INTEGER), "4", CONFIG_VALUES);
+    /**
+     * The algorithm of the private keys of the user certificates: RSA (default), ECDSA_P256 or ECDSA_P384
+     */
+    public static final ConfigParameter<KeyAlgorithm> CERTS_KEY_ALGORITHM = new ConfigParameter<>("STRIMZI_CA_KEY_ALGORITHM", ConfigParameterParser.KEY_ALGORITHM, "RSA", CONFIG_VALUES);
 
     private final Map<String, Object> map;
 
@@ -304,7 +333,7 @@ public class UserOperatorConfig {
     }
 
     /**
-     * @return  The size of the User Controller work queue
+     * @return  The size of the work queue of each User Controller loop
      */
     public int getWorkQueueSize() {
         return get(WORK_QUEUE_SIZE);
@@ -345,6 +374,31 @@ public class UserOperatorConfig {
         return get(BATCH_MAXIMUM_BLOCK_TIME_MS);
     }
 
+    /**
+     * @return  Maximal number of batches of Kafka Admin API requests sent to Kafka at the same time by each
+     *          micro-batching reconciler. Integer.MAX_VALUE when the number of batches is not limited.
+     */
+    public int getBatchMaxInFlight() {
+        int maxInFlight = get(BATCH_MAXIMUM_IN_FLIGHT);
+        return maxInFlight == 0 ? Integer.MAX_VALUE : maxInFlight;
+    }
+
+    /**
+     * @return  True if the batch size and time for micro-batching the Kafka Admin API requests should adapt to the
+     *          load and latency. False otherwise.
+     */
+    public boolean isBatchAdaptive() {
+        return get(BATCH_ADAPTIVE);
+    }
+
+    /**
+     * @return  True if the periodic reconciliations should skip the users which did not change since their last
+     *          reconciliation. False otherwise.
+     */
+    public boolean isSkipUnchangedUsers() {
+        return get(SKIP_UNCHANGED_USERS);
+    }
+
     /**
      * @return Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
@@ -366,6 +420,27 @@ public class UserOperatorConfig {
         return get(CERTS_RENEWAL_DAYS);
     }
 
+    /**
+     * @return The type of the certificate manager
+     */
+    public CertManagerType getCertManagerType() {
+        return get(CERT_MANAGER_TYPE);
+    }
+
+    /**
+     * @return The number of worker threads used to issue the user certificates
+     */
+    public int getCertificateIssuanceThreads() {
+        return get(CERTIFICATE_ISSUANCE_THREADS);
+    }
+
+    /**
+     * @return The algorithm of the private keys of the user certificates
+     */
+    public KeyAlgorithm getClientsCaKeyAlgorithm() {
+        return get(CERTS_KEY_ALGORITHM);
+    }
+
 
     @Override
     public String toString() {
@@ -393,7 +468,13 @@ public class UserOperatorConfig {
                 "\n\tbatchQueueSize=" + getBatchQueueSize() +
                 "\n\tbatchMaxBlockSize=" + getBatchMaxBlockSize() +
                 "\n\tbatchMaxBlockTime=" + getBatchMaxBlockTime() +
+                "\n\tbatchMaxInFlight=" + getBatchMaxInFlight() +
+                "\n\tbatchAdaptive=" + isBatchAdaptive() +
+                "\n\tskipUnchangedUsers=" + isSkipUnchangedUsers() +
                 "\n\tuserOperationsThreadPoolSize=" + getUserOperationsThreadPoolSize() +
+                "\n\tcertManagerType=" + getCertManagerType() +
+                "\n\tcertificateIssuanceThreads=" + getCertificateIssuanceThreads() +
+                "\n\tclientsCaKeyAlgorithm=" + getClientsCaKeyAlgorithm() +
                 '}';
     }
 }
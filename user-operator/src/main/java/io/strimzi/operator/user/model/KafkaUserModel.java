@@ -19,6 +19,7 @@ import io.strimzi.api.kafka.model.KafkaUserTlsClientAuthentication;
 import io.strimzi.api.kafka.model.KafkaUserTlsExternalClientAuthentication;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.CertManager;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.common.model.Ca;
 import io.strimzi.operator.common.model.ClientsCa;
@@ -218,10 +219,33 @@ public class KafkaUserModel {
      * @param clock The clock for supplying the reconciler with the time instant of each reconciliation cycle.
      *              That time is used for checking maintenance windows
      */
-    @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
     public void maybeGenerateCertificates(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator,
                                           Secret clientsCaCertSecret, Secret clientsCaKeySecret, Secret userSecret, int validityDays,
                                           int renewalDays, List<String> maintenanceWindows, Clock clock) {
+        maybeGenerateCertificates(reconciliation, certManager, passwordGenerator, clientsCaCertSecret, clientsCaKeySecret, userSecret,
+                validityDays, renewalDays, maintenanceWindows, clock, KeyAlgorithm.RSA);
+    }
+
+    /**
+     * Manage certificates generation based on those already present in the Secrets
+     *
+     * @param reconciliation The reconciliation
+     * @param certManager CertManager instance for handling certificates creation
+     * @param passwordGenerator PasswordGenerator instance for generating passwords
+     * @param clientsCaCertSecret The clients CA certificate Secret.
+     * @param clientsCaKeySecret The clients CA key Secret.
+     * @param userSecret Secret with the user certificate
+     * @param validityDays The number of days the certificate should be valid for.
+     * @param renewalDays The renewal days.
+     * @param maintenanceWindows List of configured maintenance windows
+     * @param clock The clock for supplying the reconciler with the time instant of each reconciliation cycle.
+     *              That time is used for checking maintenance windows
+     * @param keyAlgorithm The algorithm of the private key of newly generated user certificates
+     */
+    @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
+    public void maybeGenerateCertificates(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator,
+                                          Secret clientsCaCertSecret, Secret clientsCaKeySecret, Secret userSecret, int validityDays,
+                                          int renewalDays, List<String> maintenanceWindows, Clock clock, KeyAlgorithm keyAlgorithm) {
         validateCACertificates(clientsCaCertSecret, clientsCaKeySecret);
 
         ClientsCa clientsCa = new ClientsCa(
@@ -236,6 +260,7 @@ public class KafkaUserModel {
                 renewalDays,
                 false,
                 null);
+        clientsCa.setKeyAlgorithm(keyAlgorithm);
         this.caCert = clientsCa.currentCaCertBase64();
 
         if (userSecret != null) {
@@ -25,6 +25,17 @@ public interface AdminApiOperator<T, S extends Collection<String>> {
      */
     CompletionStage<ReconcileResult<T>> reconcile(Reconciliation reconciliation, String username, T desired);
 
+    /**
+     * Checks whether the user already has the desired value set in Kafka. This uses only the locally cached state and
+     * does not call the Kafka Admin API.
+     *
+     * @param username  Username of the user. When using TLS client auth, the username should be already in the Kafka format, e.g. CN=my-user
+     * @param desired   The desired object
+     *
+     * @return  True when the cached state matches the desired state. False otherwise.
+     */
+    boolean isUpToDate(String username, T desired);
+
     /**
      * Returns set with all usernames which have some value set right now
      *
@@ -12,6 +12,7 @@ import io.strimzi.api.kafka.model.KafkaUser;
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
 import io.strimzi.api.kafka.model.status.KafkaUserStatus;
 import io.strimzi.certs.CertManager;
+import io.strimzi.operator.common.model.CertificateIssuer;
 import io.strimzi.operator.common.model.InvalidResourceException;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.PasswordGenerator;
@@ -33,10 +34,13 @@ import java.time.Clock;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -55,6 +59,11 @@ public class KafkaUserOperator {
     private final LabelSelector selector;
     private final SecretOperator secretOperator;
     private final CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> kafkaUserCrdOperator;
+    private final CertificateIssuer certificateIssuer;
+
+    // Fingerprints of the users from their last successful reconciliation. They are used to skip the periodic
+    // reconciliations of users which did not change.
+    private final Map<String, UserFingerprint> fingerprints = new ConcurrentHashMap<>();
 
     /**
      * Creates the instance of KafkaUserOperator
@@ -75,6 +84,31 @@ public class KafkaUserOperator {
             AdminApiOperator<String, List<String>> scramCredentialsOperator,
             AdminApiOperator<KafkaUserQuotas, Set<String>> quotasOperator,
             AdminApiOperator<Set<SimpleAclRule>, Set<String>> aclOperator
+    ) {
+        this(config, certManager, secretOperator, kafkaUserCrdOperator, scramCredentialsOperator, quotasOperator, aclOperator, CertificateIssuer.CALLER_THREAD);
+    }
+
+    /**
+     * Creates the instance of KafkaUserOperator
+     *
+     * @param config                   User operator configuration
+     * @param certManager              For managing certificates.
+     * @param secretOperator           For operating on secrets
+     * @param kafkaUserCrdOperator     For operating on KafkaUser resources
+     * @param scramCredentialsOperator For operating on SCRAM SHA credentials.
+     * @param quotasOperator           For operating on Kafka User quotas.
+     * @param aclOperator              For operating on ACLs.
+     * @param certificateIssuer        For issuing the user certificates.
+     */
+    public KafkaUserOperator(
+            UserOperatorConfig config,
+            CertManager certManager,
+            SecretOperator secretOperator,
+            CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> kafkaUserCrdOperator,
+            AdminApiOperator<String, List<String>> scramCredentialsOperator,
+            AdminApiOperator<KafkaUserQuotas, Set<String>> quotasOperator,
+            AdminApiOperator<Set<SimpleAclRule>, Set<String>> aclOperator,
+            CertificateIssuer certificateIssuer
     ) {
         this.certManager = certManager;
         this.scramCredentialsOperator = scramCredentialsOperator;
@@ -86,6 +120,7 @@ public class KafkaUserOperator {
         this.passwordGenerator = new PasswordGenerator(this.config.getScramPasswordLength());
         this.secretOperator = secretOperator;
         this.kafkaUserCrdOperator = kafkaUserCrdOperator;
+        this.certificateIssuer = certificateIssuer;
     }
 
     /**
@@ -104,6 +139,7 @@ public class KafkaUserOperator {
         quotasOperator.stop();
         aclOperator.stop();
         scramCredentialsOperator.stop();
+        certificateIssuer.stop();
     }
 
     /**
@@ -185,6 +221,9 @@ public class KafkaUserOperator {
      * @return  CompletionStage which completes when the reconciliation is done
      */
     public CompletionStage<KafkaUserStatus> reconcile(Reconciliation reconciliation, KafkaUser kafkaUser, Secret userSecret)  {
+        // The fingerprint is recorded again once the reconciliation succeeds
+        fingerprints.remove(fingerprintKey(reconciliation));
+
         if (kafkaUser != null)  {
             // Create or update
             return createOrUpdate(reconciliation, kafkaUser, userSecret);
@@ -248,18 +287,121 @@ public class KafkaUserOperator {
         return maybeGenerateCredentials(reconciliation, user, userSecret)
                 // Reconcile the user: update everything in Kafka and in the Secret
                 .thenCompose(i -> reconcileCredentialsQuotasAndAcls(reconciliation, user, userSecret, userStatus))
-                .handle((i, e) -> {
+                .handle((secret, e) -> {
                     if (e != null)  {
                         throw new CompletionException(e);
                     } else {
                         StatusUtils.setStatusConditionAndObservedGeneration(kafkaUser, userStatus, (Throwable) null);
                         userStatus.setUsername(user.getUserName());
+
+                        if (config.isSkipUnchangedUsers() && canBeSkipped(user)) {
+                            fingerprints.put(fingerprintKey(reconciliation), UserFingerprint.of(kafkaUser, secret, user));
+                        }
+
                         return null;
                     }
                 })
                 .thenApply(i -> userStatus);
     }
 
+    /**
+     * Checks whether the user changed since its last successful reconciliation. The user did not change when:
+     *   - The generation of the KafkaUser resource and the resource version of the user Secret are the same as in the
+     *     last reconciliation
+     *   - The desired ACLs and quotas are the same as in the last reconciliation
+     *   - The ACLs, quotas and SCRAM-SHA credentials in the Kafka Admin API caches match the desired state
+     * This check does not call the Kubernetes API server or the Kafka Admin API. Users with TLS client authentication
+     * and users with a password from another Secret are never considered unchanged, because their credentials depend
+     * also on other Secrets and on the certificate validity.
+     *
+     * @param reconciliation    Unique identification for the reconciliation
+     * @param kafkaUser         KafkaUser resource with the desired user configuration
+     * @param userSecret        Secret with credentials for the user
+     *
+     * @return  Status of the user when it did not change since the last reconciliation. Null otherwise.
+     */
+    public KafkaUserStatus unchangedUserStatus(Reconciliation reconciliation, KafkaUser kafkaUser, Secret userSecret) {
+        UserFingerprint fingerprint = fingerprints.get(fingerprintKey(reconciliation));
+
+        if (!config.isSkipUnchangedUsers()
+                || fingerprint == null
+                || kafkaUser == null
+                || !fingerprint.matchesResources(kafkaUser, userSecret)) {
+            return null;
+        }
+
+        try {
+            KafkaUserModel user = KafkaUserModel.fromCrd(kafkaUser, config.getSecretPrefix(), config.isAclsAdminApiSupported());
+
+            if (!canBeSkipped(user) || fingerprint.desiredStateHash() != UserFingerprint.desiredStateHash(user)) {
+                return null;
+            }
+
+            if (user.isScramUser()) {
+                // Only loads the existing password from the user Secret
+                user.maybeGeneratePassword(reconciliation, passwordGenerator, userSecret, null);
+            }
+
+            if (!isUpToDateInKafka(reconciliation, user)) {
+                return null;
+            }
+
+            KafkaUserStatus userStatus = new KafkaUserStatus();
+            StatusUtils.setStatusConditionAndObservedGeneration(kafkaUser, userStatus, (Throwable) null);
+            userStatus.setUsername(user.getUserName());
+
+            if (userSecret != null) {
+                userStatus.setSecret(userSecret.getMetadata().getName());
+            }
+
+            return userStatus;
+        } catch (RuntimeException e) {
+            // The user is invalid or the caches are not ready => the full reconciliation will deal with it
+            LOGGER.debugCr(reconciliation, "Failed to check whether the user changed", e);
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the reconciliation of the user can be skipped when it did not change. Users with TLS client
+     * authentication or with a password from another Secret depend also on other resources which are not part of the
+     * fingerprint.
+     *
+     * @param user  Model describing the KafkaUser
+     *
+     * @return  True if the reconciliation of the user can be skipped when it did not change. False otherwise.
+     */
+    private static boolean canBeSkipped(KafkaUserModel user) {
+        return !user.isTlsUser() && !user.isUserWithDesiredPassword();
+    }
+
+    /**
+     * Checks the state of the user in the Kafka Admin API caches
+     *
+     * @param reconciliation    Unique identification for the reconciliation
+     * @param user              Model describing the KafkaUser
+     *
+     * @return  True if the SCRAM-SHA credentials, quotas and ACLs in Kafka match the desired state. False otherwise.
+     */
+    private boolean isUpToDateInKafka(Reconciliation reconciliation, KafkaUserModel user) {
+        // Same split between the TLS and SCRAM-SHA usernames as in reconcileCredentialsQuotasAndAcls
+        boolean tlsUser = user.isTlsUser() || user.isTlsExternalUser();
+        boolean scramOrNoneUser = !tlsUser && (user.isScramUser() || user.isNoneUser());
+        String tlsUsername = KafkaUserModel.getTlsUserName(reconciliation.name());
+        String scramUsername = KafkaUserModel.getScramUserName(reconciliation.name());
+
+        return scramCredentialsOperator.isUpToDate(user.getName(), user.getScramSha512Password())
+                && quotasOperator.isUpToDate(tlsUsername, tlsUser ? user.getQuotas() : null)
+                && quotasOperator.isUpToDate(scramUsername, scramOrNoneUser ? user.getQuotas() : null)
+                && (!config.isAclsAdminApiSupported()
+                    || (aclOperator.isUpToDate(tlsUsername, tlsUser ? user.getSimpleAclRules() : null)
+                        && aclOperator.isUpToDate(scramUsername, scramOrNoneUser ? user.getSimpleAclRules() : null)));
+    }
+
+    private static String fingerprintKey(Reconciliation reconciliation) {
+        return reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
     /**
      * Depending on the KafkaUser configuration and the user secret, this method will set or generate the credentials
      * for given user.
@@ -328,19 +470,25 @@ public class KafkaUserOperator {
                 InvalidConfigurationException::new)
             .toCompletableFuture();
 
+        // The certificates are generated by the certificate issuer to not block the user operations threads
         return CompletableFuture.allOf(caCertPromise, caKeyPromise)
-                .thenRun(() -> user.maybeGenerateCertificates(
-                        reconciliation,
-                        certManager,
-                        passwordGenerator,
-                        caCertPromise.join(),
-                        caKeyPromise.join(),
-                        userSecret,
-                        config.getClientsCaValidityDays(),
-                        config.getClientsCaRenewalDays(),
-                        config.getMaintenanceWindows(),
-                        Clock.systemUTC()
-                ));
+                .thenCompose(i -> certificateIssuer.submit(reconciliation, () -> {
+                    user.maybeGenerateCertificates(
+                            reconciliation,
+                            certManager,
+                            passwordGenerator,
+                            caCertPromise.join(),
+                            caKeyPromise.join(),
+                            userSecret,
+                            config.getClientsCaValidityDays(),
+                            config.getClientsCaRenewalDays(),
+                            config.getMaintenanceWindows(),
+                            Clock.systemUTC(),
+                            config.getClientsCaKeyAlgorithm()
+                    );
+
+                    return null;
+                }));
     }
 
     private CompletionStage<Secret> getRequiredSecret(String namespace, String name, Function<String, Throwable> missingSecretError) {
@@ -368,9 +516,9 @@ public class KafkaUserOperator {
      * @param userSecret        Current user secret
      * @param userStatus        Status subresource of the KafkaUser custom resource
      *
-     * @return                  CompletionStage describing the result
+     * @return                  CompletionStage with the reconciled user Secret
      */
-    private CompletionStage<Void> reconcileCredentialsQuotasAndAcls(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret, KafkaUserStatus userStatus)   {
+    private CompletionStage<Secret> reconcileCredentialsQuotasAndAcls(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret, KafkaUserStatus userStatus)   {
         Set<SimpleAclRule> tlsAcls = null;
         Set<SimpleAclRule> scramOrNoneAcls = null;
         KafkaUserQuotas tlsQuotas = null;
@@ -413,7 +561,7 @@ public class KafkaUserOperator {
                 aclsTlsUserFuture.toCompletableFuture(),
                 aclsScramUserFuture.toCompletableFuture(),
                 userSecretFuture.toCompletableFuture()
-        );
+        ).thenApply(i -> userSecretFuture.toCompletableFuture().join().resourceOpt().orElse(null));
     }
 
     /**
@@ -436,4 +584,30 @@ public class KafkaUserOperator {
                 }
             });
     }
+
+    /**
+     * Fingerprint of a user from its last successful reconciliation
+     *
+     * @param generation                Generation of the KafkaUser resource
+     * @param secretResourceVersion     Resource version of the user Secret or null if the user has no Secret
+     * @param desiredStateHash          Hash of the desired ACLs and quotas
+     */
+    record UserFingerprint(Long generation, String secretResourceVersion, int desiredStateHash) {
+        static UserFingerprint of(KafkaUser kafkaUser, Secret userSecret, KafkaUserModel user) {
+            return new UserFingerprint(kafkaUser.getMetadata().getGeneration(), resourceVersion(userSecret), desiredStateHash(user));
+        }
+
+        static int desiredStateHash(KafkaUserModel user) {
+            return Objects.hash(user.getSimpleAclRules(), user.getQuotas());
+        }
+
+        boolean matchesResources(KafkaUser kafkaUser, Secret userSecret) {
+            return Objects.equals(generation, kafkaUser.getMetadata().getGeneration())
+                    && Objects.equals(secretResourceVersion, resourceVersion(userSecret));
+        }
+
+        private static String resourceVersion(Secret userSecret) {
+            return userSecret != null ? userSecret.getMetadata().getResourceVersion() : null;
+        }
+    }
 }
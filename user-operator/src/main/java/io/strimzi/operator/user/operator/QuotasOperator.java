@@ -7,6 +7,7 @@ package io.strimzi.operator.user.operator;
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.BatchReconcilerMetricsHolder;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.model.KafkaUserModel;
@@ -44,13 +45,26 @@ public class QuotasOperator implements AdminApiOperator<KafkaUserQuotas, Set<Str
      * @param executor      Shared executor for executing async operations
      */
     public QuotasOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor) {
+        this(adminClient, config, executor, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param adminClient   Kafka Admin client instance
+     * @param config        User operator configuration
+     * @param executor      Shared executor for executing async operations
+     * @param metrics       Metrics holder for the micro-batching metrics or null if they should not be collected
+     */
+    public QuotasOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor, BatchReconcilerMetricsHolder metrics) {
         this.executor = executor;
 
         // Create cache for querying the Quotas locally
         this.cache = new QuotasCache(adminClient, config.getCacheRefresh());
 
         // Create micro-batching reconcilers for managing the quotas
-        this.patchReconciler = new QuotasBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        this.patchReconciler = new QuotasBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime(),
+                config.getBatchMaxInFlight(), config.isBatchAdaptive(), metrics, config.getNamespace());
     }
 
     /**
@@ -88,6 +102,17 @@ public class QuotasOperator implements AdminApiOperator<KafkaUserQuotas, Set<Str
         }
     }
 
+    @Override
+    public boolean isUpToDate(String username, KafkaUserQuotas desired) {
+        KafkaUserQuotas current = cache.get(username);
+
+        if (desired == null || current == null) {
+            return desired == current;
+        } else {
+            return QuotaUtils.quotasEquals(current, desired);
+        }
+    }
+
     /**
      * Starts the Cache and the patch reconciler
      */
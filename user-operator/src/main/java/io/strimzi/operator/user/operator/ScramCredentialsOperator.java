@@ -6,6 +6,7 @@ package io.strimzi.operator.user.operator;
 
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.BatchReconcilerMetricsHolder;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.operator.batching.ScramShaCredentialsBatchReconciler;
@@ -50,13 +51,26 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
      * @param executor      Shared executor for executing async operations
      */
     public ScramCredentialsOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor) {
+        this(adminClient, config, executor, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param adminClient   Kafka Admin client instance
+     * @param config        User operator configuration
+     * @param executor      Shared executor for executing async operations
+     * @param metrics       Metrics holder for the micro-batching metrics or null if they should not be collected
+     */
+    public ScramCredentialsOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor, BatchReconcilerMetricsHolder metrics) {
         this.executor = executor;
 
         // Create cache for querying the SCRAM-SHA Credentials locally
         this.cache = new ScramShaCredentialsCache(adminClient, config.getCacheRefresh());
 
         // Create micro-batching reconciler for updating the SCRAM-SHA credentials
-        this.patchReconciler = new ScramShaCredentialsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        this.patchReconciler = new ScramShaCredentialsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime(),
+                config.getBatchMaxInFlight(), config.isBatchAdaptive(), metrics, config.getNamespace());
     }
 
     /**
@@ -126,6 +140,20 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
         }
     }
 
+    /**
+     * Checks whether the user has the SCRAM-SHA credentials when it should have them. The passwords cannot be read
+     * from Kafka, so only the existence of the credentials is checked.
+     *
+     * @param username  Username of the user
+     * @param desired   The desired password
+     *
+     * @return  True if the user has credentials and should have them or if it does not have them and should not have
+     *          them. False otherwise.
+     */
+    @Override
+    public boolean isUpToDate(String username, String desired) {
+        return userExists(username) == (desired != null);
+    }
 
     /**
      * Starts the Cache and the patch reconciler
@@ -6,6 +6,7 @@ package io.strimzi.operator.user.operator;
 
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.BatchReconcilerMetricsHolder;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.model.KafkaUserModel;
@@ -50,14 +51,28 @@ public class SimpleAclOperator implements AdminApiOperator<Set<SimpleAclRule>, S
      * @param executor      Shared executor for executing async operations
      */
     public SimpleAclOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor) {
+        this(adminClient, config, executor, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param adminClient   Kafka Admin client instance
+     * @param config        User operator configuration
+     * @param executor      Shared executor for executing async operations
+     * @param metrics       Metrics holder for the micro-batching metrics or null if they should not be collected
+     */
+    public SimpleAclOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor, BatchReconcilerMetricsHolder metrics) {
         this.executor = executor;
 
         // Create cache for querying the ACLs locally
         this.cache = new AclCache(adminClient, config.getCacheRefresh());
 
         // Create micro-batching reconcilers for managing the ACLs
-        this.addReconciler = new AddAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
-        this.deleteReconciler = new DeleteAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        this.addReconciler = new AddAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime(),
+                config.getBatchMaxInFlight(), config.isBatchAdaptive(), metrics, config.getNamespace());
+        this.deleteReconciler = new DeleteAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime(),
+                config.getBatchMaxInFlight(), config.isBatchAdaptive(), metrics, config.getNamespace());
     }
 
     /**
@@ -92,6 +107,11 @@ public class SimpleAclOperator implements AdminApiOperator<Set<SimpleAclRule>, S
         }
     }
 
+    @Override
+    public boolean isUpToDate(String username, Set<SimpleAclRule> desired) {
+        return cache.getOrDefault(username, Set.of()).equals(desired == null ? Set.of() : desired);
+    }
+
     /**
      * Starts the Cache and the patch reconciler
      */
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.strimzi.operator.common.metrics.BatchReconcilerMetricsHolder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -12,19 +13,27 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Abstract class for collecting Kafka Admin API requests and sending them to Kafka in batches. The batches are sent
- * when we collect some (configurable) amount of requests or after some (configurable) time interval
+ * when we collect some (configurable) amount of requests or after some (configurable) time interval. Optionally, the
+ * amount of requests and the time interval can be adapted to the observed load and Kafka Admin API latency (see
+ * {@link AdaptiveBatchController}) and the number of batches sent to Kafka at the same time can be limited.
  */
 public abstract class AbstractBatchReconciler<T> {
     private final static Logger LOGGER = LogManager.getLogger(AbstractBatchReconciler.class);
 
-    private final BlockingQueue<T> queue;
+    private final BlockingQueue<QueuedItem<T>> queue;
     private final int maxBatchSize;
-    private final int maxBatchTime;
+    private final AdaptiveBatchController controller;
+    private final Semaphore batchesInFlight;
+    private final BatchReconcilerMetricsHolder metrics;
+    private final String namespace;
     private final Thread batchHandlerThread;
 
     private volatile CountDownLatch batchSize;
@@ -39,14 +48,38 @@ public abstract class AbstractBatchReconciler<T> {
      * @param maxBatchTime  Maximal time to wait before batch is executed
      */
     public AbstractBatchReconciler(String name, int queueSize, int maxBatchSize, int maxBatchTime) {
+        this(name, queueSize, maxBatchSize, maxBatchTime, Integer.MAX_VALUE, false, null, null);
+    }
+
+    /**
+     * Creates the BatchReconciler
+     *
+     * @param name                  Name of the reconciler
+     * @param queueSize             Size of the queue for queueing the reconciliation requests
+     * @param maxBatchSize          Maximal size of the batch
+     * @param maxBatchTime          Maximal time to wait before batch is executed
+     * @param maxBatchesInFlight    Maximal number of batches sent to Kafka which did not complete yet
+     * @param adaptive              Indicates whether the batch size threshold and time should adapt to the load
+     * @param metrics               Metrics holder for the batching metrics or null if the metrics should not be collected
+     * @param namespace             Namespace used in the metrics
+     */
+    public AbstractBatchReconciler(String name, int queueSize, int maxBatchSize, int maxBatchTime, int maxBatchesInFlight,
+                                   boolean adaptive, BatchReconcilerMetricsHolder metrics, String namespace) {
         if (maxBatchSize > queueSize)   {
             throw new IllegalArgumentException("Maximum batch size cannot be bigger than queue size");
         }
 
+        if (maxBatchesInFlight < 1)   {
+            throw new IllegalArgumentException("Maximum number of batches in flight has to be at least 1");
+        }
+
         this.queue = new ArrayBlockingQueue<>(queueSize);
         this.batchSize = new CountDownLatch(0);
         this.maxBatchSize = maxBatchSize;
-        this.maxBatchTime = maxBatchTime;
+        this.controller = new AdaptiveBatchController(adaptive, maxBatchSize, maxBatchTime);
+        this.batchesInFlight = new Semaphore(maxBatchesInFlight);
+        this.metrics = metrics;
+        this.namespace = namespace;
         this.batchHandlerThread = new Thread(new Runner(), name);
     }
 
@@ -54,8 +87,10 @@ public abstract class AbstractBatchReconciler<T> {
      * Method responsible for sending the batch of requests to Apache Kafka and handling the result
      *
      * @param items Items which should be reconciled
+     *
+     * @return  CompletionStage which completes when the batch is completed and its results are handled
      */
-    protected abstract void reconcile(Collection<T> items);
+    protected abstract CompletionStage<?> reconcile(Collection<T> items);
 
     /**
      * Enqueues a reconciliation request
@@ -65,9 +100,9 @@ public abstract class AbstractBatchReconciler<T> {
      * @throws InterruptedException Thrown when interrupted while enqueuing the resource
      */
     public void enqueue(T item) throws InterruptedException {
-        queue.put(item);
+        queue.put(new QueuedItem<>(item, System.nanoTime()));
 
-        if (queue.size() >= maxBatchSize)   {
+        if (queue.size() >= controller.batchSizeThreshold())   {
             batchSize.countDown();
         }
     }
@@ -75,25 +110,86 @@ public abstract class AbstractBatchReconciler<T> {
     /**
      * Starts a new batch of requests. It drains the queue and passes the batch of requests to the reconcile method.
      *
-     * @param batchSizeReached  Indicates whether the batch is triggered because we reached the maximal batch size
+     * @param batchSizeReached  Indicates whether the batch is triggered because we reached the batch size threshold
      *                          (true) or the time limit (false)
+     *
+     * @return  True if a batch was sent. False if there were no requests to send.
      */
-    private void handleBatch(boolean batchSizeReached)  {
+    private boolean handleBatch(boolean batchSizeReached)  {
         if (batchSizeReached) {
             LOGGER.trace("{}: Running the next batch of the BatchReconciler because maximum batch size was reached", batchHandlerThread.getName());
         } else {
             LOGGER.trace("{}: Running the next batch of the BatchReconciler because maximum batch time was reached", batchHandlerThread.getName());
         }
 
-        List<T> batch = new ArrayList<>();
-        int batchSize = queue.drainTo(batch, maxBatchSize);
+        List<QueuedItem<T>> queued = new ArrayList<>();
+        int batchSize = queue.drainTo(queued, maxBatchSize);
 
         if (batchSize > 0)  {
+            int backlog = queue.size();
+            long startNanos = System.nanoTime();
+            List<T> batch = new ArrayList<>(batchSize);
+
+            for (QueuedItem<T> item : queued) {
+                batch.add(item.item());
+
+                if (metrics != null) {
+                    metrics.batchWaitTimer(namespace, batchHandlerThread.getName()).record(startNanos - item.enqueuedNanos(), TimeUnit.NANOSECONDS);
+                }
+            }
+
+            if (metrics != null) {
+                metrics.batchFillRatio(namespace, batchHandlerThread.getName()).record((double) batchSize / maxBatchSize);
+                metrics.batchesInFlight(namespace, batchHandlerThread.getName()).incrementAndGet();
+            }
+
             LOGGER.debug("{}: Processing batch of {} records in the BatchReconciler", batchHandlerThread.getName(), batchSize);
-            reconcile(batch);
+            batchResult(batch).whenComplete((r, e) -> batchCompleted(batchSize, backlog, startNanos));
+
+            return true;
+        } else {
+            return false;
         }
     }
 
+    /**
+     * Passes the batch to the reconcile method.
+     *
+     * @param batch     Batch of requests
+     *
+     * @return  CompletionStage which completes when the batch is completed
+     */
+    private CompletionStage<?> batchResult(List<T> batch) {
+        try {
+            return reconcile(batch);
+        } catch (RuntimeException e) {
+            LOGGER.error("{}: Failed to send batch of {} records", batchHandlerThread.getName(), batch.size(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Handles the completion of a batch: records the metrics, adapts the batch size threshold and linger time and
+     * allows another batch to be sent.
+     *
+     * @param batchSize     Number of requests in the batch
+     * @param backlog       Number of requests left in the queue when the batch was drained
+     * @param startNanos    Time when the batch was sent in nanoseconds
+     */
+    private void batchCompleted(int batchSize, int backlog, long startNanos) {
+        long latencyNanos = System.nanoTime() - startNanos;
+        controller.batchCompleted(batchSize, backlog, TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+
+        if (metrics != null) {
+            metrics.adminRequestTimer(namespace, batchHandlerThread.getName()).record(latencyNanos, TimeUnit.NANOSECONDS);
+            metrics.batchesInFlight(namespace, batchHandlerThread.getName()).decrementAndGet();
+            metrics.batchSizeThreshold(namespace, batchHandlerThread.getName()).set(controller.batchSizeThreshold());
+            metrics.batchLingerMs(namespace, batchHandlerThread.getName()).set(controller.lingerMs());
+        }
+
+        batchesInFlight.release();
+    }
+
     /**
      * Starts the reconciler: this method creates a new thread in which the controller will run
      */
@@ -130,13 +226,18 @@ public abstract class AbstractBatchReconciler<T> {
             while (!stop)    {
                 try {
                     LOGGER.trace("{}: Waiting for the next batch of the BatchReconciler", batchHandlerThread.getName());
-                    boolean batchSizeReached = batchSize.await(maxBatchTime, TimeUnit.MILLISECONDS);
+                    boolean batchSizeReached = batchSize.await(controller.lingerMs(), TimeUnit.MILLISECONDS);
 
                     if (batchSizeReached) {
                         batchSize = new CountDownLatch(1);
                     }
 
-                    handleBatch(batchSizeReached);
+                    // Waits until another batch can be sent. The requests keep collecting in the queue in the meantime.
+                    batchesInFlight.acquire();
+
+                    if (!handleBatch(batchSizeReached)) {
+                        batchesInFlight.release();
+                    }
                 } catch (InterruptedException e) {
                     LOGGER.debug("{}: BatchReconciler was interrupted", batchHandlerThread.getName(), e);
                 }
@@ -145,4 +246,14 @@ public abstract class AbstractBatchReconciler<T> {
             LOGGER.info("{}: Stopping the BatchReconciler", batchHandlerThread.getName());
         }
     }
+
+    /**
+     * Request waiting in the queue together with the time when it was enqueued
+     *
+     * @param item              The request
+     * @param enqueuedNanos     Time when the request was enqueued in nanoseconds
+     *
+     * @param <T>   Type of the request
+     */
+    private record QueuedItem<T>(T item, long enqueuedNanos) { }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.batching;
+
+/**
+ * Controls the batch size threshold and the linger time of a batch reconciler based on what it observes about the
+ * completed batches:
+ *   - When requests are left in the queue after a batch is drained, the demand is higher than what the batches carry,
+ *     so the threshold is doubled (up to the maximal batch size) to send fuller batches.
+ *   - When the batches are less than half full, the threshold is halved (down to 1) so that the requests do not wait
+ *     for a batch which will not fill up.
+ *   - The linger time follows the smoothed latency of the Kafka Admin API requests (between 1 ms and the maximal batch
+ *     time). Sending batches more often than Kafka completes them does not make the requests faster, but collecting
+ *     the requests for about one round trip makes the batches fuller.
+ *
+ * When the controller is disabled, the threshold and the linger time stay at their maximal values.
+ */
+class AdaptiveBatchController {
+    // Weight of the latest latency sample in the smoothed latency
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final int maxLingerMs;
+
+    private volatile int batchSizeThreshold;
+    private volatile int lingerMs;
+    private double smoothedLatencyMs = -1;
+
+    /**
+     * Creates the adaptive batch controller
+     *
+     * @param enabled       Indicates whether the batch size threshold and the linger time should be adapted
+     * @param maxBatchSize  Maximal size of the batch
+     * @param maxLingerMs   Maximal time for which the requests should be collected before a batch is sent
+     */
+    AdaptiveBatchController(boolean enabled, int maxBatchSize, int maxLingerMs) {
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxLingerMs = maxLingerMs;
+        this.batchSizeThreshold = maxBatchSize;
+        this.lingerMs = maxLingerMs;
+    }
+
+    /**
+     * @return  Number of queued requests which triggers a new batch
+     */
+    int batchSizeThreshold() {
+        return batchSizeThreshold;
+    }
+
+    /**
+     * @return  Time in milliseconds for which the requests are collected before a batch is sent
+     */
+    int lingerMs() {
+        return lingerMs;
+    }
+
+    /**
+     * Updates the batch size threshold and the linger time after a batch completes
+     *
+     * @param batchSize     Number of requests in the completed batch
+     * @param backlog       Number of requests left in the queue when the batch was drained
+     * @param latencyMs     Time in milliseconds the Kafka Admin API request with the batch took
+     */
+    synchronized void batchCompleted(int batchSize, int backlog, long latencyMs) {
+        if (!enabled) {
+            return;
+        }
+
+        if (backlog > 0) {
+            batchSizeThreshold = Math.min(maxBatchSize, batchSizeThreshold * 2);
+        } else if (batchSize * 2 < batchSizeThreshold) {
+            batchSizeThreshold = Math.max(1, batchSizeThreshold / 2);
+        }
+
+        smoothedLatencyMs = smoothedLatencyMs < 0 ? latencyMs : smoothedLatencyMs + LATENCY_SMOOTHING * (latencyMs - smoothedLatencyMs);
+        lingerMs = (int) Math.max(1, Math.min(maxLingerMs, Math.round(smoothedLatencyMs)));
+    }
+}
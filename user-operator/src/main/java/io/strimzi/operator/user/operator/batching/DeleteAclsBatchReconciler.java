@@ -5,6 +5,7 @@
 package io.strimzi.operator.user.operator.batching;
 
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.BatchReconcilerMetricsHolder;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.operator.AdminApiOperator;
 import org.apache.kafka.clients.admin.Admin;
@@ -16,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -39,19 +41,39 @@ public class DeleteAclsBatchReconciler extends AbstractBatchReconciler<AdminApiO
         this.adminClient = adminClient;
     }
 
+    /**
+     * Creates the micro-batching reconciler for deleting ACL rules
+     *
+     * @param adminClient           Kafka Admin API client
+     * @param queueSize             Maximal size of the batching queue
+     * @param maxBatchSize          Maximal size of the batch
+     * @param maxBatchTime          Maximal time for which the requests should be collected before a batch is sent
+     * @param maxBatchesInFlight    Maximal number of batches sent to Kafka which did not complete yet
+     * @param adaptive              Indicates whether the batch size threshold and time should adapt to the load
+     * @param metrics               Metrics holder for the batching metrics
+     * @param namespace             Namespace used in the metrics
+     */
+    public DeleteAclsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime, int maxBatchesInFlight,
+                                     boolean adaptive, BatchReconcilerMetricsHolder metrics, String namespace) {
+        super("DeleteAclsBatchReconciler", queueSize, maxBatchSize, maxBatchTime, maxBatchesInFlight, adaptive, metrics, namespace);
+        this.adminClient = adminClient;
+    }
+
     /**
      * Reconciles batch of requests to delete ACL rules in Apache Kafka
      *
      * @param items Batch of requests which should be executed
+     *
+     * @return  CompletionStage which completes when the batch is completed and its results are handled
      */
     @Override
-    protected void reconcile(Collection<AdminApiOperator.ReconcileRequest<Collection<AclBindingFilter>, ReconcileResult<Collection<AclBindingFilter>>>> items) {
+    protected CompletionStage<?> reconcile(Collection<AdminApiOperator.ReconcileRequest<Collection<AclBindingFilter>, ReconcileResult<Collection<AclBindingFilter>>>> items) {
         List<AclBindingFilter> aclFilters = new ArrayList<>();
         items.forEach(req -> aclFilters.addAll(req.desired()));
 
         DeleteAclsResult result = adminClient.deleteAcls(aclFilters);
 
-        result.all()
+        return result.all()
                 .toCompletionStage()
                 .handleAsync((r, e) -> {
                     if (e != null)  {
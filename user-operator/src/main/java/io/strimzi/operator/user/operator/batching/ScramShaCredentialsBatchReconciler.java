@@ -5,6 +5,7 @@
 package io.strimzi.operator.user.operator.batching;
 
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.BatchReconcilerMetricsHolder;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.operator.AdminApiOperator;
 import org.apache.kafka.clients.admin.Admin;
@@ -18,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Micro-batching reconciler for patching SCRAM-SHA credentials using the Kafka Admin API.
@@ -40,19 +42,39 @@ public class ScramShaCredentialsBatchReconciler extends AbstractBatchReconciler<
         this.adminClient = adminClient;
     }
 
+    /**
+     * Creates the SCRAM-SHA credentials micro-batching reconciler
+     *
+     * @param adminClient           Kafka Admin API client
+     * @param queueSize             Maximal size of the batching queue
+     * @param maxBatchSize          Maximal size of the batch
+     * @param maxBatchTime          Maximal time for which the requests should be collected before a batch is sent
+     * @param maxBatchesInFlight    Maximal number of batches sent to Kafka which did not complete yet
+     * @param adaptive              Indicates whether the batch size threshold and time should adapt to the load
+     * @param metrics               Metrics holder for the batching metrics
+     * @param namespace             Namespace used in the metrics
+     */
+    public ScramShaCredentialsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime, int maxBatchesInFlight,
+                                              boolean adaptive, BatchReconcilerMetricsHolder metrics, String namespace) {
+        super("ScramShaCredentialsBatchReconciler", queueSize, maxBatchSize, maxBatchTime, maxBatchesInFlight, adaptive, metrics, namespace);
+        this.adminClient = adminClient;
+    }
+
     /**
      * Reconciles batch of requests to patch SCRAM-SHA credentials in Apache Kafka
      *
      * @param items Batch of requests which should be executed
+     *
+     * @return  CompletionStage which completes when the batch is completed and its results are handled
      */
     @Override
-    protected void reconcile(Collection<AdminApiOperator.ReconcileRequest<UserScramCredentialAlteration, ReconcileResult<UserScramCredentialAlteration>>> items) {
+    protected CompletionStage<?> reconcile(Collection<AdminApiOperator.ReconcileRequest<UserScramCredentialAlteration, ReconcileResult<UserScramCredentialAlteration>>> items) {
         List<UserScramCredentialAlteration> alterations = new ArrayList<>();
         items.forEach(req -> alterations.add(req.desired()));
 
         AlterUserScramCredentialsResult result = adminClient.alterUserScramCredentials(alterations);
 
-        result.all()
+        return result.all()
                 .toCompletionStage()
                 .handleAsync((r, e) -> {
                     if (e != null)  {
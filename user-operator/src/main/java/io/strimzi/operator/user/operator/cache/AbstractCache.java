@@ -8,14 +8,21 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Enumeration;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Abstract cache provides a periodically refreshed cache. The cache is based around ConcurrentHashMap and a scheduled
  * periodical timer which regularly updates the cache. It also provides method to access the cache and its data.
+ *
+ * The periodical refresh does not replace the whole map. It compares the freshly loaded data with the cached data and
+ * updates only the records which changed. Records written through the cache (using the put or remove methods) while
+ * the data were being loaded are newer than the loaded data and are kept.
  */
 public abstract class AbstractCache<T> {
     private final static Logger LOGGER = LogManager.getLogger(AbstractCache.class);
@@ -23,7 +30,11 @@ public abstract class AbstractCache<T> {
     private final long refreshIntervalMs;
     private final ScheduledExecutorService scheduledExecutor;
 
-    private volatile ConcurrentHashMap<String, T> cache = null;
+    private final ConcurrentHashMap<String, T> cache = new ConcurrentHashMap<>();
+    // Sequence numbers of the last write through the cache for the keys written since the last refresh
+    private final ConcurrentHashMap<String, Long> writes = new ConcurrentHashMap<>();
+    private final AtomicLong writeSequence = new AtomicLong(0);
+    private volatile boolean ready = false;
 
     /**
      * Constructs the abstract cache
@@ -39,9 +50,9 @@ public abstract class AbstractCache<T> {
     /**
      * Method for loading the data into the cache. This method is implemented by the different cache implementations.
      *
-     * @return  New map with the latest data
+     * @return  Map with the latest data
      */
-    protected abstract ConcurrentHashMap<String, T> loadCache();
+    protected abstract Map<String, T> loadCache();
 
     /**
      * Retrieves a value from the cache for given key.
@@ -63,7 +74,7 @@ public abstract class AbstractCache<T> {
      * @return  The value from the cache or the default value
      */
     public T getOrDefault(String key, T defaultValue)   {
-        if (cache == null)  {
+        if (!ready)  {
             throw new RuntimeException(this.getClass().getSimpleName() + " is not ready!");
         } else {
             return cache.getOrDefault(key, defaultValue);
@@ -77,10 +88,10 @@ public abstract class AbstractCache<T> {
      * @param value     The new value which should be stored in the cache
      */
     public void put(String key, T value)   {
-        if (cache == null)  {
+        if (!ready)  {
             throw new RuntimeException(this.getClass().getSimpleName() + " is not ready!");
         } else {
-            cache.put(key, value);
+            write(key, value);
         }
     }
 
@@ -90,10 +101,10 @@ public abstract class AbstractCache<T> {
      * @param key   The key which should be removed
      */
     public void remove(String key) {
-        if (cache == null)  {
+        if (!ready)  {
             throw new RuntimeException(this.getClass().getSimpleName() + " is not ready!");
         } else {
-            cache.remove(key);
+            write(key, null);
         }
     }
 
@@ -103,7 +114,7 @@ public abstract class AbstractCache<T> {
      * @return  Enumeration with all present keys
      */
     public Enumeration<String> keys()  {
-        if (cache == null)  {
+        if (!ready)  {
             throw new RuntimeException(this.getClass().getSimpleName() + " is not ready!");
         } else {
             return cache.keys();
@@ -134,7 +145,68 @@ public abstract class AbstractCache<T> {
     public void stop()  {
         LOGGER.info("Stopping {}", this.getClass().getSimpleName());
         scheduledExecutor.shutdownNow();
-        cache = null;
+        ready = false;
+        cache.clear();
+        writes.clear();
+    }
+
+    /**
+     * Writes a value into the cache and records the write, so that a refresh which loaded the data before this write
+     * does not overwrite it.
+     *
+     * @param key       Key which should be written
+     * @param value     The new value or null if the key should be removed
+     */
+    private void write(String key, T value)    {
+        cache.compute(key, (k, current) -> {
+            writes.put(k, writeSequence.incrementAndGet());
+            return value;
+        });
+    }
+
+    /**
+     * Applies the freshly loaded data to the cache. Only the records which changed are updated. Records written through
+     * the cache after the refresh started are kept.
+     *
+     * @param loaded            The freshly loaded data
+     * @param refreshSequence   Write sequence number from the moment when the refresh started
+     */
+    private void apply(Map<String, T> loaded, long refreshSequence)   {
+        int updated = 0;
+        int removed = 0;
+
+        for (Map.Entry<String, T> entry : loaded.entrySet())   {
+            T previous = cache.get(entry.getKey());
+
+            if (!Objects.equals(previous, entry.getValue())) {
+                cache.compute(entry.getKey(), (k, current) -> writtenSince(k, refreshSequence) ? current : entry.getValue());
+                updated++;
+            }
+        }
+
+        for (String key : cache.keySet())   {
+            if (!loaded.containsKey(key))   {
+                cache.compute(key, (k, current) -> writtenSince(k, refreshSequence) ? current : null);
+                removed++;
+            }
+        }
+
+        // The writes done before the refresh started are now reflected in the loaded data
+        writes.values().removeIf(sequence -> sequence <= refreshSequence);
+
+        LOGGER.debug("{} refreshed: {} records updated, {} records removed", this.getClass().getSimpleName(), updated, removed);
+    }
+
+    /**
+     * Checks whether the key was written through the cache after given sequence number
+     *
+     * @param key       Key which should be checked
+     * @param sequence  The write sequence number
+     *
+     * @return  True if the key was written after the sequence number. False otherwise.
+     */
+    private boolean writtenSince(String key, long sequence)  {
+        return writes.getOrDefault(key, 0L) > sequence;
     }
 
     /**
@@ -143,11 +215,16 @@ public abstract class AbstractCache<T> {
     private void updateCache()  {
         try {
             LOGGER.debug("Starting update of {}", this.getClass().getSimpleName());
-            cache = loadCache();
+            long refreshSequence = writeSequence.get();
+            apply(loadCache(), refreshSequence);
+            ready = true;
             LOGGER.debug("{} updated", this.getClass().getSimpleName());
         } catch (Exception e)   {
             LOGGER.error("{} failed to update", this.getClass().getSimpleName(), e);
-            cache = null; // Reset the cache
+            // Reset the cache
+            ready = false;
+            cache.clear();
+            writes.clear();
         }
     }
 }
@@ -75,6 +75,12 @@ public class ResourceUtils {
                        .build();
     }
 
+    public static UserOperatorConfig createUserOperatorConfig(boolean skipUnchangedUsers) {
+        return new UserOperatorConfigBuilder(createUserOperatorConfig())
+                       .with(UserOperatorConfig.SKIP_UNCHANGED_USERS.key(), String.valueOf(skipUnchangedUsers))
+                       .build();
+    }
+
     public static KafkaUser createKafkaUser(KafkaUserAuthentication authentication) {
         return new KafkaUserBuilder()
                 .withMetadata(
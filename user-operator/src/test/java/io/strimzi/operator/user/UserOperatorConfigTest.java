@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerType;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
@@ -228,4 +230,66 @@ public class UserOperatorConfigTest {
 
         assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
     }
+
+    @Test
+    public void testCertManagerType()    {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        assertThat(UserOperatorConfig.buildFromMap(envVars).getCertManagerType(), is(CertManagerType.OPENSSL));
+
+        envVars.put(UserOperatorConfig.CERT_MANAGER_TYPE.key(), "bouncycastle");
+        assertThat(UserOperatorConfig.buildFromMap(envVars).getCertManagerType(), is(CertManagerType.BOUNCYCASTLE));
+
+        envVars.put(UserOperatorConfig.CERT_MANAGER_TYPE.key(), "keytool");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+    }
+
+    @Test
+    public void testCertificateIssuanceThreads()    {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        assertThat(UserOperatorConfig.buildFromMap(envVars).getCertificateIssuanceThreads(), is(4));
+
+        envVars.put(UserOperatorConfig.CERTIFICATE_ISSUANCE_THREADS.key(), "8");
+        assertThat(UserOperatorConfig.buildFromMap(envVars).getCertificateIssuanceThreads(), is(8));
+
+        envVars.put(UserOperatorConfig.CERTIFICATE_ISSUANCE_THREADS.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+    }
+
+    @Test
+    public void testClientsCaKeyAlgorithm()    {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        assertThat(UserOperatorConfig.buildFromMap(envVars).getClientsCaKeyAlgorithm(), is(KeyAlgorithm.RSA));
+
+        envVars.put(UserOperatorConfig.CERTS_KEY_ALGORITHM.key(), "ECDSA_P384");
+        assertThat(UserOperatorConfig.buildFromMap(envVars).getClientsCaKeyAlgorithm(), is(KeyAlgorithm.ECDSA_P384));
+
+        envVars.put(UserOperatorConfig.CERTS_KEY_ALGORITHM.key(), "dsa");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+    }
+
+    @Test
+    public void testBatchInFlightAndAdaptive()    {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        UserOperatorConfig config = UserOperatorConfig.buildFromMap(envVars);
+        assertThat(config.getBatchMaxInFlight(), is(Integer.MAX_VALUE));
+        assertThat(config.isBatchAdaptive(), is(false));
+
+        envVars.put(UserOperatorConfig.BATCH_MAXIMUM_IN_FLIGHT.key(), "4");
+        envVars.put(UserOperatorConfig.BATCH_ADAPTIVE.key(), "true");
+        config = UserOperatorConfig.buildFromMap(envVars);
+        assertThat(config.getBatchMaxInFlight(), is(4));
+        assertThat(config.isBatchAdaptive(), is(true));
+
+        envVars.put(UserOperatorConfig.BATCH_MAXIMUM_IN_FLIGHT.key(), "-1");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+    }
+
+    @Test
+    public void testSkipUnchangedUsers()    {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        assertThat(UserOperatorConfig.buildFromMap(envVars).isSkipUnchangedUsers(), is(false));
+
+        envVars.put(UserOperatorConfig.SKIP_UNCHANGED_USERS.key(), "true");
+        assertThat(UserOperatorConfig.buildFromMap(envVars).isSkipUnchangedUsers(), is(true));
+    }
 }
@@ -1128,6 +1128,83 @@ public class KafkaUserOperatorMockTest {
         assertThat(capturedQuotas.get(0), is(nullValue()));
     }
 
+    @Test
+    public void testUnchangedScramShaUser() throws ExecutionException, InterruptedException {
+        when(scramOps.isUpToDate(any(), any())).thenReturn(true);
+        when(quotasOps.isUpToDate(any(), any())).thenReturn(true);
+        when(aclOps.isUpToDate(any(), any())).thenReturn(true);
+
+        KafkaUser user = new KafkaUserBuilder(ResourceUtils.createKafkaUserScramSha())
+                .editMetadata()
+                    .withGeneration(1L)
+                .endMetadata()
+                .build();
+        Reconciliation reconciliation = new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME);
+        KafkaUserOperator op = new KafkaUserOperator(ResourceUtils.createUserOperatorConfig(true), mockCertManager, secretOps, kafkaUserOps, scramOps, quotasOps, aclOps);
+
+        // Not reconciled yet => cannot be skipped
+        assertThat(op.unchangedUserStatus(reconciliation, user, null), is(nullValue()));
+
+        op.reconcile(reconciliation, user, null).toCompletableFuture().get();
+        Secret userSecret = secretOps.get(ResourceUtils.NAMESPACE, ResourceUtils.NAME);
+
+        // Nothing changed => the status is returned without reconciling the user
+        KafkaUserStatus status = op.unchangedUserStatus(reconciliation, user, userSecret);
+        assertThat(status, is(notNullValue()));
+        assertThat(status.getUsername(), is(ResourceUtils.NAME));
+        assertThat(status.getSecret(), is(ResourceUtils.NAME));
+        assertThat(status.getObservedGeneration(), is(1L));
+        assertThat(status.getConditions().size(), is(1));
+        assertThat(status.getConditions().get(0).getStatus(), is("True"));
+        assertThat(status.getConditions().get(0).getType(), is("Ready"));
+
+        // Changed KafkaUser
+        KafkaUser changedUser = new KafkaUserBuilder(user)
+                .editMetadata()
+                    .withGeneration(2L)
+                .endMetadata()
+                .build();
+        assertThat(op.unchangedUserStatus(reconciliation, changedUser, userSecret), is(nullValue()));
+
+        // Changed Secret
+        Secret changedSecret = new SecretBuilder(userSecret)
+                .editMetadata()
+                    .withResourceVersion(userSecret.getMetadata().getResourceVersion() + "1")
+                .endMetadata()
+                .build();
+        assertThat(op.unchangedUserStatus(reconciliation, user, changedSecret), is(nullValue()));
+
+        // Changed quotas in Kafka
+        when(quotasOps.isUpToDate(any(), any())).thenReturn(false);
+        assertThat(op.unchangedUserStatus(reconciliation, user, userSecret), is(nullValue()));
+        when(quotasOps.isUpToDate(any(), any())).thenReturn(true);
+
+        // Deleted user
+        op.reconcile(reconciliation, null, userSecret).toCompletableFuture().get();
+        assertThat(op.unchangedUserStatus(reconciliation, user, userSecret), is(nullValue()));
+    }
+
+    @Test
+    public void testUnchangedUsersAreNotSkippedWhenDisabledOrTls() throws ExecutionException, InterruptedException {
+        when(scramOps.isUpToDate(any(), any())).thenReturn(true);
+        when(quotasOps.isUpToDate(any(), any())).thenReturn(true);
+        when(aclOps.isUpToDate(any(), any())).thenReturn(true);
+
+        Reconciliation reconciliation = new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME);
+
+        // Skipping unchanged users is disabled
+        KafkaUser user = ResourceUtils.createKafkaUserScramSha();
+        KafkaUserOperator op = new KafkaUserOperator(ResourceUtils.createUserOperatorConfig(false), mockCertManager, secretOps, kafkaUserOps, scramOps, quotasOps, aclOps);
+        op.reconcile(reconciliation, user, null).toCompletableFuture().get();
+        assertThat(op.unchangedUserStatus(reconciliation, user, secretOps.get(ResourceUtils.NAMESPACE, ResourceUtils.NAME)), is(nullValue()));
+
+        // TLS users depend on the CA and certificate validity => they are never skipped
+        KafkaUser tlsUser = ResourceUtils.createKafkaUserTls();
+        op = new KafkaUserOperator(ResourceUtils.createUserOperatorConfig(), mockCertManager, secretOps, kafkaUserOps, scramOps, quotasOps, aclOps);
+        op.reconcile(reconciliation, tlsUser, secretOps.get(ResourceUtils.NAMESPACE, ResourceUtils.NAME)).toCompletableFuture().get();
+        assertThat(op.unchangedUserStatus(reconciliation, tlsUser, secretOps.get(ResourceUtils.NAMESPACE, ResourceUtils.NAME)), is(nullValue()));
+    }
+
     @Test
     public void testDeleteTlsUser() throws ExecutionException, InterruptedException {
         Secret existingUserSecret = ResourceUtils.createUserSecretTls();
@@ -4,16 +4,29 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.metrics.BatchReconcilerMetricsHolder;
+import io.strimzi.test.TestUtils;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
 public class AbstractBatchReconcilerTest {
     Set<Integer> reconciled;
     CountDownLatch reconciliationFinished;
@@ -50,15 +63,56 @@ public class AbstractBatchReconcilerTest {
         batcher.stop();
     }
 
+    @Test
+    public void testBatchesInFlight() throws InterruptedException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        BatchReconcilerMetricsHolder metrics = new BatchReconcilerMetricsHolder("KafkaUser", null, new MicrometerMetricsProvider(registry));
+        List<CompletableFuture<Void>> batches = new CopyOnWriteArrayList<>();
+
+        AbstractBatchReconciler<Integer> batcher = new AbstractBatchReconciler<>("InFlightTestBatchReconciler", 20, 5, 10, 1, true, metrics, "my-namespace") {
+            @Override
+            protected CompletionStage<?> reconcile(Collection<Integer> items) {
+                CompletableFuture<Void> batch = new CompletableFuture<>();
+                batches.add(batch);
+                return batch;
+            }
+        };
+        batcher.start();
+
+        batcher.enqueue(1);
+        TestUtils.waitFor("first batch", 10, 1_000, () -> batches.size() == 1);
+
+        // The first batch did not complete yet, so the next batch is not sent
+        batcher.enqueue(2);
+        batcher.enqueue(3);
+        Thread.sleep(100);
+        assertThat(batches.size(), is(1));
+        assertThat(metrics.batchesInFlight("my-namespace", "InFlightTestBatchReconciler").get(), is(1));
+
+        // Completing the first batch allows the second batch with both requests to be sent
+        batches.get(0).complete(null);
+        TestUtils.waitFor("second batch", 10, 1_000, () -> batches.size() == 2);
+        batches.get(1).complete(null);
+        TestUtils.waitFor("second batch completion", 10, 1_000, () -> metrics.batchesInFlight("my-namespace", "InFlightTestBatchReconciler").get() == 0);
+
+        assertThat(metrics.batchFillRatio("my-namespace", "InFlightTestBatchReconciler").count(), is(2L));
+        assertThat(metrics.batchFillRatio("my-namespace", "InFlightTestBatchReconciler").totalAmount(), closeTo(0.6, 0.001));
+        assertThat(metrics.batchWaitTimer("my-namespace", "InFlightTestBatchReconciler").count(), is(3L));
+        assertThat(metrics.adminRequestTimer("my-namespace", "InFlightTestBatchReconciler").count(), is(2L));
+
+        batcher.stop();
+    }
+
     class TestBatchReconciler extends AbstractBatchReconciler<Integer> {
         public TestBatchReconciler(int queueSize, int maxBatchSize, int maxBatchTime) {
             super("TestBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
         }
 
         @Override
-        protected void reconcile(Collection<Integer> items) {
+        protected CompletionStage<?> reconcile(Collection<Integer> items) {
             reconciled.addAll(items);
             reconciliationFinished.countDown();
+            return CompletableFuture.completedFuture(null);
         }
     }
 }
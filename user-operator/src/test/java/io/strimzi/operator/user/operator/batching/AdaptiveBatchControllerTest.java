@@ -0,0 +1,83 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.batching;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AdaptiveBatchControllerTest {
+    @Test
+    public void testDisabledController() {
+        AdaptiveBatchController controller = new AdaptiveBatchController(false, 100, 200);
+
+        controller.batchCompleted(1, 0, 5);
+        controller.batchCompleted(100, 500, 5);
+
+        assertThat(controller.batchSizeThreshold(), is(100));
+        assertThat(controller.lingerMs(), is(200));
+    }
+
+    @Test
+    public void testBatchSizeThreshold() {
+        AdaptiveBatchController controller = new AdaptiveBatchController(true, 100, 200);
+        assertThat(controller.batchSizeThreshold(), is(100));
+
+        // Small batches shrink the threshold down to 1
+        controller.batchCompleted(10, 0, 50);
+        assertThat(controller.batchSizeThreshold(), is(50));
+        controller.batchCompleted(10, 0, 50);
+        assertThat(controller.batchSizeThreshold(), is(25));
+        controller.batchCompleted(1, 0, 50);
+        controller.batchCompleted(1, 0, 50);
+        controller.batchCompleted(1, 0, 50);
+        controller.batchCompleted(1, 0, 50);
+        controller.batchCompleted(1, 0, 50);
+        assertThat(controller.batchSizeThreshold(), is(1));
+
+        // Batches which fill the threshold keep it
+        controller.batchCompleted(1, 0, 50);
+        assertThat(controller.batchSizeThreshold(), is(1));
+
+        // Backlog grows the threshold up to the maximal batch size
+        controller.batchCompleted(1, 10, 50);
+        assertThat(controller.batchSizeThreshold(), is(2));
+        controller.batchCompleted(2, 10, 50);
+        controller.batchCompleted(4, 10, 50);
+        controller.batchCompleted(8, 10, 50);
+        controller.batchCompleted(16, 10, 50);
+        controller.batchCompleted(32, 10, 50);
+        assertThat(controller.batchSizeThreshold(), is(64));
+        controller.batchCompleted(64, 10, 50);
+        assertThat(controller.batchSizeThreshold(), is(100));
+    }
+
+    @Test
+    public void testLinger() {
+        AdaptiveBatchController controller = new AdaptiveBatchController(true, 100, 200);
+        assertThat(controller.lingerMs(), is(200));
+
+        // The first sample sets the linger time directly
+        controller.batchCompleted(100, 0, 50);
+        assertThat(controller.lingerMs(), is(50));
+
+        // Further samples are smoothed
+        controller.batchCompleted(100, 0, 100);
+        assertThat(controller.lingerMs(), is(60));
+
+        // The linger time is capped by the maximal batch time ...
+        for (int i = 0; i < 50; i++) {
+            controller.batchCompleted(100, 0, 10_000);
+        }
+        assertThat(controller.lingerMs(), is(200));
+
+        // ... and is at least 1 ms
+        for (int i = 0; i < 100; i++) {
+            controller.batchCompleted(100, 0, 0);
+        }
+        assertThat(controller.lingerMs(), is(1));
+    }
+}
@@ -4,11 +4,15 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.strimzi.test.TestUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -50,8 +54,10 @@ public class AbstractCacheTest {
         assertThat(cache.get("two"), is(nullValue()));
         assertThat(cache.get("three"), is(true));
 
-        // Wait for cache refresh
+        // Wait for cache refresh. Writes done while a refresh is loading the data are kept by that refresh, so the
+        // refreshed values might show up only with the next one.
         reload.await();
+        TestUtils.waitFor("cache refresh", 10, 1_000, () -> Boolean.TRUE.equals(cache.get("one")) && Boolean.TRUE.equals(cache.get("two")));
 
         // Check refreshed values
         assertThat(cache.get("one"), is(true));
@@ -71,6 +77,99 @@ public class AbstractCacheTest {
         assertThat(e.getMessage(), is("TestCache is not ready!"));
     }
 
+    @Test
+    public void testRefreshKeepsWritesDoneDuringLoading() throws InterruptedException {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch refreshed = new CountDownLatch(1);
+        CountDownLatch checked = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger(0);
+
+        AbstractCache<Boolean> cache = new AbstractCache<>("Test", 100L) {
+            @Override
+            protected Map<String, Boolean> loadCache() {
+                if (loads.incrementAndGet() == 2) {
+                    // Second load => simulate writes done by the operator while the data are being loaded
+                    loading.countDown();
+
+                    try {
+                        written.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                } else if (loads.get() > 2) {
+                    // Further loads are blocked until the test checks the cache
+                    refreshed.countDown();
+
+                    try {
+                        checked.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+
+                return Map.of("one", true, "two", true, "three", true);
+            }
+        };
+
+        cache.start();
+        assertThat(cache.get("one"), is(true));
+
+        loading.await();
+        cache.put("one", false);
+        cache.remove("two");
+        cache.put("four", true);
+        written.countDown();
+
+        // Wait for the next refresh to start to make sure the previous one was applied
+        refreshed.await();
+
+        // The writes are newer than the data loaded during the second refresh and were kept
+        assertThat(cache.get("one"), is(false));
+        assertThat(cache.get("two"), is(nullValue()));
+        assertThat(cache.get("three"), is(true));
+        assertThat(cache.get("four"), is(true));
+
+        checked.countDown();
+        cache.stop();
+    }
+
+    @Test
+    public void testRefreshUpdatesTheCacheInPlace() throws InterruptedException {
+        CountDownLatch refreshed = new CountDownLatch(3);
+        AtomicInteger loads = new AtomicInteger(0);
+
+        AbstractCache<Boolean> cache = new AbstractCache<>("Test", 100L) {
+            @Override
+            protected Map<String, Boolean> loadCache() {
+                refreshed.countDown();
+
+                if (loads.incrementAndGet() == 1) {
+                    return Map.of("one", true, "two", true, "three", true);
+                } else {
+                    return Map.of("one", true, "three", false, "four", true);
+                }
+            }
+        };
+
+        cache.start();
+        assertThat(cache.get("one"), is(true));
+        assertThat(cache.get("two"), is(true));
+        assertThat(cache.get("three"), is(true));
+        assertThat(cache.get("four"), is(nullValue()));
+
+        // The second load is applied before the third one starts
+        refreshed.await();
+
+        assertThat(cache.get("one"), is(true));
+        assertThat(cache.get("two"), is(nullValue()));
+        assertThat(cache.get("three"), is(false));
+        assertThat(cache.get("four"), is(true));
+        assertThat(Collections.list(cache.keys()).size(), is(3));
+
+        cache.stop();
+    }
+
     class TestCache extends AbstractCache<Boolean>  {
         public TestCache() {
             super("Test", 100L);